@@ -0,0 +1,64 @@
+package log_analyzer.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import log_analyzer.StaticLogAnalyzer;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.Violation;
+
+// 생성한 소스 트리 전체에 대한 StaticLogAnalyzer.analyze (탐색 + 추출 + 평가)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnalyzeBenchmark {
+
+    @Param({ "400" })
+    public int files;
+
+    // 0이면 코어 수
+    @Param({ "1", "0" })
+    public int threads;
+
+    private Path root;
+    private LoggingPolicy policy;
+    private StaticLogAnalyzer analyzer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("analyze-bench");
+        SyntheticCorpus.writeTree(root, files, 1234);
+        policy = SyntheticCorpus.policy(0);
+        analyzer = new StaticLogAnalyzer(threads == 0 ? StaticLogAnalyzer.defaultThreads() : threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticCorpus.deleteTree(root);
+    }
+
+    @Benchmark
+    public List<Violation> analyzeTree() {
+        return analyzer.analyze(root, policy);
+    }
+}
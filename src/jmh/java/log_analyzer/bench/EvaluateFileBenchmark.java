@@ -0,0 +1,68 @@
+package log_analyzer.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+
+// 파일 하나에서 추출된 로그 호출 전체의 규칙 평가 비용 (파싱 제외)
+// 파일당 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 으로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluateFileBenchmark {
+
+    @Param({ "LARGE", "LOG_HEAVY" })
+    public SyntheticCorpus.Kind kind;
+
+    @Param({ "0", "400" })
+    public int extraRules;
+
+    private ForbiddenFieldLoggingRule rule;
+    private List<LogCall> calls;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("evaluate-bench");
+        try {
+            Path file = dir.resolve("Bench.java");
+            Files.writeString(file, SyntheticCorpus.source(kind, "Bench", 42));
+            LoggingPolicy policy = SyntheticCorpus.policy(extraRules);
+            calls = new JavaLoggingCallExtractor().extract(file, new HashSet<>(policy.getLogMethods()));
+            rule = new ForbiddenFieldLoggingRule(policy.getForbiddenFields());
+        } finally {
+            SyntheticCorpus.deleteTree(dir);
+        }
+    }
+
+    @Benchmark
+    public void evaluateFile(Blackhole bh) {
+        for (LogCall call : calls) {
+            bh.consume(rule.evaluate(call));
+        }
+    }
+}
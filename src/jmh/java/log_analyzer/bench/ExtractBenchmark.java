@@ -0,0 +1,67 @@
+package log_analyzer.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import log_analyzer.engine.ExtractionEngine;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+
+// 파일 하나의 읽기 + 파싱(토큰화) + 로그 호출 추출 (toMethodFqn 포함) 비용, 추출 엔진별
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractBenchmark {
+
+    @Param({ "SMALL", "LARGE", "LOG_HEAVY", "LOG_FREE" })
+    public SyntheticCorpus.Kind kind;
+
+    @Param({ "JAVAPARSER", "LEXER" })
+    public ExtractionEngine engine;
+
+    private Path dir;
+    private Path file;
+    private Set<String> logMethods;
+    private JavaLoggingCallExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("extract-bench");
+        file = dir.resolve("Bench.java");
+        Files.writeString(file, SyntheticCorpus.source(kind, "Bench", 42));
+        logMethods = new HashSet<>(SyntheticCorpus.policy(0).getLogMethods());
+        extractor = engine.newExtractor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticCorpus.deleteTree(dir);
+    }
+
+    @Benchmark
+    public List<LogCall> parseAndExtract() {
+        return extractor.extract(file, logMethods);
+    }
+}
@@ -0,0 +1,54 @@
+package log_analyzer.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+
+// 파일마다 new JavaParser 하는 방식과 스레드별 인스턴스를 재사용하는 방식 비교
+// (JavaLoggingCallExtractor는 재사용 방식을 사용)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserReuseBenchmark {
+
+    @Param({ "SMALL", "LARGE" })
+    public SyntheticCorpus.Kind kind;
+
+    private final ParserConfiguration config = new ParserConfiguration();
+    private JavaParser reused;
+    private String source;
+
+    @Setup
+    public void setUp() {
+        source = SyntheticCorpus.source(kind, "Bench", 7);
+        reused = new JavaParser(config);
+    }
+
+    @Benchmark
+    public ParseResult<CompilationUnit> newParserPerFile() {
+        return new JavaParser(config).parse(source);
+    }
+
+    @Benchmark
+    public ParseResult<CompilationUnit> reusedParser() {
+        return reused.parse(source);
+    }
+}
@@ -0,0 +1,98 @@
+package log_analyzer.bench;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.expr.Expression;
+
+import log_analyzer.engine.LogCall;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.Violation;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+import log_analyzer.rules.ForbiddenFieldMatcher;
+
+// 토큰 집합 하나에 대한 규칙 평가 비용 (정책 규모별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleEvaluationBenchmark {
+
+    // 기본 정책(5개) + 추가 규칙 수
+    @Param({ "0", "50", "400" })
+    public int extraRules;
+
+    private static final String[] TOKENS = {
+        "login user=", "getId", "user", ", password=", "password", "order {} amount {}",
+        "format", "%s/%d", "token", "this", "count", " done", "StringBuilder", "secretKey", "name"
+    };
+
+    private List<ForbiddenFieldRule> rules;
+    private ForbiddenFieldMatcher matcher;
+    private ForbiddenFieldLoggingRule loggingRule;
+    private LogCall call;
+
+    @Setup
+    public void setUp() {
+        LoggingPolicy policy = SyntheticCorpus.policy(extraRules);
+        rules = policy.getForbiddenFields();
+        matcher = new ForbiddenFieldMatcher(rules);
+        loggingRule = new ForbiddenFieldLoggingRule(rules);
+
+        List<Expression> args = new ArrayList<>();
+        args.add(StaticJavaParser.parseExpression("\"login user=\" + user.getId() + \", password=\" + password"));
+        args.add(StaticJavaParser.parseExpression("String.format(\"%s/%d\", this.token, count) + \" done\""));
+        args.add(StaticJavaParser.parseExpression("new StringBuilder(secretKey).append(user.name)"));
+        call = new LogCall(Path.of("Bench.java"), 10, "log.info", args);
+    }
+
+    // ForbiddenFieldRule.matches를 토큰 × 규칙으로 직접 호출
+    @Benchmark
+    public int matchTokenSet() {
+        int hits = 0;
+        for (String token : TOKENS) {
+            for (ForbiddenFieldRule rule : rules) {
+                if (rule.matches(token)) hits++;
+            }
+        }
+        return hits;
+    }
+
+    // 같은 토큰 집합을 컴파일된 매처로 매칭
+    @Benchmark
+    public int matchTokenSetCompiled() {
+        int hits = 0;
+        BitSet bits = new BitSet(rules.size());
+        for (String token : TOKENS) {
+            bits.clear();
+            matcher.matchInto(token, bits);
+            hits += bits.cardinality();
+        }
+        return hits;
+    }
+
+    // 토큰 추출 + 매칭 + Violation 생성까지 포함한 로그 호출 하나의 평가
+    @Benchmark
+    public List<Violation> evaluateCall() {
+        return loggingRule.evaluate(call);
+    }
+}
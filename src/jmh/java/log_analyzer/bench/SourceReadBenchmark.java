@@ -0,0 +1,77 @@
+package log_analyzer.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.engine.SourceFile;
+import log_analyzer.engine.SourceReader;
+
+// 캐시 사용 시 파일 하나당 읽기 + 내용 해시 + 디코딩 비용 (트리 전체, 파싱 제외)
+// readTwice: 해시용으로 한 번, 추출기에서 한 번 더 읽던 방식 / readOnce: SourceReader로 한 번 읽어 공유
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceReadBenchmark {
+
+    @Param({ "2000" })
+    public int files;
+
+    private Path root;
+    private List<Path> paths;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("source-read-bench");
+        SyntheticCorpus.writeTree(root, files, 99);
+        try (Stream<Path> s = Files.walk(root)) {
+            paths = s.filter(p -> p.toString().endsWith(".java")).toList();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticCorpus.deleteTree(root);
+    }
+
+    @Benchmark
+    public void readTwice(Blackhole bh) throws IOException {
+        for (Path p : paths) {
+            bh.consume(AnalysisCache.contentHash(Files.readAllBytes(p)));
+            bh.consume(new String(Files.readAllBytes(p), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void readOnce(Blackhole bh) throws IOException {
+        SourceReader reader = SourceReader.local();
+        for (Path p : paths) {
+            SourceFile source = reader.read(p);
+            bh.consume(AnalysisCache.contentHash(source.bytes(), 0, source.length()));
+            bh.consume(source.text(StandardCharsets.UTF_8));
+        }
+    }
+}
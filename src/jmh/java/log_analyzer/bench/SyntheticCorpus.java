@@ -0,0 +1,139 @@
+package log_analyzer.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.policy.service.LoggingPolicy;
+
+// 벤치마크용 합성 java 소스 생성기 (seed가 같으면 항상 같은 소스)
+public final class SyntheticCorpus {
+
+    public enum Kind {
+        // 메서드 몇 개, 로그 호출 몇 개
+        SMALL(4, 6, 0.25),
+        // 큰 클래스 (수천 줄), 로그 호출 드문드문
+        LARGE(120, 20, 0.05),
+        // 거의 모든 문장이 로그 호출
+        LOG_HEAVY(30, 12, 0.9),
+        // 로그 호출 없음
+        LOG_FREE(30, 12, 0.0);
+
+        final int methods;
+        final int statementsPerMethod;
+        final double logRatio;
+
+        Kind(int methods, int statementsPerMethod, double logRatio) {
+            this.methods = methods;
+            this.statementsPerMethod = statementsPerMethod;
+            this.logRatio = logRatio;
+        }
+    }
+
+    private static final String[] FIELDS = {
+        "userId", "password", "token", "orderNo", "accessToken", "amount", "email", "secretKey", "status", "name"
+    };
+
+    private static final String[] LEVELS = { "info", "debug", "warn", "error" };
+
+    private SyntheticCorpus() {}
+
+    public static String source(Kind kind, String className, long seed) {
+        Random r = new Random(seed);
+        StringBuilder sb = new StringBuilder(kind.methods * kind.statementsPerMethod * 48);
+        sb.append("package bench.generated;\n\n");
+        sb.append("import org.slf4j.Logger;\n");
+        sb.append("import org.slf4j.LoggerFactory;\n\n");
+        sb.append("public class ").append(className).append(" {\n");
+        sb.append("    private static final Logger log = LoggerFactory.getLogger(")
+          .append(className).append(".class);\n\n");
+        for (String f : FIELDS) {
+            sb.append("    private String ").append(f).append(";\n");
+        }
+        for (int m = 0; m < kind.methods; m++) {
+            sb.append("\n    public String method").append(m).append("(User user, int count) {\n");
+            sb.append("        StringBuilder sb = new StringBuilder();\n");
+            for (int s = 0; s < kind.statementsPerMethod; s++) {
+                String field = FIELDS[r.nextInt(FIELDS.length)];
+                if (r.nextDouble() < kind.logRatio) {
+                    appendLogCall(sb, r, field);
+                } else {
+                    appendPlainStatement(sb, r, field, s);
+                }
+            }
+            sb.append("        return sb.toString();\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void appendLogCall(StringBuilder sb, Random r, String field) {
+        String level = LEVELS[r.nextInt(LEVELS.length)];
+        switch (r.nextInt(4)) {
+            case 0 -> sb.append("        log.").append(level).append("(\"value=\" + ").append(field).append(");\n");
+            case 1 -> sb.append("        log.").append(level).append("(\"user {} {}\", user.getId(), user.")
+                        .append(field).append(");\n");
+            case 2 -> sb.append("        log.").append(level).append("(String.format(\"%s/%d\", this.")
+                        .append(field).append(", count) + \" done\");\n");
+            default -> sb.append("        log.").append(level).append("(\"static message \" + count);\n");
+        }
+    }
+
+    private static void appendPlainStatement(StringBuilder sb, Random r, String field, int s) {
+        switch (r.nextInt(3)) {
+            case 0 -> sb.append("        sb.append(").append(field).append(").append(',');\n");
+            case 1 -> sb.append("        if (count > ").append(s).append(") { count -= ")
+                        .append(r.nextInt(10)).append("; }\n");
+            default -> sb.append("        String v").append(s).append(" = String.valueOf(count * ")
+                        .append(s + 1).append(");\n");
+        }
+    }
+
+    // dir 아래에 files개의 소스를 패키지 폴더로 나누어 생성 (종류는 순서대로 섞음)
+    public static void writeTree(Path dir, int files, long seed) throws IOException {
+        Kind[] kinds = Kind.values();
+        for (int i = 0; i < files; i++) {
+            Kind kind = kinds[i % kinds.length];
+            Path pkg = dir.resolve("pkg" + (i % 16));
+            Files.createDirectories(pkg);
+            String name = "Gen" + i;
+            Files.writeString(pkg.resolve(name + ".java"), source(kind, name, seed + i));
+        }
+    }
+
+    // 기본 정책과 비슷한 규모의 정책 + 추가 규칙 extraRules개
+    public static LoggingPolicy policy(int extraRules) {
+        List<ForbiddenFieldRule> rules = new ArrayList<>(List.of(
+            new ForbiddenFieldRule("password", MatchType.EXACT),
+            new ForbiddenFieldRule("passwd", MatchType.EXACT),
+            new ForbiddenFieldRule("token", MatchType.CONTAINS),
+            new ForbiddenFieldRule("secretKey", MatchType.EXACT),
+            new ForbiddenFieldRule("authorization", MatchType.CONTAINS)
+        ));
+        MatchType[] types = MatchType.values();
+        for (int i = 0; i < extraRules; i++) {
+            MatchType type = types[i % types.length];
+            String name = type == MatchType.REGEX ? "field" + i + "_[a-z]+" : "field" + i;
+            rules.add(new ForbiddenFieldRule(name, type));
+        }
+        return new LoggingPolicy(rules, List.of(
+            "log.trace", "log.debug", "log.info", "log.warn", "log.error"
+        ));
+    }
+
+    public static void deleteTree(Path dir) throws IOException {
+        if (!Files.exists(dir)) return;
+        try (var paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package log_analyzer.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.expr.Expression;
+
+import log_analyzer.engine.LogArgInspector;
+
+// 로그 호출 하나의 인자에서 토큰을 뽑는 비용 (LogArgInspector.collect)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenExtractionBenchmark {
+
+    // 전형적인 로그 호출 인자들 (결합, 필드 접근, 메서드 호출, fallback 경로 포함)
+    private static final String[] ARGS = {
+        "\"login user=\" + user.getId() + \", password=\" + password",
+        "\"order {} amount {}\"",
+        "String.format(\"%s/%d\", this.token, count) + \" done\"",
+        "new StringBuilder(secretKey).append(user.name)",
+        "items[0]",
+        "count > 0 ? accessToken : \"none\""
+    };
+
+    private final LogArgInspector inspector = new LogArgInspector();
+    private List<Expression> args;
+
+    @Setup
+    public void setUp() {
+        args = new ArrayList<>();
+        for (String a : ARGS) {
+            args.add(StaticJavaParser.parseExpression(a));
+        }
+    }
+
+    // 로그 호출 하나(인자 6개)당 비용
+    @Benchmark
+    public void extractTokensPerCall(Blackhole bh) {
+        for (Expression arg : args) {
+            bh.consume(inspector.extractTokens(arg));
+        }
+    }
+}
@@ -1,53 +1,594 @@
 package log_analyzer;
 
+import java.io.PrintStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import log_analyzer.baseline.Baseline;
+import log_analyzer.baseline.BaselineFilter;
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.cache.MethodSummaryCache;
+import log_analyzer.daemon.AnalysisDaemon;
+import log_analyzer.daemon.DaemonClient;
+import log_analyzer.daemon.WarmState;
+import log_analyzer.engine.ChangedFilesScanner;
+import log_analyzer.engine.GitChangedFiles;
+import log_analyzer.engine.ExtractionEngine;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.MethodSummaries;
+import log_analyzer.engine.ModuleDiscovery;
+import log_analyzer.engine.ScanFilter;
+import log_analyzer.engine.SourceModule;
+import log_analyzer.engine.Shard;
+import log_analyzer.engine.ShardedSourceScanner;
+import log_analyzer.engine.SourceScanner;
+import log_analyzer.engine.TypeResolvingLoggingCallExtractor;
+import log_analyzer.metrics.AnalysisMetrics;
 import log_analyzer.policy.service.LoggingPolicy;
 import log_analyzer.policy.service.PolicyLoader;
+import log_analyzer.report.ReportFormat;
+import log_analyzer.report.ReportMerger;
+import log_analyzer.report.ReportWriter;
 import log_analyzer.report.Violation;
+import log_analyzer.report.ViolationSink;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+import log_analyzer.watch.ContinuousAnalysis;
 import log_analyzer.exception.ParserException;
 
 public class Main {
+
+    private static final String DEFAULT_ROOT = ".";
+    private static final String DEFAULT_POLICY = "src/main/resources/logging-policy.yml";
+    private static final String DEFAULT_REPORT = "build/logging-report/report.txt";
 	
 	public static void main(String[] args) {
 		//args에서 받은 내용 파싱
         Map<String, String> opt = parseArgs(args);
 
+        int code;
+        if (args.length > 0 && args[0].equals("merge")) {
+            // 샤드별 부분 보고서를 합쳐 최종 보고서와 종료 코드를 만든다
+            code = merge(List.of(args).subList(1, args.length), System.out, System.err);
+        } else if (opt.containsKey("--serve")) {
+            // 상주 모드: 요청마다 run을 실행하고 정책 / 규칙 / 결과 캐시를 유지한다
+            code = serve(opt);
+        } else if (opt.containsKey("--connect")) {
+            // 실행 중인 데몬에 인자를 넘기고 결과만 출력
+            List<String> forward = new ArrayList<>();
+            for (String a : args) {
+                if (!a.startsWith("--connect=")) forward.add(a);
+            }
+            try {
+                code = new DaemonClient(opt.get("--connect")).send(withDefaultPaths(forward, opt), System.out, System.err);
+            } catch (RuntimeException e) {
+                System.err.println("[ERROR] " + e.getMessage());
+                code = 2;
+            }
+        } else {
+            code = run(opt, System.out, System.err, null);
+        }
+        if (code != 0) System.exit(code);
+    }
+
+    /**
+     * 분석 한 번을 실행하고 종료 코드(0: 통과, 1: 위반 있음, 2: 잘못된 설정)를 반환한다.
+     * warm이 있으면(데몬) 정책, 컴파일된 규칙, 추출기, 결과 캐시를 요청 사이에 재사용하고 --cache는 무시한다.
+     */
+    static int run(Map<String, String> opt, PrintStream out, PrintStream err, WarmState warm) {
         //args에서 받은 각각 나누어 저장
-        Path root = Path.of(opt.getOrDefault("--root", "."));
-        Path policyPath = Path.of(opt.getOrDefault("--policy", "src/main/resources/logging-policy.yml"));
-        Path reportPath = Path.of(opt.getOrDefault("--report", "build/logging-report/report.txt"));
+        // --root는 콤마로 여러 개를 줄 수 있다 (루트마다 모듈 하나, 워커 풀은 공유)
+        List<Path> roots = new ArrayList<>();
+        for (String r : splitList(opt.getOrDefault("--root", DEFAULT_ROOT))) roots.add(Path.of(r));
+        if (roots.isEmpty()) roots.add(Path.of(DEFAULT_ROOT));
+        Path root = roots.get(0);
+        Path policyPath = Path.of(opt.getOrDefault("--policy", DEFAULT_POLICY));
+        Path reportPath = Path.of(opt.getOrDefault("--report", DEFAULT_REPORT));
 
         // yml에 있는 내용을 추출하여 LoggingPolicy에 저장
         LoggingPolicy policy;
         try {
             //규정 파일을 읽는 메소드 실행
-            policy = new PolicyLoader().load(policyPath);
+            policy = warm != null ? warm.policy(policyPath) : new PolicyLoader().load(policyPath);
         } catch (ParserException e) {
-            System.err.println("[ERROR] " + e.getMessage());
-            System.exit(2);
-            return;
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // 분석 워커 스레드 수 (기본값: 코어 수)
+        int threads;
+        try {
+            threads = parseThreads(opt.get("--threads"));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // 정책 파일의 탐색 설정에 실행 옵션(--include, --exclude, --gitignore)을 더한다
+        ScanFilter scanFilter;
+        try {
+            scanFilter = policy.getScanFilter().with(
+                    splitList(opt.get("--include")),
+                    splitList(opt.get("--exclude")),
+                    Boolean.parseBoolean(opt.getOrDefault("--gitignore", "false")));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // 보고서 형식 (text / jsonl / sarif)
+        ReportFormat format;
+        try {
+            format = ReportFormat.from(opt.get("--format"));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // 여러 루트거나 --modules=true면 모듈별 보고서와 전체 보고서를 함께 만든다
+        boolean discoverModules = Boolean.parseBoolean(opt.getOrDefault("--modules", "false"));
+        List<SourceModule> modules = null;
+        if (roots.size() > 1 || discoverModules) {
+            try {
+                modules = modules(roots, discoverModules, scanFilter);
+            } catch (RuntimeException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+        }
+
+        // 로그 호출 추출 엔진 (javaparser / lexer)
+        ExtractionEngine engine;
+        try {
+            engine = ExtractionEngine.from(opt.get("--engine"));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // --resolve-types=true면 수신자 이름 대신 타입(slf4j / JUL / log4j Logger)으로 로거를 판별한다
+        // --type-path=<jar|dir,...>: 루트의 소스 외에 타입 해석에 사용할 jar / 소스 디렉토리
+        boolean resolveTypes = Boolean.parseBoolean(opt.getOrDefault("--resolve-types", "false"));
+        List<Path> typePath = new ArrayList<>();
+        for (String entry : splitList(opt.get("--type-path"))) typePath.add(Path.of(entry));
+        // 모듈 사이의 타입(다른 모듈의 로거 필드 등)도 해석할 수 있도록 모든 모듈의 소스 루트를 더한다
+        if (modules != null) {
+            for (SourceModule m : modules) typePath.addAll(m.sourceRoots());
+        }
+        if (resolveTypes && engine == ExtractionEngine.LEXER) {
+            err.println("[ERROR] --resolve-types cannot be used with --engine=lexer");
+            return 2;
+        }
+        // --taint=true면 메서드 안의 지역 변수(대입, 결합, StringBuilder.append)를 거쳐 로그 인자로 흘러가는 값도 검사한다
+        boolean taint = Boolean.parseBoolean(opt.getOrDefault("--taint", "false"));
+        // --summaries=true면 분석 전에 프로젝트 전체 메서드의 반환값 요약을 만들고, 로그 인자에서 호출한 메서드의 요약도 검사한다
+        boolean summarize = Boolean.parseBoolean(opt.getOrDefault("--summaries", "false"));
+        if (summarize && engine == ExtractionEngine.LEXER) {
+            err.println("[ERROR] --summaries cannot be used with --engine=lexer");
+            return 2;
+        }
+        JavaLoggingCallExtractor extractor;
+        // --resolve-types의 jar / JDK 해석기 (--watch는 변경 묶음마다 새 추출기를 만들 때 재사용한다)
+        TypeResolvingLoggingCallExtractor.Libraries libraries = null;
+        try {
+            if (resolveTypes && warm != null) {
+                extractor = warm.resolvingExtractor(root, typePath, taint);
+            } else if (resolveTypes) {
+                libraries = TypeResolvingLoggingCallExtractor.Libraries.load(typePath);
+                extractor = TypeResolvingLoggingCallExtractor.create(root, libraries, taint);
+            } else {
+                extractor = warm != null ? warm.extractor(engine, taint) : engine.newExtractor(taint);
+            }
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+
+        // --metrics=<file>이면 단계별 카운터 / 지연 시간 / 가장 느린 파일 목록을 JSON으로 기록한다
+        AnalysisMetrics metrics = null;
+        if (opt.containsKey("--metrics")) {
+            try {
+                metrics = new AnalysisMetrics(parseSlowest(opt.get("--metrics-slowest")));
+            } catch (IllegalArgumentException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+        }
+
+        // --watch=true면 한 번 분석한 뒤 저장된 파일만 다시 분석하면서 보고서를 갱신한다 (종료할 때까지)
+        boolean watch = Boolean.parseBoolean(opt.getOrDefault("--watch", "false"));
+        long debounceMillis;
+        try {
+            debounceMillis = parseDebounce(opt.get("--watch-debounce"));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+        Shard shard = null;
+        if (opt.containsKey("--shard")) {
+            try {
+                shard = Shard.parse(opt.get("--shard"));
+            } catch (IllegalArgumentException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+        }
+        // --baseline=<file>: baseline에 있는 (이미 알고 있는) 위반 사항은 보고하지 않고 새 위반만 실패로 본다
+        // --write-baseline=<file>: 이번 실행에서 찾은 위반 사항 전체를 baseline으로 저장한다
+        Baseline baseline = null;
+        if (opt.containsKey("--baseline")) {
+            try {
+                baseline = Baseline.load(Path.of(opt.get("--baseline")));
+            } catch (RuntimeException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+        }
+        Path writeBaseline = opt.containsKey("--write-baseline") ? Path.of(opt.get("--write-baseline")) : null;
+        if (watch && (warm != null || opt.containsKey("--changed-since") || modules != null || shard != null
+                || summarize || baseline != null || writeBaseline != null)) {
+            err.println("[ERROR] --watch cannot be used with " + (warm != null ? "the daemon"
+                    : modules != null ? "multiple roots or --modules"
+                    : shard != null ? "--shard"
+                    : summarize ? "--summaries"
+                    : baseline != null || writeBaseline != null ? "--baseline or --write-baseline"
+                    : "--changed-since"));
+            return 2;
+        }
+
+        // --changed-since=<ref>가 있으면 디렉토리 전체 대신 git 기준 ref 이후 바뀐 파일만 분석한다
+        // --changed-lines=true면 바뀐 라인의 위반 사항만 보고한다
+        boolean changedLinesOnly = Boolean.parseBoolean(opt.getOrDefault("--changed-lines", "false"));
+        GitChangedFiles changes = null;
+        if (opt.containsKey("--changed-since")) {
+            try {
+                changes = GitChangedFiles.load(root, opt.get("--changed-since"), changedLinesOnly);
+            } catch (RuntimeException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+            out.println("[INFO] Changed files since " + opt.get("--changed-since") + ": "
+                    + changes.getFiles().size());
+        }
+        SourceScanner scanner = changes != null
+                ? new ChangedFilesScanner(scanFilter, changes)
+                : new SourceScanner(scanFilter);
+        // --shard=i/n이면 찾은 파일 중 이 샤드의 몫만 분석한다 (부분 보고서는 merge로 합친다)
+        if (shard != null) {
+            scanner = new ShardedSourceScanner(scanner, shard);
+            out.println("[INFO] Shard " + shard);
         }
 
         // 규정 위반 사항 체크 클래스 객체 생성
-        StaticLogAnalyzer analyzer = new StaticLogAnalyzer();
-        //규정을 위반한 내용을 저장
-        List<Violation> violations = analyzer.analyze(root, policy);
-        //위반 사항 기록
-        analyzer.writeReport(reportPath, violations);
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(
+                scanner,
+                extractor,
+                new ReportWriter(format, roots.size() == 1 ? root : null),
+                threads,
+                metrics);
+        // 지역 변수 토큰을 버린 파일 수 (데몬은 추출기를 요청 사이에 재사용하므로 이번 요청에서 늘어난 수만 알린다)
+        long taintTruncatedBefore = extractor.getTaintTruncatedFiles();
+        // 메서드 요약은 샤드 / 변경 파일과 관계없이 모든 파일에서 만든다 (요약 캐시는 분석 캐시와 같은 디렉토리)
+        MethodSummaries summaries = null;
+        if (summarize) {
+            MethodSummaryCache summaryCache = warm != null ? warm.summaryCache()
+                    : opt.containsKey("--cache") ? MethodSummaryCache.open(Path.of(opt.get("--cache")))
+                    : MethodSummaryCache.inMemory();
+            List<Path> sourceRoots = new ArrayList<>();
+            if (modules != null) {
+                for (SourceModule m : modules) sourceRoots.addAll(m.sourceRoots());
+            } else {
+                sourceRoots.add(root);
+            }
+            int summaryHits = summaryCache.getHits();
+            int summaryMisses = summaryCache.getMisses();
+            summaries = analyzer.summarize(sourceRoots, new SourceScanner(scanFilter), summaryCache);
+            summaryCache.save();
+            out.println("[INFO] Method summaries: " + summaries.size() + " methods ("
+                    + (summaryCache.getMisses() - summaryMisses) + " files parsed, "
+                    + (summaryCache.getHits() - summaryHits) + " unchanged)");
+            if (summaries.getTruncated() > 0) {
+                err.println("[WARN] " + summaries.getTruncated() + " method summaries exceeded "
+                        + MethodSummaries.MAX_TOKENS + " tokens; the remaining tokens are not checked");
+            }
+        }
+
+        // --cache=<dir>가 있으면 내용이 바뀌지 않은 파일은 재분석하지 않는다 (데몬은 메모리 캐시 사용)
+        // 타입 해석 결과는 다른 파일(필드 타입, 상위 타입)에도 의존하므로 --resolve-types면 결과 캐시를 쓰지 않는다
+        // (데몬은 jar / JDK 타입 해석기만 유지하고, 소스 해석기는 요청마다 새로 만든다)
+        AnalysisCache cache;
+        // 같은 정책이라도 결과가 달라지는 옵션은 캐시 모드로 구분한다
+        List<String> modes = new ArrayList<>();
+        // lexer 엔진은 인라인 억제를 보지 않으므로 JavaParser 엔진과 캐시를 나누어 쓰지 않는다
+        if (engine == ExtractionEngine.LEXER) modes.add("lexer");
+        if (taint) modes.add("taint");
+        // 요약이 바뀌면 그 메서드를 호출하는 다른 파일의 결과도 달라지므로 요약 전체의 해시를 넣는다
+        if (summaries != null) modes.add("summaries:" + summaries.fingerprint());
+        String cacheMode = String.join("+", modes);
+        if (warm != null) {
+            cache = resolveTypes ? null : warm.cache(policyPath, cacheMode);
+        } else {
+            // 샤드는 자기 몫의 파일만 보므로 샤드마다 캐시 파일을 따로 쓴다 (다른 샤드 / 전체 분석의 엔트리를 지우지 않음)
+            cache = opt.containsKey("--cache") && !resolveTypes
+                    ? AnalysisCache.open(Path.of(opt.get("--cache")), policy, cacheMode,
+                            shard != null ? "shard-" + shard.index() + "-of-" + shard.count() : null)
+                    : null;
+            // 바뀐 파일만 분석하면 나머지 파일의 엔트리를 지우지 않는다 (다음 전체 분석에서 재사용)
+            if (cache != null && changes != null) cache.keepUnseenEntries();
+        }
+        if (warm == null && resolveTypes && opt.containsKey("--cache")) {
+            out.println("[INFO] Analysis cache is not used with --resolve-types");
+        }
+        ForbiddenFieldLoggingRule rule = warm != null
+                ? warm.rule(policyPath)
+                : new ForbiddenFieldLoggingRule(policy.getForbiddenFields());
+        if (summaries != null) rule = rule.withSummaries(summaries);
+        int hitsBefore = cache != null ? cache.getHits() : 0;
+        int missesBefore = cache != null ? cache.getMisses() : 0;
+
+        if (watch) {
+            // 타입 해석 결과는 다른 파일에도 의존하므로 변경 묶음마다 새 추출기로 전체를 다시 분석한다 (jar 해석기는 재사용)
+            TypeResolvingLoggingCallExtractor.Libraries warmLibraries = libraries;
+            Supplier<JavaLoggingCallExtractor> freshExtractor = resolveTypes
+                    ? () -> TypeResolvingLoggingCallExtractor.create(root, warmLibraries, taint)
+                    : null;
+            return watch(root, scanFilter, analyzer, freshExtractor, policy, rule, cache, reportPath,
+                    debounceMillis, metrics, opt.get("--metrics"), out, err);
+        }
+
+        //규정을 위반한 내용을 찾는 대로 보고서에 기록 (목록을 메모리에 모으지 않음)
+        ViolationSink report = analyzer.openReport(reportPath);
+        GitChangedFiles lineFilter = changedLinesOnly ? changes : null;
+        BaselineFilter baselineFilter = baseline != null || writeBaseline != null
+                ? new BaselineFilter(roots, baseline, writeBaseline != null)
+                : null;
+        // 보고서에 넘길 위반 사항 (바뀐 라인, baseline에 없는 위반)
+        Predicate<Violation> reported = v -> (lineFilter == null || lineFilter.isChanged(v.getFile(), v.getLine()))
+                && (baselineFilter == null || baselineFilter.test(v));
+        Consumer<Violation> sink = lineFilter == null && baselineFilter == null ? report : v -> {
+            if (reported.test(v)) report.accept(v);
+        };
+        if (modules != null) {
+            analyzeModules(analyzer, modules, policy, rule, cache, format, reportPath, report, reported, out);
+        } else {
+            try {
+                analyzer.analyze(root, policy, rule, cache, sink);
+            } catch (RuntimeException e) {
+                report.abort();
+                throw e;
+            }
+        }
+        report.close();
+        long violations = report.count();
+        if (metrics != null) writeMetrics(metrics, opt.get("--metrics"), out);
+        long taintTruncated = extractor.getTaintTruncatedFiles() - taintTruncatedBefore;
+        if (taintTruncated > 0) {
+            err.println("[WARN] " + taintTruncated + " files had local variables exceeding "
+                    + JavaLoggingCallExtractor.MAX_TAINT_TOKENS + " flow tokens; the remaining tokens are not checked");
+        }
+        if (cache != null) {
+            cache.save();
+            out.println("[INFO] Analysis cache: " + (cache.getHits() - hitsBefore) + " unchanged, "
+                    + (cache.getMisses() - missesBefore) + " analyzed");
+        }
+        if (baseline != null) {
+            out.println("[INFO] Baseline: " + baselineFilter.getKnown() + " known violations not reported ("
+                    + baseline.size() + " entries)");
+        }
+        // 새 baseline을 쓰면 찾은 위반 사항을 모두 받아들인 것으로 보고 통과시킨다
+        if (writeBaseline != null) {
+            int entries;
+            try {
+                entries = baselineFilter.write(writeBaseline);
+            } catch (RuntimeException e) {
+                err.println("[ERROR] " + e.getMessage());
+                return 2;
+            }
+            out.println("[INFO] Baseline written: " + entries + " entries to " + writeBaseline.toAbsolutePath());
+            out.println("[OK] Violations: " + violations + " (accepted into the baseline). Report: "
+                    + reportPath.toAbsolutePath());
+            return 0;
+        }
 
         //만약 1건 이상의 문제가 발생하는 경우
         //콘솔에 규정 위반 사항이 발생했음을 출력
-        if (!violations.isEmpty()) {
-            System.err.println("[FAIL] Logging violations found: " + violations.size());
-            System.err.println("Report: " + reportPath.toAbsolutePath());
-            System.exit(1);
+        if (violations > 0) {
+            err.println("[FAIL] Logging violations found: " + violations);
+            err.println("Report: " + reportPath.toAbsolutePath());
+            return 1;
+        }
+
+        out.println("[OK] No violations. Report: " + reportPath.toAbsolutePath());
+        return 0;
+    }
+
+    /**
+     * 모듈마다 보고서(<보고서 디렉토리>/modules/<모듈 이름>/<보고서 파일 이름>)를 쓰면서 전체 보고서(report)에도 기록한다.
+     * 모듈 보고서는 그 모듈을 분석하는 동안에만 열어 둔다. 실패하면 쓰던 보고서를 모두 지운다 (전체 보고서 포함).
+     */
+    private static void analyzeModules(StaticLogAnalyzer analyzer, List<SourceModule> modules, LoggingPolicy policy,
+                                       ForbiddenFieldLoggingRule rule, AnalysisCache cache, ReportFormat format,
+                                       Path reportPath, ViolationSink report, Predicate<Violation> reported,
+                                       PrintStream out) {
+        Path moduleReports = (reportPath.getParent() != null ? reportPath.getParent() : Path.of("")).resolve("modules");
+        ViolationSink[] current = new ViolationSink[1];
+        try {
+            analyzer.analyze(modules, policy, rule, cache, new StaticLogAnalyzer.ModuleSink() {
+                @Override
+                public void begin(SourceModule module) {
+                    current[0] = new ReportWriter(format, module.dir())
+                            .open(moduleReportPath(moduleReports, module, reportPath));
+                }
+
+                @Override
+                public void accept(SourceModule module, Violation v) {
+                    if (!reported.test(v)) return;
+                    current[0].accept(v);
+                    report.accept(v);
+                }
+
+                @Override
+                public void end(SourceModule module, long files, long violations) {
+                    ViolationSink moduleReport = current[0];
+                    current[0] = null;
+                    moduleReport.close();
+                    out.println("[INFO] Module " + module.name() + ": " + files + " files, "
+                            + moduleReport.count() + " violations");
+                }
+            });
+        } catch (RuntimeException e) {
+            if (current[0] != null) current[0].abort();
+            report.abort();
+            throw e;
+        }
+        out.println("[INFO] Module reports: " + moduleReports.toAbsolutePath());
+    }
+
+    static Path moduleReportPath(Path moduleReports, SourceModule module, Path reportPath) {
+        return moduleReports.resolve(module.name()).resolve(reportPath.getFileName().toString());
+    }
+
+    /**
+     * 분석할 모듈 목록.
+     * - discover면 루트마다 빌드 파일로 모듈을 찾고, 빌드 파일이 없는 루트는 루트 전체를 모듈 하나로 본다.
+     * - 모듈 이름은 루트가 하나면 루트 기준 상대 경로, 여러 개면 앞에 루트 디렉토리 이름을 붙인다.
+     *   이름이 겹치면 뒤에 -2, -3 ...을 붙인다.
+     */
+    static List<SourceModule> modules(List<Path> roots, boolean discover, ScanFilter scanFilter) {
+        List<SourceModule> result = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Path r : roots) {
+            if (!Files.isDirectory(r)) {
+                throw new IllegalArgumentException("--root must be a directory: " + r);
+            }
+            String rootName = Optional.ofNullable(r.toAbsolutePath().normalize().getFileName())
+                    .map(Path::toString).orElse("root");
+            List<SourceModule> found = discover ? new ModuleDiscovery(scanFilter).discover(r) : List.of();
+            if (found.isEmpty()) found = List.of(SourceModule.of(rootName, r));
+            for (SourceModule m : found) {
+                String name = roots.size() > 1 && !m.dir().equals(r) ? rootName + "/" + m.name() : m.name();
+                String unique = name;
+                for (int i = 2; !names.add(unique); i++) unique = name + "-" + i;
+                result.add(new SourceModule(unique, m.dir(), m.sourceRoots()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * merge [--report=<file>] [--format=<text|jsonl|sarif>] [--root=<dir>] <partial.jsonl>...
+     * 부분 보고서를 정렬 / 중복 제거해서 합치고 종료 코드(0: 통과, 1: 위반 있음, 2: 잘못된 입력)를 반환한다.
+     */
+    static int merge(List<String> args, PrintStream out, PrintStream err) {
+        Map<String, String> opt = parseArgs(args.toArray(new String[0]));
+        List<Path> partials = new ArrayList<>();
+        for (String a : args) {
+            if (!a.startsWith("--")) partials.add(Path.of(a));
+        }
+        if (partials.isEmpty()) {
+            err.println("[ERROR] merge needs at least one partial report");
+            return 2;
+        }
+        ReportFormat format;
+        try {
+            format = ReportFormat.from(opt.get("--format"));
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+        Path root = Path.of(opt.getOrDefault("--root", DEFAULT_ROOT));
+        Path reportPath = Path.of(opt.getOrDefault("--report", DEFAULT_REPORT));
+
+        long violations;
+        try {
+            violations = new ReportMerger(new ReportWriter(format, root)).merge(partials, reportPath);
+        } catch (RuntimeException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+        out.println("[INFO] Merged partial reports: " + partials.size());
+        if (violations > 0) {
+            err.println("[FAIL] Logging violations found: " + violations);
+            err.println("Report: " + reportPath.toAbsolutePath());
+            return 1;
+        }
+        out.println("[OK] No violations. Report: " + reportPath.toAbsolutePath());
+        return 0;
+    }
+
+    // 전체 분석 후 감시 시작 (닫히거나 인터럽트될 때까지 반환하지 않는다)
+    private static int watch(Path root, ScanFilter scanFilter, StaticLogAnalyzer analyzer,
+                             Supplier<JavaLoggingCallExtractor> freshExtractor, LoggingPolicy policy,
+                             ForbiddenFieldLoggingRule rule, AnalysisCache cache, Path reportPath,
+                             long debounceMillis, AnalysisMetrics metrics, String metricsPath,
+                             PrintStream out, PrintStream err) {
+        ContinuousAnalysis session;
+        try {
+            session = new ContinuousAnalysis(root, scanFilter, analyzer, policy, rule, reportPath, out, freshExtractor);
+        } catch (IllegalArgumentException e) {
+            err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+        try (session) {
+            long violations = session.analyzeAll(cache);
+            if (cache != null) cache.save();
+            if (metrics != null) writeMetrics(metrics, metricsPath, out);
+            out.println("[INFO] Violations: " + violations + ". Report: " + reportPath.toAbsolutePath());
+            out.println("[INFO] Watching " + root.toAbsolutePath() + " for changes (Ctrl+C to stop)");
+            session.run(debounceMillis);
         }
+        return 0;
+    }
 
-        System.out.println("[OK] No violations. Report: " + reportPath.toAbsolutePath());
+    private static void writeMetrics(AnalysisMetrics metrics, String path, PrintStream out) {
+        Path metricsPath = Path.of(path);
+        metrics.writeJson(metricsPath);
+        out.println("[INFO] Metrics: " + metricsPath.toAbsolutePath());
+    }
+
+    // --serve=<port|socket path> [--daemon-cache-size=N]
+    private static int serve(Map<String, String> opt) {
+        long maxCachedFiles;
+        try {
+            maxCachedFiles = Long.parseLong(opt.getOrDefault("--daemon-cache-size", "100000").trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[ERROR] --daemon-cache-size must be a number: " + opt.get("--daemon-cache-size"));
+            return 2;
+        }
+        if (maxCachedFiles < 1) {
+            System.err.println("[ERROR] --daemon-cache-size must be >= 1: " + maxCachedFiles);
+            return 2;
+        }
+
+        AnalysisDaemon daemon;
+        try {
+            daemon = new AnalysisDaemon(opt.get("--serve"), new WarmState(maxCachedFiles),
+                    (args, out, err, warm) -> run(parseArgs(args.toArray(new String[0])), out, err, warm));
+        } catch (IllegalArgumentException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+            return 2;
+        }
+        System.out.println("[INFO] Analysis daemon listening on " + daemon.getAddress());
+        daemon.serve();
+        return 0;
+    }
+
+    // 데몬은 작업 디렉토리가 다르므로 기본 경로도 명시해서 보낸다 (DaemonClient가 절대 경로로 바꾼다)
+    static List<String> withDefaultPaths(List<String> args, Map<String, String> opt) {
+        List<String> result = new ArrayList<>(args);
+        if (!opt.containsKey("--root")) result.add("--root=" + DEFAULT_ROOT);
+        if (!opt.containsKey("--policy")) result.add("--policy=" + DEFAULT_POLICY);
+        if (!opt.containsKey("--report")) result.add("--report=" + DEFAULT_REPORT);
+        return result;
     }
 
     // args 파싱 메소드
@@ -62,4 +603,50 @@ public class Main {
         }
         return map;
 	}
+
+    // 콤마로 구분된 옵션 값을 목록으로 변환
+    static List<String> splitList(String raw) {
+        if (raw == null || raw.isBlank()) return List.of();
+        List<String> result = new ArrayList<>();
+        for (String item : raw.split(",")) {
+            if (!item.isBlank()) result.add(item.trim());
+        }
+        return result;
+    }
+
+    // --watch-debounce 값 검증 (없으면 300ms)
+    static long parseDebounce(String raw) {
+        if (raw == null || raw.isBlank()) return 300;
+        try {
+            long ms = Long.parseLong(raw.trim());
+            if (ms < 1) throw new IllegalArgumentException("--watch-debounce must be >= 1: " + raw);
+            return ms;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--watch-debounce must be a number: " + raw);
+        }
+    }
+
+    // --metrics-slowest 값 검증 (없으면 10)
+    static int parseSlowest(String raw) {
+        if (raw == null || raw.isBlank()) return 10;
+        try {
+            int n = Integer.parseInt(raw.trim());
+            if (n < 0) throw new IllegalArgumentException("--metrics-slowest must be >= 0: " + raw);
+            return n;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--metrics-slowest must be a number: " + raw);
+        }
+    }
+
+    // --threads 값 검증 (없으면 코어 수)
+    static int parseThreads(String raw) {
+        if (raw == null || raw.isBlank()) return StaticLogAnalyzer.defaultThreads();
+        try {
+            int n = Integer.parseInt(raw.trim());
+            if (n < 1) throw new IllegalArgumentException("--threads must be >= 1: " + raw);
+            return n;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--threads must be a number: " + raw);
+        }
+    }
 }
\ No newline at end of file
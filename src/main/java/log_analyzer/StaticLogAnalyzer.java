@@ -1,73 +1,407 @@
 package log_analyzer;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.cache.MethodSummaryCache;
 import log_analyzer.engine.JavaLoggingCallExtractor;
 import log_analyzer.engine.LogCall;
+import log_analyzer.engine.MethodSummaries;
+import log_analyzer.engine.MethodSummary;
+import log_analyzer.engine.SourceFile;
+import log_analyzer.engine.SourceModule;
+import log_analyzer.engine.SourceReader;
 import log_analyzer.engine.SourceScanner;
+import log_analyzer.metrics.AnalysisMetrics;
+import log_analyzer.metrics.AnalysisRunEvent;
+import log_analyzer.metrics.FileAnalysisEvent;
+import log_analyzer.metrics.FileStats;
 import log_analyzer.policy.service.LoggingPolicy;
 import log_analyzer.report.ReportWriter;
 import log_analyzer.report.Violation;
+import log_analyzer.report.ViolationSink;
 import log_analyzer.rules.ForbiddenFieldLoggingRule;
 
 // 정적 로그 검증
 public class StaticLogAnalyzer {
-	
+
 	// java 파일 스캐너
     private final SourceScanner scanner;
     // java 내부의 log 추출기
     private final JavaLoggingCallExtractor extractor;
     // 보고서 작성
     private final ReportWriter reportWriter;
+    // 파일 분석에 사용할 워커 스레드 수 (1이면 단일 스레드로 순차 분석)
+    private final int threads;
+    // 단계별 측정값 (null이면 측정하지 않는다. JFR 이벤트는 기록 중일 때만 만든다)
+    private final AnalysisMetrics metrics;
+
+    // 워커 하나당 미리 제출해 둘 파일 수 (워커가 놀지 않을 만큼만)
+    private static final int IN_FLIGHT_PER_THREAD = 4;
 
     // 기본 생성자
     public StaticLogAnalyzer() {
-        this(new SourceScanner(), new JavaLoggingCallExtractor(), new ReportWriter());
+        this(defaultThreads());
+    }
+
+    // 워커 스레드 수를 지정하는 생성자
+    public StaticLogAnalyzer(int threads) {
+        this(new SourceScanner(), new JavaLoggingCallExtractor(), new ReportWriter(), threads);
     }
 
     // 테스트용 생성자
     public StaticLogAnalyzer(SourceScanner scanner,
                              JavaLoggingCallExtractor extractor,
                              ReportWriter reportWriter) {
+        this(scanner, extractor, reportWriter, defaultThreads());
+    }
+
+    public StaticLogAnalyzer(SourceScanner scanner,
+                             JavaLoggingCallExtractor extractor,
+                             ReportWriter reportWriter,
+                             int threads) {
+        this(scanner, extractor, reportWriter, threads, null);
+    }
+
+    public StaticLogAnalyzer(SourceScanner scanner,
+                             JavaLoggingCallExtractor extractor,
+                             ReportWriter reportWriter,
+                             int threads,
+                             AnalysisMetrics metrics) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1: " + threads);
+        }
         this.scanner = scanner;
         this.extractor = extractor;
         this.reportWriter = reportWriter;
+        this.threads = threads;
+        this.metrics = metrics;
+    }
+
+    // 기본 워커 수는 사용 가능한 코어 수
+    public static int defaultThreads() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    // 추출기만 바꾼 분석기 (스캐너, 보고서, 스레드 수, 측정값은 그대로)
+    public StaticLogAnalyzer withExtractor(JavaLoggingCallExtractor extractor) {
+        return new StaticLogAnalyzer(scanner, extractor, reportWriter, threads, metrics);
     }
 
     // 감지된 전달 log 명령어 탐지
     // 루트 경로와 규정을 저장한 클래스를 통해 실행
     public List<Violation> analyze(Path root, LoggingPolicy policy) {
+        return analyze(root, policy, null);
+    }
+
+    // cache가 주어지면 내용이 바뀌지 않은 파일은 파싱하지 않고 저장된 결과를 사용
+    // 캐시 저장(save)은 호출한 쪽의 책임
+    public List<Violation> analyze(Path root, LoggingPolicy policy, AnalysisCache cache) {
+        // 규정이 있는 log에 대하여 해당 규정을 위반한 내역을 저장하는 Violation List 객체
+        List<Violation> all = new ArrayList<>();
+        analyze(root, policy, cache, all::add);
+        return all;
+    }
+
+    /**
+     * 위반 사항을 목록으로 모으지 않고 찾는 대로 sink에 넘긴다. (보고서를 바로 쓰는 경우)
+     * sink는 호출한 스레드에서 파일 스캔 순서대로 호출되므로 thread-safe하지 않아도 된다.
+     * 반환값은 sink에 넘긴 위반 사항 수.
+     */
+    public long analyze(Path root, LoggingPolicy policy, AnalysisCache cache, Consumer<Violation> sink) {
+        // log에 대한 규정 사항 검증 클래스 호출(규정 사항을 넘김)
+        return analyze(root, policy, new ForbiddenFieldLoggingRule(policy.getForbiddenFields()), cache, sink);
+    }
+
+    // 이미 컴파일된 규칙을 재사용하는 경우 (데몬처럼 같은 정책으로 여러 번 분석할 때)
+    // rule은 policy.getForbiddenFields()로 만든 것이어야 한다
+    public long analyze(Path root, LoggingPolicy policy, ForbiddenFieldLoggingRule rule,
+                        AnalysisCache cache, Consumer<Violation> sink) {
+        return analyze(List.of(SourceModule.of(root.toString(), root)), policy, rule, cache, new ModuleSink() {
+            @Override
+            public void accept(SourceModule module, Violation violation) {
+                sink.accept(violation);
+            }
+        });
+    }
+
+    /**
+     * 여러 모듈(소스 루트 묶음)을 워커 풀 하나로 분석한다. (여러 --root, --modules)
+     * - 한 모듈이 끝나기를 기다리지 않고 다음 모듈의 파일을 이어서 제출하므로, 작은 모듈이 많아도 워커가 놀지 않는다.
+     * - sink는 호출한 스레드에서 모듈 순서대로, 모듈 안에서는 스캔 순서대로 호출된다. (파일이 없는 모듈도 begin / end)
+     * 반환값은 전체 위반 사항 수.
+     */
+    public long analyze(List<SourceModule> modules, LoggingPolicy policy, ForbiddenFieldLoggingRule rule,
+                        AnalysisCache cache, ModuleSink sink) {
         // 중복되는 위반 사항은 제거하기 위해 Set방식으로 저장
         Set<String> logMethods = new HashSet<>(policy.getLogMethods());
-        
-        // log에 대한 규정 사항 검증 클래스 호출(규정 사항을 넘김)
-        ForbiddenFieldLoggingRule rule = new ForbiddenFieldLoggingRule(policy.getForbiddenFields());
 
-        // java 파일 서칭
-        List<Path> javaFiles = scanner.findJavaFiles(root);
+        AnalysisRunEvent event = new AnalysisRunEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Emitter emitter = new Emitter(modules, sink);
+        try {
+            analyze(modules, logMethods, rule, cache, emitter);
+        } finally {
+            if (metrics != null) metrics.addWall(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.set(modules.size() == 1 ? modules.get(0).name() : modules.size() + " modules",
+                        threads, emitter.files, emitter.violations);
+                event.commit();
+            }
+        }
+        return emitter.violations;
+    }
 
-        // 규정이 있는 log에 대하여 해당 규정을 위반한 내역을 저장하는 Violation List 객체
-        List<Violation> all = new ArrayList<>();
+    /**
+     * 모듈별 분석 결과를 받는 쪽. (모듈별 보고서 + 전체 보고서)
+     * 모든 메서드는 analyze를 호출한 스레드에서 호출된다.
+     */
+    public interface ModuleSink {
+
+        // 모듈의 첫 결과 전에 한 번
+        default void begin(SourceModule module) {}
+
+        void accept(SourceModule module, Violation violation);
+
+        // 모듈의 마지막 결과 뒤에 한 번 (files: 분석한 파일 수, violations: 위반 사항 수)
+        default void end(SourceModule module, long files, long violations) {}
+    }
+
+    private void analyze(List<SourceModule> modules, Set<String> logMethods, ForbiddenFieldLoggingRule rule,
+                         AnalysisCache cache, Emitter emitter) {
+        // 단일 스레드라면 풀을 만들지 않고 순차 분석
+        // 그 외에는 파일 단위 작업을 work-stealing 풀에 분배하고,
+        // 결과는 제출 순서(= 모듈 순서, 스캔 순서)대로 합쳐서 리포트 순서를 단일 스레드와 동일하게 유지
+        // 동시에 진행 중인 작업 수를 제한해 트리 크기와 무관하게 메모리를 일정하게 유지
+        int maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+        ForkJoinPool pool = threads == 1 ? null : new ForkJoinPool(threads);
+        try {
+            Deque<Pending> inFlight = new ArrayDeque<>(maxInFlight);
+            for (int m = 0; m < modules.size(); m++) {
+                int module = m;
+                for (Path sourceRoot : modules.get(m).sourceRoots()) {
+                    // java 파일 서칭
+                    // 탐색이 끝나기를 기다리지 않고 찾는 즉시 분석을 시작한다
+                    try (Stream<Path> javaFiles = scanner.streamJavaFiles(sourceRoot)) {
+                        Iterator<Path> it = javaFiles.iterator();
+                        while (hasNext(it)) {
+                            Path f = it.next();
+                            if (pool == null) {
+                                emitter.emit(module, analyzeFile(f, logMethods, rule, cache));
+                                continue;
+                            }
+                            inFlight.add(new Pending(module, pool.submit(() -> analyzeFile(f, logMethods, rule, cache))));
+                            if (inFlight.size() >= maxInFlight) {
+                                Pending p = inFlight.poll();
+                                emitter.emit(p.module, p.task.join());
+                            }
+                        }
+                    }
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                Pending p = inFlight.poll();
+                emitter.emit(p.module, p.task.join());
+            }
+            emitter.finish();
+        } finally {
+            if (pool != null) pool.shutdownNow();
+        }
+    }
+
+    private record Pending(int module, ForkJoinTask<List<Violation>> task) {}
+
+    // 파일 결과를 모듈 순서대로 sink에 넘기면서 모듈 경계에서 begin / end를 호출한다
+    private final class Emitter {
+        private final List<SourceModule> modules;
+        private final ModuleSink sink;
+        // 지금 결과를 받고 있는 모듈 (-1: 시작 전)
+        private int current = -1;
+        private long moduleFiles;
+        private long moduleViolations;
+        long files;
+        long violations;
+
+        Emitter(List<SourceModule> modules, ModuleSink sink) {
+            this.modules = modules;
+            this.sink = sink;
+        }
+
+        void emit(int module, List<Violation> result) {
+            advanceTo(module);
+            long t = metrics != null ? System.nanoTime() : 0;
+            SourceModule m = modules.get(module);
+            for (Violation v : result) sink.accept(m, v);
+            if (metrics != null) metrics.addReport(System.nanoTime() - t);
+            files++;
+            moduleFiles++;
+            violations += result.size();
+            moduleViolations += result.size();
+        }
+
+        void finish() {
+            advanceTo(modules.size());
+        }
 
-        //서칭한 java 파일에 대해서 
-        for (Path f : javaFiles) {
-            // java 파일 내부에 존재하는 log 명령어 추출
-            List<LogCall> calls = extractor.extract(f, logMethods);
-            for (LogCall call : calls) {
-                // 추출한 로그에 대해서 위반사항 검사
-                all.addAll(rule.evaluate(call));
+        private void advanceTo(int module) {
+            while (current < module) {
+                if (current >= 0) sink.end(modules.get(current), moduleFiles, moduleViolations);
+                current++;
+                moduleFiles = 0;
+                moduleViolations = 0;
+                if (current < modules.size()) sink.begin(modules.get(current));
             }
         }
+    }
 
-        return all;
+    /**
+     * 소스 루트 아래 모든 파일의 메서드 반환값 요약을 계산한다. (--summaries의 사전 단계)
+     * - 내용이 바뀌지 않은 파일은 cache에 저장된 요약을 사용하고, 바뀐 파일만 다시 파싱한다.
+     * - 로그 호출이 없는 파일의 메서드도 로그 인자에서 호출될 수 있으므로 scanner는 샤드 / 변경 파일로 거르지 않은 것을 넘긴다.
+     * - 파일 단위 작업은 분석과 같은 수의 워커로 나눠서 처리한다.
+     */
+    public MethodSummaries summarize(List<Path> sourceRoots, SourceScanner scanner, MethodSummaryCache cache) {
+        List<Path> files = new ArrayList<>();
+        for (Path sourceRoot : sourceRoots) files.addAll(scanner.findJavaFiles(sourceRoot));
+
+        List<MethodSummary> summaries = new ArrayList<>();
+        if (threads == 1) {
+            for (Path f : files) summaries.addAll(summarizeFile(f, cache));
+            return MethodSummaries.of(summaries);
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<List<MethodSummary>>> tasks = new ArrayList<>(files.size());
+            for (Path f : files) tasks.add(pool.submit(() -> summarizeFile(f, cache)));
+            for (ForkJoinTask<List<MethodSummary>> task : tasks) summaries.addAll(task.join());
+        } finally {
+            pool.shutdownNow();
+        }
+        return MethodSummaries.of(summaries);
+    }
+
+    // 읽을 수 없는 파일은 요약 없이 넘어간다 (분석 단계에서 파일 단위로 무시되는 것과 같이)
+    private List<MethodSummary> summarizeFile(Path f, MethodSummaryCache cache) {
+        SourceFile source;
+        try {
+            source = SourceReader.local().read(f);
+        } catch (IOException e) {
+            return List.of();
+        }
+        String hash = AnalysisCache.contentHash(source.bytes(), 0, source.length());
+        List<MethodSummary> cached = cache.get(f, hash);
+        if (cached != null) return cached;
+
+        List<MethodSummary> summaries = extractor.summarize(source);
+        cache.put(f, hash, summaries);
+        return summaries;
+    }
+
+    // 파일 하나만 다시 분석 (--watch에서 저장된 파일만 분석할 때)
+    public List<Violation> analyzeFile(Path file, LoggingPolicy policy, ForbiddenFieldLoggingRule rule) {
+        return evaluate(extractor.extract(file, new HashSet<>(policy.getLogMethods())), rule, null);
+    }
+
+    // 탐색 스레드가 다음 경로를 찾을 때까지 기다린 시간을 기록
+    private boolean hasNext(Iterator<Path> it) {
+        if (metrics == null) return it.hasNext();
+        long t = System.nanoTime();
+        boolean next = it.hasNext();
+        metrics.addScanWait(System.nanoTime() - t);
+        return next;
+    }
+
+    // 파일 하나에 대한 추출 + 규정 검사
+    // 워커 스레드에서 동시에 호출되므로 thread-safe한 캐시 외의 공유 상태는 변경하지 않는다
+    private List<Violation> analyzeFile(Path f, Set<String> logMethods,
+                                        ForbiddenFieldLoggingRule rule, AnalysisCache cache) {
+        FileAnalysisEvent event = new FileAnalysisEvent();
+        event.begin();
+        // 측정하지 않을 때는 FileStats를 만들지 않는다
+        FileStats stats = metrics != null || event.isEnabled() ? new FileStats(f) : null;
+        long start = stats != null ? System.nanoTime() : 0;
+
+        List<Violation> violations = analyzeFile(f, logMethods, rule, cache, stats);
+
+        if (stats != null) {
+            stats.finish(violations.size(), System.nanoTime() - start);
+            if (metrics != null) metrics.record(stats);
+            if (event.shouldCommit()) {
+                event.set(stats);
+                event.commit();
+            }
+        }
+        return violations;
+    }
+
+    private List<Violation> analyzeFile(Path f, Set<String> logMethods, ForbiddenFieldLoggingRule rule,
+                                        AnalysisCache cache, FileStats stats) {
+        if (cache == null) {
+            // java 파일 내부에 존재하는 log 명령어 추출 (측정할 때만 단계별 시간을 기록하는 쪽을 호출)
+            List<LogCall> calls = stats == null
+                    ? extractor.extract(f, logMethods)
+                    : extractor.extract(f, logMethods, stats);
+            return evaluate(calls, rule, stats);
+        }
+
+        // 한 번 읽은 내용으로 해시를 계산하고, 캐시에 없으면 같은 내용으로 추출한다 (파일을 다시 읽지 않음)
+        SourceFile source;
+        try {
+            long t = stats != null ? System.nanoTime() : 0;
+            source = SourceReader.local().read(f);
+            if (stats != null) stats.addRead(source.length(), System.nanoTime() - t);
+        } catch (IOException e) {
+            // 읽을 수 없는 파일은 캐시하지 않고 추출기에 맡긴다
+            return evaluate(extractor.extract(f, logMethods, stats), rule, stats);
+        }
+        String hash = AnalysisCache.contentHash(source.bytes(), 0, source.length());
+
+        List<Violation> cached = cache.get(f, hash);
+        if (cached != null) {
+            if (stats != null) stats.markCached();
+            return cached;
+        }
+
+        List<Violation> violations = evaluate(extractor.extract(source, logMethods, stats), rule, stats);
+        cache.put(f, hash, violations);
+        return violations;
+    }
+
+    private List<Violation> evaluate(List<LogCall> calls, ForbiddenFieldLoggingRule rule, FileStats stats) {
+        long t = stats != null ? System.nanoTime() : 0;
+        List<Violation> violations = new ArrayList<>();
+        for (LogCall call : calls) {
+            // 추출한 로그에 대해서 위반사항 검사
+            violations.addAll(rule.evaluate(call, stats));
+        }
+        if (stats != null) stats.addRule(System.nanoTime() - t);
+        return violations;
     }
 
     public void writeReport(Path reportPath, List<Violation> violations) {
         reportWriter.write(reportPath, violations);
     }
-	
+
+    // analyze(root, policy, cache, sink)와 함께 사용하는 스트리밍 보고서
+    public ViolationSink openReport(Path reportPath) {
+        return reportWriter.open(reportPath);
+    }
+
 }
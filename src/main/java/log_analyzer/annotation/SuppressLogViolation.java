@@ -0,0 +1,20 @@
+package log_analyzer.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 검토가 끝난 로그 호출의 위반을 보고하지 않도록 표시한다. (클래스, 메서드, 생성자 안의 모든 로그 호출)
+ * ex) @SuppressLogViolation("password"), @SuppressLogViolation({"password", "token"})
+ * - value: 억제할 금지 필드 이름 또는 규칙 이름(FORBIDDEN_FIELD_LOGGING). 비어 있으면 모든 위반을 억제한다.
+ * - 분석기는 소스에서 이름(SuppressLogViolation)으로만 찾으므로, 같은 이름의 어노테이션을 직접 선언해서 써도 된다.
+ * 한 줄만 억제할 때는 로그 호출 끝이나 바로 윗줄에 // log-analyzer:ignore [이름 ...] 주석을 단다.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.CONSTRUCTOR})
+public @interface SuppressLogViolation {
+
+    String[] value() default {};
+}
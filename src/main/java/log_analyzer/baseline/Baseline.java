@@ -0,0 +1,139 @@
+package log_analyzer.baseline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * 이미 알고 있는 위반 사항의 fingerprint 집합. (--baseline, --write-baseline)
+ * - 파일 포맷: MAGIC, 버전, 개수, 정렬된 중복 없는 fingerprint(long)들. 읽을 때 다시 정렬하거나 파싱할 것이 없다.
+ * - 읽은 fingerprint는 long 배열 하나의 open addressing 해시 테이블에 넣어 위반 사항마다 O(1)로 찾는다.
+ * 만든 뒤 변경하지 않는다.
+ */
+public final class Baseline {
+
+    // 파일 포맷이나 fingerprint 계산 방식(ViolationFingerprinter)이 바뀌면 올린다
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x4C4F4742; // "LOGB"
+    // MAGIC + FORMAT_VERSION + 개수
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    // 빈 칸 표시. 0인 fingerprint는 따로 기억한다
+    private static final long EMPTY_SLOT = 0L;
+
+    private final long[] table;
+    private final boolean containsZero;
+    private final int size;
+
+    private Baseline(long[] sortedUnique) {
+        int capacity = 16;
+        while (capacity < sortedUnique.length * 2) capacity <<= 1;
+        this.table = new long[capacity];
+        boolean zero = false;
+        for (long f : sortedUnique) {
+            if (f == EMPTY_SLOT) {
+                zero = true;
+                continue;
+            }
+            table[slot(f)] = f;
+        }
+        this.containsZero = zero;
+        this.size = sortedUnique.length;
+    }
+
+    // fingerprint 목록으로 만든다 (순서, 중복 무관)
+    public static Baseline of(long[] fingerprints) {
+        return new Baseline(sortedUnique(fingerprints));
+    }
+
+    /**
+     * baseline 파일을 읽는다.
+     * 파일을 읽을 수 없으면 RuntimeException, 형식이 맞지 않으면 IllegalArgumentException.
+     */
+    public static Baseline load(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a baseline file: " + file);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported baseline version " + version + " (expected "
+                        + FORMAT_VERSION + "), regenerate it with --write-baseline: " + file);
+            }
+            int count = in.readInt();
+            // 손상된 헤더의 개수로 큰 배열을 잡지 않도록 파일 크기와 먼저 맞춰 본다
+            if (count < 0 || Files.size(file) != HEADER_BYTES + (long) count * Long.BYTES) {
+                throw new IllegalArgumentException("Invalid baseline file (size does not match "
+                        + count + " entries): " + file);
+            }
+            long[] fingerprints = new long[count];
+            for (int i = 0; i < count; i++) {
+                fingerprints[i] = in.readLong();
+                // 정렬되어 있어야 한다 (손상된 파일을 조용히 쓰지 않도록)
+                if (i > 0 && fingerprints[i] <= fingerprints[i - 1]) {
+                    throw new IllegalArgumentException("Invalid baseline file (not sorted): " + file);
+                }
+            }
+            return new Baseline(fingerprints);
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Invalid baseline file (truncated): " + file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read baseline: " + file, e);
+        }
+    }
+
+    // fingerprint들을 정렬 / 중복 제거해서 저장하고 저장한 개수를 반환한다 (임시 파일에 쓴 뒤 교체)
+    public static int write(Path file, long[] fingerprints) {
+        long[] sorted = sortedUnique(fingerprints);
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(sorted.length);
+                for (long f : sorted) out.writeLong(f);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write baseline: " + file, e);
+        }
+        return sorted.length;
+    }
+
+    public boolean contains(long fingerprint) {
+        if (fingerprint == EMPTY_SLOT) return containsZero;
+        return table[slot(fingerprint)] == fingerprint;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // fingerprint가 있는 칸, 없으면 들어갈 빈 칸 (선형 탐사)
+    private int slot(long fingerprint) {
+        int mask = table.length - 1;
+        // fingerprint는 이미 해시 값이므로 하위 비트를 그대로 쓴다
+        int s = (int) fingerprint & mask;
+        while (table[s] != EMPTY_SLOT && table[s] != fingerprint) s = (s + 1) & mask;
+        return s;
+    }
+
+    private static long[] sortedUnique(long[] fingerprints) {
+        long[] sorted = fingerprints.clone();
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (n == 0 || sorted[i] != sorted[n - 1]) sorted[n++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+}
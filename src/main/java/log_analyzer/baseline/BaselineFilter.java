@@ -0,0 +1,53 @@
+package log_analyzer.baseline;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import log_analyzer.report.Violation;
+
+/**
+ * 보고서에 넘기기 전에 위반 사항마다 fingerprint를 계산해서
+ * - baseline에 있는 위반은 거르고 (--baseline, test가 false)
+ * - 새 baseline을 쓸 때는 모든 위반의 fingerprint를 모은다. (--write-baseline)
+ * 분석을 호출한 스레드에서 위반 사항이 들어오는 순서대로 호출된다. (스레드 하나)
+ */
+public final class BaselineFilter implements Predicate<Violation> {
+
+    private final ViolationFingerprinter fingerprinter;
+    // 없으면 거르지 않는다
+    private final Baseline baseline;
+    // 새 baseline에 쓸 fingerprint (쓰지 않으면 null)
+    private final LongStream.Builder recorded;
+    private long known;
+
+    public BaselineFilter(List<Path> roots, Baseline baseline, boolean record) {
+        this.fingerprinter = new ViolationFingerprinter(roots);
+        this.baseline = baseline;
+        this.recorded = record ? LongStream.builder() : null;
+    }
+
+    // baseline에 없는 (새) 위반이면 true
+    @Override
+    public boolean test(Violation v) {
+        long fingerprint = fingerprinter.fingerprint(v);
+        if (recorded != null) recorded.add(fingerprint);
+        if (baseline != null && baseline.contains(fingerprint)) {
+            known++;
+            return false;
+        }
+        return true;
+    }
+
+    // baseline에 있어서 거른 위반 사항 수
+    public long getKnown() {
+        return known;
+    }
+
+    // 모은 fingerprint를 baseline 파일로 저장하고 저장한 개수를 반환한다 (한 번만 호출)
+    public int write(Path file) {
+        if (recorded == null) throw new IllegalStateException("Fingerprints were not recorded");
+        return Baseline.write(file, recorded.build().toArray());
+    }
+}
@@ -0,0 +1,145 @@
+package log_analyzer.baseline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import log_analyzer.report.Violation;
+
+/**
+ * 위반 사항의 baseline fingerprint (64bit murmur3)를 계산한다.
+ * fingerprint = 루트 기준 파일 경로('/' 구분) + 규칙 + 메시지 + 공백을 정리한 코드 + 위반 라인 앞뒤 CONTEXT_LINES줄의 내용
+ * - 라인 번호는 넣지 않으므로 위쪽에 코드가 추가 / 삭제되어 라인이 밀려도 fingerprint는 같다.
+ * - 주변 줄은 앞뒤 공백을 지워서 넣으므로 들여쓰기만 바뀐 경우도 같다. 주변 코드가 바뀌면 새 위반으로 본다.
+ * - 위반 사항은 파일 단위로 이어서 들어오므로 마지막으로 읽은 파일 하나의 줄 위치만 기억한다.
+ *   (위반이 있는 파일만 한 번 더 읽는다)
+ * 스레드 하나에서만 사용한다.
+ */
+public final class ViolationFingerprinter {
+
+    // 위반 라인 앞뒤로 함께 해시할 줄 수
+    static final int CONTEXT_LINES = 1;
+
+    private final List<Path> roots;
+
+    // 마지막으로 읽은 파일 (분석 스레드의 SourceReader 버퍼와 섞이지 않도록 따로 읽는다)
+    private Path currentPath;
+    private byte[] current;
+    // 각 줄의 시작 오프셋 (마지막 원소는 파일 끝)
+    private int[] lineStarts = new int[0];
+    private int lineCount;
+
+    // roots: 경로를 상대 경로로 바꿀 기준 디렉토리들 (--root)
+    public ViolationFingerprinter(List<Path> roots) {
+        this.roots = roots;
+    }
+
+    public long fingerprint(Violation v) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putString(hasher, relativePath(v.getFile()));
+        putString(hasher, v.getRule());
+        putString(hasher, v.getMessage());
+        putString(hasher, normalize(v.getCode()));
+        putContext(hasher, v.getFile(), v.getLine());
+        return hasher.hash().asLong();
+    }
+
+    private String relativePath(Path file) {
+        if (file == null) return "";
+        for (Path root : roots) {
+            if (file.startsWith(root)) return root.relativize(file).toString().replace('\\', '/');
+        }
+        Path normalized = file.toAbsolutePath().normalize();
+        for (Path root : roots) {
+            Path r = root.toAbsolutePath().normalize();
+            if (normalized.startsWith(r)) return r.relativize(normalized).toString().replace('\\', '/');
+        }
+        return file.toString().replace('\\', '/');
+    }
+
+    // 연속된 공백을 공백 하나로 바꾸고 앞뒤 공백을 지운다 (줄바꿈 / 들여쓰기 차이 무시)
+    static String normalize(String code) {
+        if (code == null) return null;
+        StringBuilder sb = new StringBuilder(code.length());
+        boolean space = false;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) sb.append(' ');
+            space = false;
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static void putString(Hasher hasher, String s) {
+        if (s == null) {
+            hasher.putInt(-1);
+            return;
+        }
+        hasher.putInt(s.length()).putString(s, StandardCharsets.UTF_8);
+    }
+
+    // 위반 라인 앞뒤 줄의 내용 (앞뒤 공백 제외, 바이트 그대로). 파일을 읽을 수 없으면 넣지 않는다
+    private void putContext(Hasher hasher, Path file, int line) {
+        if (file == null || !load(file) || line < 1) {
+            hasher.putInt(-1);
+            return;
+        }
+        int from = Math.max(1, line - CONTEXT_LINES);
+        int to = Math.min(lineCount, line + CONTEXT_LINES);
+        byte[] bytes = current;
+        for (int l = from; l <= to; l++) {
+            int start = lineStarts[l - 1];
+            int end = lineStarts[l];
+            while (start < end && isSpace(bytes[start])) start++;
+            while (end > start && isSpace(bytes[end - 1])) end--;
+            hasher.putInt(end - start).putBytes(bytes, start, end - start);
+        }
+    }
+
+    private boolean load(Path file) {
+        if (file.equals(currentPath)) return current != null;
+        currentPath = file;
+        try {
+            current = Files.readAllBytes(file);
+        } catch (IOException e) {
+            current = null;
+            return false;
+        }
+        indexLines();
+        return true;
+    }
+
+    private void indexLines() {
+        byte[] bytes = current;
+        int length = current.length;
+        int n = 0;
+        if (lineStarts.length < 64) lineStarts = new int[64];
+        lineStarts[n++] = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != '\n') continue;
+            if (n == lineStarts.length) lineStarts = Arrays.copyOf(lineStarts, n * 2);
+            lineStarts[n++] = i + 1;
+        }
+        // 마지막 줄이 줄바꿈으로 끝나지 않으면 파일 끝을 줄 끝으로 둔다
+        if (lineStarts[n - 1] != length) {
+            if (n == lineStarts.length) lineStarts = Arrays.copyOf(lineStarts, n + 1);
+            lineStarts[n++] = length;
+        }
+        lineCount = n - 1;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f';
+    }
+}
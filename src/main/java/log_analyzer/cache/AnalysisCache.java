@@ -0,0 +1,250 @@
+package log_analyzer.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.Violation;
+
+// 파일 경로 + 내용 해시 → 위반 사항을 디스크에 저장하는 증분 분석 캐시
+// 정책 fingerprint가 달라지면 캐시 전체를 버린다
+// inMemory로 만든 캐시는 디스크에 쓰지 않고 프로세스가 살아 있는 동안 최근 파일들의 결과를 유지한다 (데몬용)
+public class AnalysisCache {
+
+    // 캐시 파일 포맷이나 분석 결과에 영향을 주는 엔진 동작이 바뀌면 올린다
+    // 2: 인라인 억제(// log-analyzer:ignore, @SuppressLogViolation)
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAGIC = 0x4C4F4743; // "LOGC"
+    private static final String FILE_NAME = "analysis-cache.bin";
+    // 레코드 하나의 최소 크기 (문자열은 길이 4바이트부터): 경로 + 해시 + 위반 수 / 라인 + 규칙 + 메시지 + 코드
+    private static final int ENTRY_MIN_BYTES = 3 * Integer.BYTES;
+    private static final int VIOLATION_MIN_BYTES = 4 * Integer.BYTES;
+
+    private final Path cacheFile;
+    private final String policyFingerprint;
+
+    // 이전 실행에서 읽어온 엔트리
+    private final Map<String, Entry> previous;
+    // 이번 실행에서 확인(hit) 또는 새로 계산(miss)된 엔트리만 저장 대상
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    // 일부 파일만 분석하는 실행(--changed-since)이면 이번에 보지 않은 이전 엔트리도 저장한다
+    private volatile boolean keepUnseen;
+
+    // 메모리 전용 캐시의 엔트리 (최대 개수를 넘으면 오래 사용하지 않은 것부터 제거)
+    private final Cache<String, Entry> resident;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private AnalysisCache(Path cacheFile, String policyFingerprint, Map<String, Entry> previous) {
+        this.cacheFile = cacheFile;
+        this.policyFingerprint = policyFingerprint;
+        this.previous = previous;
+        this.resident = null;
+    }
+
+    private AnalysisCache(String policyFingerprint, long maxEntries) {
+        this.cacheFile = null;
+        this.policyFingerprint = policyFingerprint;
+        this.previous = Map.of();
+        this.resident = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    // 디스크에 쓰지 않는 메모리 전용 캐시 (파일 maxEntries개까지)
+    public static AnalysisCache inMemory(LoggingPolicy policy, long maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be >= 1: " + maxEntries);
+        }
+        return new AnalysisCache(policy.fingerprint(), maxEntries);
+    }
+
+    // 캐시 디렉토리에서 캐시를 연다
+    // 파일이 없거나, 손상되었거나, 정책이 바뀌었으면 빈 캐시로 시작
+    public static AnalysisCache open(Path dir, LoggingPolicy policy) {
+        return open(dir, policy, "");
+    }
+
+    // mode: 같은 정책이라도 결과가 달라지는 분석 옵션 (ex. 타입 해석 모드) → 바뀌면 캐시 전체를 버린다
+    public static AnalysisCache open(Path dir, LoggingPolicy policy, String mode) {
+        return open(dir, policy, mode, null);
+    }
+
+    /**
+     * partition: 파일 일부만 분석하는 실행(ex. 샤드 "shard-1-of-4")이면 그 이름의 캐시 파일을 따로 쓴다. (null이면 기본 파일)
+     * 같은 캐시 디렉토리를 쓰는 샤드들이 서로의 엔트리나 전체 분석의 엔트리를 덮어쓰지 않는다.
+     */
+    public static AnalysisCache open(Path dir, LoggingPolicy policy, String mode, String partition) {
+        Path file = dir.resolve(partition == null ? FILE_NAME : "analysis-cache-" + partition + ".bin");
+        String fingerprint = mode.isEmpty() ? policy.fingerprint() : policy.fingerprint() + "+" + mode;
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                long size = Files.size(file);
+                if (in.readInt() == MAGIC
+                        && in.readInt() == FORMAT_VERSION
+                        && fingerprint.equals(readString(in))) {
+                    int count = readCount(in, size, ENTRY_MIN_BYTES);
+                    for (int i = 0; i < count; i++) {
+                        String path = readString(in);
+                        entries.put(path, readEntry(in, size));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // 손상된 캐시는 무시하고 전체 재분석
+                entries.clear();
+            }
+        }
+        return new AnalysisCache(file, fingerprint, entries);
+    }
+
+    // 파일 내용 해시 (128bit murmur3)
+    public static String contentHash(byte[] content) {
+        return contentHash(content, 0, content.length);
+    }
+
+    // content[offset, offset + length) 구간의 해시 (재사용 버퍼로 읽은 내용용)
+    public static String contentHash(byte[] content, int offset, int length) {
+        return Hashing.murmur3_128().hashBytes(content, offset, length).toString();
+    }
+
+    // 내용이 바뀌지 않은 파일이면 저장된 위반 사항을 반환, 아니면 null
+    public List<Violation> get(Path file, String contentHash) {
+        String key = file.toString();
+        Entry e = resident != null ? resident.getIfPresent(key) : previous.get(key);
+        if (e == null || !e.hash.equals(contentHash)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (resident == null) current.put(key, e);
+        hits.incrementAndGet();
+
+        List<Violation> violations = new ArrayList<>(e.violations.size());
+        for (CachedViolation cv : e.violations) {
+            violations.add(new Violation(file, cv.line, cv.rule, cv.message, cv.code));
+        }
+        return violations;
+    }
+
+    public void put(Path file, String contentHash, List<Violation> violations) {
+        List<CachedViolation> cached = new ArrayList<>(violations.size());
+        for (Violation v : violations) {
+            cached.add(new CachedViolation(v.getLine(), v.getRule(), v.getMessage(), v.getCode()));
+        }
+        Entry entry = new Entry(contentHash, cached);
+        if (resident != null) {
+            resident.put(file.toString(), entry);
+        } else {
+            current.put(file.toString(), entry);
+        }
+    }
+
+    // 메모리 전용 캐시에 남아 있는 파일 수
+    public long size() {
+        return resident != null ? resident.size() : current.size();
+    }
+
+    // 일부 파일만 분석하는 실행에서 호출한다. 저장할 때 이번에 보지 않은 파일의 이전 엔트리를 지우지 않는다
+    public void keepUnseenEntries() {
+        keepUnseen = true;
+    }
+
+    // 이번 실행에서 본 파일만 남겨서 저장 (삭제된 파일의 엔트리는 자연스럽게 정리됨, keepUnseenEntries면 이전 엔트리도 유지)
+    // 임시 파일에 쓴 뒤 교체하여 중간에 중단되어도 캐시가 깨지지 않게 한다
+    public void save() {
+        // 메모리 전용 캐시는 저장하지 않는다
+        if (cacheFile == null) return;
+        Map<String, Entry> entries = current;
+        if (keepUnseen) {
+            entries = new HashMap<>(previous);
+            entries.putAll(current);
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tmp = Files.createTempFile(cacheFile.getParent(), FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, policyFingerprint);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    writeString(out, e.getKey());
+                    writeEntry(out, e.getValue());
+                }
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write analysis cache: " + cacheFile, e);
+        }
+    }
+
+    public int getHits() { return hits.get(); }
+    public int getMisses() { return misses.get(); }
+
+    private static Entry readEntry(DataInputStream in, long fileSize) throws IOException {
+        String hash = readString(in);
+        int n = readCount(in, fileSize, VIOLATION_MIN_BYTES);
+        List<CachedViolation> violations = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            violations.add(new CachedViolation(in.readInt(), readString(in), readString(in), readString(in)));
+        }
+        return new Entry(hash, violations);
+    }
+
+    private static void writeEntry(DataOutputStream out, Entry e) throws IOException {
+        writeString(out, e.hash);
+        out.writeInt(e.violations.size());
+        for (CachedViolation v : e.violations) {
+            out.writeInt(v.line);
+            writeString(out, v.rule);
+            writeString(out, v.message);
+            writeString(out, v.code);
+        }
+    }
+
+    // writeUTF는 64KB 제한이 있어 길이 + UTF-8 바이트로 직접 기록
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * 레코드 개수를 읽는다. 레코드 하나가 최소 minRecordBytes이므로 파일 크기로 담을 수 없는 개수면 손상된 파일로 본다.
+     * (손상된 개수로 큰 배열을 잡다가 OutOfMemoryError가 나지 않도록 읽기 전에 확인한다)
+     */
+    static int readCount(DataInputStream in, long fileSize, int minRecordBytes) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || (long) n * minRecordBytes > fileSize) throw new IOException("Invalid record count: " + n);
+        return n;
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0) throw new IOException("Invalid string length: " + len);
+        byte[] bytes = in.readNBytes(len);
+        if (bytes.length != len) throw new IOException("Unexpected end of cache file");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Entry(String hash, List<CachedViolation> violations) {}
+
+    private record CachedViolation(int line, String rule, String message, String code) {}
+}
@@ -0,0 +1,161 @@
+package log_analyzer.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import log_analyzer.engine.MethodSummary;
+
+// 파일 경로 + 내용 해시 → 그 파일에 정의된 메서드 요약을 저장하는 캐시 (--summaries)
+// 분석 캐시(--cache)와 같은 디렉토리에 두고, 정의한 파일의 내용이 바뀐 경우에만 요약을 다시 계산한다
+// 요약은 정책과 무관하므로 정책이 바뀌어도 버리지 않는다
+// inMemory로 만든 캐시는 디스크에 쓰지 않는다 (데몬, --cache 없는 실행). save()하면 이번 실행에서 본 파일만 남긴다
+public class MethodSummaryCache {
+
+    // 캐시 파일 포맷이나 요약 계산 방식이 바뀌면 올린다
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x4C4F4753; // "LOGS"
+    private static final String FILE_NAME = "method-summaries.bin";
+    // 레코드 하나의 최소 크기 (손상된 개수 확인용): 경로 + 해시 + 요약 수 / 시그니처 + 토큰 수 + 호출 수
+    private static final int ENTRY_MIN_BYTES = 3 * Integer.BYTES;
+    private static final int SUMMARY_MIN_BYTES = 3 * Integer.BYTES;
+
+    private final Path cacheFile;
+    // 이전 실행에서 읽어온 엔트리 (메모리 전용이면 이전 save()까지 본 엔트리)
+    private volatile Map<String, Entry> previous;
+    // 이번 실행에서 확인(hit) 또는 새로 계산(miss)된 엔트리만 저장 대상
+    private volatile Map<String, Entry> current;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private MethodSummaryCache(Path cacheFile, Map<String, Entry> previous, Map<String, Entry> current) {
+        this.cacheFile = cacheFile;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    // 디스크에 쓰지 않는 캐시 (같은 인스턴스를 다시 쓰는 동안만 유지)
+    public static MethodSummaryCache inMemory() {
+        return new MethodSummaryCache(null, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    // 캐시 디렉토리에서 캐시를 연다 (파일이 없거나 손상되었으면 빈 캐시로 시작)
+    public static MethodSummaryCache open(Path dir) {
+        Path file = dir.resolve(FILE_NAME);
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                long size = Files.size(file);
+                if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+                    int count = AnalysisCache.readCount(in, size, ENTRY_MIN_BYTES);
+                    for (int i = 0; i < count; i++) {
+                        String path = AnalysisCache.readString(in);
+                        entries.put(path, readEntry(in, size));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // 손상된 캐시는 무시하고 전체 재계산
+                entries.clear();
+            }
+        }
+        return new MethodSummaryCache(file, entries, new ConcurrentHashMap<>());
+    }
+
+    // 내용이 바뀌지 않은 파일이면 저장된 요약을 반환, 아니면 null
+    public List<MethodSummary> get(Path file, String contentHash) {
+        String key = file.toString();
+        Entry e = previous.get(key);
+        if (e == null || !e.hash.equals(contentHash)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        current.put(key, e);
+        hits.incrementAndGet();
+        return e.summaries;
+    }
+
+    public void put(Path file, String contentHash, List<MethodSummary> summaries) {
+        current.put(file.toString(), new Entry(contentHash, List.copyOf(summaries)));
+    }
+
+    // 이번 실행에서 본 파일만 남겨서 저장 (임시 파일에 쓴 뒤 교체)
+    // 메모리 전용 캐시는 디스크에 쓰지 않고, 이번 실행에서 본 파일만 다음 실행으로 넘긴다 (지워진 파일, 다른 루트의 요약이 쌓이지 않도록)
+    public void save() {
+        if (cacheFile == null) {
+            previous = current;
+            current = new ConcurrentHashMap<>();
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tmp = Files.createTempFile(cacheFile.getParent(), FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(current.size());
+                for (Map.Entry<String, Entry> e : current.entrySet()) {
+                    AnalysisCache.writeString(out, e.getKey());
+                    writeEntry(out, e.getValue());
+                }
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write method summary cache: " + cacheFile, e);
+        }
+    }
+
+    // 다음 실행에서 재사용할 수 있는 파일 수
+    public int size() {
+        return cacheFile == null ? previous.size() : current.size();
+    }
+
+    public int getHits() { return hits.get(); }
+    public int getMisses() { return misses.get(); }
+
+    private static Entry readEntry(DataInputStream in, long fileSize) throws IOException {
+        String hash = AnalysisCache.readString(in);
+        int n = AnalysisCache.readCount(in, fileSize, SUMMARY_MIN_BYTES);
+        List<MethodSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String signature = AnalysisCache.readString(in);
+            summaries.add(new MethodSummary(signature, readStrings(in, fileSize), readStrings(in, fileSize)));
+        }
+        return new Entry(hash, summaries);
+    }
+
+    private static void writeEntry(DataOutputStream out, Entry e) throws IOException {
+        AnalysisCache.writeString(out, e.hash);
+        out.writeInt(e.summaries.size());
+        for (MethodSummary s : e.summaries) {
+            AnalysisCache.writeString(out, s.signature());
+            writeStrings(out, s.tokens());
+            writeStrings(out, s.callees());
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in, long fileSize) throws IOException {
+        int n = AnalysisCache.readCount(in, fileSize, Integer.BYTES);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < n; i++) values.add(AnalysisCache.readString(in));
+        return values;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String v : values) AnalysisCache.writeString(out, v);
+    }
+
+    private record Entry(String hash, List<MethodSummary> summaries) {}
+}
@@ -0,0 +1,119 @@
+package log_analyzer.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * 분석 요청을 받아 처리하는 상주 프로세스. (--serve=<port|socket path>)
+ * - JVM, 로드한 정책, 컴파일된 규칙, 파일별 결과 캐시(WarmState)를 요청 사이에 유지한다.
+ * - 루프백 주소나 Unix 도메인 소켓에서만 받는다. 요청은 한 번에 하나씩 처리한다
+ *   (분석 자체가 모든 코어를 사용하므로 동시에 처리해도 빨라지지 않는다).
+ * - 요청 인자의 경로는 클라이언트가 절대 경로로 바꿔서 보낸다.
+ */
+public class AnalysisDaemon {
+
+    // 요청 인자로 Main과 같은 분석을 실행하고 종료 코드를 반환하는 함수
+    @FunctionalInterface
+    public interface Handler {
+        int run(List<String> args, PrintStream out, PrintStream err, WarmState warm);
+    }
+
+    private final SocketAddress address;
+    private final WarmState warm;
+    private final Handler handler;
+    private volatile ServerSocketChannel server;
+
+    public AnalysisDaemon(String address, WarmState warm, Handler handler) {
+        this.address = DaemonProtocol.address(address);
+        this.warm = warm;
+        this.handler = handler;
+    }
+
+    public SocketAddress getAddress() {
+        return address;
+    }
+
+    // 종료 요청을 받거나 close될 때까지 요청을 처리한다
+    public void serve() {
+        try (ServerSocketChannel s = DaemonProtocol.bind(address)) {
+            server = s;
+            while (s.isOpen()) {
+                SocketChannel client;
+                try {
+                    client = s.accept();
+                } catch (ClosedChannelException e) {
+                    break;
+                }
+                try (client) {
+                    if (!handle(client)) break;
+                } catch (IOException e) {
+                    // 클라이언트가 중간에 끊어도 데몬은 계속 동작
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to run analysis daemon on " + address, e);
+        } finally {
+            if (address instanceof UnixDomainSocketAddress unix) {
+                try {
+                    Files.deleteIfExists(unix.getPath());
+                } catch (IOException ignored) {
+                    // 소켓 파일은 다음 시작 시 다시 정리한다
+                }
+            }
+        }
+    }
+
+    public void close() throws IOException {
+        ServerSocketChannel s = server;
+        if (s != null) s.close();
+    }
+
+    // 요청 하나 처리, 종료 요청이면 false
+    private boolean handle(SocketChannel client) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+
+        List<String> args = DaemonProtocol.readArgs(in);
+        if (args.contains(DaemonProtocol.SHUTDOWN)) {
+            reply(out, 0, "[INFO] Analysis daemon stopped\n", "");
+            return false;
+        }
+
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        int code;
+        try (PrintStream o = new PrintStream(stdout, true, StandardCharsets.UTF_8);
+             PrintStream e = new PrintStream(stderr, true, StandardCharsets.UTF_8)) {
+            try {
+                code = handler.run(args, o, e, warm);
+            } catch (RuntimeException ex) {
+                // 한 요청의 실패가 데몬을 죽이지 않도록 오류로 응답
+                e.println("[ERROR] " + ex.getMessage());
+                code = 2;
+            }
+        }
+        reply(out, code, stdout.toString(StandardCharsets.UTF_8), stderr.toString(StandardCharsets.UTF_8));
+        return true;
+    }
+
+    private static void reply(DataOutputStream out, int code, String stdout, String stderr) throws IOException {
+        out.writeInt(code);
+        DaemonProtocol.writeString(out, stdout);
+        DaemonProtocol.writeString(out, stderr);
+        out.flush();
+    }
+}
@@ -0,0 +1,72 @@
+package log_analyzer.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 실행 인자를 데몬에 넘기고 데몬의 출력과 종료 코드를 그대로 돌려주는 얇은 클라이언트 (--connect=<port|socket path>)
+public class DaemonClient {
+
+    // 데몬의 작업 디렉토리가 다르므로 절대 경로로 바꿔서 보낼 옵션
+    private static final Set<String> PATH_OPTIONS = Set.of("--root", "--policy", "--report", "--cache", "--metrics",
+            "--baseline", "--write-baseline", "--type-path");
+    // 그중 콤마로 여러 경로를 주는 옵션 (항목마다 절대 경로로 바꾼다)
+    private static final Set<String> PATH_LIST_OPTIONS = Set.of("--root", "--type-path");
+
+    private final String address;
+
+    public DaemonClient(String address) {
+        this.address = address;
+    }
+
+    public int send(List<String> args, PrintStream out, PrintStream err) {
+        try (SocketChannel channel = DaemonProtocol.connect(DaemonProtocol.address(address))) {
+            DataOutputStream o = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DaemonProtocol.writeArgs(o, absolutize(args));
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            int code = in.readInt();
+            out.print(DaemonProtocol.readString(in));
+            err.print(DaemonProtocol.readString(in));
+            out.flush();
+            err.flush();
+            return code;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to connect to analysis daemon: " + address, e);
+        }
+    }
+
+    // 경로 옵션을 클라이언트의 작업 디렉토리 기준 절대 경로로 바꾼 인자 목록
+    public static List<String> absolutize(List<String> args) {
+        List<String> result = new ArrayList<>(args.size());
+        for (String a : args) {
+            int idx = a.indexOf('=');
+            String name = idx > 0 ? a.substring(0, idx) : null;
+            if (name != null && PATH_LIST_OPTIONS.contains(name)) {
+                List<String> paths = new ArrayList<>();
+                for (String item : a.substring(idx + 1).split(",")) {
+                    if (!item.isBlank()) paths.add(absolute(item.trim()));
+                }
+                result.add(name + "=" + String.join(",", paths));
+            } else if (name != null && PATH_OPTIONS.contains(name)) {
+                result.add(name + "=" + absolute(a.substring(idx + 1)));
+            } else {
+                result.add(a);
+            }
+        }
+        return result;
+    }
+
+    private static String absolute(String path) {
+        return Path.of(path).toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,91 @@
+package log_analyzer.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데몬과 클라이언트 사이의 요청/응답 형식.
+ * 요청: 인자 개수(int) + 인자들(문자열)
+ * 응답: 종료 코드(int) + 표준 출력(문자열) + 표준 에러(문자열)
+ * 문자열은 길이(int) + UTF-8 바이트.
+ * 주소가 숫자면 루프백 TCP 포트, 그 외는 Unix 도메인 소켓 파일 경로로 본다.
+ */
+final class DaemonProtocol {
+
+    // 데몬을 종료시키는 요청 인자
+    static final String SHUTDOWN = "--shutdown=true";
+
+    private DaemonProtocol() {}
+
+    static SocketAddress address(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("daemon address must be a port or a socket path");
+        }
+        String v = raw.trim();
+        if (v.chars().allMatch(Character::isDigit)) {
+            int port = Integer.parseInt(v);
+            if (port < 1 || port > 65535) throw new IllegalArgumentException("Invalid daemon port: " + raw);
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        }
+        return UnixDomainSocketAddress.of(Path.of(v).toAbsolutePath());
+    }
+
+    static ServerSocketChannel bind(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress unix) {
+            // 이전 데몬이 비정상 종료하며 남긴 소켓 파일 정리
+            Files.deleteIfExists(unix.getPath());
+            ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            return server.bind(address);
+        }
+        return ServerSocketChannel.open().bind(address);
+    }
+
+    static SocketChannel connect(SocketAddress address) throws IOException {
+        SocketChannel channel = address instanceof UnixDomainSocketAddress
+                ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                : SocketChannel.open();
+        channel.connect(address);
+        return channel;
+    }
+
+    static void writeArgs(DataOutputStream out, List<String> args) throws IOException {
+        out.writeInt(args.size());
+        for (String a : args) writeString(out, a);
+        out.flush();
+    }
+
+    static List<String> readArgs(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > 1024) throw new IOException("Invalid argument count: " + n);
+        List<String> args = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) args.add(readString(in));
+        return args;
+    }
+
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0) throw new IOException("Invalid string length: " + len);
+        byte[] bytes = in.readNBytes(len);
+        if (bytes.length != len) throw new IOException("Unexpected end of stream");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package log_analyzer.daemon;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.cache.MethodSummaryCache;
+import log_analyzer.engine.ExtractionEngine;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.TypeResolvingLoggingCallExtractor;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.policy.service.PolicyLoader;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+
+/**
+ * 데몬이 요청 사이에 유지하는 상태.
+ * - 정책 파일별로 로드한 LoggingPolicy, 컴파일된 규칙, 메모리 LRU 캐시를 보관한다.
+ *   정책 파일의 수정 시각이나 크기가 바뀌면 다시 읽고, 내용(fingerprint)이 바뀌었을 때만 캐시를 버린다.
+ * - 추출기(스레드별 JavaParser, 사전 필터)와 메서드 요약 캐시도 요청 사이에 재사용한다.
+ *   타입 해석 추출기는 소스 해석기가 다른 파일의 AST를 기억하므로 요청마다 새로 만들고, jar / JDK 해석기만 재사용한다.
+ * - 데몬은 요청을 하나씩 처리하므로 동기화는 메서드 단위로 충분하다.
+ */
+public class WarmState {
+
+    // 정책 파일마다 유지할 분석 모드별 캐시 수 (--summaries는 요약이 바뀔 때마다 모드가 바뀐다)
+    private static final int MAX_MODES = 4;
+
+    private final PolicyLoader loader = new PolicyLoader();
+    private final Map<ExtractorKey, JavaLoggingCallExtractor> extractors = new HashMap<>();
+    // --resolve-types의 jar / JDK 해석기 (마지막 타입 경로 하나만 유지)
+    private TypeResolvingLoggingCallExtractor.Libraries libraries;
+    private final long maxCachedFiles;
+    private final Map<Path, Session> sessions = new HashMap<>();
+    // 메서드 요약은 정책과 무관하므로 정책 파일과 관계없이 하나만 유지한다 (--summaries, 마지막 요청에서 본 파일만 남김)
+    private final MethodSummaryCache summaryCache = MethodSummaryCache.inMemory();
+
+    public WarmState(long maxCachedFiles) {
+        this.maxCachedFiles = maxCachedFiles;
+    }
+
+    public JavaLoggingCallExtractor extractor() {
+        return extractor(ExtractionEngine.JAVAPARSER);
+    }
+
+    public synchronized JavaLoggingCallExtractor extractor(ExtractionEngine engine) {
+        return extractor(engine, false);
+    }
+
+    // 엔진(--engine)과 --taint 조합별 추출기를 요청 사이에 재사용한다
+    public synchronized JavaLoggingCallExtractor extractor(ExtractionEngine engine, boolean trackTaint) {
+        return extractors.computeIfAbsent(new ExtractorKey(engine, trackTaint),
+                k -> k.engine().newExtractor(k.trackTaint()));
+    }
+
+    public synchronized JavaLoggingCallExtractor resolvingExtractor(Path root, List<Path> typePath) {
+        return resolvingExtractor(root, typePath, false);
+    }
+
+    // --resolve-types: 요청마다 새 추출기(소스 해석기)를 만들고, 타입 경로와 jar가 같으면 jar / JDK 해석기만 재사용한다
+    // (다른 파일의 필드 타입이나 상위 타입이 바뀐 것을 이전 요청의 AST로 답하지 않도록)
+    public synchronized JavaLoggingCallExtractor resolvingExtractor(Path root, List<Path> typePath, boolean trackTaint) {
+        if (libraries == null || !libraries.isCurrent(typePath)) {
+            libraries = TypeResolvingLoggingCallExtractor.Libraries.load(typePath);
+        }
+        return TypeResolvingLoggingCallExtractor.create(root, libraries, trackTaint);
+    }
+
+    // 정책 파일이 바뀌지 않았으면 이전에 로드한 정책을 그대로 반환 (잘못된 정책이면 ParserException)
+    public synchronized LoggingPolicy policy(Path policyPath) {
+        return session(policyPath).policy;
+    }
+
+    public synchronized ForbiddenFieldLoggingRule rule(Path policyPath) {
+        return session(policyPath).rule;
+    }
+
+    public synchronized AnalysisCache cache(Path policyPath) {
+        return cache(policyPath, "");
+    }
+
+    // mode: 같은 정책이라도 결과가 달라지는 분석 옵션 (ex. --taint) → 모드마다 캐시를 따로 두고 최근 MAX_MODES개만 유지한다
+    public synchronized AnalysisCache cache(Path policyPath, String mode) {
+        Session s = session(policyPath);
+        return s.caches.computeIfAbsent(mode, m -> AnalysisCache.inMemory(s.policy, maxCachedFiles));
+    }
+
+    private Session session(Path policyPath) {
+        Path key = policyPath.toAbsolutePath().normalize();
+        Stamp stamp = Stamp.of(key);
+        Session s = sessions.get(key);
+        if (s != null && s.stamp.equals(stamp)) return s;
+
+        LoggingPolicy policy = loader.load(key);
+        if (s != null && s.policy.fingerprint().equals(policy.fingerprint())) {
+            // 내용이 같으면 (touch 등) 캐시와 규칙은 유지하고 탐색 설정만 새 정책을 따른다
+            s = new Session(stamp, policy, s.rule, s.caches);
+        } else {
+            s = new Session(stamp, policy, new ForbiddenFieldLoggingRule(policy.getForbiddenFields()), modeCaches());
+        }
+        sessions.put(key, s);
+        return s;
+    }
+
+    public synchronized MethodSummaryCache summaryCache() {
+        return summaryCache;
+    }
+
+    // 최근에 사용한 순서로 MAX_MODES개까지
+    private static Map<String, AnalysisCache> modeCaches() {
+        return new LinkedHashMap<>(4, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AnalysisCache> eldest) {
+                return size() > MAX_MODES;
+            }
+        };
+    }
+
+    private record ExtractorKey(ExtractionEngine engine, boolean trackTaint) {}
+
+    // caches: 분석 모드 → 메모리 LRU 캐시
+    private record Session(Stamp stamp, LoggingPolicy policy, ForbiddenFieldLoggingRule rule,
+                           Map<String, AnalysisCache> caches) {}
+
+    // 정책 파일 변경 감지용 (수정 시각 + 크기)
+    private record Stamp(FileTime modified, long size) {
+        static Stamp of(Path file) {
+            try {
+                return new Stamp(Files.getLastModifiedTime(file), Files.size(file));
+            } catch (IOException e) {
+                // 없는 파일은 매번 다시 읽어서 PolicyLoader가 오류를 내도록 한다
+                return new Stamp(FileTime.fromMillis(-1), -1);
+            }
+        }
+    }
+}
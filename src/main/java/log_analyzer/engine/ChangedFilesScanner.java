@@ -0,0 +1,37 @@
+package log_analyzer.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * 디렉토리를 탐색하지 않고 git에서 읽은 바뀐 파일만 넘기는 스캐너. (--changed-since)
+ * - 탐색 루트 아래의 .java 파일만 넘기며, include / exclude 패턴은 그대로 적용한다.
+ *   (.gitignore 규칙은 적용하지 않는다: git이 추적하는 파일이거나 무시되지 않은 새 파일만 들어온다)
+ * - 넘기는 경로는 디렉토리 탐색과 같은 형태(root.resolve(상대 경로))이므로 보고서 경로가 달라지지 않는다.
+ */
+public class ChangedFilesScanner extends SourceScanner {
+
+    private final GitChangedFiles changes;
+
+    public ChangedFilesScanner(ScanFilter filter, GitChangedFiles changes) {
+        super(filter);
+        this.changes = changes;
+    }
+
+    @Override
+    public Stream<Path> streamJavaFiles(Path root) {
+        Path realRoot;
+        try {
+            realRoot = root.toRealPath();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to scan source files: " + root, e);
+        }
+
+        return changes.getFiles().stream()
+                .filter(f -> f.startsWith(realRoot) && f.toString().endsWith(".java"))
+                .map(realRoot::relativize)
+                .filter(rel -> rel.toString().isEmpty() || getFilter().accepts(rel))
+                .map(rel -> rel.toString().isEmpty() ? root : root.resolve(rel));
+    }
+}
@@ -0,0 +1,33 @@
+package log_analyzer.engine;
+
+// 로그 호출 추출 엔진 (--engine)
+public enum ExtractionEngine {
+    // JavaParser로 파일 전체의 AST를 만든다 (기본값)
+    JAVAPARSER,
+    // 토큰만으로 로그 호출과 인자를 읽는다 (모르는 문법이 있는 파일은 JavaParser로 추출)
+    LEXER;
+
+    public static ExtractionEngine from(String raw) {
+        if (raw == null || raw.isBlank()) return JAVAPARSER;
+        try {
+            return ExtractionEngine.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--engine must be one of javaparser, lexer: " + raw);
+        }
+    }
+
+    public JavaLoggingCallExtractor newExtractor() {
+        return newExtractor(false);
+    }
+
+    // trackTaint(--taint)는 AST가 필요하므로 javaparser 엔진에서만 사용할 수 있다
+    public JavaLoggingCallExtractor newExtractor(boolean trackTaint) {
+        if (trackTaint && this == LEXER) {
+            throw new IllegalArgumentException("--taint cannot be used with --engine=lexer");
+        }
+        return switch (this) {
+            case JAVAPARSER -> new JavaLoggingCallExtractor(trackTaint);
+            case LEXER -> new LexerLoggingCallExtractor();
+        };
+    }
+}
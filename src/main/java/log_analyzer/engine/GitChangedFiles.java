@@ -0,0 +1,189 @@
+package log_analyzer.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
+/**
+ * 로컬 git 저장소에서 기준 ref 이후 바뀐 java 파일(과 바뀐 라인)을 읽는다. (PR 검사용)
+ * - 기준 ref와 작업 트리를 비교한다 (git diff &lt;ref&gt;). 추적되지 않은 새 파일도 포함한다.
+ * - 삭제된 파일은 제외한다.
+ * - withLines면 git diff -U0의 hunk로 새 파일 기준 추가/변경 라인 범위를 만든다.
+ *   추적되지 않은 파일은 모든 라인이 바뀐 것으로 본다.
+ * - 경로는 실제 경로(toRealPath) 기준 절대 경로로 다룬다.
+ */
+public class GitChangedFiles {
+
+    // @@ -12,3 +14,5 @@  (개수가 생략되면 1)
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+
+    private final Path topLevel;
+    private final Set<Path> files;
+    // 파일 → 바뀐 라인 범위 (null이면 라인 정보 없음 = 파일 전체)
+    private final Map<Path, RangeSet<Integer>> changedLines;
+
+    private GitChangedFiles(Path topLevel, Set<Path> files, Map<Path, RangeSet<Integer>> changedLines) {
+        this.topLevel = topLevel;
+        this.files = files;
+        this.changedLines = changedLines;
+    }
+
+    public static GitChangedFiles load(Path root, String ref, boolean withLines) {
+        if (ref == null || ref.isBlank()) {
+            throw new IllegalArgumentException("--changed-since requires a git ref");
+        }
+        Path dir = Files.isDirectory(root) ? root : root.toAbsolutePath().getParent();
+        Path topLevel = Path.of(git(dir, "rev-parse", "--show-toplevel").trim());
+
+        // -z: 경로를 인용하지 않고 NUL로 구분
+        Set<Path> files = new LinkedHashSet<>();
+        addPaths(files, topLevel,
+                git(topLevel, "diff", "--name-only", "-z", "--no-renames", "--diff-filter=d", ref, "--"));
+        Set<Path> untracked = new LinkedHashSet<>();
+        addPaths(untracked, topLevel, git(topLevel, "ls-files", "--others", "--exclude-standard", "-z"));
+        files.addAll(untracked);
+
+        Map<Path, RangeSet<Integer>> lines = null;
+        if (withLines) {
+            lines = parseHunks(topLevel,
+                    git(topLevel, "-c", "core.quotePath=false", "diff", "-U0", "--no-color", "--no-ext-diff",
+                            "--no-renames", "--diff-filter=d", ref, "--"));
+            for (Path p : untracked) lines.put(p, null);
+        }
+        return new GitChangedFiles(topLevel, files, lines);
+    }
+
+    public Path getTopLevel() {
+        return topLevel;
+    }
+
+    // 바뀐 파일 중 현재 존재하는 것 (절대 경로)
+    public Set<Path> getFiles() {
+        return files;
+    }
+
+    // 라인 정보를 읽었으면 그 라인이 바뀌었는지, 아니면 바뀐 파일인지만 본다
+    public boolean isChanged(Path file, int line) {
+        Path key = realPath(file);
+        if (!files.contains(key)) return false;
+        if (changedLines == null) return true;
+        if (!changedLines.containsKey(key)) return false;
+        RangeSet<Integer> ranges = changedLines.get(key);
+        return ranges == null || ranges.contains(line);
+    }
+
+    private static void addPaths(Set<Path> out, Path topLevel, String nulSeparated) {
+        for (String rel : nulSeparated.split("\0")) {
+            if (rel.isEmpty()) continue;
+            Path p = topLevel.resolve(rel);
+            if (Files.isRegularFile(p)) out.add(realPath(p));
+        }
+    }
+
+    static Map<Path, RangeSet<Integer>> parseHunks(Path topLevel, String diff) {
+        Map<Path, RangeSet<Integer>> result = new HashMap<>();
+        Path current = null;
+        TreeRangeSet<Integer> ranges = null;
+        for (String line : diff.split("\n")) {
+            if (line.startsWith("+++ ")) {
+                if (current != null) result.put(current, ImmutableRangeSet.copyOf(ranges));
+                String name = unquote(line.substring(4));
+                if (name.equals("/dev/null")) {
+                    current = null;
+                    continue;
+                }
+                if (name.startsWith("b/")) name = name.substring(2);
+                current = realPath(topLevel.resolve(name));
+                ranges = TreeRangeSet.create();
+            } else if (current != null && line.startsWith("@@")) {
+                Matcher m = HUNK.matcher(line);
+                if (!m.find()) continue;
+                int start = Integer.parseInt(m.group(1));
+                int count = m.group(2) == null ? 1 : Integer.parseInt(m.group(2));
+                // count 0은 삭제만 있는 hunk (새 파일 기준 바뀐 라인 없음)
+                if (count > 0) ranges.add(Range.closedOpen(start, start + count));
+            }
+        }
+        if (current != null) result.put(current, ImmutableRangeSet.copyOf(ranges));
+        return result;
+    }
+
+    // 제어 문자나 따옴표가 있는 경로는 git이 "..."로 감싸고 C 스타일로 이스케이프한다
+    private static String unquote(String s) {
+        if (s.length() < 2 || s.charAt(0) != '"' || s.charAt(s.length() - 1) != '"') return s;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < s.length() - 1; i++) {
+            char c = s.charAt(i);
+            if (c != '\\' || i + 1 >= s.length() - 1) {
+                sb.append(c);
+                continue;
+            }
+            char n = s.charAt(++i);
+            switch (n) {
+                case 'n' -> sb.append('\n');
+                case 't' -> sb.append('\t');
+                default -> sb.append(n);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Path realPath(Path p) {
+        try {
+            return p.toRealPath();
+        } catch (IOException e) {
+            return p.toAbsolutePath().normalize();
+        }
+    }
+
+    // git 명령 실행 후 표준 출력 반환 (실패하면 표준 에러 내용과 함께 RuntimeException)
+    static String git(Path dir, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command).directory(dir.toFile()).start();
+            process.getOutputStream().close();
+            CompletableFuture<String> stderr = CompletableFuture.supplyAsync(() -> readAll(process.getErrorStream()));
+            String stdout = readAll(process.getInputStream());
+            int exit = process.waitFor();
+            if (exit != 0) {
+                throw new RuntimeException("Failed to read changed files from git (" + String.join(" ", args)
+                        + "): " + stderr.join().strip());
+            }
+            return stdout;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to run git in " + dir, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running git in " + dir, e);
+        }
+    }
+
+    private static String readAll(InputStream in) {
+        try (in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
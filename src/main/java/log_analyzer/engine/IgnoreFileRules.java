@@ -0,0 +1,129 @@
+package log_analyzer.engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 탐색 중인 디렉토리 경로를 따라 쌓이는 .gitignore 규칙.
+ * - 디렉토리에 들어갈 때 enter, 나올 때 exit를 호출한다.
+ * - 지원: 주석(#), 부정(!), 디렉토리 전용(끝의 /), 앵커(중간 또는 앞의 /), *, ?, **, [...]
+ * - glob으로 바꿀 수 없는 줄(닫히지 않은 [, 끝의 \ 등)은 경고를 출력하고 건너뛴다. (git에서도 매칭되는 경로가 없음)
+ * - 탐색 루트보다 상위 디렉토리의 .gitignore와 .git/info/exclude는 읽지 않는다.
+ * - 탐색 스레드 하나에서만 사용한다.
+ */
+class IgnoreFileRules {
+
+    static final String FILE_NAME = ".gitignore";
+
+    private final Deque<List<Rule>> stack = new ArrayDeque<>();
+
+    void enter(Path dir) {
+        Path file = dir.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            stack.push(List.of());
+            return;
+        }
+        try {
+            stack.push(parse(dir, Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            // 읽을 수 없는 ignore 파일은 없는 것으로 취급
+            stack.push(List.of());
+        }
+    }
+
+    void exit() {
+        stack.pop();
+    }
+
+    // 바깥 디렉토리 규칙부터 차례로 적용하고, 마지막으로 매칭된 규칙이 결과를 정한다 (git과 동일)
+    boolean isIgnored(Path path, boolean directory) {
+        boolean ignored = false;
+        for (var it = stack.descendingIterator(); it.hasNext(); ) {
+            for (Rule rule : it.next()) {
+                if (rule.matches(path, directory)) ignored = !rule.negated;
+            }
+        }
+        return ignored;
+    }
+
+    static List<Rule> parse(Path base, List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            boolean negated = line.startsWith("!");
+            if (negated) line = line.substring(1);
+
+            boolean dirOnly = line.endsWith("/");
+            if (dirOnly) line = line.substring(0, line.length() - 1);
+            if (line.isEmpty()) continue;
+
+            // 중간이나 앞에 '/'가 있으면 ignore 파일 위치 기준, 없으면 모든 깊이의 이름과 비교
+            boolean anchored = line.contains("/");
+            if (line.startsWith("/")) line = line.substring(1);
+
+            String glob = escapeBraces(line);
+            PathMatcher matcher;
+            PathMatcher subtree;
+            try {
+                matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+                subtree = anchored && glob.startsWith("**/")
+                        ? FileSystems.getDefault().getPathMatcher("glob:" + glob.substring(3))
+                        : null;
+            } catch (PatternSyntaxException e) {
+                // git은 닫히지 않은 [나 끝의 \ 같은 패턴을 받아들이고 어떤 경로에도 매칭하지 않으므로, 규칙만 건너뛰고 탐색은 계속한다
+                System.err.println("[WARN] Ignoring invalid pattern in " + base.resolve(FILE_NAME) + ":" + (i + 1)
+                        + ": " + lines.get(i).strip());
+                continue;
+            }
+            rules.add(new Rule(base, matcher, subtree, negated, dirOnly, anchored));
+        }
+        return rules;
+    }
+
+    // java glob의 {a,b} 문법은 gitignore에 없으므로 문자 그대로 취급
+    private static String escapeBraces(String s) {
+        return s.replace("{", "\\{").replace("}", "\\}");
+    }
+
+    static final class Rule {
+        private final Path base;
+        private final PathMatcher matcher;
+        private final PathMatcher rootMatcher;
+        private final boolean negated;
+        private final boolean dirOnly;
+        private final boolean anchored;
+
+        Rule(Path base, PathMatcher matcher, PathMatcher rootMatcher,
+             boolean negated, boolean dirOnly, boolean anchored) {
+            this.base = base;
+            this.matcher = matcher;
+            this.rootMatcher = rootMatcher;
+            this.negated = negated;
+            this.dirOnly = dirOnly;
+            this.anchored = anchored;
+        }
+
+        boolean matches(Path path, boolean directory) {
+            if (dirOnly && !directory) return false;
+            if (!path.startsWith(base) || path.equals(base)) return false;
+
+            if (!anchored) {
+                Path name = path.getFileName();
+                return name != null && matcher.matches(name);
+            }
+            Path rel = base.relativize(path);
+            return matcher.matches(rel) || (rootMatcher != null && rootMatcher.matches(rel));
+        }
+    }
+}
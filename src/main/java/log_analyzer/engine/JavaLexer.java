@@ -0,0 +1,345 @@
+package log_analyzer.engine;
+
+import java.util.Arrays;
+
+/**
+ * 로그 호출 추출용 경량 Java 토크나이저 (LexerLoggingCallExtractor).
+ * - 공백과 주석은 토큰으로 만들지 않고, 토큰 앞에 공백이 있었는지만 기록한다. (LogArgInspector.appendSourceText와 같은 텍스트)
+ * - 위치는 JavaParser와 같이 1부터 시작하는 라인 / 칼럼(탭도 한 칸)이다.
+ * - 괄호 ( ) [ ] { } 는 짝을 미리 찾아 둔다 (match). 꺾쇠 < > 는 문맥에 따라 달라서 짝을 찾지 않는다.
+ * - 연산자는 한 글자씩 나누되 -> :: == != && || ++ -- ... 만 한 토큰으로 만든다.
+ *   (>> 등은 제네릭의 닫는 꺾쇠와 구분할 수 없으므로 붙어 있는지(joined)로 판단한다)
+ * - 유니코드 이스케이프는 문자열 / 문자 리터럴 밖에서는 처리하지 않는다.
+ * 스레드마다 인스턴스를 하나씩 두고 파일마다 재사용한다. (배열은 커지기만 한다)
+ */
+final class JavaLexer {
+
+    // 토큰 종류: 음수는 식별자(키워드 포함) / 리터럴, 그 외는 연산자 문자 또는 아래 상수
+    static final int IDENT = -1;
+    static final int STRING = -2;
+    static final int TEXT_BLOCK = -3;
+    static final int CHAR = -4;
+    static final int NUMBER = -5;
+
+    static final int ARROW = 0x10000;       // ->
+    static final int COLON_COLON = 0x10001; // ::
+    static final int EQ_EQ = 0x10002;       // ==
+    static final int NOT_EQ = 0x10003;      // !=
+    static final int AND_AND = 0x10004;     // &&
+    static final int OR_OR = 0x10005;       // ||
+    static final int INC = 0x10006;         // ++
+    static final int DEC = 0x10007;         // --
+    static final int ELLIPSIS = 0x10008;    // ...
+
+    private static final String OPERATORS = "(){}[];,.@=<>!~?:+-*/&|^%";
+
+    // 첫 글자별 예약어 (true / false / null 포함)
+    private static final String[][] KEYWORDS = new String[26][];
+
+    static {
+        String[] all = {
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "false", "final", "finally",
+            "float", "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long",
+            "native", "new", "null", "package", "private", "protected", "public", "return", "short", "static",
+            "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient", "true", "try",
+            "void", "volatile", "while"
+        };
+        for (String k : all) {
+            int c = k.charAt(0) - 'a';
+            String[] group = KEYWORDS[c] == null ? new String[0] : KEYWORDS[c];
+            group = Arrays.copyOf(group, group.length + 1);
+            group[group.length - 1] = k;
+            KEYWORDS[c] = group;
+        }
+    }
+
+    String text;
+    int count;
+    int[] kind = new int[1024];
+    int[] start = new int[1024];
+    int[] end = new int[1024];
+    int[] line = new int[1024];
+    int[] column = new int[1024];
+    // 여는 / 닫는 괄호의 짝 토큰 (괄호가 아니면 의미 없음)
+    int[] match = new int[1024];
+    // 앞 토큰과의 사이에 공백(줄바꿈 포함)이 있었는지 (주석만 있으면 false)
+    boolean[] spaceBefore = new boolean[1024];
+
+    private int[] stack = new int[64];
+
+    /**
+     * text를 토큰으로 나눈다.
+     * 닫히지 않은 주석 / 문자열 / 문자 리터럴, 짝이 맞지 않는 괄호, Java에 없는 문자가 있으면 false.
+     */
+    boolean tokenize(String text) {
+        this.text = text;
+        count = 0;
+        int depth = 0;
+        int n = text.length();
+        int i = 0;
+        int ln = 1;
+        int lineStart = 0;
+        boolean space = false;
+
+        while (i < n) {
+            char c = text.charAt(i);
+
+            // 공백 / 줄바꿈 (\r\n, \r, \n 모두 한 줄)
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < n && text.charAt(i + 1) == '\n') i++;
+                i++;
+                ln++;
+                lineStart = i;
+                space = true;
+                continue;
+            }
+            if (c == ' ' || c == '\t' || c == '\f') {
+                i++;
+                space = true;
+                continue;
+            }
+
+            // 주석
+            if (c == '/' && i + 1 < n) {
+                char next = text.charAt(i + 1);
+                if (next == '/') {
+                    i += 2;
+                    while (i < n && text.charAt(i) != '\n' && text.charAt(i) != '\r') i++;
+                    continue;
+                }
+                if (next == '*') {
+                    int close = text.indexOf("*/", i + 2);
+                    if (close < 0) return false;
+                    for (int j = i + 2; j < close; j++) {
+                        char ch = text.charAt(j);
+                        if (ch == '\n' || (ch == '\r' && text.charAt(j + 1) != '\n')) {
+                            ln++;
+                            lineStart = j + 1;
+                        }
+                    }
+                    i = close + 2;
+                    continue;
+                }
+            }
+
+            int s = i;
+            int tokLine = ln;
+            int tokColumn = i - lineStart + 1;
+            int k;
+
+            if (isIdentifierStart(c)) {
+                i++;
+                while (i < n && isIdentifierPart(text.charAt(i))) i++;
+                k = IDENT;
+            } else if ((c >= '0' && c <= '9') || (c == '.' && i + 1 < n && isDigit(text.charAt(i + 1)))) {
+                i = skipNumber(text, i, n);
+                k = NUMBER;
+            } else if (c == '"') {
+                if (text.startsWith("\"\"\"", i)) {
+                    // 텍스트 블록: 안의 줄바꿈도 라인으로 센다
+                    i += 3;
+                    boolean closed = false;
+                    while (i < n) {
+                        char ch = text.charAt(i);
+                        if (ch == '\\') {
+                            i++;
+                            if (i < n && (text.charAt(i) == '\n' || text.charAt(i) == '\r')) continue;
+                            i++;
+                        } else if (ch == '"' && text.startsWith("\"\"\"", i)) {
+                            i += 3;
+                            closed = true;
+                            break;
+                        } else if (ch == '\n' || ch == '\r') {
+                            if (ch == '\r' && i + 1 < n && text.charAt(i + 1) == '\n') i++;
+                            i++;
+                            ln++;
+                            lineStart = i;
+                        } else {
+                            i++;
+                        }
+                    }
+                    if (!closed) return false;
+                    k = TEXT_BLOCK;
+                } else {
+                    i = skipQuoted(text, i, n, '"');
+                    if (i < 0) return false;
+                    k = STRING;
+                }
+            } else if (c == '\'') {
+                i = skipQuoted(text, i, n, '\'');
+                if (i < 0) return false;
+                k = CHAR;
+            } else {
+                k = operator(text, i, n);
+                if (k == 0) return false;
+                i += k == ELLIPSIS ? 3 : k >= ARROW ? 2 : 1;
+            }
+
+            add(k, s, i, tokLine, tokColumn, space);
+            space = false;
+
+            // 괄호 짝
+            if (k == '(' || k == '[' || k == '{') {
+                if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+                stack[depth++] = count - 1;
+            } else if (k == ')' || k == ']' || k == '}') {
+                if (depth == 0) return false;
+                int open = stack[--depth];
+                int expected = kind[open] == '(' ? ')' : kind[open] == '[' ? ']' : '}';
+                if (k != expected) return false;
+                match[open] = count - 1;
+                match[count - 1] = open;
+            }
+        }
+        return depth == 0;
+    }
+
+    // 토큰 t의 원본 텍스트
+    String text(int t) {
+        return text.substring(start[t], end[t]);
+    }
+
+    // 토큰 t가 식별자 word인지 (범위 밖이면 false)
+    boolean isWord(int t, String word) {
+        int len = word.length();
+        return t >= 0 && t < count && kind[t] == IDENT && end[t] - start[t] == len
+                && text.regionMatches(start[t], word, 0, len);
+    }
+
+    // 토큰 t가 예약어(true / false / null 포함)인지
+    boolean isKeyword(int t) {
+        if (t < 0 || t >= count || kind[t] != IDENT) return false;
+        char c = text.charAt(start[t]);
+        if (c < 'a' || c > 'z') return false;
+        String[] group = KEYWORDS[c - 'a'];
+        if (group == null) return false;
+        int len = end[t] - start[t];
+        for (String k : group) {
+            if (k.length() == len && text.regionMatches(start[t], k, 0, len)) return true;
+        }
+        return false;
+    }
+
+    // 토큰 t 바로 뒤에(공백 없이) 종류 k의 토큰이 붙어 있는지 ex) > > 가 >> 인지
+    boolean joined(int t, int k) {
+        return t + 1 < count && kind[t + 1] == k && start[t + 1] == end[t];
+    }
+
+    // 토큰 [from, to]를 주석은 빼고 공백은 한 칸으로 이어 붙인다 (LogArgInspector.appendSourceText와 같은 결과)
+    void appendSource(int from, int to, StringBuilder out) {
+        for (int t = from; t <= to; t++) {
+            if (t > from && spaceBefore[t]) out.append(' ');
+            out.append(text, start[t], end[t]);
+        }
+    }
+
+    private void add(int k, int s, int e, int ln, int col, boolean space) {
+        if (count == kind.length) grow();
+        kind[count] = k;
+        start[count] = s;
+        end[count] = e;
+        line[count] = ln;
+        column[count] = col;
+        spaceBefore[count] = space;
+        count++;
+    }
+
+    private void grow() {
+        int size = kind.length * 2;
+        kind = Arrays.copyOf(kind, size);
+        start = Arrays.copyOf(start, size);
+        end = Arrays.copyOf(end, size);
+        line = Arrays.copyOf(line, size);
+        column = Arrays.copyOf(column, size);
+        match = Arrays.copyOf(match, size);
+        spaceBefore = Arrays.copyOf(spaceBefore, size);
+    }
+
+    // 숫자 리터럴 (정수 / 실수 / 16진수, 접미사, '_' 포함)의 끝
+    private static int skipNumber(String text, int i, int n) {
+        boolean hex = text.charAt(i) == '0' && i + 1 < n && (text.charAt(i + 1) == 'x' || text.charAt(i + 1) == 'X');
+        if (hex) i += 2;
+        while (i < n) {
+            char ch = text.charAt(i);
+            boolean exponent = hex ? (ch == 'p' || ch == 'P') : (ch == 'e' || ch == 'E');
+            if (exponent && i + 1 < n && (text.charAt(i + 1) == '+' || text.charAt(i + 1) == '-')) {
+                i += 2;
+            } else if (isIdentifierPart(ch) || ch == '.') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    // 따옴표로 감싼 리터럴의 끝 (닫히지 않고 줄이 바뀌면 -1)
+    private static int skipQuoted(String text, int i, int n, char quote) {
+        i++;
+        while (i < n) {
+            char ch = text.charAt(i);
+            if (ch == '\\') {
+                i += 2;
+            } else if (ch == quote) {
+                return i + 1;
+            } else if (ch == '\n' || ch == '\r') {
+                return -1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int operator(String text, int i, int n) {
+        char c = text.charAt(i);
+        char next = i + 1 < n ? text.charAt(i + 1) : 0;
+        switch (c) {
+            case '-':
+                if (next == '>') return ARROW;
+                if (next == '-') return DEC;
+                break;
+            case ':':
+                if (next == ':') return COLON_COLON;
+                break;
+            case '=':
+                if (next == '=') return EQ_EQ;
+                break;
+            case '!':
+                if (next == '=') return NOT_EQ;
+                break;
+            case '&':
+                if (next == '&') return AND_AND;
+                break;
+            case '|':
+                if (next == '|') return OR_OR;
+                break;
+            case '+':
+                if (next == '+') return INC;
+                break;
+            case '.':
+                if (next == '.' && text.startsWith("...", i)) return ELLIPSIS;
+                break;
+            default:
+                break;
+        }
+        return OPERATORS.indexOf(c) >= 0 ? c : 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        if (c < 128) return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$';
+        return Character.isJavaIdentifierStart(c);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$';
+        }
+        return Character.isJavaIdentifierPart(c);
+    }
+}
@@ -1,58 +1,276 @@
 package log_analyzer.engine;
 
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.ReturnStmt;
 
+import log_analyzer.metrics.FileStats;
+
+/**
+ * java 파일에서 정책에 등록된 로그 호출을 추출한다.
+ * <p>
+ * thread-safe: 하나의 인스턴스를 여러 워커 스레드가 동시에 사용할 수 있다.
+ * JavaParser는 내부 파서(GeneratedJavaParser)와 토큰 매니저를 재사용하는 대신 thread-safe하지 않으므로,
+ * 스레드마다 자기 JavaParser를 하나씩 만들어 그 스레드 안에서만 재사용한다.
+ * ParserConfiguration은 생성 후 변경하지 않는다.
+ */
 public class JavaLoggingCallExtractor {
 
     // 설정 파싱 라이브러리
-    private final ParserConfiguration config = new ParserConfiguration();
+    private final ParserConfiguration config;
+
+    // 워커 스레드별 파서 (파일마다 new JavaParser 하지 않도록)
+    private final ThreadLocal<JavaParser> parsers;
+
+    private static final String[] NO_CALLEES = new String[0];
+
+    // 지역 변수를 거쳐 로그 인자로 흘러가는 값도 검사할지 (--taint)
+    private final boolean trackTaint;
+
+    // --taint에서 지역 변수 하나가 기억하는 최대 토큰 수
+    public static final int MAX_TAINT_TOKENS = TaintTracker.MAX_TOKENS;
+    // 토큰 수 제한을 넘어서 지역 변수의 토큰을 버린 파일 수 (추출 / 요약 누적)
+    private final LongAdder taintTruncatedFiles = new LongAdder();
+
+    // 마지막으로 사용한 정책 메서드 목록에 대한 사전 필터 (정책이 바뀔 때만 다시 만든다)
+    private volatile LogCallPrefilter prefilter;
+
+    public JavaLoggingCallExtractor() {
+        this(new ParserConfiguration(), false);
+    }
+
+    // trackTaint: 메서드 안의 지역 변수를 거쳐 로그 인자로 흘러가는 값의 토큰도 호출에 더한다 (TaintTracker)
+    public JavaLoggingCallExtractor(boolean trackTaint) {
+        this(new ParserConfiguration(), trackTaint);
+    }
+
+    // 하위 클래스가 파서 설정(ex. 심볼 해석기)을 바꿀 때 사용 (생성 후 변경하지 않는다)
+    protected JavaLoggingCallExtractor(ParserConfiguration config) {
+        this(config, false);
+    }
+
+    protected JavaLoggingCallExtractor(ParserConfiguration config, boolean trackTaint) {
+        this.config = config;
+        this.trackTaint = trackTaint;
+        this.parsers = ThreadLocal.withInitial(this::newParser);
+    }
+
+    // 워커 스레드마다 한 번 호출된다. 하위 클래스는 스레드별 설정(ex. 스레드마다 따로 둔 심볼 해석기)으로 파서를 만들 수 있다
+    protected JavaParser newParser() {
+        return new JavaParser(config);
+    }
+
+    // 지금까지 토큰 수 제한(MAX_TAINT_TOKENS)을 넘어서 지역 변수의 토큰을 버린 파일 수 (--taint, 요약의 return 식 추적 포함)
+    public long getTaintTruncatedFiles() {
+        return taintTruncatedFiles.sum();
+    }
 
     //
     public List<LogCall> extract(Path file, Set<String> allowedLogMethods) {
+        return extract(file, allowedLogMethods, null);
+    }
+
+    // stats가 있으면 읽기 / 파싱 / 추출 단계별 시간과 크기를 기록한다 (--metrics, JFR)
+    public List<LogCall> extract(Path file, Set<String> allowedLogMethods, FileStats stats) {
+        SourceFile source;
         try {
-            //java 파일을 객층 구조로 변환
-            JavaParser parser = new JavaParser(config);
-            ParseResult<CompilationUnit> result = parser.parse(file);
+            // 스레드별 재사용 버퍼로 파일을 한 번에 읽는다
+            long t0 = stats != null ? System.nanoTime() : 0;
+            source = SourceReader.local().read(file);
+            if (stats != null) stats.addRead(source.length(), System.nanoTime() - t0);
+        } catch (Exception e) {
+            // 읽을 수 없는 파일은 파일 단위로 무시
+            if (stats != null) stats.markParseFailed();
+            return List.of();
+        }
+        return extract(source, allowedLogMethods, stats);
+    }
+
+    // 이미 읽은 내용으로 추출 (내용 해시를 위해 먼저 읽은 경우 다시 읽지 않도록)
+    public List<LogCall> extract(SourceFile source, Set<String> allowedLogMethods, FileStats stats) {
+        Path file = source.getPath();
+        try {
+            // 로그 호출 후보가 없으면 파싱하지 않는다
+            if (!prefilterFor(allowedLogMethods).mayContainLogCall(source.bytes(), source.length())) {
+                if (stats != null) stats.markSkipped();
+                return List.of();
+            }
+
+            //java 파일을 객층 구조로 변환 (이미 읽은 내용을 그대로 사용)
+            long t1 = stats != null ? System.nanoTime() : 0;
+            JavaParser parser = parsers.get();
+            String text = source.text(config.getCharacterEncoding());
+            ParseResult<CompilationUnit> result = parser.parse(text);
+            if (stats != null) stats.addParse(System.nanoTime() - t1);
 
-            if (result.getResult().isEmpty()) return List.of();
+            if (result.getResult().isEmpty()) {
+                if (stats != null) stats.markParseFailed();
+                return List.of();
+            }
             //java 명령어를 추출하여 저장
+            long t2 = stats != null ? System.nanoTime() : 0;
             CompilationUnit cu = result.getResult().get();
 
             List<LogCall> calls = new ArrayList<>();
-
-            //함수 호출 부분만 골라 찾기
-            cu.findAll(MethodCallExpr.class).forEach(call -> {
-                String fqn = toMethodFqn(call);
-                if (fqn == null) return;
-
-                // 규정에 명시되어 있는 함수인지 확인
-                if (!allowedLogMethods.contains(fqn)) return;
-
-                // 함수가 실행된 라인을 반환
-                int line = call.getBegin().map(p -> p.line).orElse(-1);
-                
-                // 리스트에 추가
-                calls.add(new LogCall(file, line, fqn, call.getArguments()));
+            // 인라인 억제(// log-analyzer:ignore, @SuppressLogViolation)는 같은 순회에서 위치로 찾는다
+            Suppressions suppressions = new Suppressions(result.getCommentsCollection().orElse(null), text);
+            // 지역 변수의 정의를 소스 순서로 따라가면서 로그 호출을 찾는다 (findAll과 같은 전위 순회)
+            TaintTracker taint = trackTaint ? new TaintTracker() : null;
+            cu.walk(Node.TreeTraversal.PREORDER, node -> {
+                if (taint != null) taint.visit(node);
+                suppressions.visit(node);
+                //함수 호출 부분만 골라 찾기
+                if (node instanceof MethodCallExpr call) {
+                    addLogCall(file, call, allowedLogMethods, taint, suppressions, calls);
+                }
             });
+            if (taint != null && taint.isTruncated()) taintTruncatedFiles.increment();
 
+            if (stats != null) stats.addExtract(System.nanoTime() - t2, calls.size());
             return calls;
         } catch (Exception e) {
             // 파일 파싱 실패가 전체 분석을 죽이지 않도록 파일 단위로 무시
+            if (stats != null) stats.markParseFailed();
             return List.of();
         }
     }
 
+    // 정책에 있는 로그 호출이면 calls에 추가 (taint가 있으면 인자가 참조하는 지역 변수의 토큰도 더한다)
+    private void addLogCall(Path file, MethodCallExpr call, Set<String> allowedLogMethods,
+                            TaintTracker taint, Suppressions suppressions, List<LogCall> calls) {
+        String fqn = toMethodFqn(call, allowedLogMethods);
+        if (fqn == null) return;
+
+        // 규정에 명시되어 있는 함수인지 확인
+        if (!allowedLogMethods.contains(fqn)) return;
+
+        // 함수가 실행된 위치(시작 ~ 끝)
+        int line = call.getBegin().map(p -> p.line).orElse(-1);
+        int column = call.getBegin().map(p -> p.column).orElse(-1);
+        int endLine = call.getEnd().map(p -> p.line).orElse(line);
+        int endColumn = call.getEnd().map(p -> p.column).orElse(-1);
+
+        // 이 호출에 적용되는 인라인 억제 이름 (없으면 null)
+        String[] suppressed = call.getBegin().isPresent() && call.getEnd().isPresent()
+                ? suppressions.at(call.getBegin().get(), call.getEnd().get())
+                : null;
+
+        // 리스트에 추가 (인자 AST는 텍스트와 토큰으로 떼어 내고 보관하지 않는다)
+        calls.add(new LogCall(file, line, column, endLine, endColumn, fqn, call.getArguments(),
+                taint != null ? taint.flowTokens(call.getArguments()) : List.of(), callees(call.getArguments()),
+                suppressed));
+    }
+
+    // 인자 안의 메서드 호출 키 (--summaries에서 규칙이 반환값 요약을 찾는다)
+    private static String[] callees(List<Expression> args) {
+        List<String> keys = null;
+        for (Expression arg : args) {
+            for (MethodCallExpr c : arg.findAll(MethodCallExpr.class)) {
+                if (keys == null) keys = new ArrayList<>();
+                keys.add(MethodSummaries.calleeKey(c));
+            }
+        }
+        return keys == null ? NO_CALLEES : keys.toArray(new String[0]);
+    }
+
+    /**
+     * 파일에 선언된 메서드의 반환값 요약 (--summaries의 프로젝트 전체 사전 단계, 파싱할 수 없으면 빈 목록)
+     * return 식의 토큰과 호출한 메서드 키를 모은다. 지역 변수를 거쳐 반환하는 값은 TaintTracker로 따라간다.
+     * 람다 / 익명 클래스 안의 return은 바깥 메서드의 반환값이 아니므로 제외한다.
+     */
+    public List<MethodSummary> summarize(SourceFile source) {
+        ParseResult<CompilationUnit> result;
+        try {
+            result = parsers.get().parse(source.text(config.getCharacterEncoding()));
+        } catch (Exception e) {
+            return List.of();
+        }
+        if (result.getResult().isEmpty()) return List.of();
+
+        TaintTracker taint = new TaintTracker();
+        Map<MethodDeclaration, Returns> methods = new LinkedHashMap<>();
+        result.getResult().get().walk(Node.TreeTraversal.PREORDER, node -> {
+            taint.visit(node);
+            if (!(node instanceof ReturnStmt ret) || ret.getExpression().isEmpty()) return;
+            MethodDeclaration method = returningMethod(ret);
+            if (method == null) return;
+
+            Expression value = ret.getExpression().get();
+            Returns r = methods.computeIfAbsent(method, m -> new Returns());
+            r.tokens.addAll(taint.tokensOf(value));
+            for (MethodCallExpr c : value.findAll(MethodCallExpr.class)) r.callees.add(MethodSummaries.calleeKey(c));
+        });
+        if (taint.isTruncated()) taintTruncatedFiles.increment();
+
+        List<MethodSummary> summaries = new ArrayList<>(methods.size());
+        methods.forEach((method, r) -> {
+            if (!(method.getParentNode().orElse(null) instanceof TypeDeclaration<?> owner)) return;
+            String signature = owner.getNameAsString() + "." + method.getNameAsString()
+                    + "/" + method.getParameters().size();
+            summaries.add(new MethodSummary(signature, new ArrayList<>(r.tokens), new ArrayList<>(r.callees)));
+        });
+        return summaries;
+    }
+
+    // return 문이 속한 메서드 (람다, 익명 클래스, 생성자 / 초기화 블록 안이면 null)
+    private static MethodDeclaration returningMethod(ReturnStmt ret) {
+        for (Node n = ret.getParentNode().orElse(null); n != null; n = n.getParentNode().orElse(null)) {
+            if (n instanceof MethodDeclaration m) return m;
+            if (n instanceof LambdaExpr || n instanceof ObjectCreationExpr || n instanceof BodyDeclaration<?>) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // 메서드 하나의 return 식들에서 모은 값
+    private static final class Returns {
+        final Set<String> tokens = new LinkedHashSet<>();
+        final Set<String> callees = new LinkedHashSet<>();
+    }
+
+    // 소스를 디코딩할 문자셋 (파서 설정과 같게)
+    Charset encoding() {
+        return config.getCharacterEncoding();
+    }
+
+    LogCallPrefilter prefilterFor(Set<String> allowedLogMethods) {
+        LogCallPrefilter p = prefilter;
+        if (p == null || !p.isFor(allowedLogMethods)) {
+            p = newPrefilter(allowedLogMethods);
+            prefilter = p;
+        }
+        return p;
+    }
+
+    // toMethodFqn과 같은 규칙으로 후보를 거르는 사전 필터
+    LogCallPrefilter newPrefilter(Set<String> allowedLogMethods) {
+        return new LogCallPrefilter(allowedLogMethods);
+    }
+
     //명령어가 log를 출력하는 명령어인지 확인하는 메소드
-    private String toMethodFqn(MethodCallExpr call) {
+    // allowedLogMethods: 하위 클래스가 정책에 없는 호출의 비싼 판별을 생략할 수 있도록 전달한다
+    protected String toMethodFqn(MethodCallExpr call, Set<String> allowedLogMethods) {
         String method = call.getNameAsString(); //ex info, debug
 
         if (call.getScope().isPresent()) {
@@ -61,28 +279,33 @@ public class JavaLoggingCallExtractor {
             // scope가 "this.log" / "some.logger" 처럼 될 수 있으니 마지막 토큰만 추출
             String normalizedScope = lastToken(scope);
 
-            // java.util.logging.Logger.* 를 약식으로 지원
-            // if (normalizedScope.endsWith("Logger")) {
-            //     return "Logger." + method;
-            // }
-
-            //Logger, logger, Log가 포함되게 작성한 변수명에 대해 log로 고정
-            if (normalizedScope.endsWith("Logger") || 
-                normalizedScope.endsWith("logger") || 
-                normalizedScope.endsWith("Log")) {
-                return "log." + method;
-            }
-
-            return normalizedScope + "." + method;
+            return normalize(normalizedScope, method);
         }
 
         // scope 없는 호출은 정책 매칭하기 어려워 제외
         return null;
     }
 
+    // scope의 마지막 토큰과 메서드 이름으로 정책 비교용 fqn 생성 (사전 필터와 공유)
+    static String normalize(String normalizedScope, String method) {
+        // java.util.logging.Logger.* 를 약식으로 지원
+        // if (normalizedScope.endsWith("Logger")) {
+        //     return "Logger." + method;
+        // }
+
+        //Logger, logger, Log가 포함되게 작성한 변수명에 대해 log로 고정
+        if (normalizedScope.endsWith("Logger") ||
+            normalizedScope.endsWith("logger") ||
+            normalizedScope.endsWith("Log")) {
+            return "log." + method;
+        }
+
+        return normalizedScope + "." + method;
+    }
+
     //scope의 마지막 텍스트만을 출력
-    private String lastToken(String scope) {
+    static String lastToken(String scope) {
         int idx = scope.lastIndexOf('.');
         return (idx >= 0) ? scope.substring(idx + 1) : scope;
     }
-}
\ No newline at end of file
+}
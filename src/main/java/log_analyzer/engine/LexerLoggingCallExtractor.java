@@ -0,0 +1,202 @@
+package log_analyzer.engine;
+
+import static log_analyzer.engine.JavaLexer.IDENT;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import log_analyzer.metrics.FileStats;
+
+/**
+ * JavaParser AST를 만들지 않고 토큰만으로 로그 호출을 추출하는 경량 엔진 (--engine=lexer).
+ * - JavaLexer로 파일을 한 번 토큰화하고 "<수신자> . [<타입 인자>] <이름> (" 형태 중 정책에 있는 호출을 찾는다.
+ * - 찾은 호출의 인자만 LogArgParser로 읽어서 JavaLoggingCallExtractor와 같은 LogCall을 만든다.
+ *   (위치, 인자별 원본 텍스트, LogArgInspector 순서의 토큰, AST 전위 순회와 같은 호출 순서)
+ * - 토큰화에 실패하면(닫히지 않은 문자열 / 주석, 짝이 맞지 않는 괄호) 파싱 실패와 같이 빈 목록을 반환한다.
+ *   그 밖의 문법 오류는 검사하지 않으므로 JavaParser가 거부하는 파일에서도 호출을 찾을 수 있다.
+ * - 인자 파서가 모르는 문법을 만났거나, 정책에 식별자가 아닌 수신자가 있으면 그 파일은 JavaParser로 추출한다.
+ * thread-safe: 토크나이저와 인자 파서는 스레드별로 재사용한다.
+ */
+public class LexerLoggingCallExtractor extends JavaLoggingCallExtractor {
+
+    private static final Comparator<Found> PREORDER =
+            Comparator.comparingInt((Found f) -> f.begin).thenComparing(f -> -f.close);
+
+    private final ThreadLocal<JavaLexer> lexers = ThreadLocal.withInitial(JavaLexer::new);
+    private final ThreadLocal<LogArgParser> argParsers = ThreadLocal.withInitial(LogArgParser::new);
+    // 인자 파서가 처리하지 못해 JavaParser로 추출한 파일 수
+    private final LongAdder fallbacks = new LongAdder();
+
+    @Override
+    public List<LogCall> extract(SourceFile source, Set<String> allowedLogMethods, FileStats stats) {
+        LogCallPrefilter filter = prefilterFor(allowedLogMethods);
+        // 수신자가 식별자가 아닌 정책 항목은 scope 전체의 문자열이 필요하므로 AST로 추출
+        if (!filter.checksReceivers()) return super.extract(source, allowedLogMethods, stats);
+
+        try {
+            // 로그 호출 후보가 없으면 토큰화하지 않는다
+            if (!filter.mayContainLogCall(source.bytes(), source.length())) {
+                if (stats != null) stats.markSkipped();
+                return List.of();
+            }
+
+            long t1 = stats != null ? System.nanoTime() : 0;
+            JavaLexer lexer = lexers.get();
+            boolean tokenized = lexer.tokenize(source.text(encoding()));
+            if (stats != null) stats.addParse(System.nanoTime() - t1);
+            if (!tokenized) {
+                if (stats != null) stats.markParseFailed();
+                return List.of();
+            }
+
+            long t2 = stats != null ? System.nanoTime() : 0;
+            List<LogCall> calls;
+            try {
+                calls = findCalls(lexer, source.getPath(), allowedLogMethods, filter.methodNames());
+            } catch (RuntimeException e) {
+                // 인자 파서가 모르는 문법 → 이 파일은 AST로 추출
+                fallbacks.increment();
+                return super.extract(source, allowedLogMethods, stats);
+            }
+            if (stats != null) stats.addExtract(System.nanoTime() - t2, calls.size());
+            return calls;
+        } catch (Exception e) {
+            if (stats != null) stats.markParseFailed();
+            return List.of();
+        }
+    }
+
+    // JavaParser로 다시 추출한 파일 수 (정책 때문에 처음부터 AST로 추출한 파일은 제외)
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    private List<LogCall> findCalls(JavaLexer lx, Path file, Set<String> allowedLogMethods, String[] methodNames) {
+        List<Found> found = new ArrayList<>();
+        LogArgParser parser = null;
+        boolean sorted = true;
+
+        for (int open = 1; open < lx.count; open++) {
+            if (lx.kind[open] != '(') continue;
+
+            // 메서드 이름: 정책에 있는 이름인지 먼저 비교 (문자열을 만들지 않음)
+            int name = open - 1;
+            if (lx.kind[name] != IDENT) continue;
+            String method = methodName(lx, name, methodNames);
+            if (method == null) continue;
+
+            // 이름 앞: (선택) 타입 인자 <...>, '.'
+            int dot = name - 1;
+            if (dot >= 0 && lx.kind[dot] == '>') {
+                dot = angleOpen(lx, dot) - 1;
+                if (dot < 0) continue;
+            }
+            if (dot < 1 || lx.kind[dot] != '.') continue;
+
+            // 수신자는 scope의 마지막 토큰 (toMethodFqn의 lastToken과 같은 값)
+            int receiver = dot - 1;
+            if (lx.kind[receiver] != IDENT) continue;
+            String fqn = normalize(lx.text(receiver), method);
+            if (!allowedLogMethods.contains(fqn)) continue;
+
+            // 어노테이션(@a.b(..))과 객체 생성(new a.B(..))은 메서드 호출이 아니다
+            int head = receiver;
+            while (head >= 2 && lx.kind[head - 1] == '.' && lx.kind[head - 2] == IDENT) head -= 2;
+            if (head > 0 && (lx.kind[head - 1] == '@' || lx.isWord(head - 1, "new"))) continue;
+
+            if (parser == null) parser = argParsers.get();
+            List<String> texts = new ArrayList<>(4);
+            List<String> tokens = new ArrayList<>(8);
+            parser.parseArguments(lx, open, texts, tokens);
+
+            int begin = scopeStart(lx, receiver);
+            int close = lx.match[open];
+            LogCall call = new LogCall(file, lx.line[begin], lx.column[begin], lx.line[close], lx.column[close],
+                    fqn, texts.toArray(new String[0]), tokens.toArray(new String[0]));
+            Found f = new Found(begin, close, call);
+            if (!found.isEmpty() && PREORDER.compare(found.get(found.size() - 1), f) > 0) sorted = false;
+            found.add(f);
+        }
+
+        // AST 전위 순회와 같은 순서 (시작 위치, 같으면 바깥 호출 먼저) ex) a(log.x()).log.y() → y, x
+        if (!sorted) found.sort(PREORDER);
+        List<LogCall> calls = new ArrayList<>(found.size());
+        for (Found f : found) calls.add(f.call);
+        return calls;
+    }
+
+    // 토큰 t가 정책의 메서드 이름이면 그 이름
+    private static String methodName(JavaLexer lx, int t, String[] methodNames) {
+        int len = lx.end[t] - lx.start[t];
+        for (String m : methodNames) {
+            if (m.length() == len && lx.text.regionMatches(lx.start[t], m, 0, len)) return m;
+        }
+        return null;
+    }
+
+    // '>' 토큰 close와 짝인 '<' (같은 괄호 안에서 찾지 못하면 -1)
+    private static int angleOpen(JavaLexer lx, int close) {
+        int depth = 0;
+        for (int t = close; t >= 0; t--) {
+            int k = lx.kind[t];
+            if (k == '>') {
+                depth++;
+            } else if (k == '<') {
+                if (--depth == 0) return t;
+            } else if (k == '(' || k == ')' || k == '{' || k == '}' || k == ';') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    // 수신자부터 거슬러 올라가 scope 식의 첫 토큰 (호출의 시작 위치) ex) this.log / a.b().log / new A().log
+    private static int scopeStart(JavaLexer lx, int receiver) {
+        int q = receiver;
+        while (true) {
+            int p = q - 1;
+            // .<T>name(...)의 타입 인자
+            if (p >= 0 && lx.kind[p] == '>') {
+                int open = angleOpen(lx, p);
+                if (open < 1 || lx.kind[open - 1] != '.') return q;
+                p = open - 1;
+            }
+            if (p >= 1 && lx.kind[p] == '.') {
+                q = elementStart(lx, p - 1);
+                continue;
+            }
+            if (lx.isWord(p, "new")) {
+                q = p;
+                continue;
+            }
+            return q;
+        }
+    }
+
+    // 토큰 last로 끝나는 scope 원소(식별자, 메서드 호출, 배열 접근, 괄호 식)의 첫 토큰
+    private static int elementStart(JavaLexer lx, int last) {
+        int k = lx.kind[last];
+        if (k == ')') {
+            int open = lx.match[last];
+            int before = open - 1;
+            if (before >= 0 && lx.kind[before] == '>') {
+                // new A<>()
+                int angle = angleOpen(lx, before);
+                if (angle >= 1 && lx.kind[angle - 1] == IDENT) return angle - 1;
+            }
+            if (before >= 0 && lx.kind[before] == IDENT && !lx.isKeyword(before)) return before;
+            return open;
+        }
+        if (k == ']') {
+            int open = lx.match[last];
+            return open >= 1 ? elementStart(lx, open - 1) : open;
+        }
+        return last;
+    }
+
+    private record Found(int begin, int close, LogCall call) {}
+}
@@ -1,9 +1,14 @@
 package log_analyzer.engine;
 
+import com.github.javaparser.JavaToken;
+import com.github.javaparser.TokenRange;
 import com.github.javaparser.ast.expr.*;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 // java file에서 추출한 logger에 대하여 실제 작성된 변수 명, 텍스트 등을 작은 토큰 단위로 절단
 public class LogArgInspector {
@@ -17,66 +22,130 @@ public class LogArgInspector {
      */
     public List<String> extractTokens(Expression expr) {
         List<String> tokens = new ArrayList<>();
-        collect(expr, tokens);
+        inspect(expr, token -> tokens.add(token.toString()));
         return tokens;
     }
 
-    private void collect(Expression expr, List<String> out) {
-        if (expr == null) return;
+    /**
+     * extractTokens와 같은 순서로 토큰을 sink에 바로 넘긴다. (중간 리스트를 만들지 않음)
+     * 대부분의 토큰은 AST가 이미 들고 있는 문자열을 그대로 넘기고,
+     * 처리하지 않는 표현식은 원본 토큰을 이어 붙인 임시 버퍼(재사용)를 넘긴다.
+     */
+    public void inspect(Expression expr, TokenSink sink) {
+        new Walker(sink).collect(expr);
+    }
 
-        if (expr.isStringLiteralExpr()) {
-            out.add(expr.asStringLiteralExpr().asString());
+    /**
+     * 표현식의 원본 토큰을 이어 붙인 텍스트를 out에 추가한다.
+     * pretty printer(toString) 대신 파서가 저장한 토큰을 사용하고, 주석은 빼고 공백은 한 칸으로 줄인다.
+     * 토큰 정보가 없는(직접 생성한) 노드만 toString을 사용한다.
+     */
+    public static void appendSourceText(Expression expr, StringBuilder out) {
+        Optional<TokenRange> range = expr.getTokenRange();
+        if (range.isEmpty()) {
+            out.append(expr);
             return;
         }
 
-        if (expr.isTextBlockLiteralExpr()) {
-            out.add(expr.asTextBlockLiteralExpr().getValue());
-            return;
+        int start = out.length();
+        JavaToken end = range.get().getEnd();
+        for (JavaToken t = range.get().getBegin(); t != null; t = t.getNextToken().orElse(null)) {
+            JavaToken.Category category = t.getCategory();
+            if (category.isWhitespaceOrComment()) {
+                if (!category.isComment() && out.length() > start && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else {
+                out.append(t.getText());
+            }
+            if (t == end) break;
         }
+    }
 
-        if (expr.isNameExpr()) {
-            out.add(expr.asNameExpr().getNameAsString());
-            return;
-        }
+    // inspect 호출 하나 동안만 쓰는 상태 (fallback용 버퍼)
+    private static final class Walker {
+        private final TokenSink out;
+        private StringBuilder buffer;
 
-        if (expr.isFieldAccessExpr()) {
-            FieldAccessExpr fa = expr.asFieldAccessExpr();
-            out.add(fa.getNameAsString());      // password
-            collect(fa.getScope(), out);        // user
-            return;
+        Walker(TokenSink out) {
+            this.out = out;
         }
 
-        if (expr.isBinaryExpr()) {
-            BinaryExpr be = expr.asBinaryExpr();
-            if (be.getOperator() == BinaryExpr.Operator.PLUS) {
-                collect(be.getLeft(), out);
-                collect(be.getRight(), out);
+        void collect(Expression expr) {
+            if (expr == null) return;
+
+            if (expr.isStringLiteralExpr()) {
+                StringLiteralExpr literal = expr.asStringLiteralExpr();
+                // 이스케이프가 없으면 원본 값이 곧 문자열 값이므로 변환하지 않는다
+                String raw = literal.getValue();
+                out.accept(raw.indexOf('\\') < 0 ? raw : literal.asString());
+                return;
             }
-            return;
-        }
 
-        if (expr.isMethodCallExpr()) {
-            MethodCallExpr mc = expr.asMethodCallExpr();
-            out.add(mc.getNameAsString());      // getPassword
-            mc.getArguments().forEach(a -> collect(a, out));
-            mc.getScope().ifPresent(s -> collect(s, out));
-            return;
-        }
+            if (expr.isTextBlockLiteralExpr()) {
+                out.accept(expr.asTextBlockLiteralExpr().getValue());
+                return;
+            }
 
-        if (expr.isObjectCreationExpr()) {
-            ObjectCreationExpr oc = expr.asObjectCreationExpr();
-            out.add(oc.getTypeAsString());      // StringBuilder 등
-            oc.getArguments().forEach(a -> collect(a, out));
-            return;
+            if (expr.isNameExpr()) {
+                out.accept(expr.asNameExpr().getNameAsString());
+                return;
+            }
+
+            if (expr.isFieldAccessExpr()) {
+                FieldAccessExpr fa = expr.asFieldAccessExpr();
+                out.accept(fa.getNameAsString());   // password
+                collect(fa.getScope());             // user
+                return;
+            }
+
+            if (expr.isBinaryExpr()) {
+                BinaryExpr be = expr.asBinaryExpr();
+                if (be.getOperator() == BinaryExpr.Operator.PLUS) {
+                    collect(be.getLeft());
+                    collect(be.getRight());
+                }
+                return;
+            }
+
+            if (expr.isMethodCallExpr()) {
+                MethodCallExpr mc = expr.asMethodCallExpr();
+                out.accept(mc.getNameAsString());   // getPassword
+                for (Expression a : mc.getArguments()) collect(a);
+                if (mc.getScope().isPresent()) collect(mc.getScope().get());
+                return;
+            }
+
+            if (expr.isObjectCreationExpr()) {
+                ObjectCreationExpr oc = expr.asObjectCreationExpr();
+                out.accept(typeName(oc.getType())); // StringBuilder 등
+                for (Expression a : oc.getArguments()) collect(a);
+                return;
+            }
+
+            if (expr.isEnclosedExpr()) {
+                collect(expr.asEnclosedExpr().getInner());
+                return;
+            }
+
+            // fallback
+            out.accept(sourceText(expr));
         }
 
-        if (expr.isEnclosedExpr()) {
-            collect(expr.asEnclosedExpr().getInner(), out);
-            return;
+        // 단순 클래스 이름은 식별자를 그대로, 그 외(패키지, 타입 인자)는 문자열로 만든다
+        private static String typeName(Type type) {
+            if (type instanceof ClassOrInterfaceType t && t.getScope().isEmpty() && t.getTypeArguments().isEmpty()) {
+                return t.getName().getIdentifier();
+            }
+            return type.asString();
         }
 
-        // fallback
-        out.add(expr.toString());
+        private CharSequence sourceText(Expression expr) {
+            if (buffer == null) buffer = new StringBuilder(64);
+            buffer.setLength(0);
+            appendSourceText(expr, buffer);
+            return buffer;
+        }
     }
 
 }
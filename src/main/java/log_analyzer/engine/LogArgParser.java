@@ -0,0 +1,565 @@
+package log_analyzer.engine;
+
+import static log_analyzer.engine.JavaLexer.ARROW;
+import static log_analyzer.engine.JavaLexer.AND_AND;
+import static log_analyzer.engine.JavaLexer.CHAR;
+import static log_analyzer.engine.JavaLexer.COLON_COLON;
+import static log_analyzer.engine.JavaLexer.DEC;
+import static log_analyzer.engine.JavaLexer.EQ_EQ;
+import static log_analyzer.engine.JavaLexer.IDENT;
+import static log_analyzer.engine.JavaLexer.INC;
+import static log_analyzer.engine.JavaLexer.NOT_EQ;
+import static log_analyzer.engine.JavaLexer.NUMBER;
+import static log_analyzer.engine.JavaLexer.OR_OR;
+import static log_analyzer.engine.JavaLexer.STRING;
+import static log_analyzer.engine.JavaLexer.TEXT_BLOCK;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.javaparser.utils.StringEscapeUtils;
+
+/**
+ * JavaLexer 토큰으로 로그 호출의 인자만 읽는 작은 표현식 파서 (LexerLoggingCallExtractor).
+ * LogArgInspector가 구분하는 표현식(문자열 / 변수 / 필드 / '+' 결합 / 메서드 호출 / 객체 생성 / 괄호)만 노드로 만들고,
+ * 나머지는 범위만 기억했다가 원본 텍스트를 토큰으로 넘긴다. 연산자 우선순위는 JavaParser와 같다.
+ * 모르는 문법을 만나면 Unsupported를 던지고, 호출한 쪽은 그 파일을 JavaParser로 다시 추출한다.
+ * 스레드마다 인스턴스를 하나씩 사용한다.
+ */
+final class LogArgParser {
+
+    // 이 파서가 다루지 못하는 인자 (JavaParser로 다시 추출)
+    static final class Unsupported extends RuntimeException {
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    // 노드 종류 (LogArgInspector의 분기와 같은 단위)
+    private static final int STRING_LITERAL = 0;
+    private static final int TEXT_BLOCK_LITERAL = 1;
+    private static final int NAME = 2;
+    private static final int FIELD_ACCESS = 3;
+    private static final int METHOD_CALL = 4;
+    private static final int OBJECT_CREATION = 5;
+    private static final int ENCLOSED = 6;
+    private static final int PLUS = 7;
+    // '+' 외의 이항 연산 (토큰 없음)
+    private static final int OTHER_BINARY = 8;
+    // 그 밖의 표현식 (원본 텍스트가 토큰)
+    private static final int OTHER = 9;
+
+    // 토큰 범위 [from, to]
+    private static final class Node {
+        final int kind;
+        final int from;
+        int to;
+        // 필드 / 메서드의 scope, '+'의 왼쪽, 괄호 안 표현식
+        Node left;
+        // '+'의 오른쪽
+        Node right;
+        // 필드 / 메서드 이름 토큰, 객체 생성은 타입의 첫 토큰
+        int name;
+        // 객체 생성 타입의 마지막 토큰
+        int typeEnd;
+        List<Node> args;
+
+        Node(int kind, int from) {
+            this.kind = kind;
+            this.from = from;
+        }
+    }
+
+    private final StringBuilder buffer = new StringBuilder(64);
+    private JavaLexer lx;
+    private int pos;
+
+    /**
+     * open 토큰('(')부터 호출 인자를 읽어 인자별 원본 텍스트는 texts에, LogArgInspector.inspect 순서의 토큰은 tokens에 추가한다.
+     */
+    void parseArguments(JavaLexer lexer, int open, List<String> texts, List<String> tokens) {
+        this.lx = lexer;
+        for (Node arg : arguments(open)) {
+            buffer.setLength(0);
+            lx.appendSource(arg.from, arg.to, buffer);
+            texts.add(buffer.toString());
+            emit(arg, tokens);
+        }
+    }
+
+    private void emit(Node n, List<String> out) {
+        switch (n.kind) {
+            case STRING_LITERAL -> {
+                // 이스케이프가 없으면 원본 값이 곧 문자열 값
+                String raw = lx.text.substring(lx.start[n.from] + 1, lx.end[n.from] - 1);
+                out.add(raw.indexOf('\\') < 0 ? raw : StringEscapeUtils.unescapeJava(raw));
+            }
+            case TEXT_BLOCK_LITERAL -> out.add(textBlockValue(n.from));
+            case NAME -> out.add(lx.text(n.name));
+            case FIELD_ACCESS -> {
+                out.add(lx.text(n.name));
+                emit(n.left, out);
+            }
+            case METHOD_CALL -> {
+                out.add(lx.text(n.name));
+                for (Node a : n.args) emit(a, out);
+                if (n.left != null) emit(n.left, out);
+            }
+            case OBJECT_CREATION -> {
+                out.add(typeName(n.name, n.typeEnd));
+                for (Node a : n.args) emit(a, out);
+            }
+            case ENCLOSED -> emit(n.left, out);
+            case PLUS -> {
+                emit(n.left, out);
+                emit(n.right, out);
+            }
+            case OTHER_BINARY -> {
+                // '+' 외의 연산은 토큰을 만들지 않는다
+            }
+            default -> {
+                buffer.setLength(0);
+                lx.appendSource(n.from, n.to, buffer);
+                out.add(buffer.toString());
+            }
+        }
+    }
+
+    // JavaParser의 TextBlockLiteralExpr.getValue와 같이 여는 """ 다음 줄부터 닫는 """ 전까지 (이스케이프는 그대로)
+    private String textBlockValue(int t) {
+        String text = lx.text;
+        int i = lx.start[t] + 3;
+        int end = lx.end[t] - 3;
+        while (i < end && text.charAt(i) != '\n' && text.charAt(i) != '\r') i++;
+        if (i < end && text.charAt(i) == '\r') i++;
+        if (i < end && text.charAt(i) == '\n') i++;
+        return text.substring(i, end);
+    }
+
+    // 단순 클래스 이름은 식별자 그대로, 그 외는 ClassOrInterfaceType.asString과 같은 문자열
+    private String typeName(int from, int to) {
+        if (from == to) return lx.text(from);
+        StringBuilder sb = new StringBuilder();
+        for (int t = from; t <= to; t++) {
+            if (lx.isWord(t, "extends") || lx.isWord(t, "super")) {
+                sb.append(' ').append(lx.text(t)).append(' ');
+            } else {
+                sb.append(lx.text, lx.start[t], lx.end[t]);
+            }
+        }
+        return sb.toString();
+    }
+
+    // '(' 부터 짝 ')' 까지의 인자 목록, pos는 ')' 다음으로 이동
+    private List<Node> arguments(int open) {
+        int close = lx.match[open];
+        List<Node> args = new ArrayList<>(4);
+        pos = open + 1;
+        while (pos < close) {
+            args.add(expression());
+            if (pos == close) break;
+            if (kind(pos) != ',') throw UNSUPPORTED;
+            pos++;
+            if (pos == close) throw UNSUPPORTED;
+        }
+        pos = close + 1;
+        return args;
+    }
+
+    // 대입 / 람다 / 삼항 연산을 포함한 표현식
+    private Node expression() {
+        int from = pos;
+        if (isLambdaStart(pos)) {
+            pos = kind(pos) == IDENT ? pos + 2 : lx.match[pos] + 2;
+            if (kind(pos) == '{') {
+                pos = lx.match[pos] + 1;
+            } else {
+                expression();
+            }
+            return other(from);
+        }
+
+        Node n = binary(1);
+        if (kind(pos) == '?') {
+            pos++;
+            expression();
+            if (kind(pos) != ':') throw UNSUPPORTED;
+            pos++;
+            expression();
+            n = other(from);
+        }
+
+        int assign = assignmentLength(pos);
+        if (assign > 0) {
+            pos += assign;
+            expression();
+            n = other(from);
+        }
+        return n;
+    }
+
+    // x -> ... 또는 (..) -> ...
+    private boolean isLambdaStart(int p) {
+        int k = kind(p);
+        if (k == IDENT) return kind(p + 1) == ARROW;
+        return k == '(' && kind(lx.match[p] + 1) == ARROW;
+    }
+
+    // 우선순위 minPrec 이상인 이항 연산 (왼쪽 결합)
+    private Node binary(int minPrec) {
+        int from = pos;
+        Node left = unary();
+        while (true) {
+            int op = binaryOperator(pos);
+            if (op == 0) return left;
+            int prec = op >> 3;
+            if (prec < minPrec) return left;
+
+            if (lx.isWord(pos, "instanceof")) {
+                pos++;
+                if (lx.isWord(pos, "final")) pos++;
+                pos = typeEnd(pos);
+                if (pos < 0) throw UNSUPPORTED;
+                // 레코드 패턴 / 패턴 변수
+                if (kind(pos) == '(') pos = lx.match[pos] + 1;
+                if (kind(pos) == IDENT && !lx.isKeyword(pos)) pos++;
+                left = other(from);
+                continue;
+            }
+
+            boolean plus = kind(pos) == '+';
+            pos += op & 7;
+            Node right = binary(prec + 1);
+            Node n = new Node(plus ? PLUS : OTHER_BINARY, from);
+            n.left = left;
+            n.right = right;
+            n.to = pos - 1;
+            left = n;
+        }
+    }
+
+    // p의 이항 연산자: (우선순위 << 3) | 토큰 수, 이항 연산자가 아니면 0
+    private int binaryOperator(int p) {
+        int k = kind(p);
+        switch (k) {
+            case OR_OR:
+                return 1 << 3 | 1;
+            case AND_AND:
+                return 2 << 3 | 1;
+            case EQ_EQ:
+            case NOT_EQ:
+                return 6 << 3 | 1;
+            case '|':
+                return lx.joined(p, '=') ? 0 : 3 << 3 | 1;
+            case '^':
+                return lx.joined(p, '=') ? 0 : 4 << 3 | 1;
+            case '&':
+                return lx.joined(p, '=') ? 0 : 5 << 3 | 1;
+            case '+':
+            case '-':
+                return lx.joined(p, '=') ? 0 : 9 << 3 | 1;
+            case '*':
+            case '/':
+            case '%':
+                return lx.joined(p, '=') ? 0 : 10 << 3 | 1;
+            case '<':
+                if (lx.joined(p, '<')) return lx.joined(p + 1, '=') ? 0 : 8 << 3 | 2;
+                return lx.joined(p, '=') ? 7 << 3 | 2 : 7 << 3 | 1;
+            case '>': {
+                int n = 1;
+                while (n < 3 && lx.joined(p + n - 1, '>')) n++;
+                if (lx.joined(p + n - 1, '=')) return n == 1 ? 7 << 3 | 2 : 0;
+                return n == 1 ? 7 << 3 | 1 : 8 << 3 | n;
+            }
+            case IDENT:
+                return lx.isWord(p, "instanceof") ? 7 << 3 | 1 : 0;
+            default:
+                return 0;
+        }
+    }
+
+    // p의 대입 연산자 토큰 수 (= += <<= >>>= ...), 아니면 0
+    private int assignmentLength(int p) {
+        int k = kind(p);
+        if (k == '=') return 1;
+        if (k == '<') return lx.joined(p, '<') && lx.joined(p + 1, '=') ? 3 : 0;
+        if (k == '>') {
+            int n = 1;
+            while (n < 3 && lx.joined(p + n - 1, '>')) n++;
+            return n > 1 && lx.joined(p + n - 1, '=') ? n + 1 : 0;
+        }
+        if (k == '+' || k == '-' || k == '*' || k == '/' || k == '%' || k == '&' || k == '|' || k == '^') {
+            return lx.joined(p, '=') ? 2 : 0;
+        }
+        return 0;
+    }
+
+    // 단항 연산, 캐스트
+    private Node unary() {
+        int from = pos;
+        int k = kind(pos);
+        if (k == '+' || k == '-' || k == '!' || k == '~' || k == INC || k == DEC) {
+            pos++;
+            unary();
+            return other(from);
+        }
+        if (k == '(' && isCast(pos)) {
+            pos = lx.match[pos] + 1;
+            if (isLambdaStart(pos)) {
+                expression();
+            } else {
+                unary();
+            }
+            return other(from);
+        }
+        return postfix(primary());
+    }
+
+    // (타입) 뒤에 피연산자가 오면 캐스트, 아니면 괄호 식
+    private boolean isCast(int open) {
+        int close = lx.match[open];
+        if (typeEnd(open + 1) != close) return false;
+        int next = close + 1;
+        int k = kind(next);
+        // 기본형 캐스트는 +x, -x도 피연산자가 될 수 있다
+        if (isPrimitive(open + 1) && (k == '+' || k == '-' || k == INC || k == DEC)) return true;
+        if (k == IDENT) return !lx.isWord(next, "instanceof");
+        return k == STRING || k == TEXT_BLOCK || k == CHAR || k == NUMBER || k == '(' || k == '!' || k == '~';
+    }
+
+    private Node primary() {
+        int from = pos;
+        int k = kind(pos);
+        switch (k) {
+            case STRING:
+                pos++;
+                return leaf(STRING_LITERAL, from);
+            case TEXT_BLOCK:
+                pos++;
+                return leaf(TEXT_BLOCK_LITERAL, from);
+            case CHAR:
+            case NUMBER:
+                pos++;
+                return other(from);
+            case '(': {
+                int close = lx.match[pos];
+                pos++;
+                Node inner = expression();
+                if (pos != close) throw UNSUPPORTED;
+                pos = close + 1;
+                Node n = leaf(ENCLOSED, from);
+                n.left = inner;
+                return n;
+            }
+            case IDENT:
+                break;
+            default:
+                throw UNSUPPORTED;
+        }
+
+        if (lx.isWord(pos, "new")) return creation(from);
+        if (lx.isWord(pos, "switch")) {
+            pos++;
+            if (kind(pos) != '(') throw UNSUPPORTED;
+            pos = lx.match[pos] + 1;
+            if (kind(pos) != '{') throw UNSUPPORTED;
+            pos = lx.match[pos] + 1;
+            return other(from);
+        }
+        if (lx.isWord(pos, "this") || lx.isWord(pos, "super")) {
+            pos++;
+            if (kind(pos) == '(') throw UNSUPPORTED;
+            return other(from);
+        }
+        if (lx.isWord(pos, "true") || lx.isWord(pos, "false") || lx.isWord(pos, "null") || isPrimitive(pos)) {
+            // int.class, int[]::new 등은 postfix에서 이어서 읽는다
+            pos++;
+            return other(from);
+        }
+        if (lx.isKeyword(pos)) throw UNSUPPORTED;
+
+        pos++;
+        if (kind(pos) == '(') return methodCall(null, from, from);
+        Node n = leaf(NAME, from);
+        n.name = from;
+        return n;
+    }
+
+    // 필드 접근, 메서드 호출, 배열 접근, 메서드 참조, 후위 증감
+    private Node postfix(Node n) {
+        int from = n.from;
+        while (true) {
+            int k = kind(pos);
+            if (k == '.') {
+                int name = pos + 1;
+                if (kind(name) == '<') {
+                    // 타입 인자가 있는 호출 ex) Foo.<T>bar()
+                    name = typeArgumentsEnd(name);
+                    if (name < 0 || kind(name) != IDENT || kind(name + 1) != '(') throw UNSUPPORTED;
+                    pos = name + 1;
+                    n = methodCall(n, from, name);
+                    continue;
+                }
+                if (kind(name) != IDENT) throw UNSUPPORTED;
+                if (lx.isWord(name, "new")) {
+                    // 내부 클래스 생성 ex) outer.new Inner()
+                    pos = name;
+                    n = creation(from);
+                    continue;
+                }
+                if (lx.isWord(name, "this") || lx.isWord(name, "class") || lx.isWord(name, "super")) {
+                    pos = name + 1;
+                    n = other(from);
+                    continue;
+                }
+                if (lx.isKeyword(name)) throw UNSUPPORTED;
+                pos = name + 1;
+                if (kind(pos) == '(') {
+                    n = methodCall(n, from, name);
+                } else {
+                    Node field = leaf(FIELD_ACCESS, from);
+                    field.left = n;
+                    field.name = name;
+                    n = field;
+                }
+                continue;
+            }
+            if (k == '[') {
+                if (kind(pos + 1) == ']') {
+                    // 배열 타입 ex) String[].class, int[]::new
+                    while (kind(pos) == '[' && kind(pos + 1) == ']') pos += 2;
+                    if (!(kind(pos) == '.' && lx.isWord(pos + 1, "class")) && kind(pos) != COLON_COLON) {
+                        throw UNSUPPORTED;
+                    }
+                    n = other(from);
+                    continue;
+                }
+                pos = lx.match[pos] + 1;
+                n = other(from);
+                continue;
+            }
+            if (k == COLON_COLON) {
+                pos++;
+                if (kind(pos) != IDENT) throw UNSUPPORTED;
+                pos++;
+                n = other(from);
+                continue;
+            }
+            if (k == INC || k == DEC) {
+                pos++;
+                n = other(from);
+                continue;
+            }
+            return n;
+        }
+    }
+
+    // pos는 이름 다음의 '('
+    private Node methodCall(Node scope, int from, int name) {
+        Node n = new Node(METHOD_CALL, from);
+        n.left = scope;
+        n.name = name;
+        n.args = arguments(pos);
+        n.to = pos - 1;
+        return n;
+    }
+
+    // pos는 new
+    private Node creation(int from) {
+        pos++;
+        int typeFrom = pos;
+        if (kind(pos) != IDENT || (lx.isKeyword(pos) && !isPrimitive(pos))) throw UNSUPPORTED;
+        pos++;
+        while (true) {
+            if (kind(pos) == '<') {
+                pos = typeArgumentsEnd(pos);
+                if (pos < 0) throw UNSUPPORTED;
+            }
+            if (kind(pos) == '.' && kind(pos + 1) == IDENT) {
+                pos += 2;
+                continue;
+            }
+            break;
+        }
+        int typeTo = pos - 1;
+
+        // 배열 생성 ex) new int[3], new String[] { "a" }
+        if (kind(pos) == '[') {
+            while (kind(pos) == '[') pos = lx.match[pos] + 1;
+            if (kind(pos) == '{') pos = lx.match[pos] + 1;
+            return other(from);
+        }
+        if (kind(pos) != '(') throw UNSUPPORTED;
+
+        Node n = new Node(OBJECT_CREATION, from);
+        n.name = typeFrom;
+        n.typeEnd = typeTo;
+        n.args = arguments(pos);
+        // 익명 클래스 본문은 토큰을 만들지 않는다
+        if (kind(pos) == '{') pos = lx.match[pos] + 1;
+        n.to = pos - 1;
+        return n;
+    }
+
+    // p부터 타입(ex. java.util.Map<String, List<?>>[])이 끝나는 다음 토큰, 타입이 아니면 -1
+    private int typeEnd(int p) {
+        if (kind(p) != IDENT || (lx.isKeyword(p) && !isPrimitive(p))) return -1;
+        int q = p + 1;
+        while (true) {
+            if (kind(q) == '<') {
+                q = typeArgumentsEnd(q);
+                if (q < 0) return -1;
+            }
+            if (kind(q) == '.' && kind(q + 1) == IDENT) {
+                q += 2;
+                continue;
+            }
+            break;
+        }
+        while (kind(q) == '[' && kind(q + 1) == ']') q += 2;
+        return q;
+    }
+
+    // p의 '<'부터 짝 '>' 다음 토큰 (<>, <?>, <? extends T, U> ...), 타입 인자가 아니면 -1
+    private int typeArgumentsEnd(int p) {
+        int q = p + 1;
+        if (kind(q) == '>') return q + 1;
+        while (true) {
+            if (kind(q) == '?') {
+                q++;
+                if (lx.isWord(q, "extends") || lx.isWord(q, "super")) q = typeEnd(q + 1);
+            } else {
+                q = typeEnd(q);
+            }
+            if (q < 0) return -1;
+            if (kind(q) == ',') {
+                q++;
+                continue;
+            }
+            return kind(q) == '>' ? q + 1 : -1;
+        }
+    }
+
+    private boolean isPrimitive(int t) {
+        return lx.isWord(t, "int") || lx.isWord(t, "long") || lx.isWord(t, "boolean") || lx.isWord(t, "double")
+                || lx.isWord(t, "float") || lx.isWord(t, "char") || lx.isWord(t, "byte") || lx.isWord(t, "short")
+                || lx.isWord(t, "void");
+    }
+
+    private int kind(int t) {
+        return t >= 0 && t < lx.count ? lx.kind[t] : 0;
+    }
+
+    private Node leaf(int kind, int from) {
+        Node n = new Node(kind, from);
+        n.to = pos - 1;
+        return n;
+    }
+
+    // 원본 텍스트로만 다루는 표현식 [from, pos)
+    private Node other(int from) {
+        return leaf(OTHER, from);
+    }
+}
@@ -1,26 +1,139 @@
 package log_analyzer.engine;
 
+import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.expr.Expression;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
-//실제 사용된 log에 대한 정보를 저장하는 클래스
+/**
+ * 실제 사용된 log에 대한 정보를 저장하는 클래스
+ * AST(Expression)를 들고 있지 않고, 추출할 때 필요한 값만 떼어 낸다.
+ * - 인자별 원본 텍스트(스니펫용), 검사할 토큰 목록, 소스 위치
+ * Expression은 parent 포인터로 파일의 CompilationUnit 전체를 붙잡고 있으므로,
+ * 떼어 내고 나면 LogCall이 살아 있어도 AST는 추출 직후 GC 대상이 된다.
+ */
 public class LogCall {
+    private static final LogArgInspector INSPECTOR = new LogArgInspector();
+    private static final String[] NONE = new String[0];
+
     private final Path file;
     private final int line;
+    private final int column;
+    private final int endLine;
+    private final int endColumn;
     private final String methodFqn; // ex) log.info
-    private final List<Expression> args;
+    // 인자별 원본 텍스트 (주석 제외, 공백 한 칸)
+    private final String[] argTexts;
+    // 인자들에서 뽑은 토큰 (LogArgInspector.inspect 순서)
+    private final String[] tokens;
+    // 인자에서 호출한 메서드의 키 (MethodSummaries.calleeKey, --summaries일 때 규칙이 요약을 찾는다)
+    private final String[] callees;
+    // 인라인 억제(// log-analyzer:ignore, @SuppressLogViolation)로 보고하지 않을 이름 (null: 없음, 빈 배열: 모두)
+    private final String[] suppressed;
 
+    // 위치를 라인만 아는 경우 (테스트, 직접 만든 AST)
     public LogCall(Path file, int line, String methodFqn, List<Expression> args) {
+        this(file, line, -1, line, -1, methodFqn, args);
+    }
+
+    // AST 인자에서 텍스트와 토큰을 바로 떼어 낸다 (args를 보관하지 않음)
+    public LogCall(Path file, int line, int column, int endLine, int endColumn,
+                   String methodFqn, List<Expression> args) {
+        this(file, line, column, endLine, endColumn, methodFqn, args, List.of(), NONE, null);
+    }
+
+    // flowTokens: 인자가 참조하는 지역 변수에 흘러 들어온 토큰 (--taint, 인자 토큰 뒤에 붙인다)
+    // suppressed: 인라인 억제 이름 (Suppressions.at)
+    LogCall(Path file, int line, int column, int endLine, int endColumn, String methodFqn, List<Expression> args,
+            Collection<String> flowTokens, String[] callees, String[] suppressed) {
         this.file = file;
         this.line = line;
+        this.column = column;
+        this.endLine = endLine;
+        this.endColumn = endColumn;
         this.methodFqn = methodFqn;
-        this.args = args;
+
+        this.argTexts = new String[args.size()];
+        List<String> collected = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < argTexts.length; i++) {
+            sb.setLength(0);
+            LogArgInspector.appendSourceText(args.get(i), sb);
+            argTexts[i] = sb.toString();
+            // 토큰 대부분은 AST 노드가 가진 String이라 복사 없이 그대로 남고, 임시 버퍼만 String으로 만든다
+            INSPECTOR.inspect(args.get(i), token -> collected.add(token.toString()));
         }
+        collected.addAll(flowTokens);
+        this.tokens = collected.toArray(new String[0]);
+        this.callees = callees;
+        this.suppressed = suppressed;
+    }
+
+    // 이미 떼어 낸 텍스트와 토큰으로 만든다 (LexerLoggingCallExtractor)
+    LogCall(Path file, int line, int column, int endLine, int endColumn,
+            String methodFqn, String[] argTexts, String[] tokens) {
+        this.file = file;
+        this.line = line;
+        this.column = column;
+        this.endLine = endLine;
+        this.endColumn = endColumn;
+        this.methodFqn = methodFqn;
+        this.argTexts = argTexts;
+        this.tokens = tokens;
+        this.callees = NONE;
+        this.suppressed = null;
+    }
 
     public Path getFile() { return file; }
     public int getLine() { return line; }
+    // 1부터 시작, 모르면 -1
+    public int getColumn() { return column; }
+    public int getEndLine() { return endLine; }
+    public int getEndColumn() { return endColumn; }
     public String getMethodFqn() { return methodFqn; }
-    public List<Expression> getArgs() { return args; }
+
+    public List<String> getArgTexts() { return Arrays.asList(argTexts.clone()); }
+    public List<String> getTokens() { return Arrays.asList(tokens.clone()); }
+
+    // 토큰을 목록 복사 없이 sink에 넘긴다 (규칙 평가용)
+    public void forEachToken(TokenSink sink) {
+        for (String token : tokens) sink.accept(token);
+    }
+
+    // 인자에서 호출한 메서드의 키를 넘긴다 (JavaParser 엔진만 기록한다)
+    public void forEachCallee(Consumer<String> sink) {
+        for (String callee : callees) sink.accept(callee);
+    }
+
+    // 인라인 억제된 이름인지 (금지 필드 이름 또는 규칙 이름, 대소문자 무시). 이름 없이 억제했으면 모두 true
+    public boolean isSuppressed(String name) {
+        if (suppressed == null) return false;
+        if (suppressed.length == 0) return true;
+        for (String s : suppressed) {
+            if (s.equalsIgnoreCase(name)) return true;
+        }
+        return false;
+    }
+
+    // 보고서용 스니펫 ex) log.info("Logging Text", password)
+    public String getSnippet() {
+        StringBuilder sb = new StringBuilder(methodFqn).append('(');
+        for (int i = 0; i < argTexts.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(argTexts[i]);
+        }
+        return sb.append(')').toString();
+    }
+
+    // 원본 텍스트를 다시 파싱한 인자 AST (호환용, 호출마다 새로 파싱하므로 분석 경로에서는 사용하지 않는다)
+    public List<Expression> getArgs() {
+        List<Expression> args = new ArrayList<>(argTexts.length);
+        for (String text : argTexts) args.add(StaticJavaParser.parseExpression(text));
+        return args;
+    }
 
 }
@@ -0,0 +1,231 @@
+package log_analyzer.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AST 파싱 전에 원본 바이트만 보고 정책의 로그 호출이 "있을 수 있는지" 판별하는 사전 필터.
+ * - 정책의 메서드 이름들(info, error ...)로 Aho-Corasick 오토마톤을 만들어 파일을 한 번만 훑는다.
+ * - 메서드 이름이 나오면 주변 문맥(앞의 '.', 수신자 식별자, 뒤의 '(')을 확인하고
+ *   JavaLoggingCallExtractor.toMethodFqn과 같은 규칙으로 fqn을 만들어 정책에 있는지 본다.
+ * - false면 확실히 정책 호출이 없는 파일이므로 파싱을 생략해도 된다.
+ *   주석이나 문자열 안의 텍스트는 걸러내지 않으므로 true는 "후보"일 뿐이다.
+ * - 토큰 사이에 주석이 끼어 있는 호출(log./*x*&#47;info)과 유니코드 이스케이프는 고려하지 않는다.
+ * - 불변 객체이며 여러 스레드에서 공유해도 안전하다.
+ */
+public class LogCallPrefilter {
+
+    private static final int ALPHABET = 256;
+
+    private final Set<String> logMethods;
+    // 정책 항목 중 식별자가 아닌 수신자가 있으면 문맥 확인이 불가능하므로 항상 파싱
+    private final boolean alwaysCandidate;
+    // 수신자 이름과 관계없이 로거일 수 있는 호출(log.<이름>)도 후보로 본다 (타입 해석 모드)
+    private final boolean anyReceiver;
+
+    // 정책 항목의 메서드 이름 (중복 제거)
+    private final String[] methodNames;
+
+    // 결정적 오토마톤: delta[state * 256 + byte] = next state
+    private final int[] delta;
+    // 상태별로 끝나는 메서드 이름들의 바이트 길이 (없으면 null)
+    private final int[][] outputs;
+    // outputs와 같은 순서의 메서드 이름
+    private final String[][] outputNames;
+
+    public LogCallPrefilter(Set<String> logMethods) {
+        this(logMethods, false);
+    }
+
+    // anyReceiver: 변수 이름이 아니라 타입으로 로거를 판별할 때 (LOG.info, AUDIT.warn, getLogger().info ...)
+    public LogCallPrefilter(Set<String> logMethods, boolean anyReceiver) {
+        this.logMethods = Set.copyOf(logMethods);
+        this.anyReceiver = anyReceiver;
+
+        Set<String> methodNames = new LinkedHashSet<>();
+        boolean always = false;
+        for (String fqn : this.logMethods) {
+            int dot = fqn.lastIndexOf('.');
+            // '.'이 없거나 수신자에 '.'이 있는 항목은 toMethodFqn이 만들 수 없으므로 무시
+            if (dot <= 0 || dot == fqn.length() - 1) continue;
+            String receiver = fqn.substring(0, dot);
+            if (receiver.indexOf('.') >= 0) continue;
+            if (!isIdentifier(receiver)) always = true;
+            methodNames.add(fqn.substring(dot + 1));
+        }
+        this.alwaysCandidate = always;
+        this.methodNames = methodNames.toArray(new String[0]);
+
+        // trie 구성
+        List<int[]> gotoRows = new ArrayList<>();
+        List<List<String>> outs = new ArrayList<>();
+        gotoRows.add(newRow());
+        outs.add(new ArrayList<>());
+        for (String name : methodNames) {
+            int state = 0;
+            for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+                int c = b & 0xFF;
+                if (gotoRows.get(state)[c] < 0) {
+                    gotoRows.get(state)[c] = gotoRows.size();
+                    gotoRows.add(newRow());
+                    outs.add(new ArrayList<>());
+                }
+                state = gotoRows.get(state)[c];
+            }
+            outs.get(state).add(name);
+        }
+
+        // 실패 링크를 BFS로 계산하면서 DFA로 펼친다
+        int states = gotoRows.size();
+        int[] fail = new int[states];
+        delta = new int[states * ALPHABET];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = gotoRows.get(0)[c];
+            if (next < 0) {
+                delta[c] = 0;
+            } else {
+                delta[c] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outs.get(state).addAll(outs.get(fail[state]));
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = gotoRows.get(state)[c];
+                if (next < 0) {
+                    delta[state * ALPHABET + c] = delta[fail[state] * ALPHABET + c];
+                } else {
+                    delta[state * ALPHABET + c] = next;
+                    fail[next] = delta[fail[state] * ALPHABET + c];
+                    queue.add(next);
+                }
+            }
+        }
+
+        outputs = new int[states][];
+        outputNames = new String[states][];
+        for (int s = 0; s < states; s++) {
+            List<String> o = outs.get(s);
+            if (o.isEmpty()) continue;
+            outputNames[s] = o.toArray(new String[0]);
+            outputs[s] = new int[o.size()];
+            for (int i = 0; i < o.size(); i++) {
+                outputs[s][i] = o.get(i).getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+    }
+
+    // 같은 정책 메서드 목록으로 만든 필터인지
+    public boolean isFor(Set<String> methods) {
+        return logMethods == methods || logMethods.equals(methods);
+    }
+
+    // 모든 정책 항목의 수신자가 식별자라서 "<식별자> . <이름> (" 문맥만으로 판단할 수 있는지
+    boolean checksReceivers() {
+        return !alwaysCandidate && !anyReceiver;
+    }
+
+    // 정책 항목의 메서드 이름들 (수정하지 말 것)
+    String[] methodNames() {
+        return methodNames;
+    }
+
+    public boolean mayContainLogCall(byte[] source) {
+        return mayContainLogCall(source, source.length);
+    }
+
+    // source[0, length) 안에 정책의 로그 호출 후보가 있는지
+    public boolean mayContainLogCall(byte[] source, int length) {
+        if (alwaysCandidate) return true;
+
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = delta[state * ALPHABET + (source[i] & 0xFF)];
+            int[] lens = outputs[state];
+            if (lens == null) continue;
+            for (int k = 0; k < lens.length; k++) {
+                if (isLogCallAt(source, length, i + 1 - lens[k], i + 1, outputNames[state][k])) return true;
+            }
+        }
+        return false;
+    }
+
+    // source[start, end)가 메서드 이름일 때 "<수신자> . <이름> (" 형태이고 fqn이 정책에 있는지
+    private boolean isLogCallAt(byte[] s, int length, int start, int end, String method) {
+        // 이름 뒤: 식별자가 이어지면 안 되고, 공백 뒤 '('
+        if (end < length && isIdentifierByte(s[end])) return false;
+        int j = skipWhitespace(s, end, length);
+        if (j >= length || s[j] != '(') return false;
+
+        // 이름 앞: 공백, (선택) 타입 인자 <...>, 공백, '.'
+        int i = skipWhitespaceBack(s, start - 1);
+        if (i >= 0 && s[i] == '>') {
+            i = skipTypeArgumentsBack(s, i);
+            i = skipWhitespaceBack(s, i);
+        }
+        if (i < 0 || s[i] != '.') return false;
+        if (anyReceiver && logMethods.contains("log." + method)) return true;
+
+        // 수신자 식별자 (scope의 마지막 토큰)
+        int recvEnd = skipWhitespaceBack(s, i - 1) + 1;
+        int recvStart = recvEnd;
+        while (recvStart > 0 && isIdentifierByte(s[recvStart - 1])) recvStart--;
+        if (recvStart == recvEnd) return false;
+
+        String receiver = new String(s, recvStart, recvEnd - recvStart, StandardCharsets.UTF_8);
+        return logMethods.contains(JavaLoggingCallExtractor.normalize(receiver, method));
+    }
+
+    private static int skipTypeArgumentsBack(byte[] s, int i) {
+        int depth = 0;
+        for (; i >= 0; i--) {
+            if (s[i] == '>') depth++;
+            else if (s[i] == '<' && --depth == 0) return i - 1;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] s, int i, int length) {
+        while (i < length && isWhitespace(s[i])) i++;
+        return i;
+    }
+
+    private static int skipWhitespaceBack(byte[] s, int i) {
+        while (i >= 0 && isWhitespace(s[i])) i--;
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+    }
+
+    // ASCII 식별자 문자 + 비 ASCII 바이트(UTF-8 멀티바이트 식별자)는 모두 식별자로 취급
+    private static boolean isIdentifierByte(byte b) {
+        return b < 0
+                || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z')
+                || (b >= '0' && b <= '9') || b == '_' || b == '$';
+    }
+
+    private static boolean isIdentifier(String s) {
+        if (s.isEmpty() || !Character.isJavaIdentifierStart(s.charAt(0))) return false;
+        for (int i = 1; i < s.length(); i++) {
+            if (!Character.isJavaIdentifierPart(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
@@ -0,0 +1,278 @@
+package log_analyzer.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * 프로젝트 전체 메서드의 반환값 요약 표. (--summaries)
+ * ex) log.info(describe(user)) 에서 describe가 user.getToken()을 이어 붙여 반환하면,
+ *     규칙은 호출 키 "A.describe/1"로 describe의 토큰(getToken → token ...)을 찾아 함께 검사한다.
+ * - 요약 사이의 호출(describe → getToken)은 만들 때 한 번만 따라가서 펼쳐 두므로, 규칙 평가 중 조회는 맵 조회 한 번이다.
+ *   서로 부르는 메서드(순환)는 순환 전체의 토큰을 함께 갖는다.
+ * - 타입을 해석하지 않으므로, 수신 객체가 변수인 호출(formatter.describe(u))은 같은 이름 / 인자 수의
+ *   모든 메서드 요약을 합쳐서 본다. 같은 이름의 메서드가 MAX_CANDIDATES개를 넘는 타입에 있으면(get, toString 등)
+ *   너무 흔한 이름으로 보고 요약을 쓰지 않는다.
+ * - 요약 하나는 MAX_TOKENS개의 토큰까지만 기억한다. 넘친 토큰을 버린 요약 수는 getTruncated로 알 수 있다. (실행 시 경고)
+ * 만든 뒤 변경하지 않으므로 여러 워커 스레드가 공유해도 안전하다.
+ */
+public class MethodSummaries {
+
+    public static final MethodSummaries EMPTY = of(List.of());
+
+    // 이름 / 인자 수만으로 조회할 때 합칠 수 있는 최대 메서드 수
+    static final int MAX_CANDIDATES = 8;
+
+    // 요약 하나가 기억하는 최대 토큰 수
+    public static final int MAX_TOKENS = 256;
+
+    // 시그니처(타입.메서드/인자 수) → 펼친 토큰
+    private final Map<String, String[]> bySignature = new ConcurrentHashMap<>();
+    // 메서드/인자 수 → 같은 이름의 모든 메서드 토큰을 합친 것
+    private final Map<String, String[]> byName = new ConcurrentHashMap<>();
+    private final String fingerprint;
+    // MAX_TOKENS를 넘어서 일부 토큰을 버린 요약 (시그니처 또는 메서드/인자 수)
+    private final Set<String> truncated = new HashSet<>();
+
+    private MethodSummaries(Collection<MethodSummary> summaries) {
+        Map<String, MethodSummary> direct = new HashMap<>();
+        Map<String, List<String>> names = new HashMap<>();
+        for (MethodSummary s : summaries) {
+            // 같은 시그니처(오버로드의 인자 타입만 다른 경우, 같은 이름의 다른 패키지 타입)는 합친다
+            MethodSummary prev = direct.get(s.signature());
+            direct.put(s.signature(), prev == null ? s : merge(prev, s));
+            if (prev == null) names.computeIfAbsent(nameOf(s.signature()), k -> new ArrayList<>()).add(s.signature());
+        }
+
+        Resolver resolver = new Resolver(direct, names, truncated);
+        for (String signature : direct.keySet()) {
+            Set<String> tokens = resolver.resolve(signature);
+            if (!tokens.isEmpty()) bySignature.put(signature, tokens.toArray(new String[0]));
+        }
+        for (Map.Entry<String, List<String>> e : names.entrySet()) {
+            if (e.getValue().size() > MAX_CANDIDATES) continue;
+            Set<String> tokens = new LinkedHashSet<>();
+            boolean cut = false;
+            for (String signature : e.getValue()) {
+                for (String t : bySignature.getOrDefault(signature, new String[0])) cut |= add(tokens, t);
+            }
+            // 이미 잘린 요약을 합친 경우는 한 번만 센다
+            if (cut && e.getValue().stream().noneMatch(truncated::contains)) truncated.add(e.getKey());
+            if (!tokens.isEmpty()) byName.put(e.getKey(), tokens.toArray(new String[0]));
+        }
+        this.fingerprint = fingerprintOf(bySignature);
+    }
+
+    public static MethodSummaries of(Collection<MethodSummary> summaries) {
+        return new MethodSummaries(summaries);
+    }
+
+    /**
+     * 메서드 호출의 조회 키. 요약의 시그니처와 같은 형식이다.
+     * - scope가 없거나 this: 호출이 있는 타입 ex) describe(u) → "A.describe/1"
+     * - scope가 대문자로 시작하는 이름(정적 호출): 그 타입 ex) Formatter.describe(u) → "Formatter.describe/1"
+     * - 그 외(변수, 식): 이름과 인자 수만 ex) user.getToken() → "getToken/0"
+     */
+    public static String calleeKey(MethodCallExpr call) {
+        String name = call.getNameAsString() + "/" + call.getArguments().size();
+        Expression scope = call.getScope().orElse(null);
+        if (scope == null || scope.isThisExpr()) {
+            for (Node n = call.getParentNode().orElse(null); n != null; n = n.getParentNode().orElse(null)) {
+                if (n instanceof TypeDeclaration<?> type) return type.getNameAsString() + "." + name;
+            }
+            return name;
+        }
+        if (scope.isNameExpr() && Character.isUpperCase(scope.asNameExpr().getNameAsString().charAt(0))) {
+            return scope.asNameExpr().getNameAsString() + "." + name;
+        }
+        return name;
+    }
+
+    // 호출 키에 해당하는 요약 토큰을 sink에 넘긴다 (요약이 없으면 아무것도 하지 않음)
+    public void forEachToken(String callee, TokenSink sink) {
+        String[] tokens = tokens(callee);
+        if (tokens == null) return;
+        for (String t : tokens) sink.accept(t);
+    }
+
+    // 호출 키의 토큰 (없으면 null). 타입이 붙은 키가 없으면(상속한 메서드 등) 이름 / 인자 수로 찾는다
+    String[] tokens(String callee) {
+        String[] tokens = bySignature.get(callee);
+        return tokens != null ? tokens : byName.get(nameOf(callee));
+    }
+
+    // 토큰이 있는 요약 수
+    public int size() {
+        return bySignature.size();
+    }
+
+    // MAX_TOKENS를 넘어서 일부 토큰을 버린 요약 수 (그 토큰이 들어간 로그 호출은 위반으로 보고되지 않을 수 있다)
+    public int getTruncated() {
+        return truncated.size();
+    }
+
+    // 펼친 요약 전체의 해시. 바뀌면 다른 파일의 분석 결과도 달라질 수 있으므로 분석 캐시 모드에 넣는다
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    private static String nameOf(String key) {
+        return key.substring(key.lastIndexOf('.', key.lastIndexOf('/')) + 1);
+    }
+
+    private static MethodSummary merge(MethodSummary a, MethodSummary b) {
+        Set<String> tokens = new LinkedHashSet<>(a.tokens());
+        tokens.addAll(b.tokens());
+        Set<String> callees = new LinkedHashSet<>(a.callees());
+        callees.addAll(b.callees());
+        return new MethodSummary(a.signature(), new ArrayList<>(tokens), new ArrayList<>(callees));
+    }
+
+    // 토큰을 더한다. MAX_TOKENS에 막혀 버렸으면 true
+    private static boolean add(Set<String> tokens, String token) {
+        if (tokens.size() < MAX_TOKENS) {
+            tokens.add(token);
+            return false;
+        }
+        return !tokens.contains(token);
+    }
+
+    private static String fingerprintOf(Map<String, String[]> table) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Map.Entry<String, String[]> e : new TreeMap<>(table).entrySet()) {
+            hasher.putString(e.getKey(), StandardCharsets.UTF_8).putInt(e.getValue().length);
+            for (String t : e.getValue()) hasher.putInt(t.length()).putString(t, StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    // 요약 사이의 호출을 따라가서 토큰을 펼친다 (시그니처별로 한 번만)
+    // 서로 부르는 메서드(강한 연결 요소, Tarjan)는 같은 토큰 집합을 공유한다
+    // 긴 호출 체인에서도 스택이 넘치지 않도록 재귀 대신 명시적인 프레임 스택으로 순회한다
+    private static final class Resolver {
+        private final Map<String, MethodSummary> direct;
+        private final Map<String, List<String>> names;
+        private final Set<String> truncated;
+        private final Map<String, Set<String>> resolved = new HashMap<>();
+        private final Map<String, Integer> order = new HashMap<>();
+        private final Map<String, Integer> low = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+
+        Resolver(Map<String, MethodSummary> direct, Map<String, List<String>> names, Set<String> truncated) {
+            this.direct = direct;
+            this.names = names;
+            this.truncated = truncated;
+        }
+
+        Set<String> resolve(String signature) {
+            if (!order.containsKey(signature)) visit(signature);
+            return resolved.get(signature);
+        }
+
+        private void visit(String start) {
+            Deque<Frame> frames = new ArrayDeque<>();
+            frames.push(enter(start));
+            while (!frames.isEmpty()) {
+                Frame f = frames.peek();
+                if (f.next < f.successors.size()) {
+                    String w = f.successors.get(f.next++);
+                    if (!order.containsKey(w)) {
+                        frames.push(enter(w));
+                    } else if (onStack.contains(w)) {
+                        low.put(f.signature, Math.min(low.get(f.signature), order.get(w)));
+                    }
+                    continue;
+                }
+                // 호출한 메서드를 모두 본 뒤: 호출한 쪽(부모 프레임)의 low를 갱신하고, 연결 요소의 시작이면 펼친다
+                frames.pop();
+                if (!frames.isEmpty()) {
+                    String parent = frames.peek().signature;
+                    low.put(parent, Math.min(low.get(parent), low.get(f.signature)));
+                }
+                if (low.get(f.signature).equals(order.get(f.signature))) collect(f.signature);
+            }
+        }
+
+        private Frame enter(String v) {
+            order.put(v, order.size());
+            low.put(v, order.get(v));
+            stack.push(v);
+            onStack.add(v);
+            return new Frame(v, successors(v));
+        }
+
+        // v가 시작한 연결 요소를 꺼내서, 요소 전체의 토큰 + 요소 밖에서 호출한 메서드의 (이미 펼친) 토큰을 모은다
+        private void collect(String v) {
+            List<String> component = new ArrayList<>();
+            String w;
+            do {
+                w = stack.pop();
+                onStack.remove(w);
+                component.add(0, w);
+            } while (!w.equals(v));
+            Set<String> members = new HashSet<>(component);
+            Set<String> shared = new LinkedHashSet<>();
+            boolean sharedCut = false;
+            for (String m : component) {
+                for (String t : direct.get(m).tokens()) sharedCut |= add(shared, t);
+            }
+            for (String m : component) {
+                for (String target : successors(m)) {
+                    if (members.contains(target)) continue;
+                    if (truncated.contains(target)) sharedCut = true;
+                    for (String t : resolved.get(target)) sharedCut |= add(shared, t);
+                }
+            }
+            for (String m : component) {
+                Set<String> tokens = new LinkedHashSet<>();
+                boolean cut = sharedCut;
+                for (String t : direct.get(m).tokens()) cut |= add(tokens, t);
+                for (String t : shared) cut |= add(tokens, t);
+                if (cut) truncated.add(m);
+                resolved.put(m, tokens);
+            }
+        }
+
+        private List<String> successors(String signature) {
+            List<String> result = new ArrayList<>();
+            for (String callee : direct.get(signature).callees()) result.addAll(targets(callee));
+            return result;
+        }
+
+        private List<String> targets(String callee) {
+            if (direct.containsKey(callee)) return List.of(callee);
+            List<String> candidates = names.getOrDefault(nameOf(callee), List.of());
+            return candidates.size() > MAX_CANDIDATES ? List.of() : candidates;
+        }
+
+        // 순회 중인 메서드와 다음에 볼 호출 대상의 위치
+        private static final class Frame {
+            final String signature;
+            final List<String> successors;
+            int next;
+
+            Frame(String signature, List<String> successors) {
+                this.signature = signature;
+                this.successors = successors;
+            }
+        }
+    }
+}
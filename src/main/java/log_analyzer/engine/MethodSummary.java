@@ -0,0 +1,18 @@
+package log_analyzer.engine;
+
+import java.util.List;
+
+/**
+ * 메서드 하나가 반환하는 값의 요약. (--summaries)
+ * - signature: "타입.메서드/인자 수" ex) UserFormatter.describe/1
+ * - tokens: return 식(과 지역 변수를 거쳐 그 식으로 흘러간 값)의 토큰 (LogArgInspector 순서)
+ * - callees: return 식에서 호출한 메서드의 키 (MethodSummaries.calleeKey, 다른 메서드의 요약을 이어 붙일 때 사용)
+ * 정책과 무관하므로 정책이 바뀌어도 다시 계산하지 않는다.
+ */
+public record MethodSummary(String signature, List<String> tokens, List<String> callees) {
+
+    public MethodSummary {
+        tokens = List.copyOf(tokens);
+        callees = List.copyOf(callees);
+    }
+}
@@ -0,0 +1,78 @@
+package log_analyzer.engine;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 루트 아래의 빌드 파일(pom.xml, build.gradle, build.gradle.kts)로 모듈과 소스 루트를 찾는다. (--modules)
+ * - 빌드 파일이 있는 디렉토리마다 표준 소스 루트(src/main/java, src/test/java) 중 있는 것을 모듈의 소스 루트로 삼는다.
+ *   빌드 파일 안의 sourceDirectory / sourceSets 설정은 읽지 않는다.
+ * - 소스 루트가 없는 모듈(상위 pom 등)은 건너뛰고, 그 아래의 하위 모듈은 계속 찾는다.
+ * - 숨김 디렉토리, 빌드 출력(target, build, out), node_modules, src 아래와 exclude에 걸린 디렉토리는 탐색하지 않는다.
+ * - 모듈 이름은 루트 기준 상대 경로('/' 구분)이며, 루트 자체가 모듈이면 루트 디렉토리 이름을 쓴다.
+ * - 결과는 경로 순으로 정렬되어 있어 실행할 때마다 같은 순서로 분석한다.
+ */
+public class ModuleDiscovery {
+
+    private static final Set<String> BUILD_FILES = Set.of("pom.xml", "build.gradle", "build.gradle.kts");
+    private static final List<String> SOURCE_ROOTS = List.of("src/main/java", "src/test/java");
+    private static final Set<String> SKIPPED_DIRS = Set.of("src", "target", "build", "out", "node_modules");
+
+    private final ScanFilter filter;
+
+    public ModuleDiscovery(ScanFilter filter) {
+        this.filter = filter;
+    }
+
+    // 빌드 파일이 하나도 없으면 빈 목록
+    public List<SourceModule> discover(Path root) {
+        List<SourceModule> modules = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(root)) {
+                        String name = dir.getFileName().toString();
+                        if (name.startsWith(".") || SKIPPED_DIRS.contains(name)) return FileVisitResult.SKIP_SUBTREE;
+                        if (filter.isExcluded(root.relativize(dir))) return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (hasBuildFile(dir)) {
+                        List<Path> sourceRoots = new ArrayList<>();
+                        for (String s : SOURCE_ROOTS) {
+                            Path p = dir.resolve(s);
+                            if (Files.isDirectory(p)) sourceRoots.add(p);
+                        }
+                        if (!sourceRoots.isEmpty()) modules.add(new SourceModule(nameOf(root, dir), dir, sourceRoots));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to discover modules: " + root, e);
+        }
+        modules.sort((a, b) -> a.dir().compareTo(b.dir()));
+        return modules;
+    }
+
+    private static boolean hasBuildFile(Path dir) {
+        for (String f : BUILD_FILES) {
+            if (Files.isRegularFile(dir.resolve(f))) return true;
+        }
+        return false;
+    }
+
+    private static String nameOf(Path root, Path dir) {
+        if (dir.equals(root)) {
+            Path name = root.toAbsolutePath().normalize().getFileName();
+            return name != null ? name.toString() : "root";
+        }
+        return root.relativize(dir).toString().replace('\\', '/');
+    }
+}
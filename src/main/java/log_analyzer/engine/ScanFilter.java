@@ -0,0 +1,105 @@
+package log_analyzer.engine;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 소스 탐색 시 적용하는 include / exclude glob 목록.
+ * - 패턴은 탐색 루트 기준 상대 경로('/' 구분)에 대해 glob으로 비교한다.
+ * - "**&#47;"로 시작하는 패턴은 루트 바로 아래에서도 매칭된다. (예: "**&#47;target/**" → "target")
+ * - "/**"로 끝나는 패턴은 디렉토리 자체에도 매칭되어 하위 트리 전체를 건너뛴다.
+ * - exclude는 디렉토리와 파일 모두에, include는 파일에만 적용된다. include가 비어 있으면 모든 파일 허용.
+ * - 잘못된 glob 패턴이면 IllegalArgumentException이 발생한다.
+ */
+public class ScanFilter {
+
+    public static final ScanFilter NONE = new ScanFilter(List.of(), List.of(), false);
+
+    private final List<String> includes;
+    private final List<String> excludes;
+    private final boolean useIgnoreFiles;
+
+    private final List<PathMatcher> includeMatchers;
+    private final List<PathMatcher> excludeMatchers;
+
+    public ScanFilter(List<String> includes, List<String> excludes, boolean useIgnoreFiles) {
+        this.includes = List.copyOf(includes);
+        this.excludes = List.copyOf(excludes);
+        this.useIgnoreFiles = useIgnoreFiles;
+        this.includeMatchers = compile(this.includes);
+        this.excludeMatchers = compile(this.excludes);
+    }
+
+    // 정책 파일의 설정에 실행 옵션을 덧붙인 새 필터
+    public ScanFilter with(List<String> moreIncludes, List<String> moreExcludes, boolean ignoreFiles) {
+        List<String> inc = new ArrayList<>(includes);
+        inc.addAll(moreIncludes);
+        List<String> exc = new ArrayList<>(excludes);
+        exc.addAll(moreExcludes);
+        return new ScanFilter(inc, exc, useIgnoreFiles || ignoreFiles);
+    }
+
+    public List<String> getIncludes() { return includes; }
+    public List<String> getExcludes() { return excludes; }
+
+    // .gitignore 파일을 함께 적용할지 여부
+    public boolean useIgnoreFiles() { return useIgnoreFiles; }
+
+    // 루트 기준 상대 경로가 exclude 패턴에 걸리는지
+    public boolean isExcluded(Path relative) {
+        return matchesAny(excludeMatchers, relative);
+    }
+
+    // 루트 기준 상대 경로의 파일이 include 패턴을 통과하는지
+    public boolean isIncluded(Path relativeFile) {
+        return includeMatchers.isEmpty() || matchesAny(includeMatchers, relativeFile);
+    }
+
+    // 디렉토리 탐색 없이 파일 하나만 볼 때: 탐색에서 건너뛰었을 상위 디렉토리까지 exclude 패턴을 확인
+    public boolean accepts(Path relativeFile) {
+        for (int i = 1; i <= relativeFile.getNameCount(); i++) {
+            if (isExcluded(relativeFile.subpath(0, i))) return false;
+        }
+        return isIncluded(relativeFile);
+    }
+
+    private static boolean matchesAny(List<PathMatcher> matchers, Path relative) {
+        for (PathMatcher m : matchers) {
+            if (m.matches(relative)) return true;
+        }
+        return false;
+    }
+
+    private static List<PathMatcher> compile(List<String> patterns) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String raw : patterns) {
+            if (raw == null || raw.isBlank()) continue;
+            for (String variant : variants(raw.trim())) {
+                try {
+                    matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + variant));
+                } catch (PatternSyntaxException e) {
+                    throw new IllegalArgumentException("Invalid glob pattern: " + raw.trim() + " (" + e.getDescription() + ")", e);
+                }
+            }
+        }
+        return matchers;
+    }
+
+    // "**/x/**" → "**/x/**", "x/**", "**/x", "x"
+    private static Set<String> variants(String pattern) {
+        String p = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        Set<String> out = new LinkedHashSet<>();
+        out.add(p);
+        if (p.startsWith("**/")) out.add(p.substring(3));
+        for (String v : List.copyOf(out)) {
+            if (v.endsWith("/**") && v.length() > 3) out.add(v.substring(0, v.length() - 3));
+        }
+        return out;
+    }
+}
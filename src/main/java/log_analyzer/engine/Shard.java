@@ -0,0 +1,45 @@
+package log_analyzer.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * 여러 프로세스(CI 에이전트)가 파일 집합을 나눠 분석할 때 이 프로세스가 맡는 몫. (--shard=i/n)
+ * - 소스 루트 기준 상대 경로('/' 구분)의 murmur3 해시로 나누므로, 체크아웃 위치나 운영체제가 달라도
+ *   같은 파일은 항상 같은 샤드에 들어가고, n개 샤드를 모두 실행하면 모든 파일을 정확히 한 번씩 분석한다.
+ * - index는 1부터 count까지.
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("--shard must be i/n with 1 <= i <= n: " + index + "/" + count);
+        }
+    }
+
+    // "i/n" 형식 (ex. 2/4)
+    public static Shard parse(String raw) {
+        int slash = raw == null ? -1 : raw.indexOf('/');
+        if (slash < 0) throw new IllegalArgumentException("--shard must be i/n (ex. 2/4): " + raw);
+        try {
+            return new Shard(Integer.parseInt(raw.substring(0, slash).trim()),
+                    Integer.parseInt(raw.substring(slash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--shard must be i/n (ex. 2/4): " + raw);
+        }
+    }
+
+    // 소스 루트 기준 상대 경로의 파일이 이 샤드의 몫인지
+    public boolean contains(Path relative) {
+        String key = relative.toString().replace('\\', '/');
+        int hash = Hashing.murmur3_32_fixed().hashString(key, StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, count) == index - 1;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -0,0 +1,31 @@
+package log_analyzer.engine;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * 다른 스캐너가 찾은 파일 중 이 샤드의 몫만 넘기는 스캐너. (--shard)
+ * 디렉토리 탐색, --changed-since 등 원래 스캐너의 동작과 순서는 그대로 유지한다.
+ */
+public class ShardedSourceScanner extends SourceScanner {
+
+    private final SourceScanner delegate;
+    private final Shard shard;
+
+    public ShardedSourceScanner(SourceScanner delegate, Shard shard) {
+        super(delegate.getFilter());
+        this.delegate = delegate;
+        this.shard = shard;
+    }
+
+    @Override
+    public Stream<Path> streamJavaFiles(Path root) {
+        return delegate.streamJavaFiles(root).filter(file -> shard.contains(relative(root, file)));
+    }
+
+    // 루트가 파일 자체면 상대 경로가 비므로 파일 이름을 쓴다
+    private static Path relative(Path root, Path file) {
+        Path rel = root.relativize(file);
+        return rel.toString().isEmpty() ? file.getFileName() : rel;
+    }
+}
@@ -0,0 +1,48 @@
+package log_analyzer.engine;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * 디스크에서 한 번 읽은 소스 파일 내용. 내용 해시, 사전 필터, 파싱이 같은 바이트를 사용한다.
+ * - bytes()는 SourceReader의 재사용 버퍼일 수 있으므로 [0, length()) 구간만 유효하고,
+ *   같은 스레드에서 다음 파일을 읽기 전까지만 사용해야 한다. (보관하려면 text()나 복사본을 쓴다)
+ * - text()는 처음 호출할 때 한 번만 디코딩한다.
+ */
+public final class SourceFile {
+
+    private final Path path;
+    private final byte[] bytes;
+    private final int length;
+
+    private Charset decodedWith;
+    private String text;
+
+    public SourceFile(Path path, byte[] bytes, int length) {
+        this.path = path;
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    // Reader 스택 없이 바로 String으로 디코딩한다.
+    // UTF-8 / ASCII는 JDK String 생성자가 ASCII 구간을 한 번에 검사한 뒤 그대로 복사한다. (LATIN1 compact string)
+    public String text(Charset charset) {
+        if (text == null || !charset.equals(decodedWith)) {
+            text = new String(bytes, 0, length, charset);
+            decodedWith = charset;
+        }
+        return text;
+    }
+}
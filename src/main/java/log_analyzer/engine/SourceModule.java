@@ -0,0 +1,22 @@
+package log_analyzer.engine;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 보고서를 따로 만드는 분석 단위 (--root 하나, 또는 --modules로 찾은 빌드 모듈 하나).
+ * - name: 모듈별 보고서 경로와 요약에 쓰는 이름 (ex. "core", "services/api")
+ * - dir: 모듈 디렉토리 (SARIF 파일 위치의 기준)
+ * - sourceRoots: 탐색할 소스 루트. 적힌 순서대로 탐색하며 include / exclude는 각 소스 루트 기준 상대 경로에 적용된다.
+ */
+public record SourceModule(String name, Path dir, List<Path> sourceRoots) {
+
+    public SourceModule {
+        sourceRoots = List.copyOf(sourceRoots);
+    }
+
+    // 디렉토리 전체를 하나의 소스 루트로 보는 모듈 (--root만 준 경우)
+    public static SourceModule of(String name, Path root) {
+        return new SourceModule(name, root, List.of(root));
+    }
+}
@@ -0,0 +1,85 @@
+package log_analyzer.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 소스 파일을 스레드별 재사용 버퍼로 읽는다.
+ * - FileChannel로 재사용 direct 버퍼에 읽은 뒤 재사용 heap 배열로 옮긴다. (파일마다 배열 / 스트림 스택을 만들지 않음)
+ * - 재사용 한도(1MiB)보다 큰 파일은 버퍼를 키우지 않고 그 파일 크기의 배열로 따로 읽는다.
+ * - 반환한 SourceFile은 같은 스레드에서 다음 read를 호출하기 전까지만 유효하다.
+ * 스레드마다 local()의 인스턴스를 사용한다.
+ */
+public final class SourceReader {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MAX_REUSED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<SourceReader> LOCAL = ThreadLocal.withInitial(SourceReader::new);
+
+    private ByteBuffer direct = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    private byte[] heap = new byte[INITIAL_CAPACITY];
+
+    private SourceReader() {
+    }
+
+    // 현재 스레드의 reader
+    public static SourceReader local() {
+        return LOCAL.get();
+    }
+
+    public SourceFile read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_REUSED_CAPACITY) return readLarge(file, channel, size);
+
+            // 크기 + 1만큼 확보해 두면 보통 read 두 번(내용, EOF)으로 끝난다
+            ensureCapacity((int) size + 1);
+            direct.clear();
+            int length = 0;
+            int n;
+            while ((n = channel.read(direct)) >= 0) {
+                length += n;
+                // 읽는 도중 파일이 커졌으면 버퍼를 늘려서 계속 읽는다
+                if (!direct.hasRemaining()) growDirect();
+            }
+            if (length > heap.length) heap = new byte[Math.max(length, heap.length * 2)];
+            direct.flip();
+            direct.get(heap, 0, length);
+            return new SourceFile(file, heap, length);
+        }
+    }
+
+    // 큰 파일은 재사용 버퍼를 키우지 않고 파일 크기 배열로 읽는다 (채널이 heap 버퍼를 직접 채운다)
+    private static SourceFile readLarge(Path file, FileChannel channel, long size) throws IOException {
+        if (size > Integer.MAX_VALUE - 16) throw new IOException("File is too large to analyze: " + file);
+        byte[] bytes = new byte[(int) size + 1];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int length = 0;
+        int n;
+        while ((n = channel.read(buffer)) >= 0) {
+            length += n;
+            if (!buffer.hasRemaining()) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                buffer = ByteBuffer.wrap(bytes, length, bytes.length - length);
+            }
+        }
+        return new SourceFile(file, bytes, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (direct.capacity() >= capacity) return;
+        direct = ByteBuffer.allocateDirect(Math.max(capacity, Math.min(direct.capacity() * 2, MAX_REUSED_CAPACITY)));
+    }
+
+    private void growDirect() {
+        ByteBuffer bigger = ByteBuffer.allocateDirect(direct.capacity() * 2);
+        direct.flip();
+        bigger.put(direct);
+        direct = bigger;
+    }
+}
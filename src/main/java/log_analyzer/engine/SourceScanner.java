@@ -2,27 +2,196 @@ package log_analyzer.engine;
 
 import java.io.IOException;
 import java.nio.file.*;
-import java.util.ArrayList;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-// 루트 폴더부터 java 파일을 찾아 java 파일 경로를 리스트로 반환
+// 루트 폴더부터 java 파일을 찾아 java 파일 경로를 반환
 public class SourceScanner {
 
+    // 탐색 스레드가 분석 쪽보다 앞서 나갈 수 있는 최대 경로 수
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final int queueCapacity;
+    // include / exclude / .gitignore 설정
+    private final ScanFilter filter;
+
+    public SourceScanner() {
+        this(ScanFilter.NONE);
+    }
+
+    public SourceScanner(ScanFilter filter) {
+        this(filter, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SourceScanner(int queueCapacity) {
+        this(ScanFilter.NONE, queueCapacity);
+    }
+
+    public SourceScanner(ScanFilter filter, int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be >= 1: " + queueCapacity);
+        }
+        this.filter = filter;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public ScanFilter getFilter() {
+        return filter;
+    }
+
+    // 전체 목록이 필요한 경우용 (스트림을 모두 모아서 반환)
     public List<Path> findJavaFiles(Path root) {
-        List<Path> files = new ArrayList<>();
+        try (Stream<Path> files = streamJavaFiles(root)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 디렉토리 탐색과 동시에 java 파일 경로를 흘려보내는 스트림.
+     * - 탐색은 별도 스레드에서 진행되고, 찾은 경로는 크기가 제한된 큐를 통해 전달된다.
+     *   소비 쪽이 느리면 탐색 스레드가 대기하므로 트리 크기와 무관하게 메모리가 일정하다.
+     * - 반드시 close 해야 한다(try-with-resources). 중간에 닫으면 탐색도 중단된다.
+     * - 탐색 중 오류(IO 오류, 잘못된 패턴 등)는 스트림을 소비하는 쪽에서 RuntimeException으로 전달된다. (Error는 그대로)
+     * - exclude 패턴이나 .gitignore에 걸린 디렉토리는 목록을 읽지 않고 통째로 건너뛴다.
+     */
+    public Stream<Path> streamJavaFiles(Path root) {
+        Walk walk = new Walk(root, filter, queueCapacity);
+        walk.start();
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(walk, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(walk::close);
+    }
+
+    // 탐색 스레드(생산자)와 스트림 iterator(소비자)를 잇는 큐
+    private static final class Walk implements Iterator<Path> {
+        // 탐색 종료 표시 (identity 비교)
+        private static final Path END = Path.of("");
 
-        try {
-            Files.walk(root)
-                    .filter(Files::isRegularFile)
-                    .filter(p -> p.toString().endsWith(".java"))
-                    // 필요 시 빌드 산출물 제외:
-                    // .filter(p -> !p.toString().contains("/build/"))
-                    // .filter(p -> !p.toString().contains("/out/"))
-                    .forEach(files::add);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to scan source files: " + root, e);
+        private final Path root;
+        private final ScanFilter filter;
+        private final IgnoreFileRules ignoreRules;
+        private final BlockingQueue<Path> queue;
+        private final Thread thread;
+
+        private volatile boolean closed;
+        // 탐색 스레드에서 발생한 오류 (IO 오류뿐 아니라 모든 예외 / Error)
+        private volatile Throwable failure;
+        private Path next;
+
+        Walk(Path root, ScanFilter filter, int capacity) {
+            this.root = root;
+            this.filter = filter;
+            this.ignoreRules = filter.useIgnoreFiles() ? new IgnoreFileRules() : null;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this::run, "source-scanner");
+            this.thread.setDaemon(true);
         }
 
-        return files;
+        void start() {
+            thread.start();
+        }
+
+        private void run() {
+            try {
+                Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (closed) return FileVisitResult.TERMINATE;
+                        // 제외 대상 디렉토리는 하위 목록을 읽지 않고 건너뛴다 (후처리 필터가 아님)
+                        if (!dir.equals(root)) {
+                            if (filter.isExcluded(root.relativize(dir))) return FileVisitResult.SKIP_SUBTREE;
+                            if (ignoreRules != null && ignoreRules.isIgnored(dir, true)) return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        if (ignoreRules != null) ignoreRules.enter(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                        if (ignoreRules != null) ignoreRules.exit();
+                        return super.postVisitDirectory(dir, exc);
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (closed) return FileVisitResult.TERMINATE;
+                        if (attrs.isRegularFile() && file.toString().endsWith(".java") && accepts(file)) {
+                            return offer(file) ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (Throwable e) {
+                // 어떤 오류든 소비 쪽에 전달해야 중간에 끊긴 탐색을 전체 탐색으로 보지 않는다
+                failure = e;
+            } finally {
+                offer(END);
+            }
+        }
+
+        private boolean accepts(Path file) {
+            // 루트가 파일 자체인 경우 상대 경로가 비므로 필터를 적용하지 않는다
+            if (file.equals(root)) return true;
+            Path rel = root.relativize(file);
+            if (filter.isExcluded(rel) || !filter.isIncluded(rel)) return false;
+            return ignoreRules == null || !ignoreRules.isIgnored(file, false);
+        }
+
+        // 큐에 자리가 날 때까지 대기, 닫혔으면 false
+        private boolean offer(Path p) {
+            try {
+                while (!closed) {
+                    if (queue.offer(p, 100, TimeUnit.MILLISECONDS)) return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while scanning source files: " + root, e);
+                }
+            }
+            if (next == END) {
+                // next를 END로 남겨 두어 이후 호출도 false를 반환
+                if (failure instanceof Error error) throw error;
+                if (failure != null) {
+                    throw new RuntimeException("Failed to scan source files: " + root, failure);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Path p = next;
+            next = null;
+            return p;
+        }
+
+        void close() {
+            closed = true;
+            thread.interrupt();
+            queue.clear();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package log_analyzer.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.javaparser.Position;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.comments.CommentsCollection;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
+
+/**
+ * 파일 하나의 인라인 억제를 위치로 찾는다. (로그 호출 추출과 같은 전위 순회에서 사용)
+ * - // log-analyzer:ignore [이름 ...] [-- 사유]: 파서가 모아 둔 주석 목록에서 표시가 있는 주석만 라인별로 둔다.
+ *   로그 호출이 걸친 라인에 있는 주석, 또는 호출 바로 윗줄에 혼자 있는 주석이 그 호출을 억제한다.
+ * - @SuppressLogViolation([이름 ...]): 순회 중 어노테이션이 붙은 클래스 / 메서드 / 생성자를 만나면 그 범위를 스택에 넣고,
+ *   순회 위치가 범위를 벗어나면 꺼낸다. (트리를 다시 돌거나 호출마다 부모를 거슬러 올라가지 않는다)
+ * - 이름은 금지 필드 이름 또는 규칙 이름 (대소문자 무시), 이름이 없으면 모든 위반을 억제한다.
+ * 파일 하나, 스레드 하나에서만 사용한다.
+ */
+final class Suppressions {
+
+    static final String MARKER = "log-analyzer:ignore";
+    static final String ANNOTATION = "SuppressLogViolation";
+
+    // 모든 위반 억제
+    static final String[] ALL = new String[0];
+
+    // 로그 호출이 걸친 라인의 주석 (라인 → 이름)
+    private final Map<Integer, String[]> trailing = new HashMap<>();
+    // 혼자 있는 주석이 끝나는 라인 + 1 (= 억제할 호출이 시작하는 라인 → 이름)
+    private final Map<Integer, String[]> preceding = new HashMap<>();
+    // 지금 순회 중인 어노테이션 범위 (안쪽 범위가 위)
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+
+    /**
+     * comments: 파서가 모은 주석 (없으면 주석 억제 없음)
+     * text: 파싱한 소스 (주석이 줄에 혼자 있는지 확인)
+     */
+    Suppressions(CommentsCollection comments, String text) {
+        if (comments == null) return;
+        int[] lineStarts = null;
+        for (Comment c : comments.getComments()) {
+            String content = c.getContent().strip();
+            if (!content.startsWith(MARKER) || c.getBegin().isEmpty() || c.getEnd().isEmpty()) continue;
+            String[] names = names(content.substring(MARKER.length()));
+            Position begin = c.getBegin().get();
+            if (lineStarts == null) lineStarts = lineStarts(text);
+            if (aloneOnLine(text, lineStarts, begin)) {
+                put(preceding, c.getEnd().get().line + 1, names);
+            } else {
+                put(trailing, begin.line, names);
+            }
+        }
+    }
+
+    // 전위 순회에서 만난 노드. @SuppressLogViolation이 붙은 선언이면 범위를 넣는다
+    void visit(Node node) {
+        if (!(node instanceof BodyDeclaration<?>) || !(node instanceof NodeWithAnnotations<?> annotated)) return;
+        if (annotated.getAnnotations().isEmpty()) return;
+        for (AnnotationExpr a : annotated.getAnnotations()) {
+            if (!a.getName().getIdentifier().equals(ANNOTATION)) continue;
+            if (node.getBegin().isEmpty() || node.getEnd().isEmpty()) continue;
+            popBefore(node.getBegin().get());
+            scopes.push(new Scope(node.getEnd().get(), names(a)));
+        }
+    }
+
+    /**
+     * begin ~ end 위치의 로그 호출에 적용되는 억제 이름. 없으면 null, 모두 억제하면 ALL.
+     * 순회 순서(소스 순서)대로 호출해야 한다.
+     */
+    String[] at(Position begin, Position end) {
+        popBefore(begin);
+        if (scopes.isEmpty() && trailing.isEmpty() && preceding.isEmpty()) return null;
+
+        Set<String> names = null;
+        for (Scope s : scopes) {
+            if (s.names == ALL) return ALL;
+            names = union(names, s.names);
+        }
+        String[] before = preceding.get(begin.line);
+        if (before == ALL) return ALL;
+        names = union(names, before);
+        for (int line = begin.line; line <= end.line; line++) {
+            String[] same = trailing.get(line);
+            if (same == ALL) return ALL;
+            names = union(names, same);
+        }
+        return names == null ? null : names.toArray(new String[0]);
+    }
+
+    // 순회 위치가 이미 지나간 범위를 꺼낸다 (범위는 중첩되므로 위에서부터)
+    private void popBefore(Position position) {
+        while (!scopes.isEmpty() && scopes.peek().end.isBefore(position)) scopes.pop();
+    }
+
+    private static Set<String> union(Set<String> names, String[] more) {
+        if (more == null) return names;
+        if (names == null) names = new LinkedHashSet<>();
+        for (String n : more) names.add(n);
+        return names;
+    }
+
+    private static void put(Map<Integer, String[]> lines, int line, String[] names) {
+        String[] prev = lines.get(line);
+        if (prev == ALL || names == ALL) {
+            lines.put(line, ALL);
+        } else {
+            lines.put(line, prev == null ? names : union(union(null, prev), names).toArray(new String[0]));
+        }
+    }
+
+    // 표시 뒤의 이름 목록 (공백 / 콤마 구분, "--" 뒤는 사유)
+    static String[] names(String rest) {
+        int reason = rest.indexOf("--");
+        if (reason >= 0) rest = rest.substring(0, reason);
+        Set<String> names = new LinkedHashSet<>();
+        for (String n : rest.split("[\\s,]+")) {
+            if (!n.isEmpty()) names.add(n);
+        }
+        return names.isEmpty() ? ALL : names.toArray(new String[0]);
+    }
+
+    // @SuppressLogViolation, ("a"), ({"a", "b"}), (value = ...) 의 이름 목록 (문자열 상수만)
+    private static String[] names(AnnotationExpr a) {
+        Expression value = null;
+        if (a instanceof SingleMemberAnnotationExpr single) {
+            value = single.getMemberValue();
+        } else if (a instanceof NormalAnnotationExpr normal) {
+            for (MemberValuePair pair : normal.getPairs()) {
+                if (pair.getNameAsString().equals("value")) value = pair.getValue();
+            }
+        }
+        if (value == null) return ALL;
+
+        Set<String> names = new LinkedHashSet<>();
+        if (value instanceof ArrayInitializerExpr array) {
+            for (Expression e : array.getValues()) {
+                if (e.isStringLiteralExpr()) names.add(e.asStringLiteralExpr().getValue());
+            }
+        } else if (value.isStringLiteralExpr()) {
+            names.add(value.asStringLiteralExpr().getValue());
+        }
+        return names.isEmpty() ? ALL : names.toArray(new String[0]);
+    }
+
+    // 주석 앞에 공백만 있으면 줄에 혼자 있는 주석
+    private static boolean aloneOnLine(String text, int[] lineStarts, Position begin) {
+        if (begin.line < 1 || begin.line > lineStarts.length) return false;
+        int start = lineStarts[begin.line - 1];
+        for (int i = start; i < start + begin.column - 1 && i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static int[] lineStarts(String text) {
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') count++;
+        }
+        int[] starts = new int[count];
+        int n = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') starts[n++] = i + 1;
+        }
+        return starts;
+    }
+
+    private record Scope(Position end, String[] names) {}
+}
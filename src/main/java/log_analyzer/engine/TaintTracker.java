@@ -0,0 +1,245 @@
+package log_analyzer.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.InitializerDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.LocalClassDeclarationStmt;
+
+/**
+ * 메서드 본문 안에서 지역 변수에 담긴 값이 로그 인자로 흘러가는 경로를 추적한다. (--taint=true)
+ * ex) String p = user.getPassword(); log.info("x" + p);
+ *     StringBuilder sb = new StringBuilder(); sb.append(token); log.info(sb.toString());
+ * - 지역 변수의 정의(선언 초기값, 대입, +=, for-each, sb.append / insert)마다 오른쪽 식의 토큰(LogArgInspector)과
+ *   참조한 지역 변수의 이름 / 토큰을 모은 Def를 만든다. 로그 인자가 지역 변수를 참조하면 그 변수의 Def 토큰을
+ *   호출의 토큰에 더하므로, 금지 필드인지는 지금처럼 규칙이 판단한다.
+ * - 파일을 AST 전위 순회(소스 순서)로 한 번만 훑는다. Def는 만들 때 닿을 수 있는 토큰 집합을 기억하므로
+ *   같은 변수를 쓰는 정의와 로그 호출이 많아도 def-use 사슬을 다시 따라가지 않는다.
+ * - 선언과 같은 블록의 대입(=)은 이전 값을 덮어쓰고, 분기 / 반복문 안의 대입과 +=, append는 이전 값에 더한다.
+ *   한 번만 훑으므로 반복문에서 사용보다 뒤에 있는 대입(다음 반복에서 흘러오는 값)은 보지 않는다.
+ * - 같은 이름의 변수는 선언한 블록으로 구분한다. 사용 위치를 감싸는 블록에 선언된 변수만 보이므로,
+ *   블록이 끝난 뒤의 같은 이름(필드, 옆 블록의 다른 변수)은 그 값을 물려받지 않는다.
+ * - Def 하나는 토큰 MAX_TOKENS개까지만 기억한다. 넘쳐서 버린 토큰이 있으면 isTruncated()로 알린다.
+ * - 필드, 다른 메서드로 넘긴 값, 메서드의 반환값은 추적하지 않는다.
+ * 파일 하나를 추출하는 동안만 쓰는 상태이므로 thread-safe하지 않다.
+ */
+final class TaintTracker {
+
+    private static final LogArgInspector INSPECTOR = new LogArgInspector();
+
+    // 수신 객체(StringBuilder / StringBuffer)에 인자를 더하는 메서드
+    private static final Set<String> BUILDER_METHODS = Set.of("append", "insert");
+
+    // Def 하나가 기억하는 최대 토큰 수 (생성 코드의 긴 append 사슬에서 집합이 끝없이 커지지 않도록)
+    static final int MAX_TOKENS = 256;
+
+    private static final Def EMPTY = new Def(Set.of());
+
+    // 이름 → 그 이름으로 선언된 지역 변수 / 파라미터 (선언 순서, 블록이 아직 끝나지 않은 것만)
+    private final Map<String, List<Var>> vars = new HashMap<>();
+
+    // 토큰 수 제한으로 버린 토큰이 있는지
+    private boolean truncated;
+
+    // 전위 순회 중인 노드 하나를 반영한다 (같은 노드의 로그 호출 토큰을 구하기 전에 호출)
+    void visit(Node node) {
+        if (node instanceof CallableDeclaration<?> || node instanceof InitializerDeclaration) {
+            // 다른 메서드의 지역 변수가 이 메서드의 같은 이름 필드로 보이지 않도록
+            // (지역 / 익명 클래스의 메서드는 바깥 지역 변수를 캡처할 수 있으므로 유지)
+            if (!isNested(node)) vars.clear();
+        } else if (node instanceof Parameter p) {
+            declare(p.getNameAsString(), bodyOf(p.getParentNode().orElse(null)), EMPTY);
+        } else if (node instanceof VariableDeclarator v) {
+            visitDeclarator(v);
+        } else if (node instanceof AssignExpr a) {
+            visitAssign(a);
+        } else if (node instanceof MethodCallExpr call && BUILDER_METHODS.contains(call.getNameAsString())) {
+            // sb.append(a).append(b) → 두 append 모두 sb에 더한다
+            Var var = call.getScope().map(this::builderVar).orElse(null);
+            if (var != null) var.def = union(var.def, define(call.getArguments()));
+        }
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    // 로그 인자가 참조하는 지역 변수들에 흘러 들어온 토큰 (없으면 빈 목록)
+    Collection<String> flowTokens(List<Expression> args) {
+        if (vars.isEmpty()) return List.of();
+        Set<String> tokens = null;
+        for (Expression arg : args) {
+            for (NameExpr name : arg.findAll(NameExpr.class)) {
+                Var var = lookup(name);
+                if (var == null || var.def.tokens.isEmpty()) continue;
+                if (tokens == null) tokens = new LinkedHashSet<>();
+                tokens.addAll(var.def.tokens);
+            }
+        }
+        return tokens == null ? List.of() : tokens;
+    }
+
+    // 식의 토큰 + 식이 참조하는 지역 변수에 흘러 들어온 토큰 (메서드 요약의 return 식)
+    Collection<String> tokensOf(Expression expr) {
+        return define(List.of(expr)).tokens;
+    }
+
+    private void visitDeclarator(VariableDeclarator v) {
+        // 필드는 추적하지 않는다
+        if (!(v.getParentNode().orElse(null) instanceof VariableDeclarationExpr decl)) return;
+        Node scope = decl.getParentNode().orElse(null);
+        Def def;
+        if (v.getInitializer().isPresent()) {
+            def = define(List.of(v.getInitializer().get()));
+        } else if (scope instanceof ForEachStmt loop) {
+            // for (String s : secrets) → s는 secrets의 원소
+            def = define(List.of(loop.getIterable()));
+        } else {
+            def = EMPTY;
+        }
+        // 선언문이 속한 블록 (같은 블록의 대입만 이전 값을 덮어쓴다)
+        declare(v.getNameAsString(), scope instanceof ExpressionStmt s ? s.getParentNode().orElse(null) : scope, def);
+    }
+
+    private void visitAssign(AssignExpr a) {
+        if (!a.getTarget().isNameExpr()) return;
+        Var var = lookup(a.getTarget().asNameExpr());
+        if (var == null) return;
+
+        Def value = define(List.of(a.getValue()));
+        boolean overwrite = a.getOperator() == AssignExpr.Operator.ASSIGN
+                && a.getParentNode().orElse(null) instanceof ExpressionStmt stmt
+                && stmt.getParentNode().orElse(null) == var.block;
+        var.def = overwrite ? value : union(var.def, value);
+    }
+
+    private void declare(String name, Node block, Def def) {
+        List<Var> declared = vars.computeIfAbsent(name, n -> new ArrayList<>(1));
+        // 블록이 끝난 선언은 버린다 (옆 블록들의 같은 이름 변수가 쌓이지 않도록)
+        declared.removeIf(v -> !encloses(v.block, block));
+        declared.add(new Var(block, def));
+    }
+
+    // 사용 위치를 감싸는 블록에 선언된 같은 이름의 변수 중 가장 안쪽(마지막) 것 (없으면 필드 등으로 보고 null)
+    private Var lookup(NameExpr name) {
+        List<Var> declared = vars.get(name.getNameAsString());
+        if (declared == null) return null;
+        for (int i = declared.size() - 1; i >= 0; i--) {
+            Var var = declared.get(i);
+            if (encloses(var.block, name)) return var;
+        }
+        return null;
+    }
+
+    // block이 node 자신이거나 그 조상인지
+    private static boolean encloses(Node block, Node node) {
+        if (block == null) return false;
+        for (Node n = node; n != null; n = n.getParentNode().orElse(null)) {
+            if (n == block) return true;
+        }
+        return false;
+    }
+
+    // 식들의 토큰 + 참조한 지역 변수의 이름과 그 변수에 흘러 들어온 토큰
+    private Def define(List<Expression> exprs) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (Expression expr : exprs) {
+            INSPECTOR.inspect(expr, token -> add(tokens, token.toString()));
+            if (vars.isEmpty()) continue;
+            for (NameExpr name : expr.findAll(NameExpr.class)) {
+                Var var = lookup(name);
+                if (var == null) continue;
+                add(tokens, name.getNameAsString());
+                for (String t : var.def.tokens) add(tokens, t);
+            }
+        }
+        return tokens.isEmpty() ? EMPTY : new Def(tokens);
+    }
+
+    private Def union(Def a, Def b) {
+        if (b.tokens.isEmpty() || a.tokens.containsAll(b.tokens)) return a;
+        if (a.tokens.isEmpty()) return b;
+        Set<String> tokens = new LinkedHashSet<>(a.tokens);
+        for (String t : b.tokens) add(tokens, t);
+        return new Def(tokens);
+    }
+
+    private void add(Set<String> tokens, String token) {
+        if (tokens.size() < MAX_TOKENS) {
+            tokens.add(token);
+        } else if (!tokens.contains(token)) {
+            truncated = true;
+        }
+    }
+
+    // sb / sb.append(a) 처럼 append 사슬의 시작이 지역 변수면 그 변수
+    private Var builderVar(Expression scope) {
+        Expression e = scope;
+        while (e.isMethodCallExpr() && BUILDER_METHODS.contains(e.asMethodCallExpr().getNameAsString())) {
+            Expression next = e.asMethodCallExpr().getScope().orElse(null);
+            if (next == null) return null;
+            e = next;
+        }
+        return e.isNameExpr() ? lookup(e.asNameExpr()) : null;
+    }
+
+    // 파라미터를 선언한 메서드 / 생성자 / 람다의 본문 블록 (catch 절 등은 그 노드)
+    private static Node bodyOf(Node owner) {
+        if (owner instanceof MethodDeclaration m) return m.getBody().orElse(null);
+        if (owner instanceof ConstructorDeclaration c) return c.getBody();
+        if (owner instanceof LambdaExpr l) return l.getBody();
+        return owner;
+    }
+
+    // 메서드 / 람다 / 지역 클래스 / 익명 클래스 안에 선언된 메서드인지
+    private static boolean isNested(Node callable) {
+        for (Node n = callable.getParentNode().orElse(null); n != null; n = n.getParentNode().orElse(null)) {
+            if (n instanceof CallableDeclaration<?> || n instanceof InitializerDeclaration
+                    || n instanceof LambdaExpr || n instanceof ObjectCreationExpr
+                    || n instanceof LocalClassDeclarationStmt) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 정의 하나에서 닿을 수 있는 토큰 (만든 뒤 변경하지 않는다)
+    private static final class Def {
+        final Set<String> tokens;
+
+        Def(Set<String> tokens) {
+            this.tokens = tokens;
+        }
+    }
+
+    private static final class Var {
+        // 선언이 속한 블록 (파라미터는 메서드 / 람다 / catch 절)
+        final Node block;
+        Def def;
+
+        Var(Node block, Def def) {
+            this.block = block;
+            this.def = def;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package log_analyzer.engine;
+
+/**
+ * LogArgInspector가 뽑은 토큰을 하나씩 받는 콜백.
+ * token은 호출되는 동안에만 유효한 뷰일 수 있으므로, 보관하려면 toString()으로 복사해야 한다.
+ */
+@FunctionalInterface
+public interface TokenSink {
+    void accept(CharSequence token);
+}
@@ -0,0 +1,366 @@
+package log_analyzer.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithVariables;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.cache.GuavaCache;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JarTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * 수신자 변수 이름 대신 타입으로 로거를 판별하는 추출기 (--resolve-types=true).
+ * - 로그 호출 후보의 scope 타입을 심볼 해석기로 구해서 org.slf4j.Logger, java.util.logging.Logger,
+ *   org.apache.logging.log4j.Logger(또는 그 하위 타입)이면 "log.<메서드>"로 본다. ex) LOG.info, AUDIT.warn
+ * - 해석된 타입이 로거가 아니면 이름이 Log로 끝나도 로거로 보지 않는다. ex) changeLog.info → changeLog.info
+ * - 로거 라이브러리가 타입 경로에 없어서 타입을 해석하지 못하면 선언에 적힌 타입 이름을 import로 한정해서 판단하고,
+ *   선언도 찾지 못하면 기존 이름 규칙(normalize)을 따른다.
+ * - 심볼 해석기는 읽은 소스 파일의 AST를 기억하며 thread-safe하지 않으므로, 워커 스레드마다 자기 타입 해석기
+ *   (소스 루트의 JavaParserTypeSolver, 해석 결과 캐시, JavaParserFacade, 파서)를 따로 만든다. (잠금 없이 병렬 분석)
+ *   스레드마다 다른 파일의 AST를 따로 읽으므로 메모리는 스레드 수만큼 더 쓴다.
+ * - 소스 해석기는 추출기를 만든 뒤 바뀐 파일을 알아채지 못하므로, 추출기는 분석 한 번(데몬 요청 하나, 감시 묶음 하나)에만 쓴다.
+ *   요청 사이에 재사용해도 되는 jar / JDK 해석기만 Libraries로 따로 유지한다.
+ * - 분석 결과가 다른 파일(상위 클래스 필드의 타입 등)에도 의존하므로, 내용 해시 기반 분석 캐시는
+ *   다른 파일만 바뀐 경우를 알아채지 못한다. (--resolve-types에서는 결과 캐시를 쓰지 않는다)
+ */
+public class TypeResolvingLoggingCallExtractor extends JavaLoggingCallExtractor {
+
+    // 로거로 인정하는 타입
+    static final Set<String> LOGGER_TYPES = Set.of(
+            "org.slf4j.Logger",
+            "java.util.logging.Logger",
+            "org.apache.logging.log4j.Logger");
+
+    // 선언 노드에 기억하는 판별 결과
+    private static final DataKey<Boolean> IS_LOGGER = new DataKey<>() {};
+
+    // CombinedTypeSolver가 이름 → 타입 선언을 기억하는 최대 개수
+    private static final long MAX_CACHED_TYPES = 100_000;
+
+    // 소스 루트 + --type-path의 소스 디렉토리 (스레드마다 JavaParserTypeSolver를 만든다)
+    private final List<Path> sourceDirs;
+    // jar / JDK 해석기 (모든 스레드가 공유)
+    private final Libraries libraries;
+    // 워커 스레드별 타입 해석기
+    private final ThreadLocal<Resolution> resolutions = ThreadLocal.withInitial(this::newResolution);
+    // 한정된 타입 이름 → 로거 타입(또는 그 하위 타입)인지
+    private final Map<String, Boolean> loggerTypes = new ConcurrentHashMap<>();
+
+    private TypeResolvingLoggingCallExtractor(List<Path> sourceDirs, Libraries libraries, boolean trackTaint) {
+        super(new ParserConfiguration(), trackTaint);
+        this.sourceDirs = List.copyOf(sourceDirs);
+        this.libraries = libraries;
+    }
+
+    /**
+     * 분석 루트의 소스와 typePath(jar 또는 소스 디렉토리)로 타입을 해석하는 추출기를 만든다.
+     * 루트 아래 src/main/java, src/test/java가 있으면 그 디렉토리를, 없으면 루트를 소스 루트로 사용한다.
+     */
+    public static TypeResolvingLoggingCallExtractor create(Path root, List<Path> typePath) {
+        return create(root, typePath, false);
+    }
+
+    // trackTaint: JavaLoggingCallExtractor(boolean)과 같이 지역 변수를 거친 값도 검사한다 (--taint)
+    public static TypeResolvingLoggingCallExtractor create(Path root, List<Path> typePath, boolean trackTaint) {
+        return create(root, Libraries.load(typePath), trackTaint);
+    }
+
+    // 이미 읽은 jar / JDK 해석기로 만든다 (데몬이 요청마다 새 추출기를 만들 때)
+    public static TypeResolvingLoggingCallExtractor create(Path root, Libraries libraries, boolean trackTaint) {
+        List<Path> dirs = new ArrayList<>(sourceRoots(root));
+        for (Path entry : libraries.typePath) {
+            if (Files.isDirectory(entry)) dirs.add(entry);
+        }
+        return new TypeResolvingLoggingCallExtractor(dirs, libraries, trackTaint);
+    }
+
+    // 이 스레드의 타입 해석기. 소스 해석기가 먼저, jar / JDK 해석기는 마지막에 찾는다
+    private Resolution newResolution() {
+        List<TypeSolver> solvers = new ArrayList<>();
+        for (Path dir : sourceDirs) solvers.add(new JavaParserTypeSolver(dir));
+        solvers.add(new SharedTypeSolver(libraries.solver));
+        // 기본 캐시(InMemoryCache)는 크기 제한이 없으므로 Guava 캐시를 쓴다
+        TypeSolver solver = new CombinedTypeSolver(
+                CombinedTypeSolver.ExceptionHandlers.IGNORE_ALL,
+                solvers,
+                new GuavaCache<>(CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TYPES).build()));
+        return new Resolution(solver, JavaParserFacade.get(solver));
+    }
+
+    @Override
+    protected JavaParser newParser() {
+        // 파싱한 AST가 이 스레드의 해석기를 쓰도록 한다
+        return new JavaParser(new ParserConfiguration().setSymbolResolver(new JavaSymbolSolver(resolutions.get().solver())));
+    }
+
+    private static List<Path> sourceRoots(Path root) {
+        List<Path> roots = new ArrayList<>();
+        for (String dir : new String[] { "src/main/java", "src/test/java" }) {
+            Path p = root.resolve(dir);
+            if (Files.isDirectory(p)) roots.add(p);
+        }
+        if (roots.isEmpty()) roots.add(root);
+        return roots;
+    }
+
+    @Override
+    LogCallPrefilter newPrefilter(Set<String> allowedLogMethods) {
+        // 수신자 이름으로는 로거인지 알 수 없으므로 메서드 이름이 맞으면 모두 후보
+        return new LogCallPrefilter(allowedLogMethods, true);
+    }
+
+    @Override
+    protected String toMethodFqn(MethodCallExpr call, Set<String> allowedLogMethods) {
+        if (call.getScope().isEmpty()) return null;
+        Expression scope = call.getScope().get();
+        String method = call.getNameAsString();
+        String receiver = lastToken(scope.toString());
+
+        // 로거든 아니든 정책에 없는 호출이면 해석하지 않는다 (sb.append, list.add ...)
+        String raw = receiver + "." + method;
+        if (!allowedLogMethods.contains("log." + method) && !allowedLogMethods.contains(raw)) return raw;
+
+        Boolean logger = isLogger(scope, 0);
+        if (logger == null) {
+            // 타입도 선언도 알 수 없으면 이름 규칙
+            return normalize(receiver, method);
+        }
+        return logger ? "log." + method : raw;
+    }
+
+    // scope가 로거 타입인지 (알 수 없으면 null)
+    // 변수 / 필드 / 파라미터는 선언을 찾아 판단하고 결과를 선언 노드에 기억한다 (같은 필드를 쓰는 호출마다 다시 해석하지 않도록)
+    private Boolean isLogger(Expression scope, int depth) {
+        if (!(scope instanceof NameExpr) && !(scope instanceof FieldAccessExpr)) return resolvedAsLogger(scope);
+
+        Node declaration = declarationOf(scope);
+        if (declaration == null) return resolvedAsLogger(scope);
+        if (declaration.containsData(IS_LOGGER)) return declaration.getData(IS_LOGGER);
+
+        Boolean logger = declaredAsLogger(declaration, depth);
+        if (logger != null) declaration.setData(IS_LOGGER, logger);
+        return logger;
+    }
+
+    // 해석한 타입으로 판단 (해석하지 못하면 null)
+    private Boolean resolvedAsLogger(Expression expr) {
+        try {
+            return isLoggerType(facade().getType(expr));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean isLoggerType(ResolvedType type) {
+        if (!type.isReferenceType()) return false;
+        ResolvedReferenceType ref = type.asReferenceType();
+        return loggerTypes.computeIfAbsent(ref.getQualifiedName(), name -> {
+            if (LOGGER_TYPES.contains(name)) return true;
+            try {
+                for (ResolvedReferenceType ancestor : ref.getAllAncestors()) {
+                    if (LOGGER_TYPES.contains(ancestor.getQualifiedName())) return true;
+                }
+            } catch (RuntimeException e) {
+                // 상위 타입을 해석하지 못하면 로거가 아닌 것으로 본다
+            }
+            return false;
+        });
+    }
+
+    // 이름이 가리키는 변수 / 필드 / 파라미터 선언 (찾지 못하면 null)
+    private Node declarationOf(Expression scope) {
+        Node node;
+        try {
+            var ref = facade().solve(scope);
+            if (!ref.isSolved()) return null;
+            node = ref.getCorrespondingDeclaration().toAst().orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (node instanceof NodeWithVariables<?> declarations) {
+            // 필드 / 지역 변수는 선언 전체(private Logger a, b;)가 오므로 이름이 같은 변수를 고른다
+            String name = scope instanceof NameExpr n ? n.getNameAsString() : ((FieldAccessExpr) scope).getNameAsString();
+            return declarations.getVariables().stream()
+                    .filter(v -> v.getNameAsString().equals(name))
+                    .findFirst().orElse(null);
+        }
+        return node instanceof VariableDeclarator || node instanceof Parameter ? node : null;
+    }
+
+    // 선언에 적힌 타입으로 판단 (var면 초기값으로 한 번 더)
+    // 로거 라이브러리가 타입 경로에 없어도 import로 한정한 이름이 로거 타입이면 로거로 본다
+    private Boolean declaredAsLogger(Node declaration, int depth) {
+        Type type;
+        if (declaration instanceof VariableDeclarator v) {
+            type = v.getType();
+            if (type.isVarType()) {
+                if (depth > 0 || v.getInitializer().isEmpty()) return null;
+                return isLogger(v.getInitializer().get(), depth + 1);
+            }
+        } else {
+            type = ((Parameter) declaration).getType();
+        }
+        if (!(type instanceof ClassOrInterfaceType t)) return false;
+        if (LOGGER_TYPES.contains(qualify(t.getNameWithScope(), declaration.findCompilationUnit().orElse(null)))) {
+            return true;
+        }
+        // 로거를 구현 / 상속한 타입일 수 있으므로 해석해서 확인
+        try {
+            return isLoggerType(facade().convertToUsage(t));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 소스에 적힌 타입 이름을 선언이 있는 파일의 import로 한정한다
+    private static String qualify(String name, CompilationUnit cu) {
+        if (name.indexOf('.') >= 0 || cu == null) return name;
+        for (ImportDeclaration imp : cu.getImports()) {
+            if (!imp.isStatic() && !imp.isAsterisk() && imp.getName().getIdentifier().equals(name)) {
+                return imp.getNameAsString();
+            }
+        }
+        for (ImportDeclaration imp : cu.getImports()) {
+            String candidate = imp.getNameAsString() + "." + name;
+            if (!imp.isStatic() && imp.isAsterisk() && LOGGER_TYPES.contains(candidate)) return candidate;
+        }
+        return cu.getPackageDeclaration().map(p -> p.getNameAsString() + "." + name).orElse(name);
+    }
+
+    private JavaParserFacade facade() {
+        return resolutions.get().facade();
+    }
+
+    private record Resolution(TypeSolver solver, JavaParserFacade facade) {}
+
+    /**
+     * --type-path의 jar와 JDK(reflection) 해석기. 소스 파일과 달리 분석 중에 바뀌지 않으므로 요청 사이에 재사용할 수 있다.
+     * jar 파일의 수정 시각 / 크기가 바뀌었으면 isCurrent가 false를 반환한다.
+     */
+    public static final class Libraries {
+        private final List<Path> typePath;
+        private final TypeSolver solver;
+        private final List<String> stamps;
+
+        private Libraries(List<Path> typePath, TypeSolver solver, List<String> stamps) {
+            this.typePath = typePath;
+            this.solver = solver;
+            this.stamps = stamps;
+        }
+
+        // 항목이 디렉토리나 jar 파일이 아니면 IllegalArgumentException
+        public static Libraries load(List<Path> typePath) {
+            List<TypeSolver> solvers = new ArrayList<>();
+            solvers.add(new ReflectionTypeSolver());
+            for (Path entry : typePath) {
+                if (Files.isDirectory(entry)) continue;
+                if (Files.isRegularFile(entry) && entry.toString().endsWith(".jar")) {
+                    try {
+                        solvers.add(new JarTypeSolver(entry));
+                    } catch (IOException e) {
+                        throw new IllegalArgumentException("Failed to read --type-path jar: " + entry, e);
+                    }
+                } else {
+                    throw new IllegalArgumentException("--type-path entry must be a directory or a .jar file: " + entry);
+                }
+            }
+            // jar 사이의 상위 타입(다른 jar의 Logger 구현 등)은 이 해석기 안에서 찾는다
+            TypeSolver solver = new CombinedTypeSolver(
+                    CombinedTypeSolver.ExceptionHandlers.IGNORE_ALL,
+                    solvers,
+                    new GuavaCache<>(CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TYPES).build()));
+            return new Libraries(List.copyOf(typePath), solver, stamps(typePath));
+        }
+
+        public List<Path> getTypePath() {
+            return typePath;
+        }
+
+        // 같은 타입 경로이고 jar가 바뀌지 않았으면 true
+        public boolean isCurrent(List<Path> typePath) {
+            return this.typePath.equals(typePath) && stamps.equals(stamps(typePath));
+        }
+
+        private static List<String> stamps(List<Path> typePath) {
+            List<String> stamps = new ArrayList<>();
+            for (Path entry : typePath) {
+                if (Files.isDirectory(entry)) continue;
+                try {
+                    stamps.add(Files.getLastModifiedTime(entry) + "/" + Files.size(entry));
+                } catch (IOException e) {
+                    stamps.add("missing");
+                }
+            }
+            return stamps;
+        }
+    }
+
+    /**
+     * 공유하는 jar / JDK 해석기를 스레드별 CombinedTypeSolver에 넣기 위한 위임 해석기.
+     * 해석기의 parent는 한 번만 정할 수 있으므로 원래 해석기 대신 이 객체가 parent를 갖는다.
+     * jar 해석기(javassist ClassPool)는 동시 사용을 보장하지 않으므로 조회는 한 번에 하나씩 한다.
+     * (결과는 스레드별 캐시에 남으므로 같은 타입을 다시 조회하지 않는다)
+     */
+    private static final class SharedTypeSolver implements TypeSolver {
+        private final TypeSolver delegate;
+        private TypeSolver parent;
+
+        SharedTypeSolver(TypeSolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TypeSolver getParent() {
+            return parent;
+        }
+
+        @Override
+        public void setParent(TypeSolver parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+            synchronized (delegate) {
+                return delegate.tryToSolveType(name);
+            }
+        }
+
+        @Override
+        public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveTypeInModule(String module, String name) {
+            synchronized (delegate) {
+                return delegate.tryToSolveTypeInModule(module, name);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package log_analyzer.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import log_analyzer.report.Json;
+
+/**
+ * 분석 단계별 카운터와 지연 시간 히스토그램. (--metrics)
+ * - 탐색 대기: 분석 쪽이 디렉토리 탐색 스레드의 다음 경로를 기다린 시간
+ * - 읽기 / 파싱 / 추출 / 규칙 매칭: 파일별 FileStats를 합친 값 (워커 스레드 시간의 합이므로 벽시계 시간보다 클 수 있다)
+ * - 보고서: 위반 사항을 sink(보고서)에 넘기는 데 걸린 시간
+ * - 가장 오래 걸린 파일 N개
+ * 워커 스레드들이 동시에 record하므로 카운터는 LongAdder, 느린 파일 목록만 잠금을 사용한다.
+ */
+public class AnalysisMetrics {
+
+    private static final Comparator<FileStats> BY_TOTAL = Comparator.comparingLong(FileStats::getTotalNanos);
+
+    private final int slowestLimit;
+
+    private final LongAdder files = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder cached = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+
+    private final LongAdder scanWaitNanos = new LongAdder();
+    private final LongAdder readNanos = new LongAdder();
+    private final LongAdder extractNanos = new LongAdder();
+    private final LongAdder reportNanos = new LongAdder();
+    private final LongAdder wallNanos = new LongAdder();
+
+    private final LatencyHistogram parse = new LatencyHistogram();
+    private final LatencyHistogram rule = new LatencyHistogram();
+    private final LatencyHistogram file = new LatencyHistogram();
+
+    // 가장 빠른 파일이 맨 앞 (가득 차면 더 느린 파일이 들어올 때 밀어낸다)
+    private final PriorityQueue<FileStats> slowest = new PriorityQueue<>(BY_TOTAL);
+
+    public AnalysisMetrics(int slowestLimit) {
+        if (slowestLimit < 0) {
+            throw new IllegalArgumentException("slowestLimit must be >= 0: " + slowestLimit);
+        }
+        this.slowestLimit = slowestLimit;
+    }
+
+    // 파일 하나의 분석이 끝났을 때 (워커 스레드)
+    public void record(FileStats stats) {
+        files.increment();
+        bytesRead.add(stats.getBytes());
+        readNanos.add(stats.getReadNanos());
+        if (stats.isSkipped()) skipped.increment();
+        if (stats.isCached()) cached.increment();
+        if (stats.isParseFailed()) parseFailures.increment();
+        calls.add(stats.getCalls());
+        tokens.add(stats.getTokens());
+        violations.add(stats.getViolations());
+        extractNanos.add(stats.getExtractNanos());
+        // 실제로 파싱 / 검사한 파일만 히스토그램에 넣는다 (건너뛴 파일이 분포를 0 쪽으로 끌어내리지 않도록)
+        if (stats.getParseNanos() > 0) parse.record(stats.getParseNanos());
+        if (stats.getCalls() > 0) rule.record(stats.getRuleNanos());
+        file.record(stats.getTotalNanos());
+
+        if (slowestLimit == 0) return;
+        synchronized (slowest) {
+            if (slowest.size() < slowestLimit) {
+                slowest.add(stats);
+            } else if (BY_TOTAL.compare(stats, slowest.peek()) > 0) {
+                slowest.poll();
+                slowest.add(stats);
+            }
+        }
+    }
+
+    public void addScanWait(long nanos) {
+        scanWaitNanos.add(nanos);
+    }
+
+    public void addReport(long nanos) {
+        reportNanos.add(nanos);
+    }
+
+    public void addWall(long nanos) {
+        wallNanos.add(nanos);
+    }
+
+    public long getFiles() { return files.sum(); }
+    public long getBytesRead() { return bytesRead.sum(); }
+    public long getSkipped() { return skipped.sum(); }
+    public long getCached() { return cached.sum(); }
+    public long getCalls() { return calls.sum(); }
+    public long getTokens() { return tokens.sum(); }
+    public long getViolations() { return violations.sum(); }
+    public LatencyHistogram getParse() { return parse; }
+    public LatencyHistogram getRule() { return rule; }
+    public LatencyHistogram getFile() { return file; }
+
+    // 오래 걸린 순서
+    public List<FileStats> getSlowest() {
+        List<FileStats> list;
+        synchronized (slowest) {
+            list = new ArrayList<>(slowest);
+        }
+        list.sort(BY_TOTAL.reversed());
+        return list;
+    }
+
+    // JSON 한 개로 기록 (시간은 밀리초, 상위 디렉토리가 없으면 만든다)
+    public void writeJson(Path path) {
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writeJson(out);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write metrics: " + path, e);
+        }
+    }
+
+    void writeJson(Writer out) throws IOException {
+        out.write("{\n");
+        out.write("  \"counters\": {");
+        out.write("\"filesScanned\": " + getFiles());
+        out.write(", \"bytesRead\": " + getBytesRead());
+        out.write(", \"filesSkippedByPrefilter\": " + getSkipped());
+        out.write(", \"filesFromCache\": " + getCached());
+        out.write(", \"parseFailures\": " + parseFailures.sum());
+        out.write(", \"callsExtracted\": " + getCalls());
+        out.write(", \"tokensInspected\": " + getTokens());
+        out.write(", \"violations\": " + getViolations());
+        out.write("},\n");
+        out.write("  \"phasesMs\": {");
+        out.write("\"wall\": " + millis(wallNanos.sum()));
+        out.write(", \"scanWait\": " + millis(scanWaitNanos.sum()));
+        out.write(", \"read\": " + millis(readNanos.sum()));
+        out.write(", \"parse\": " + millis(parse.getSumNanos()));
+        out.write(", \"extract\": " + millis(extractNanos.sum()));
+        out.write(", \"ruleMatch\": " + millis(rule.getSumNanos()));
+        out.write(", \"report\": " + millis(reportNanos.sum()));
+        out.write("},\n");
+        out.write("  \"histogramsMs\": {\n");
+        writeHistogram(out, "parse", parse, ",\n");
+        writeHistogram(out, "ruleMatch", rule, ",\n");
+        writeHistogram(out, "file", file, "\n");
+        out.write("  },\n");
+        out.write("  \"slowestFiles\": [");
+        List<FileStats> list = getSlowest();
+        for (int i = 0; i < list.size(); i++) {
+            FileStats s = list.get(i);
+            out.write(i == 0 ? "\n    {" : ",\n    {");
+            out.write("\"file\": ");
+            Json.writeString(out, s.getFile().toString());
+            out.write(", \"totalMs\": " + millis(s.getTotalNanos()));
+            out.write(", \"parseMs\": " + millis(s.getParseNanos()));
+            out.write(", \"ruleMatchMs\": " + millis(s.getRuleNanos()));
+            out.write(", \"bytes\": " + s.getBytes());
+            out.write(", \"calls\": " + s.getCalls());
+            out.write(", \"tokens\": " + s.getTokens());
+            out.write("}");
+        }
+        out.write(list.isEmpty() ? "]\n" : "\n  ]\n");
+        out.write("}\n");
+    }
+
+    private static void writeHistogram(Writer out, String name, LatencyHistogram h, String end) throws IOException {
+        out.write("    \"" + name + "\": {");
+        out.write("\"count\": " + h.getCount());
+        out.write(", \"p50\": " + millis(h.percentileNanos(0.50)));
+        out.write(", \"p90\": " + millis(h.percentileNanos(0.90)));
+        out.write(", \"p99\": " + millis(h.percentileNanos(0.99)));
+        out.write(", \"max\": " + millis(h.getMaxNanos()));
+        out.write("}" + end);
+    }
+
+    // 소수점 셋째 자리까지
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
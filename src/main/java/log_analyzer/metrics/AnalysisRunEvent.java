@@ -0,0 +1,36 @@
+package log_analyzer.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 분석 한 번 전체 (JFR 이벤트, 지속 시간 = 탐색 시작부터 마지막 위반 사항 전달까지)
+@Name("log_analyzer.AnalysisRun")
+@Label("Analysis Run")
+@Category({ "Static Log Analyzer" })
+@Description("One analyze() call over a source root")
+@StackTrace(false)
+public class AnalysisRunEvent extends Event {
+
+    @Label("Root")
+    String root;
+
+    @Label("Threads")
+    int threads;
+
+    @Label("Files")
+    long files;
+
+    @Label("Violations")
+    long violations;
+
+    public void set(String root, int threads, long files, long violations) {
+        this.root = root;
+        this.threads = threads;
+        this.files = files;
+        this.violations = violations;
+    }
+}
@@ -0,0 +1,65 @@
+package log_analyzer.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 파일 하나의 분석 (JFR 이벤트).
+ * JFR 기록 중이 아니면 shouldCommit()이 false이므로 필드를 채우지 않는다.
+ * 예: java -XX:StartFlightRecording=filename=analyze.jfr ... 후 jfr print --events log_analyzer.FileAnalysis analyze.jfr
+ */
+@Name("log_analyzer.FileAnalysis")
+@Label("File Analysis")
+@Category({ "Static Log Analyzer" })
+@Description("Extraction and rule evaluation of one source file")
+@StackTrace(false)
+public class FileAnalysisEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytes;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseNanos;
+
+    @Label("Rule Match Time")
+    @Timespan
+    long ruleNanos;
+
+    @Label("Log Calls")
+    int calls;
+
+    @Label("Tokens")
+    long tokens;
+
+    @Label("Violations")
+    int violations;
+
+    @Label("Skipped By Prefilter")
+    boolean skipped;
+
+    @Label("Cached")
+    boolean cached;
+
+    public void set(FileStats stats) {
+        file = stats.getFile().toString();
+        bytes = stats.getBytes();
+        parseNanos = stats.getParseNanos();
+        ruleNanos = stats.getRuleNanos();
+        calls = stats.getCalls();
+        tokens = stats.getTokens();
+        violations = stats.getViolations();
+        skipped = stats.isSkipped();
+        cached = stats.isCached();
+    }
+}
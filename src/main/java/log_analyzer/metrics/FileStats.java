@@ -0,0 +1,84 @@
+package log_analyzer.metrics;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 하나를 분석하는 동안의 단계별 측정값.
+ * 워커 스레드 하나가 파일을 분석하는 동안에만 사용하므로 동기화하지 않는다.
+ * 분석이 끝나면 AnalysisMetrics.record로 합친다.
+ */
+public class FileStats {
+
+    private final Path file;
+    private long bytes;
+    private long readNanos;
+    private boolean skipped;
+    private boolean cached;
+    private boolean parseFailed;
+    private long parseNanos;
+    private long extractNanos;
+    private int calls;
+    private long tokens;
+    private long ruleNanos;
+    private int violations;
+    private long totalNanos;
+
+    public FileStats(Path file) {
+        this.file = file;
+    }
+
+    public void addRead(long bytes, long nanos) {
+        this.bytes += bytes;
+        this.readNanos += nanos;
+    }
+
+    // 사전 필터에서 로그 호출 후보가 없어 파싱하지 않은 파일
+    public void markSkipped() {
+        this.skipped = true;
+    }
+
+    // 캐시에 저장된 결과를 사용한 파일
+    public void markCached() {
+        this.cached = true;
+    }
+
+    public void markParseFailed() {
+        this.parseFailed = true;
+    }
+
+    public void addParse(long nanos) {
+        this.parseNanos += nanos;
+    }
+
+    public void addExtract(long nanos, int calls) {
+        this.extractNanos += nanos;
+        this.calls += calls;
+    }
+
+    public void addTokens(long tokens) {
+        this.tokens += tokens;
+    }
+
+    public void addRule(long nanos) {
+        this.ruleNanos += nanos;
+    }
+
+    public void finish(int violations, long totalNanos) {
+        this.violations = violations;
+        this.totalNanos = totalNanos;
+    }
+
+    public Path getFile() { return file; }
+    public long getBytes() { return bytes; }
+    public long getReadNanos() { return readNanos; }
+    public boolean isSkipped() { return skipped; }
+    public boolean isCached() { return cached; }
+    public boolean isParseFailed() { return parseFailed; }
+    public long getParseNanos() { return parseNanos; }
+    public long getExtractNanos() { return extractNanos; }
+    public int getCalls() { return calls; }
+    public long getTokens() { return tokens; }
+    public long getRuleNanos() { return ruleNanos; }
+    public int getViolations() { return violations; }
+    public long getTotalNanos() { return totalNanos; }
+}
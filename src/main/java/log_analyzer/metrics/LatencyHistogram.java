@@ -0,0 +1,61 @@
+package log_analyzer.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 지연 시간 히스토그램.
+ * - 2의 거듭제곱 경계 버킷(64개)에 LongAdder로 세므로 여러 워커 스레드가 잠금 없이 기록할 수 있다.
+ * - 백분위 값은 해당 버킷의 상한이므로 실제 값보다 최대 2배까지 클 수 있다. (병목 파일을 찾는 용도로 충분)
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    // buckets[i]: 비트 길이가 i인 값 = [2^(i-1), 2^i) 나노초 (0번은 0)
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+        count.increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumNanos() {
+        return sum.sum();
+    }
+
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    // q(0~1) 백분위가 속한 버킷의 상한 (기록이 없으면 0)
+    public long percentileNanos(double q) {
+        long total = getCount();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= Math.max(rank, 1)) return Math.min(upperBound(i), getMaxNanos());
+        }
+        return getMaxNanos();
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
@@ -1,12 +1,17 @@
 package log_analyzer.policy.entity;
 
+import java.util.regex.Pattern;
+
 public class ForbiddenFieldRule {
 	private final String name;
     private final MatchType match;
+    // REGEX 규칙은 생성 시 한 번만 컴파일 (잘못된 정규식이면 PatternSyntaxException)
+    private final Pattern pattern;
 
     public ForbiddenFieldRule(String name, MatchType match) {
         this.name = name;
         this.match = match;
+        this.pattern = match == MatchType.REGEX ? Pattern.compile(name) : null;
     }
 
     public String getName() {
@@ -17,6 +22,11 @@ public class ForbiddenFieldRule {
         return match;
     }
 
+    // REGEX 규칙의 컴파일된 패턴 (그 외에는 null)
+    public Pattern getPattern() {
+        return pattern;
+    }
+
     public boolean matches(String text) {
         if (text == null) return false;
 
@@ -27,7 +37,7 @@ public class ForbiddenFieldRule {
             case CONTAINS -> text.contains(name);
             case PREFIX -> text.startsWith(name);
             case SUFFIX -> text.endsWith(name);
-            case REGEX -> text.matches(name);
+            case REGEX -> pattern.matcher(text).matches();
         };
     }
     
@@ -1,16 +1,28 @@
 package log_analyzer.policy.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import log_analyzer.engine.ScanFilter;
 import log_analyzer.policy.entity.ForbiddenFieldRule;
 
 public class LoggingPolicy {
     private final List<ForbiddenFieldRule> forbiddenFields;
     private final List<String> logMethods;
+    // 탐색 설정 (scan.include / scan.exclude / scan.respectGitignore)
+    private final ScanFilter scanFilter;
 
     public LoggingPolicy(List<ForbiddenFieldRule> forbiddenFields, List<String> logMethods) {
+        this(forbiddenFields, logMethods, ScanFilter.NONE);
+    }
+
+    public LoggingPolicy(List<ForbiddenFieldRule> forbiddenFields, List<String> logMethods, ScanFilter scanFilter) {
         this.forbiddenFields = forbiddenFields;
         this.logMethods = logMethods;
+        this.scanFilter = scanFilter;
     }
 
     public List<ForbiddenFieldRule> getForbiddenFields() {
@@ -20,4 +32,24 @@ public class LoggingPolicy {
     public List<String> getLogMethods() {
         return logMethods;
     }
-}
\ No newline at end of file
+
+    public ScanFilter getScanFilter() {
+        return scanFilter;
+    }
+
+    // 정책 내용으로 계산한 식별값 (정책이 바뀌면 분석 캐시를 무효화하는 데 사용)
+    // 탐색 설정은 파일별 분석 결과에 영향을 주지 않으므로 포함하지 않는다
+    public String fingerprint() {
+        Hasher h = Hashing.sha256().newHasher();
+        for (ForbiddenFieldRule rule : forbiddenFields) {
+            h.putString("F", StandardCharsets.UTF_8)
+             .putString(rule.getName(), StandardCharsets.UTF_8).putByte((byte) 0)
+             .putString(rule.getMatch().name(), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        for (String method : logMethods) {
+            h.putString("M", StandardCharsets.UTF_8)
+             .putString(method, StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        return h.hash().toString();
+    }
+}
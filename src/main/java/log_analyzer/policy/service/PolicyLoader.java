@@ -1,5 +1,6 @@
 package log_analyzer.policy.service;
 
+import log_analyzer.engine.ScanFilter;
 import log_analyzer.exception.ParserException;
 import log_analyzer.policy.entity.ForbiddenFieldRule;
 import log_analyzer.policy.entity.MatchType;
@@ -10,6 +11,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.regex.PatternSyntaxException;
 
 // 규제 내용을 읽고 반환하는 클래스
 public class PolicyLoader {
@@ -34,8 +36,11 @@ public class PolicyLoader {
             //yml내부의 log 내역 리스트화
             List<String> logMethods = parseLogMethods(root.get("logMethods"));
 
+            //yml내부의 탐색 설정 (선택)
+            ScanFilter scanFilter = parseScan(root.get("scan"));
+
             //LoggingPolicy 클래스 생성자 호출
-            return new LoggingPolicy(forbidden, logMethods);
+            return new LoggingPolicy(forbidden, logMethods, scanFilter);
 
         } catch (ParserException e) {
             throw e;
@@ -75,15 +80,41 @@ public class PolicyLoader {
             // 규정 이름과 조건(정확 일치 or 포함) 리스트에 추가
             String name = String.valueOf(nameObj).trim();
             MatchType match = MatchType.from(matchObj == null ? "exact" : String.valueOf(matchObj));
-            result.add(new ForbiddenFieldRule(name, match));
+            try {
+                result.add(new ForbiddenFieldRule(name, match));
+            } catch (PatternSyntaxException e) {
+                throw new ParserException("forbiddenFields item has invalid regex: " + name, e);
+            }
         }
         return result;
     }
 
     private List<String> parseLogMethods(Object raw) {
+        return parseStringList(raw, "logMethods");
+    }
+
+    // scan:
+    //   include: [glob, ...]
+    //   exclude: [glob, ...]
+    //   respectGitignore: true|false
+    private ScanFilter parseScan(Object raw) {
+        if (raw == null) return ScanFilter.NONE;
+        if (!(raw instanceof Map<?, ?> m)) {
+            throw new ParserException("scan must be a map");
+        }
+
+        List<String> include = parseStringList(m.get("include"), "scan.include");
+        List<String> exclude = parseStringList(m.get("exclude"), "scan.exclude");
+        Object gitignore = m.get("respectGitignore");
+        boolean respectGitignore = gitignore != null && Boolean.parseBoolean(String.valueOf(gitignore).trim());
+
+        return new ScanFilter(include, exclude, respectGitignore);
+    }
+
+    private List<String> parseStringList(Object raw, String key) {
         if (raw == null) return List.of();
         if (!(raw instanceof List<?> list)) {
-            throw new ParserException("logMethods must be a list");
+            throw new ParserException(key + " must be a list");
         }
 
         List<String> result = new ArrayList<>();
@@ -0,0 +1,163 @@
+package log_analyzer.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 보고서용 최소 JSON 문자열 출력 (RFC 8259 이스케이프)
+// 값이 문자열 / 정수 / null뿐인 한 단계 객체(jsonl 보고서 한 줄)는 다시 읽을 수 있다
+public final class Json {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Json() {}
+
+    public static void writeString(Writer out, String s) throws IOException {
+        if (s == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        int from = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String escape = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> null;
+            };
+            if (escape == null && c >= 0x20 && c != 0x2028 && c != 0x2029) continue;
+
+            out.write(s, from, i - from);
+            if (escape != null) {
+                out.write(escape);
+            } else {
+                out.write("\\u");
+                out.write(HEX[(c >> 12) & 0xF]);
+                out.write(HEX[(c >> 8) & 0xF]);
+                out.write(HEX[(c >> 4) & 0xF]);
+                out.write(HEX[c & 0xF]);
+            }
+            from = i + 1;
+        }
+        out.write(s, from, s.length() - from);
+        out.write('"');
+    }
+
+    /**
+     * {"key":"value","n":10,"x":null} 형태의 한 단계 객체를 읽는다. (중첩 객체 / 배열 / 실수는 지원하지 않음)
+     * 형식이 맞지 않으면 IllegalArgumentException.
+     */
+    public static Map<String, Object> parseFlatObject(String text) {
+        Reader r = new Reader(text);
+        Map<String, Object> result = new LinkedHashMap<>();
+        r.skipWhitespace();
+        r.expect('{');
+        r.skipWhitespace();
+        if (r.peek() == '}') {
+            r.pos++;
+        } else {
+            while (true) {
+                r.skipWhitespace();
+                String key = r.string();
+                r.skipWhitespace();
+                r.expect(':');
+                r.skipWhitespace();
+                result.put(key, r.value());
+                r.skipWhitespace();
+                if (r.peek() == ',') {
+                    r.pos++;
+                    continue;
+                }
+                r.expect('}');
+                break;
+            }
+        }
+        r.skipWhitespace();
+        if (r.pos != text.length()) throw r.error("unexpected trailing text");
+        return result;
+    }
+
+    private static final class Reader {
+        private final String s;
+        private int pos;
+
+        Reader(String s) {
+            this.s = s;
+        }
+
+        char peek() {
+            if (pos >= s.length()) throw error("unexpected end");
+            return s.charAt(pos);
+        }
+
+        void expect(char c) {
+            if (peek() != c) throw error("expected '" + c + "'");
+            pos++;
+        }
+
+        void skipWhitespace() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        Object value() {
+            char c = peek();
+            if (c == '"') return string();
+            if (s.startsWith("null", pos)) {
+                pos += 4;
+                return null;
+            }
+            int start = pos;
+            if (c == '-') pos++;
+            while (pos < s.length() && Character.isDigit(s.charAt(pos))) pos++;
+            if (pos == start || (pos == start + 1 && c == '-')) throw error("unsupported value");
+            try {
+                return Long.parseLong(s.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("number out of range");
+            }
+        }
+
+        String string() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                char c = peek();
+                pos++;
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char e = peek();
+                pos++;
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append(e);
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > s.length()) throw error("bad unicode escape");
+                        try {
+                            sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException ex) {
+                            throw error("bad unicode escape");
+                        }
+                        pos += 4;
+                    }
+                    default -> throw error("bad escape");
+                }
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON at " + pos + ": " + message);
+        }
+    }
+}
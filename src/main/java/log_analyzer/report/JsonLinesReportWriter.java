@@ -0,0 +1,29 @@
+package log_analyzer.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 위반 사항 하나당 JSON 객체 한 줄 (위반 사항이 없으면 빈 파일)
+// {"file":"...","line":10,"rule":"...","message":"...","code":"..."}
+class JsonLinesReportWriter extends StreamingReportWriter {
+
+    JsonLinesReportWriter(BufferedWriter out, Path reportPath) {
+        super(out, reportPath);
+    }
+
+    @Override
+    protected void writeViolation(Violation v, long index) throws IOException {
+        out.write("{\"file\":");
+        Json.writeString(out, v.getFile() == null ? null : v.getFile().toString());
+        out.write(",\"line\":");
+        out.write(Integer.toString(v.getLine()));
+        out.write(",\"rule\":");
+        Json.writeString(out, v.getRule());
+        out.write(",\"message\":");
+        Json.writeString(out, v.getMessage());
+        out.write(",\"code\":");
+        Json.writeString(out, v.getCode());
+        out.write("}\n");
+    }
+}
@@ -0,0 +1,32 @@
+package log_analyzer.report;
+
+import java.io.BufferedWriter;
+import java.nio.file.Path;
+
+// 보고서 출력 형식 (--format)
+public enum ReportFormat {
+    TEXT,
+    JSONL,
+    SARIF;
+
+    public static ReportFormat from(String raw) {
+        if (raw == null || raw.isBlank()) return TEXT;
+        String v = raw.trim().toUpperCase();
+        // json lines 표기 허용
+        if (v.equals("JSON") || v.equals("JSON-LINES") || v.equals("NDJSON")) return JSONL;
+        try {
+            return ReportFormat.valueOf(v);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--format must be one of text, jsonl, sarif: " + raw);
+        }
+    }
+
+    // sourceRoot는 SARIF의 상대 경로(uri) 계산에 사용
+    StreamingReportWriter newWriter(BufferedWriter out, Path reportPath, Path sourceRoot) {
+        return switch (this) {
+            case TEXT -> new TextReportWriter(out, reportPath);
+            case JSONL -> new JsonLinesReportWriter(out, reportPath);
+            case SARIF -> new SarifReportWriter(out, reportPath, sourceRoot);
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package log_analyzer.report;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드별 부분 보고서(--shard=i/n --format=jsonl)를 보고서 하나로 합친다. (merge 서브커맨드)
+ * - 위반 사항을 파일, 라인, 규칙, 메시지, 코드 순으로 정렬하고 완전히 같은 항목은 하나만 남긴다.
+ *   그래서 샤드를 몇 개로 나누든, 부분 보고서를 어떤 순서로 주든 같은 보고서가 나온다.
+ * - 정렬을 위해 위반 사항 전체를 메모리에 둔다. (ViolationStore: 경로 / 문자열은 한 번씩만 저장)
+ */
+public class ReportMerger {
+
+    private final ReportWriter writer;
+
+    public ReportMerger(ReportWriter writer) {
+        this.writer = writer;
+    }
+
+    // 부분 보고서들을 합쳐 reportPath에 쓰고, 합친 위반 사항 수를 반환한다
+    public long merge(List<Path> partials, Path reportPath) {
+        ViolationStore merged = new ViolationStore();
+        for (Path partial : partials) {
+            read(partial, merged);
+        }
+        // 파일 경로는 운영체제와 무관하게 '/' 구분 문자열로 비교
+        merged.sort();
+        try (ViolationSink sink = writer.open(reportPath)) {
+            merged.forEach(sink);
+        }
+        return merged.size();
+    }
+
+    // jsonl 부분 보고서를 읽는다. 형식이 맞지 않으면 IllegalArgumentException (파일:라인 포함)
+    static void read(Path partial, ViolationStore into) {
+        try (BufferedReader in = Files.newBufferedReader(partial, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNo = 0;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) continue;
+                try {
+                    into.addIfAbsent(toViolation(Json.parseFlatObject(line)));
+                } catch (IllegalArgumentException | ClassCastException e) {
+                    throw new IllegalArgumentException("Invalid partial report " + partial + ":" + lineNo
+                            + " (expected a jsonl report): " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read partial report: " + partial, e);
+        }
+    }
+
+    private static Violation toViolation(Map<String, Object> o) {
+        if (!o.containsKey("line") || !o.containsKey("rule")) {
+            throw new IllegalArgumentException("missing \"line\" or \"rule\"");
+        }
+        String file = (String) o.get("file");
+        Long line = (Long) o.get("line");
+        return new Violation(file == null ? null : Path.of(file), line == null ? -1 : line.intValue(),
+                (String) o.get("rule"), (String) o.get("message"), (String) o.get("code"));
+    }
+}
@@ -1,43 +1,57 @@
 package log_analyzer.report;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
 
+// 보고서 작성 (형식: text / jsonl / sarif)
 public class ReportWriter {
 
-    public void write(Path reportPath, List<Violation> violations) {
+    private final ReportFormat format;
+    // SARIF 파일 위치(uri)의 기준 디렉토리 (null이면 절대 경로 uri)
+    private final Path sourceRoot;
+
+    public ReportWriter() {
+        this(ReportFormat.TEXT, null);
+    }
+
+    public ReportWriter(ReportFormat format, Path sourceRoot) {
+        this.format = format;
+        this.sourceRoot = sourceRoot;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 위반 사항을 하나씩 받아 바로 파일에 쓰는 보고서를 연다. 반드시 close 해야 한다.
+     * 상위 디렉토리가 없으면 만들고, 기존 파일은 덮어쓴다.
+     */
+    public ViolationSink open(Path reportPath) {
         try {
             if (reportPath.getParent() != null) {
                 Files.createDirectories(reportPath.getParent());
             }
-
-            StringBuilder sb = new StringBuilder();
-
-            if (violations.isEmpty()) {
-                sb.append("[OK] Logging policy check passed. No violations detected.\n");
-            } else {
-                for (Violation v : violations) {
-                    sb.append("[LOGGING VIOLATION] Logging policy violation detected\n");
-                    sb.append("File: ").append(v.getFile()).append("\n");
-                    sb.append("Line: ").append(v.getLine()).append("\n");
-                    sb.append("Rule: ").append(v.getRule()).append("\n");
-                    sb.append("Message: ").append(v.getMessage()).append("\n");
-                    sb.append("Code: ").append(v.getCode()).append("\n");
-                    sb.append("\n");
-                }
-            }
-
-            Files.writeString(
+            BufferedWriter out = Files.newBufferedWriter(
                     reportPath,
-                    sb.toString(),
                     StandardCharsets.UTF_8,
                     StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE
             );
+            return format.newWriter(out, reportPath, sourceRoot);
         } catch (IOException e) {
             throw new RuntimeException("Failed to write report: " + reportPath, e);
         }
     }
+
+    // 이미 모아 둔 목록을 한 번에 기록
+    public void write(Path reportPath, List<Violation> violations) {
+        try (ViolationSink sink = open(reportPath)) {
+            violations.forEach(sink);
+        }
+    }
 }
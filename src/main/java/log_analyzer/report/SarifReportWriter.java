@@ -0,0 +1,117 @@
+package log_analyzer.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * SARIF 2.1.0 보고서 (코드 스캐닝 대시보드 연동용).
+ * - results 배열을 먼저 흘려 쓰고, 실제로 나온 규칙 목록(tool.driver.rules)은 close 시점에 쓴다.
+ *   (JSON 객체의 키 순서는 의미가 없으므로 스키마상 문제 없음)
+ * - 파일 위치는 분석 루트(%SRCROOT%) 기준 상대 uri로 기록한다.
+ */
+class SarifReportWriter extends StreamingReportWriter {
+
+    static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    static final String TOOL_NAME = "static-log-analyzer";
+    static final String SRCROOT = "%SRCROOT%";
+
+    private final Path sourceRoot;
+    // 규칙 종류 수만큼만 커진다
+    private final Set<String> ruleIds = new LinkedHashSet<>();
+
+    SarifReportWriter(BufferedWriter out, Path reportPath, Path sourceRoot) {
+        super(out, reportPath);
+        this.sourceRoot = sourceRoot == null ? null : sourceRoot.toAbsolutePath().normalize();
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        out.write("{\"$schema\":\"" + SCHEMA + "\",\"version\":\"2.1.0\",\"runs\":[{\n\"results\":[");
+    }
+
+    @Override
+    protected void writeViolation(Violation v, long index) throws IOException {
+        ruleIds.add(v.getRule());
+
+        out.write(index == 0 ? "\n" : ",\n");
+        out.write("{\"ruleId\":");
+        Json.writeString(out, v.getRule());
+        out.write(",\"level\":\"error\",\"message\":{\"text\":");
+        Json.writeString(out, v.getMessage());
+        out.write("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":");
+        writeArtifactLocation(v.getFile());
+        if (v.getLine() > 0) {
+            out.write(",\"region\":{\"startLine\":");
+            out.write(Integer.toString(v.getLine()));
+            if (v.getCode() != null) {
+                out.write(",\"snippet\":{\"text\":");
+                Json.writeString(out, v.getCode());
+                out.write("}");
+            }
+            out.write("}");
+        }
+        out.write("}}]}");
+    }
+
+    @Override
+    protected void writeFooter(long count) throws IOException {
+        out.write("\n],\n\"tool\":{\"driver\":{\"name\":\"" + TOOL_NAME + "\",\"rules\":[");
+        boolean first = true;
+        for (String id : ruleIds) {
+            if (!first) out.write(",");
+            first = false;
+            out.write("{\"id\":");
+            Json.writeString(out, id);
+            out.write("}");
+        }
+        out.write("]}}");
+        if (sourceRoot != null) {
+            out.write(",\n\"originalUriBaseIds\":{\"" + SRCROOT + "\":{\"uri\":");
+            Json.writeString(out, directoryUri(sourceRoot));
+            out.write("}}");
+        }
+        out.write("\n}]}\n");
+    }
+
+    private void writeArtifactLocation(Path file) throws IOException {
+        out.write("{\"uri\":");
+        if (file == null) {
+            Json.writeString(out, "");
+            out.write("}");
+            return;
+        }
+
+        Path abs = file.toAbsolutePath().normalize();
+        if (sourceRoot != null && abs.startsWith(sourceRoot)) {
+            Json.writeString(out, relativeUri(sourceRoot.relativize(abs)));
+            out.write(",\"uriBaseId\":\"" + SRCROOT + "\"}");
+        } else {
+            Json.writeString(out, abs.toUri().toString());
+            out.write("}");
+        }
+    }
+
+    // OS 구분자와 무관하게 '/'로 잇고 uri 규칙에 맞게 인코딩
+    static String relativeUri(Path relative) {
+        StringBuilder sb = new StringBuilder();
+        for (Path name : relative) {
+            if (sb.length() > 0) sb.append('/');
+            sb.append(name);
+        }
+        try {
+            return new URI(null, null, sb.toString(), null).toASCIIString();
+        } catch (URISyntaxException e) {
+            return sb.toString();
+        }
+    }
+
+    private static String directoryUri(Path dir) {
+        String uri = dir.toUri().toString();
+        return uri.endsWith("/") ? uri : uri + "/";
+    }
+}
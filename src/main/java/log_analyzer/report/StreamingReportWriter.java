@@ -0,0 +1,77 @@
+package log_analyzer.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 형식별 보고서의 공통 뼈대.
+ * 버퍼가 찰 때마다 파일로 내려 보내므로 메모리 사용량이 위반 사항 수와 무관하다.
+ */
+abstract class StreamingReportWriter implements ViolationSink {
+
+    protected final BufferedWriter out;
+    private final Path reportPath;
+    private long count;
+    private boolean started;
+    private boolean closed;
+
+    StreamingReportWriter(BufferedWriter out, Path reportPath) {
+        this.out = out;
+        this.reportPath = reportPath;
+    }
+
+    // 첫 위반 사항 전에 (또는 위반 사항이 없으면 close 시점에) 한 번 호출
+    protected void writeHeader() throws IOException {}
+
+    protected abstract void writeViolation(Violation v, long index) throws IOException;
+
+    protected void writeFooter(long count) throws IOException {}
+
+    @Override
+    public void accept(Violation violation) {
+        if (closed) throw new IllegalStateException("Report already closed: " + reportPath);
+        try {
+            start();
+            writeViolation(violation, count++);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report: " + reportPath, e);
+        }
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try (BufferedWriter w = out) {
+            start();
+            writeFooter(count);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report: " + reportPath, e);
+        }
+    }
+
+    @Override
+    public void abort() {
+        if (closed) return;
+        closed = true;
+        try {
+            out.close();
+            Files.deleteIfExists(reportPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to discard report: " + reportPath, e);
+        }
+    }
+
+    private void start() throws IOException {
+        if (started) return;
+        started = true;
+        writeHeader();
+    }
+}
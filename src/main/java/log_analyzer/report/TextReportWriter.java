@@ -0,0 +1,31 @@
+package log_analyzer.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 기존 텍스트 보고서 형식
+class TextReportWriter extends StreamingReportWriter {
+
+    TextReportWriter(BufferedWriter out, Path reportPath) {
+        super(out, reportPath);
+    }
+
+    @Override
+    protected void writeViolation(Violation v, long index) throws IOException {
+        out.write("[LOGGING VIOLATION] Logging policy violation detected\n");
+        out.write("File: " + v.getFile() + "\n");
+        out.write("Line: " + v.getLine() + "\n");
+        out.write("Rule: " + v.getRule() + "\n");
+        out.write("Message: " + v.getMessage() + "\n");
+        out.write("Code: " + v.getCode() + "\n");
+        out.write("\n");
+    }
+
+    @Override
+    protected void writeFooter(long count) throws IOException {
+        if (count == 0) {
+            out.write("[OK] Logging policy check passed. No violations detected.\n");
+        }
+    }
+}
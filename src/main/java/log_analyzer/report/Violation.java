@@ -10,23 +10,46 @@ public class Violation {
     private final int line;
     //규칙
     private final String rule;
-    //로그 메시지
+    //로그 메시지 (null이면 field, method로 getMessage에서 만든다)
     private final String message;
     //실제 코드
     private final String code;
+    //금지 필드 이름, 로그 메서드 (메시지를 미룬 경우에만)
+    private final String field;
+    private final String method;
 
     //생성자
     public Violation(Path file, int line, String rule, String message, String code) {
+        this(file, line, rule, message, code, null, null);
+    }
+
+    private Violation(Path file, int line, String rule, String message, String code, String field, String method) {
         this.file = file;
         this.line = line;
         this.rule = rule;
         this.message = message;
         this.code = code;
+        this.field = field;
+        this.method = method;
+    }
+
+    // 금지 필드 위반. 메시지는 보고서에 쓸 때 만든다 (매칭마다 문자열을 이어 붙이지 않도록)
+    public static Violation forbiddenField(Path file, int line, String rule, String field, String method, String code) {
+        return new Violation(file, line, rule, null, code, field, method);
+    }
+
+    // 금지 필드 위반 메시지 ex) Variable/Token 'password' is logged via log.info
+    static String forbiddenFieldMessage(String field, String method) {
+        return "Variable/Token '" + field + "' is logged via " + method;
     }
 
     public Path getFile() { return file; }
     public int getLine() { return line; }
     public String getRule() { return rule; }
-    public String getMessage() { return message; }
+    public String getMessage() { return message != null ? message : forbiddenFieldMessage(field, method); }
     public String getCode() { return code; }
+
+    // 메시지를 미룬 위반이면 금지 필드 이름, 아니면 null (ViolationStore가 메시지 대신 저장)
+    String getField() { return field; }
+    String getMethod() { return method; }
 }
@@ -0,0 +1,24 @@
+package log_analyzer.report;
+
+import java.util.function.Consumer;
+
+/**
+ * 위반 사항을 하나씩 받아 바로 기록하는 보고서.
+ * - accept 순서대로 기록되며, 전체 목록을 메모리에 모으지 않는다.
+ * - close에서 남은 내용(요약, 닫는 괄호 등)을 쓰고 파일을 닫는다. 쓰기 실패는 RuntimeException.
+ * - 스레드 하나에서만 사용한다.
+ */
+public interface ViolationSink extends Consumer<Violation>, AutoCloseable {
+
+    @Override
+    void accept(Violation violation);
+
+    // 지금까지 기록한 위반 사항 수
+    long count();
+
+    @Override
+    void close();
+
+    // 분석이 실패했을 때: 끝맺음 없이 닫고 쓰던 보고서 파일을 지운다 (잘못된 [OK] 보고서가 남지 않도록)
+    void abort();
+}
@@ -0,0 +1,397 @@
+package log_analyzer.report;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * 위반 사항을 열(column)별 int 배열로 모아 두는 저장소. (--watch의 파일별 결과, merge의 합친 보고서)
+ * - 파일 경로와 문자열(규칙, 메시지, 코드 등)은 번호로 바꿔 한 번씩만 저장한다. 위반 사항 하나는 int 6개.
+ * - 금지 필드 위반(Violation.forbiddenField)은 메시지 대신 필드 이름 / 로그 메서드 번호를 두고,
+ *   get / forEach로 Violation을 만들 때 메시지를 만든다.
+ * - addIfAbsent의 중복 판단은 (파일 번호, 라인)을 이어 붙인 long 키로 해시 테이블에서 찾고, 나머지 열은 번호로 비교한다.
+ *   같은 내용이라도 메시지를 미룬 위반과 메시지를 그대로 준 위반은 다른 것으로 본다.
+ * 스레드 하나에서만 사용한다.
+ */
+public class ViolationStore implements Iterable<Violation> {
+
+    private static final int NONE = -1;
+
+    // 파일 경로 번호 (Path 객체도 하나만 두어 만든 Violation끼리 공유한다)
+    private final Map<Path, Integer> pathIds = new HashMap<>();
+    private final List<Path> paths = new ArrayList<>();
+    // 파일 번호 → 남아 있는 위반 사항 수
+    private int[] fileCounts = new int[16];
+    private int liveFiles;
+
+    // 규칙, 메시지, 필드 이름, 로그 메서드, 코드 문자열 번호 (null은 NONE)
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    // 열: 파일, 라인, 규칙, 메시지(메시지를 미뤘으면 필드 이름), 로그 메서드(메시지를 그대로 저장했으면 NONE), 코드
+    private int[] files = new int[16];
+    private int[] lines = new int[16];
+    private int[] rules = new int[16];
+    private int[] messages = new int[16];
+    private int[] methods = new int[16];
+    private int[] codes = new int[16];
+    private int size;
+
+    // 중복 판단용 해시 테이블 (addIfAbsent를 처음 호출할 때 만든다)
+    // slotKeys[s]: (파일, 라인) 키, slotHeads[s]: 그 키의 마지막 위반 번호 (NONE이면 빈 칸), chain[i]: 같은 키의 이전 위반 번호
+    private long[] slotKeys;
+    private int[] slotHeads;
+    private int[] chain;
+    private int slotsUsed;
+
+    public int size() {
+        return size;
+    }
+
+    // 위반 사항이 남아 있는 파일 수
+    public int fileCount() {
+        return liveFiles;
+    }
+
+    public void add(Violation v) {
+        append(pathId(v.getFile()), v.getLine(), stringId(v.getRule()), messageId(v), methodId(v), stringId(v.getCode()));
+    }
+
+    // 파일, 라인, 규칙, 메시지, 코드가 모두 같은 위반 사항이 없을 때만 추가한다
+    public boolean addIfAbsent(Violation v) {
+        if (slotHeads == null) buildIndex();
+        int file = pathId(v.getFile());
+        int rule = stringId(v.getRule());
+        int message = messageId(v);
+        int method = methodId(v);
+        int code = stringId(v.getCode());
+        long key = key(file, v.getLine());
+
+        for (int i = slotHeads[slot(key)]; i != NONE; i = chain[i]) {
+            if (rules[i] == rule && messages[i] == message && methods[i] == method && codes[i] == code) return false;
+        }
+        append(file, v.getLine(), rule, message, method, code);
+        return true;
+    }
+
+    public Violation get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Violation " + i + " of " + size);
+        return methods[i] == NONE
+                ? new Violation(path(files[i]), lines[i], string(rules[i]), string(messages[i]), string(codes[i]))
+                : Violation.forbiddenField(path(files[i]), lines[i], string(rules[i]),
+                        string(messages[i]), string(methods[i]), string(codes[i]));
+    }
+
+    @Override
+    public Iterator<Violation> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Violation next() {
+                if (next >= size) throw new NoSuchElementException();
+                return get(next++);
+            }
+        };
+    }
+
+    // 파일 경로(Path 순서)별로, 같은 파일 안에서는 추가한 순서대로 넘긴다
+    public void forEachByFile(Consumer<? super Violation> action) {
+        int[] rank = rank(paths.size(), Comparator.comparing(paths::get));
+        int[] order = stableOrder(i -> files[i] == NONE ? NONE : rank[files[i]]);
+        for (int i : order) action.accept(get(i));
+    }
+
+    /**
+     * 파일 경로('/' 구분 문자열), 라인, 규칙, 메시지, 코드 순으로 다시 정렬한다. (null은 앞)
+     * 문자열은 서로 다른 값끼리 한 번만 정렬해 순위로 바꾸므로, 위반 사항끼리는 int만 비교한다.
+     */
+    public void sort() {
+        int[] pathRank = rank(paths.size(),
+                Comparator.comparing((Integer p) -> paths.get(p).toString().replace('\\', '/')));
+        int[] stringRank = rank(strings.size(), Comparator.comparing(strings::get));
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        Arrays.sort(order, Comparator
+                .comparingInt((Integer i) -> files[i] == NONE ? NONE : pathRank[files[i]])
+                .thenComparingInt(i -> lines[i])
+                .thenComparingInt(i -> rankOf(stringRank, rules[i]))
+                .thenComparing((a, b) -> compareMessages(stringRank, a, b))
+                .thenComparingInt(i -> rankOf(stringRank, codes[i])));
+
+        int[] perm = new int[size];
+        for (int i = 0; i < size; i++) perm[i] = order[i];
+        files = permute(files, perm);
+        lines = permute(lines, perm);
+        rules = permute(rules, perm);
+        messages = permute(messages, perm);
+        methods = permute(methods, perm);
+        codes = permute(codes, perm);
+        dropIndex();
+    }
+
+    // 경로가 조건에 맞고 위반 사항이 남아 있는 파일이 있는지
+    public boolean hasFile(Predicate<Path> filter) {
+        for (int p = 0; p < paths.size(); p++) {
+            if (fileCounts[p] > 0 && filter.test(paths.get(p))) return true;
+        }
+        return false;
+    }
+
+    // 경로가 조건에 맞는 파일의 위반 사항을 모두 지우고, 지운 파일 수를 반환한다
+    public int removeFiles(Predicate<Path> filter) {
+        boolean[] remove = new boolean[paths.size()];
+        int removedFiles = 0;
+        for (int p = 0; p < paths.size(); p++) {
+            if (fileCounts[p] > 0 && filter.test(paths.get(p))) {
+                remove[p] = true;
+                removedFiles++;
+            }
+        }
+        if (removedFiles == 0) return 0;
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (files[i] != NONE && remove[files[i]]) continue;
+            files[kept] = files[i];
+            lines[kept] = lines[i];
+            rules[kept] = rules[i];
+            messages[kept] = messages[i];
+            methods[kept] = methods[i];
+            codes[kept] = codes[i];
+            kept++;
+        }
+        size = kept;
+        for (int p = 0; p < remove.length; p++) {
+            if (remove[p]) fileCounts[p] = 0;
+        }
+        liveFiles -= removedFiles;
+        dropIndex();
+        // 지운 위반 사항만 쓰던 문자열(바뀌기 전 코드 등)이 쌓이면 남은 위반 사항으로 표를 다시 만든다 (--watch처럼 오래 쓰는 경우)
+        if (strings.size() > 4 * size + 1024) repack();
+        return removedFiles;
+    }
+
+    public void clear() {
+        size = 0;
+        liveFiles = 0;
+        pathIds.clear();
+        paths.clear();
+        stringIds.clear();
+        strings.clear();
+        Arrays.fill(fileCounts, 0);
+        dropIndex();
+    }
+
+    private void repack() {
+        List<Path> oldPaths = new ArrayList<>(paths);
+        List<String> oldStrings = new ArrayList<>(strings);
+        int n = size;
+        clear();
+        for (int i = 0; i < n; i++) {
+            files[i] = files[i] == NONE ? NONE : pathId(oldPaths.get(files[i]));
+            rules[i] = stringId(oldString(oldStrings, rules[i]));
+            messages[i] = stringId(oldString(oldStrings, messages[i]));
+            methods[i] = stringId(oldString(oldStrings, methods[i]));
+            codes[i] = stringId(oldString(oldStrings, codes[i]));
+            if (files[i] != NONE && fileCounts[files[i]]++ == 0) liveFiles++;
+        }
+        size = n;
+    }
+
+    private static String oldString(List<String> strings, int id) {
+        return id == NONE ? null : strings.get(id);
+    }
+
+    private void append(int file, int line, int rule, int message, int method, int code) {
+        if (size == files.length) grow();
+        files[size] = file;
+        lines[size] = line;
+        rules[size] = rule;
+        messages[size] = message;
+        methods[size] = method;
+        codes[size] = code;
+        if (file != NONE && fileCounts[file]++ == 0) liveFiles++;
+        if (slotHeads != null) link(size);
+        size++;
+    }
+
+    private void grow() {
+        int capacity = files.length * 2;
+        files = Arrays.copyOf(files, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        rules = Arrays.copyOf(rules, capacity);
+        messages = Arrays.copyOf(messages, capacity);
+        methods = Arrays.copyOf(methods, capacity);
+        codes = Arrays.copyOf(codes, capacity);
+        if (chain != null) chain = Arrays.copyOf(chain, capacity);
+    }
+
+    private int pathId(Path file) {
+        if (file == null) return NONE;
+        Integer id = pathIds.get(file);
+        if (id != null) return id;
+        int p = paths.size();
+        pathIds.put(file, p);
+        paths.add(file);
+        if (p == fileCounts.length) fileCounts = Arrays.copyOf(fileCounts, p * 2);
+        return p;
+    }
+
+    private Path path(int id) {
+        return id == NONE ? null : paths.get(id);
+    }
+
+    private int stringId(String s) {
+        if (s == null) return NONE;
+        Integer id = stringIds.get(s);
+        if (id != null) return id;
+        int n = strings.size();
+        stringIds.put(s, n);
+        strings.add(s);
+        return n;
+    }
+
+    private String string(int id) {
+        return id == NONE ? null : strings.get(id);
+    }
+
+    // 메시지를 미룬 위반은 필드 이름을 메시지 열에 둔다
+    private int messageId(Violation v) {
+        return stringId(v.getField() != null ? v.getField() : v.getMessage());
+    }
+
+    private int methodId(Violation v) {
+        return v.getField() != null ? stringId(v.getMethod()) : NONE;
+    }
+
+    private String message(int i) {
+        return methods[i] == NONE ? string(messages[i])
+                : Violation.forbiddenFieldMessage(string(messages[i]), string(methods[i]));
+    }
+
+    // 둘 다 메시지를 그대로 저장했으면 순위로, 아니면 메시지를 만들어 비교
+    private int compareMessages(int[] stringRank, int a, int b) {
+        if (methods[a] == NONE && methods[b] == NONE) {
+            return Integer.compare(rankOf(stringRank, messages[a]), rankOf(stringRank, messages[b]));
+        }
+        return Comparator.nullsFirst(Comparator.<String>naturalOrder()).compare(message(a), message(b));
+    }
+
+    private static int rankOf(int[] rank, int id) {
+        return id == NONE ? NONE : rank[id];
+    }
+
+    // 번호 0..n-1을 cmp 순으로 정렬했을 때의 순위 (같은 값은 같은 순위)
+    private static int[] rank(int n, Comparator<Integer> cmp) {
+        Integer[] ids = new Integer[n];
+        for (int i = 0; i < n; i++) ids[i] = i;
+        Arrays.sort(ids, cmp);
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[ids[i]] = i > 0 && cmp.compare(ids[i - 1], ids[i]) == 0 ? rank[ids[i - 1]] : i;
+        }
+        return rank;
+    }
+
+    // 키 순으로, 같은 키끼리는 위반 번호 순으로 정렬한 위반 번호들
+    private int[] stableOrder(IntUnaryOperator key) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(key::applyAsInt));
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) result[i] = order[i];
+        return result;
+    }
+
+    private static int[] permute(int[] column, int[] perm) {
+        int[] result = new int[Math.max(column.length, 16)];
+        for (int i = 0; i < perm.length; i++) result[i] = column[perm[i]];
+        return result;
+    }
+
+    // ---- (파일, 라인) 키 해시 테이블 ----
+
+    private static long key(int file, int line) {
+        return ((long) file << 32) | (line & 0xFFFFFFFFL);
+    }
+
+    private void buildIndex() {
+        int capacity = 16;
+        while (capacity < size * 2) capacity <<= 1;
+        slotKeys = new long[capacity];
+        slotHeads = new int[capacity];
+        Arrays.fill(slotHeads, NONE);
+        chain = new int[files.length];
+        slotsUsed = 0;
+        for (int i = 0; i < size; i++) link(i);
+    }
+
+    private void dropIndex() {
+        slotKeys = null;
+        slotHeads = null;
+        chain = null;
+    }
+
+    private void link(int i) {
+        long key = key(files[i], lines[i]);
+        int s = slot(key);
+        if (slotHeads[s] == NONE) {
+            slotKeys[s] = key;
+            if (++slotsUsed * 2 > slotHeads.length) {
+                chain[i] = NONE;
+                slotHeads[s] = i;
+                rehash();
+                return;
+            }
+        }
+        chain[i] = slotHeads[s];
+        slotHeads[s] = i;
+    }
+
+    // 키가 있는 칸, 없으면 키가 들어갈 빈 칸 (선형 탐사)
+    private int slot(long key) {
+        int mask = slotHeads.length - 1;
+        int s = (int) mix(key) & mask;
+        while (slotHeads[s] != NONE && slotKeys[s] != key) s = (s + 1) & mask;
+        return s;
+    }
+
+    private void rehash() {
+        long[] oldKeys = slotKeys;
+        int[] oldHeads = slotHeads;
+        slotKeys = new long[oldKeys.length * 2];
+        slotHeads = new int[oldHeads.length * 2];
+        Arrays.fill(slotHeads, NONE);
+        for (int s = 0; s < oldHeads.length; s++) {
+            if (oldHeads[s] == NONE) continue;
+            int t = slot(oldKeys[s]);
+            slotKeys[t] = oldKeys[s];
+            slotHeads[t] = oldHeads[s];
+        }
+    }
+
+    // murmur3 fmix64
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        return k ^ (k >>> 33);
+    }
+}
@@ -1,12 +1,15 @@
 package log_analyzer.rules;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
-import log_analyzer.engine.LogArgInspector;
 import log_analyzer.engine.LogCall;
+import log_analyzer.engine.MethodSummaries;
+import log_analyzer.engine.TokenSink;
+import log_analyzer.metrics.FileStats;
 import log_analyzer.policy.entity.ForbiddenFieldRule;
 import log_analyzer.report.Violation;
 
@@ -17,70 +20,112 @@ public class ForbiddenFieldLoggingRule {
 
     //
     private final List<ForbiddenFieldRule> forbiddenFields;
-    private final LogArgInspector inspector = new LogArgInspector();
+
+    // 규칙 목록을 한 번만 컴파일한 매처 (토큰마다 모든 규칙을 순회하지 않도록)
+    private final ForbiddenFieldMatcher matcher;
+    // 규칙 인덱스 → 규칙 이름 번호 (같은 이름의 규칙은 같은 번호, 중복 제거용)
+    private final int[] nameIds;
+    // 워커 스레드별 REGEX Matcher 재사용 공간
+    private final ThreadLocal<ForbiddenFieldMatcher.Scratch> scratches;
+    // 인자에서 호출한 메서드의 반환값 요약 (--summaries, 없으면 null)
+    private final MethodSummaries summaries;
 
     //규정의 내용을 ForbiddenFieldRule 형식으로 저장 name과 match 변수명 사용함.
     public ForbiddenFieldLoggingRule(List<ForbiddenFieldRule> forbiddenFields) {
         this.forbiddenFields = forbiddenFields;
+        this.matcher = new ForbiddenFieldMatcher(forbiddenFields);
+        this.scratches = ThreadLocal.withInitial(matcher::newScratch);
+
+        Map<String, Integer> firstByName = new HashMap<>();
+        this.nameIds = new int[forbiddenFields.size()];
+        for (int i = 0; i < nameIds.length; i++) {
+            nameIds[i] = firstByName.computeIfAbsent(forbiddenFields.get(i).getName(), k -> firstByName.size());
+        }
+        this.summaries = null;
+    }
+
+    // 컴파일한 매처는 공유하고 요약 표만 바꾼다
+    private ForbiddenFieldLoggingRule(ForbiddenFieldLoggingRule base, MethodSummaries summaries) {
+        this.forbiddenFields = base.forbiddenFields;
+        this.matcher = base.matcher;
+        this.nameIds = base.nameIds;
+        this.scratches = base.scratches;
+        this.summaries = summaries;
+    }
+
+    // 로그 인자에서 호출한 메서드의 반환값 요약 토큰도 검사하는 규칙 (--summaries)
+    public ForbiddenFieldLoggingRule withSummaries(MethodSummaries summaries) {
+        return new ForbiddenFieldLoggingRule(this, summaries);
     }
 
     // 감지된 log에 대한 위반 사항을 확인하는 메소드
     // call -> 감지된 log에 대한 LogCall객체
     public List<Violation> evaluate(LogCall call) {
-    	List<Violation> violations = new ArrayList<>();
+        return evaluate(call, null);
+    }
 
-        List<String> allTokens = new ArrayList<>();
-        //LogCall에 저장된 log사용 코드를 잘게 쪼게어 사용(변수명, 텍스트 등)
-        call.getArgs().forEach(arg -> allTokens.addAll(inspector.extractTokens(arg)));
+    // stats가 있으면 검사한 토큰 수를 기록한다 (--metrics, JFR)
+    public List<Violation> evaluate(LogCall call, FileStats stats) {
+        // 규칙 전체를 억제한 호출은 토큰을 검사하지 않는다 (// log-analyzer:ignore, @SuppressLogViolation)
+        if (call.isSuppressed(RULE_NAME)) return List.of();
+        Evaluation evaluation = new Evaluation(call);
 
-        Set<String> dedup = new HashSet<>();
+        //LogCall에 저장된 log사용 코드를 잘게 쪼갠 토큰(변수명, 텍스트 등)을 하나씩 매칭한다
+        call.forEachToken(evaluation);
+        // 호출한 메서드가 반환하는 값의 토큰 (요약 표에서 키 하나로 조회)
+        if (summaries != null) call.forEachCallee(callee -> summaries.forEachToken(callee, evaluation));
 
-        // 감지된 log에 대해 위반 사항 확인
-        // log에 작성된 내용을 실제로 읽는 영역
-        for (String token : allTokens) {
-            // 규정을 하나씩 대입
-            for (ForbiddenFieldRule rule : forbiddenFields) {
-                //실제 규칙 적용하여 위반사항 확인(포함, 정확 일치 등)
-                if (rule.matches(token)) {
-
-                    //key를 통해 동일한 로그가 중복되어 작성되었는지 검사
-                    String key = call.getFile() + ":" +
-                                 call.getLine() + ":" +
-                                 RULE_NAME + ":" +
-                                 rule.getName() + ":" +
-                                 call.getMethodFqn();
-
-                    if (!dedup.add(key)) continue;
-
-                    //파일 위치, 라인, 위반한 규정, 실제 작성된 코드를 사용하여 새로운 Violation객체 생성
-                    //생성한 객체를 반환하기 위해 Violation 리스트 객체에 추가
-                    violations.add(new Violation(
-                            call.getFile(),
-                            call.getLine(),
-                            RULE_NAME,
-                            "Variable/Token '" + rule.getName() + "' is logged via " + call.getMethodFqn(),
-                            buildCodeSnippet(call) 
-                    ));
-                }
-            }
-        }
-
-        return violations;
+        if (stats != null) stats.addTokens(evaluation.tokens);
+        return evaluation.violations;
     }
 
-    
-    private String buildCodeSnippet(LogCall call) {
-        //String 가변 객체 생성
-        StringBuilder sb = new StringBuilder();
+    // 로그 호출 하나를 평가하는 동안의 상태 (토큰을 하나씩 받아 매칭)
+    private final class Evaluation implements TokenSink {
+        private final LogCall call;
+        private final List<Violation> violations = new ArrayList<>();
+        // 한 로그 호출 안에서는 파일, 라인, 메서드가 같으므로 규칙 이름만으로 중복을 판단
+        private final BitSet reported = new BitSet(nameIds.length);
+        private final BitSet hits = new BitSet(nameIds.length);
+        private final ForbiddenFieldMatcher.Scratch scratch = scratches.get();
+        private String snippet;
+        private long tokens;
+
+        Evaluation(LogCall call) {
+            this.call = call;
+        }
 
-        //실제로 사용된 코드 내용 기입 후 반환 ex) logger.info("Logging Text")
-        sb.append(call.getMethodFqn()).append("(");
-        for (int i = 0; i < call.getArgs().size(); i++) {
-            sb.append(call.getArgs().get(i));
-            if (i < call.getArgs().size() - 1) sb.append(", ");
+        // 감지된 log에 대해 위반 사항 확인
+        // log에 작성된 내용을 실제로 읽는 영역
+        @Override
+        public void accept(CharSequence token) {
+            tokens++;
+            // 토큰에 매칭되는 규칙을 한 번에 찾는다 (규칙 목록 순서)
+            hits.clear();
+            matcher.matchInto(token, hits, scratch);
+
+            for (int r = hits.nextSetBit(0); r >= 0; r = hits.nextSetBit(r + 1)) {
+                //동일한 규정으로 이미 보고된 로그인지 검사
+                if (reported.get(nameIds[r])) continue;
+                reported.set(nameIds[r]);
+
+                ForbiddenFieldRule rule = forbiddenFields.get(r);
+                //인라인으로 억제한 금지 필드면 보고하지 않는다
+                if (call.isSuppressed(rule.getName())) continue;
+                if (snippet == null) snippet = call.getSnippet();
+
+                //파일 위치, 라인, 위반한 규정, 실제 작성된 코드를 사용하여 새로운 Violation객체 생성
+                //메시지는 보고서에 쓸 때 만든다 (규정 이름과 로그 메서드만 넘김)
+                //생성한 객체를 반환하기 위해 Violation 리스트 객체에 추가
+                violations.add(Violation.forbiddenField(
+                        call.getFile(),
+                        call.getLine(),
+                        RULE_NAME,
+                        rule.getName(),
+                        call.getMethodFqn(),
+                        snippet
+                ));
+            }
         }
-        sb.append(")");
-        return sb.toString();
     }
 	
 }
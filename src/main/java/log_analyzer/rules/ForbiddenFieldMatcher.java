@@ -0,0 +1,216 @@
+package log_analyzer.rules;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+
+/**
+ * 금지 필드 규칙 목록을 한 번 컴파일해 두고, 토큰 하나에 매칭되는 규칙들을 한 번에 찾는다.
+ * - EXACT: 이름 → 규칙 번호 해시 맵
+ * - PREFIX: 이름 trie를 토큰 앞에서부터 따라간다
+ * - SUFFIX: 뒤집은 이름 trie를 토큰 끝에서부터 따라간다
+ * - CONTAINS: Aho-Corasick 오토마톤으로 토큰을 한 번만 훑는다
+ * - REGEX: 규칙마다 미리 컴파일된 Pattern (역참조 번호가 섞이지 않도록 합치지 않는다)
+ * 결과는 규칙 목록의 인덱스(BitSet)로 돌려주므로 ForbiddenFieldRule.matches를 규칙 순서대로 호출한 것과 같다.
+ * 생성 후 변경하지 않으므로 여러 스레드에서 공유해도 안전하다.
+ */
+public class ForbiddenFieldMatcher {
+
+    private static final int[] NONE = new int[0];
+
+    private final List<ForbiddenFieldRule> rules;
+
+    private final Map<String, int[]> exact = new HashMap<>();
+    private final Node prefix = new Node();
+    private final Node suffix = new Node();
+    private final Node contains = new Node();
+    private final int[] regexRules;
+    private final Pattern[] regexPatterns;
+
+    public ForbiddenFieldMatcher(List<ForbiddenFieldRule> rules) {
+        this.rules = List.copyOf(rules);
+
+        List<Integer> regex = new ArrayList<>();
+        for (int i = 0; i < this.rules.size(); i++) {
+            ForbiddenFieldRule rule = this.rules.get(i);
+            String name = rule.getName();
+            switch (rule.getMatch()) {
+                case EXACT -> exact.merge(name, new int[] { i }, ForbiddenFieldMatcher::concat);
+                case PREFIX -> insert(prefix, name, false, i);
+                case SUFFIX -> insert(suffix, name, true, i);
+                case CONTAINS -> insert(contains, name, false, i);
+                case REGEX -> regex.add(i);
+            }
+        }
+        buildFailureLinks(contains);
+
+        regexRules = regex.stream().mapToInt(Integer::intValue).toArray();
+        regexPatterns = new Pattern[regexRules.length];
+        for (int k = 0; k < regexRules.length; k++) {
+            regexPatterns[k] = this.rules.get(regexRules[k]).getPattern();
+        }
+    }
+
+    public List<ForbiddenFieldRule> getRules() {
+        return rules;
+    }
+
+    // token에 매칭되는 규칙의 인덱스를 hits에 추가 (hits는 호출하는 쪽이 비워서 넘긴다)
+    public void matchInto(CharSequence token, BitSet hits) {
+        matchInto(token, hits, null);
+    }
+
+    // 한 스레드 안에서 여러 토큰을 매칭할 때 REGEX Matcher를 재사용하기 위한 작업 공간
+    public Scratch newScratch() {
+        return new Scratch(regexPatterns.length);
+    }
+
+    // scratch가 있으면 REGEX Matcher를 새로 만들지 않고 reset해서 사용한다
+    public void matchInto(CharSequence token, BitSet hits, Scratch scratch) {
+        if (token == null) return;
+        int len = token.length();
+
+        int[] e = exact.get(token.toString());
+        if (e != null) set(hits, e);
+
+        Node node = prefix;
+        set(hits, node.rules);
+        for (int i = 0; i < len && (node = node.child(token.charAt(i))) != null; i++) {
+            set(hits, node.rules);
+        }
+
+        node = suffix;
+        set(hits, node.rules);
+        for (int i = len - 1; i >= 0 && (node = node.child(token.charAt(i))) != null; i--) {
+            set(hits, node.rules);
+        }
+
+        node = contains;
+        set(hits, node.rules);
+        for (int i = 0; i < len; i++) {
+            char c = token.charAt(i);
+            Node next;
+            while ((next = node.child(c)) == null && node != contains) node = node.fail;
+            node = next == null ? contains : next;
+            set(hits, node.rules);
+        }
+
+        for (int k = 0; k < regexPatterns.length; k++) {
+            if (hits.get(regexRules[k])) continue;
+            if (regexMatcher(k, token, scratch).matches()) hits.set(regexRules[k]);
+        }
+    }
+
+    // 편의용: token에 매칭되는 규칙 인덱스 (오름차순)
+    public BitSet match(CharSequence token) {
+        BitSet hits = new BitSet(rules.size());
+        matchInto(token, hits);
+        return hits;
+    }
+
+    private Matcher regexMatcher(int k, CharSequence token, Scratch scratch) {
+        if (scratch == null) return regexPatterns[k].matcher(token);
+        Matcher m = scratch.matchers[k];
+        if (m == null) {
+            m = regexPatterns[k].matcher(token);
+            scratch.matchers[k] = m;
+            return m;
+        }
+        return m.reset(token);
+    }
+
+    private static void insert(Node root, String name, boolean reversed, int rule) {
+        Node node = root;
+        int len = name.length();
+        for (int i = 0; i < len; i++) {
+            node = node.childOrAdd(name.charAt(reversed ? len - 1 - i : i));
+        }
+        node.rules = concat(node.rules, new int[] { rule });
+    }
+
+    // BFS로 실패 링크를 계산하고, 실패 링크를 따라 도달하는 규칙을 상태의 출력에 합친다
+    private static void buildFailureLinks(Node root) {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (int k = 0; k < root.size; k++) {
+            Node child = root.children[k];
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (int k = 0; k < node.size; k++) {
+                char c = node.labels[k];
+                Node child = node.children[k];
+                Node f = node.fail;
+                Node next;
+                while ((next = f.child(c)) == null && f != root) f = f.fail;
+                child.fail = next == null ? root : next;
+                // 빈 이름 규칙(root)은 matchInto에서 따로 처리하므로 합치지 않는다
+                if (child.fail != root) child.rules = concat(child.rules, child.fail.rules);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static void set(BitSet hits, int[] rules) {
+        for (int r : rules) hits.set(r);
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    // 스레드 하나에서만 사용한다
+    public static final class Scratch {
+        private final Matcher[] matchers;
+
+        private Scratch(int regexCount) {
+            this.matchers = new Matcher[regexCount];
+        }
+    }
+
+    // trie 노드: 자식은 문자 오름차순 배열로 두고 이진 탐색
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int size;
+        private int[] rules = NONE;
+        private Node fail;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, 0, size, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrAdd(char c) {
+            int i = Arrays.binarySearch(labels, 0, size, c);
+            if (i >= 0) return children[i];
+            int at = -i - 1;
+            if (size == labels.length) {
+                int cap = Math.max(2, size * 2);
+                labels = Arrays.copyOf(labels, cap);
+                children = Arrays.copyOf(children, cap);
+            }
+            System.arraycopy(labels, at, labels, at + 1, size - at);
+            System.arraycopy(children, at, children, at + 1, size - at);
+            Node node = new Node();
+            labels[at] = c;
+            children[at] = node;
+            size++;
+            return node;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package log_analyzer.watch;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import log_analyzer.StaticLogAnalyzer;
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.ScanFilter;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.Violation;
+import log_analyzer.report.ViolationSink;
+import log_analyzer.report.ViolationStore;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+
+/**
+ * 파일 저장을 감시하면서 바뀐 파일만 다시 분석하고 보고서를 최신 상태로 유지한다. (--watch)
+ * - 시작할 때 한 번 전체를 분석해 위반 사항을 메모리(ViolationStore)에 둔다.
+ * - 이후에는 DirectoryWatcher가 모아 준 경로만 다시 추출 / 검사하고 해당 파일의 결과만 교체한다.
+ *   사라진 경로는 그 아래 파일들의 결과를 지운다. 이벤트가 유실되면 전체를 다시 분석한다.
+ * - 보고서는 묶음마다 파일 경로 순서로 다시 쓴다. (다시 쓰는 비용은 트리가 아니라 위반 사항 수에 비례)
+ * - include / exclude 패턴은 바뀐 파일에도 적용하지만 .gitignore 규칙은 시작 시 전체 분석에만 적용된다.
+ * - 정책 파일은 다시 읽지 않는다. 정책을 바꾸면 다시 시작해야 한다.
+ * - 결과가 다른 파일에도 의존하는 추출기(--resolve-types)는 묶음마다 새 추출기로 전체를 다시 분석한다.
+ * 한 스레드에서만 사용한다.
+ */
+public class ContinuousAnalysis implements AutoCloseable {
+
+    private final Path root;
+    private final ScanFilter filter;
+    private StaticLogAnalyzer analyzer;
+    // null이 아니면 변경 묶음마다 이 추출기로 전체를 다시 분석한다 (이전 추출기의 다른 파일 정보를 쓰지 않도록)
+    private final Supplier<JavaLoggingCallExtractor> freshExtractor;
+    private final LoggingPolicy policy;
+    private final ForbiddenFieldLoggingRule rule;
+    private final Path reportPath;
+    private final PrintStream out;
+    private final DirectoryWatcher watcher;
+
+    // 전체 위반 사항 (보고서는 파일 경로 순서로 쓴다)
+    private final ViolationStore violations = new ViolationStore();
+    private long total;
+
+    public ContinuousAnalysis(Path root, ScanFilter filter, StaticLogAnalyzer analyzer, LoggingPolicy policy,
+                              ForbiddenFieldLoggingRule rule, Path reportPath, PrintStream out) {
+        this(root, filter, analyzer, policy, rule, reportPath, out, null);
+    }
+
+    public ContinuousAnalysis(Path root, ScanFilter filter, StaticLogAnalyzer analyzer, LoggingPolicy policy,
+                              ForbiddenFieldLoggingRule rule, Path reportPath, PrintStream out,
+                              Supplier<JavaLoggingCallExtractor> freshExtractor) {
+        this.root = root;
+        this.freshExtractor = freshExtractor;
+        this.filter = filter;
+        this.analyzer = analyzer;
+        this.policy = policy;
+        this.rule = rule;
+        this.reportPath = reportPath;
+        this.out = out;
+        // 전체 분석 도중 저장된 파일도 놓치지 않도록 분석보다 먼저 등록한다
+        this.watcher = new DirectoryWatcher(root, filter);
+    }
+
+    // 전체 분석 후 보고서 작성 (시작할 때, 이벤트가 유실됐을 때)
+    public long analyzeAll(AnalysisCache cache) {
+        violations.clear();
+        analyzer.analyze(root, policy, rule, cache, violations::add);
+        return writeReport();
+    }
+
+    /**
+     * 변경 한 묶음을 기다렸다가 반영하고 보고서를 다시 쓴다.
+     * 반환값은 다시 분석하거나 결과를 지운 경로 수, 감시가 끝났으면(닫힘 / 인터럽트) -1.
+     */
+    public int awaitAndApply(long debounceMillis) {
+        DirectoryWatcher.Changes changes = watcher.await(debounceMillis, debounceMillis * 10);
+        if (changes == null) return -1;
+
+        long start = System.nanoTime();
+        int applied;
+        if (changes.isOverflow()) {
+            analyzeAll(null);
+            applied = violations.fileCount();
+            out.println("[INFO] Watch events overflowed; re-analyzed all files");
+        } else if (freshExtractor != null) {
+            if (!changes.getPaths().stream().anyMatch(this::affects)) return 0;
+            analyzer = analyzer.withExtractor(freshExtractor.get());
+            analyzeAll(null);
+            applied = violations.fileCount();
+        } else {
+            applied = apply(changes.getPaths());
+            if (applied == 0) return 0;
+            writeReport();
+        }
+        out.println("[INFO] Re-analyzed " + applied + " path(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms. Violations: " + total
+                + ". Report: " + reportPath.toAbsolutePath());
+        return applied;
+    }
+
+    // 닫히거나 인터럽트될 때까지 반복
+    public void run(long debounceMillis) {
+        while (awaitAndApply(debounceMillis) >= 0) {
+            // 묶음마다 반영
+        }
+    }
+
+    public long getViolationCount() {
+        return total;
+    }
+
+    // 분석 대상 파일이 바뀌었거나, 분석했던 파일(디렉토리)이 지워졌는지
+    private boolean affects(Path p) {
+        if (Files.isRegularFile(p)) return p.toString().endsWith(".java") && filter.accepts(root.relativize(p));
+        return !Files.exists(p) && violations.hasFile(f -> f.startsWith(p));
+    }
+
+    // 바뀐 파일의 새 결과를 모은 뒤, 이전 결과는 한 번에 지운다 (저장소를 묶음당 한 번만 압축)
+    private int apply(Iterable<Path> paths) {
+        int applied = 0;
+        Set<Path> reanalyzed = new HashSet<>();
+        List<Path> deleted = new ArrayList<>();
+        List<Violation> found = new ArrayList<>();
+        for (Path p : paths) {
+            if (Files.isRegularFile(p)) {
+                if (!p.toString().endsWith(".java") || !filter.accepts(root.relativize(p))) continue;
+                found.addAll(analyzer.analyzeFile(p, policy, rule));
+                reanalyzed.add(p);
+                applied++;
+            } else if (!Files.exists(p)) {
+                // 지워진 파일, 또는 지워지거나 옮겨진 디렉토리의 하위 파일들
+                if (violations.hasFile(f -> f.startsWith(p))) applied++;
+                deleted.add(p);
+            }
+        }
+        violations.removeFiles(f -> reanalyzed.contains(f) || deleted.stream().anyMatch(f::startsWith));
+        found.forEach(violations::add);
+        return applied;
+    }
+
+    private long writeReport() {
+        try (ViolationSink report = analyzer.openReport(reportPath)) {
+            violations.forEachByFile(report);
+            total = report.count();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() {
+        watcher.close();
+    }
+}
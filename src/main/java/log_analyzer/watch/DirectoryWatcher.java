@@ -0,0 +1,144 @@
+package log_analyzer.watch;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import log_analyzer.engine.ScanFilter;
+
+/**
+ * 탐색 루트 아래 디렉토리들을 WatchService에 등록하고, 저장이 몰려 들어오면 한 묶음으로 모아서 돌려준다.
+ * - exclude 패턴에 걸린 디렉토리는 등록하지 않는다.
+ * - 새로 생긴 디렉토리는 등록하고, 등록 전에 이미 들어 있던 java 파일도 바뀐 것으로 넘긴다.
+ * - 삭제 / 이동으로 사라진 경로(파일 또는 디렉토리)도 그대로 넘기므로 받는 쪽에서 하위 결과를 지운다.
+ * - 이벤트가 너무 많아 유실되면(OVERFLOW) 전체를 다시 분석하도록 알린다.
+ * 한 스레드에서만 사용한다.
+ */
+public class DirectoryWatcher implements AutoCloseable {
+
+    private final Path root;
+    private final ScanFilter filter;
+    private final WatchService service;
+    // WatchKey → 등록한 디렉토리 (이벤트의 상대 경로를 풀기 위해)
+    private final Map<WatchKey, Path> dirs = new HashMap<>();
+
+    public DirectoryWatcher(Path root, ScanFilter filter) {
+        if (!Files.isDirectory(root)) {
+            throw new IllegalArgumentException("--watch requires a directory root: " + root);
+        }
+        this.root = root;
+        this.filter = filter;
+        try {
+            this.service = root.getFileSystem().newWatchService();
+            register(root, null);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch source files: " + root, e);
+        }
+    }
+
+    /**
+     * 바뀐 경로가 생길 때까지 기다린 뒤, quietMillis 동안 추가 이벤트가 없을 때까지(최대 maxMillis) 모아서 반환한다.
+     * 닫히거나 인터럽트되면 null.
+     */
+    public Changes await(long quietMillis, long maxMillis) {
+        Changes changes = new Changes();
+        try {
+            collect(service.take(), changes);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillis);
+            WatchKey key;
+            while (System.nanoTime() < deadline
+                    && (key = service.poll(quietMillis, TimeUnit.MILLISECONDS)) != null) {
+                collect(key, changes);
+            }
+            return changes;
+        } catch (ClosedWatchServiceException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void collect(WatchKey key, Changes changes) {
+        Path dir = dirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changes.overflow = true;
+                continue;
+            }
+            if (dir == null) continue;
+            Path child = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(child)) {
+                // 이벤트와 등록 사이에 만들어진 파일은 이벤트가 오지 않으므로 직접 훑어서 넘긴다
+                try {
+                    register(child, changes.paths);
+                } catch (IOException e) {
+                    // 그 사이 지워진 디렉토리는 다음 이벤트(삭제)에서 정리된다
+                }
+            } else {
+                changes.paths.add(child);
+            }
+        }
+        // 삭제된 디렉토리의 키는 더 이상 유효하지 않다
+        if (!key.reset()) dirs.remove(key);
+    }
+
+    // dir 아래 (exclude가 아닌) 디렉토리를 모두 등록하고, found가 있으면 java 파일을 담는다
+    private void register(Path dir, Set<Path> found) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) throws IOException {
+                if (!d.equals(root) && filter.isExcluded(root.relativize(d))) return FileVisitResult.SKIP_SUBTREE;
+                dirs.put(d.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), d);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (found != null && attrs.isRegularFile() && file.toString().endsWith(".java")) found.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            service.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close watch service: " + root, e);
+        }
+    }
+
+    // 한 묶음의 변경 (경로는 root.resolve(상대 경로) 형태)
+    public static final class Changes {
+        private final Set<Path> paths = new LinkedHashSet<>();
+        private boolean overflow;
+
+        public Set<Path> getPaths() {
+            return paths;
+        }
+
+        // 이벤트가 유실되어 전체를 다시 분석해야 하는지
+        public boolean isOverflow() {
+            return overflow;
+        }
+    }
+}
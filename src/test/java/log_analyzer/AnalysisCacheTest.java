@@ -0,0 +1,176 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.Violation;
+
+class AnalysisCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Path file = Path.of("src/A.java");
+
+    private LoggingPolicy policy(String forbidden) {
+        return new LoggingPolicy(
+            List.of(new ForbiddenFieldRule(forbidden, MatchType.EXACT)),
+            List.of("log.info")
+        );
+    }
+
+    private Violation violation() {
+        return new Violation(file, 3, "FORBIDDEN_FIELD_LOGGING", "Found 'password'", "log.info(password)");
+    }
+
+    @Test
+    @DisplayName("저장한 캐시를 다시 열면 내용 해시가 같은 파일의 위반 사항을 그대로 돌려준다")
+    void saveAndReopen_hit() {
+        AnalysisCache cache = AnalysisCache.open(tempDir, policy("password"));
+        cache.put(file, "h1", List.of(violation()));
+        cache.save();
+
+        AnalysisCache reopened = AnalysisCache.open(tempDir, policy("password"));
+        List<Violation> cached = reopened.get(file, "h1");
+
+        assertNotNull(cached);
+        assertEquals(1, cached.size());
+        assertEquals(file, cached.get(0).getFile());
+        assertEquals(3, cached.get(0).getLine());
+        assertEquals("log.info(password)", cached.get(0).getCode());
+        assertEquals(1, reopened.getHits());
+    }
+
+    @Test
+    @DisplayName("파일 내용 해시가 바뀌면 캐시를 사용하지 않는다")
+    void contentChanged_miss() {
+        AnalysisCache cache = AnalysisCache.open(tempDir, policy("password"));
+        cache.put(file, "h1", List.of(violation()));
+        cache.save();
+
+        AnalysisCache reopened = AnalysisCache.open(tempDir, policy("password"));
+
+        assertNull(reopened.get(file, "h2"));
+        assertEquals(1, reopened.getMisses());
+    }
+
+    @Test
+    @DisplayName("정책이 바뀌면 캐시 전체가 무효화된다")
+    void policyChanged_invalidatesAll() {
+        AnalysisCache cache = AnalysisCache.open(tempDir, policy("password"));
+        cache.put(file, "h1", List.of());
+        cache.save();
+
+        AnalysisCache reopened = AnalysisCache.open(tempDir, policy("token"));
+
+        assertNull(reopened.get(file, "h1"));
+    }
+
+    @Test
+    @DisplayName("같은 정책이라도 분석 모드(타입 해석)가 바뀌면 캐시 전체가 무효화된다")
+    void modeChanged_invalidatesAll() {
+        AnalysisCache cache = AnalysisCache.open(tempDir, policy("password"));
+        cache.put(file, "h1", List.of());
+        cache.save();
+
+        AnalysisCache resolved = AnalysisCache.open(tempDir, policy("password"), "resolve-types[]");
+        AnalysisCache plain = AnalysisCache.open(tempDir, policy("password"));
+
+        assertNull(resolved.get(file, "h1"));
+        assertNotNull(plain.get(file, "h1"));
+    }
+
+    @Test
+    @DisplayName("일부 파일만 분석한 실행(keepUnseenEntries)은 저장할 때 보지 않은 파일의 엔트리를 지우지 않는다")
+    void partialRun_keepsUnseenEntries() {
+        Path other = Path.of("src/B.java");
+        AnalysisCache full = AnalysisCache.open(tempDir, policy("password"));
+        full.put(file, "h1", List.of(violation()));
+        full.put(other, "h2", List.of());
+        full.save();
+
+        AnalysisCache partial = AnalysisCache.open(tempDir, policy("password"));
+        partial.keepUnseenEntries();
+        partial.put(file, "h3", List.of());
+        partial.save();
+        AnalysisCache pruning = AnalysisCache.open(tempDir, policy("password"));
+        assertNull(pruning.get(file, "h1"));
+        assertNotNull(pruning.get(file, "h3"));
+        assertNotNull(pruning.get(other, "h2"));
+        pruning.save();
+
+        AnalysisCache reopened = AnalysisCache.open(tempDir, policy("password"));
+        assertNotNull(reopened.get(file, "h3"));
+        assertNotNull(reopened.get(other, "h2"));
+    }
+
+    @Test
+    @DisplayName("손상된 캐시 파일(파일 크기로 담을 수 없는 위반 수)은 큰 목록을 만들지 않고 버린다")
+    void corruptCount_ignored() throws IOException {
+        // given
+        AnalysisCache cache = AnalysisCache.open(tempDir, policy("password"));
+        cache.put(file, "h1", List.of(violation()));
+        cache.save();
+        Path cacheFile = tempDir.resolve("analysis-cache.bin");
+        byte[] bytes = Files.readAllBytes(cacheFile);
+        // 해시 "h1" 바로 뒤의 위반 수를 Integer.MAX_VALUE로 바꾼다
+        int count = indexOf(bytes, "h1".getBytes(StandardCharsets.UTF_8)) + 2;
+        ByteBuffer.wrap(bytes).putInt(count, Integer.MAX_VALUE);
+        Files.write(cacheFile, bytes);
+
+        // when
+        AnalysisCache reopened = AnalysisCache.open(tempDir, policy("password"));
+
+        // then
+        assertNull(reopened.get(file, "h1"));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) return i;
+        }
+        throw new AssertionError("not found");
+    }
+
+    @Test
+    @DisplayName("같은 내용은 같은 해시, 다른 내용은 다른 해시를 만든다")
+    void contentHash_stable() {
+        assertEquals(AnalysisCache.contentHash("a".getBytes()), AnalysisCache.contentHash("a".getBytes()));
+        assertNotEquals(AnalysisCache.contentHash("a".getBytes()), AnalysisCache.contentHash("b".getBytes()));
+    }
+
+    @Test
+    @DisplayName("메모리 전용 캐시는 put한 결과를 바로 돌려주고, 최대 개수를 넘으면 오래된 파일부터 버리며 디스크에 쓰지 않는다")
+    void inMemory_lru() {
+        AnalysisCache cache = AnalysisCache.inMemory(policy("password"), 2);
+        Path b = Path.of("src/B.java");
+        Path c = Path.of("src/C.java");
+
+        cache.put(file, "h1", List.of(violation()));
+        assertNotNull(cache.get(file, "h1"));
+        cache.put(b, "h2", List.of());
+        cache.get(file, "h1");
+        cache.put(c, "h3", List.of());
+        cache.save();
+
+        assertNotNull(cache.get(file, "h1"));
+        assertNull(cache.get(b, "h2"));
+        assertEquals(2, cache.size());
+        assertFalse(Files.exists(tempDir.resolve("analysis-cache.bin")));
+    }
+}
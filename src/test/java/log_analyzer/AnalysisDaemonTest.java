@@ -0,0 +1,200 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.daemon.AnalysisDaemon;
+import log_analyzer.daemon.DaemonClient;
+import log_analyzer.daemon.WarmState;
+
+class AnalysisDaemonTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path socket;
+    private AnalysisDaemon daemon;
+    private Thread serverThread;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(tempDir.resolve("src/A.java"), """
+                class A {
+                    void a(String password) { log.info(password); }
+                }
+                """);
+        Files.writeString(tempDir.resolve("policy.yml"), """
+                forbiddenFields:
+                  - name: password
+                    match: exact
+                logMethods:
+                  - log.info
+                """);
+
+        socket = tempDir.resolve("daemon.sock");
+        daemon = new AnalysisDaemon(socket.toString(), new WarmState(1000),
+                (args, out, err, warm) -> Main.run(toMap(args), out, err, warm));
+        serverThread = new Thread(daemon::serve, "daemon-test");
+        serverThread.start();
+        for (int i = 0; i < 100 && !Files.exists(socket); i++) Thread.sleep(20);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        daemon.close();
+        serverThread.join(5000);
+    }
+
+    @Test
+    @DisplayName("데몬은 요청마다 분석 결과와 종료 코드를 돌려주고, 두 번째 요청은 메모리 캐시를 사용한다")
+    void request_usesWarmCache() throws IOException {
+        // when
+        Result first = send();
+        Result second = send();
+
+        // then
+        assertEquals(1, first.code);
+        assertTrue(first.err.contains("[FAIL] Logging violations found: 1"));
+        assertTrue(first.out.contains("0 unchanged, 1 analyzed"));
+        assertEquals(1, second.code);
+        assertTrue(second.out.contains("1 unchanged, 0 analyzed"));
+        assertTrue(Files.readString(tempDir.resolve("report.txt")).contains("[LOGGING VIOLATION]"));
+    }
+
+    @Test
+    @DisplayName("정책 파일이 바뀌면 다시 읽고 이전 결과 캐시를 버린다")
+    void request_reloadsChangedPolicy() throws Exception {
+        send();
+        Files.writeString(tempDir.resolve("policy.yml"), """
+                forbiddenFields:
+                  - name: token
+                    match: exact
+                logMethods:
+                  - log.info
+                """);
+        Files.setLastModifiedTime(tempDir.resolve("policy.yml"),
+                FileTime.fromMillis(System.currentTimeMillis() + 5000));
+
+        Result result = send();
+
+        assertEquals(0, result.code);
+        assertTrue(result.out.contains("0 unchanged, 1 analyzed"));
+    }
+
+    @Test
+    @DisplayName("--resolve-types는 요청마다 소스 타입 해석기를 새로 만들어, 다른 파일(상위 클래스 필드 타입)이 바뀐 것을 다음 요청에 반영한다")
+    void request_resolveTypes_seesChangedDependency() throws IOException {
+        // given
+        Path base = tempDir.resolve("src/p/Base.java");
+        Files.createDirectories(base.getParent());
+        Files.writeString(base, """
+                package p;
+                public class Base {
+                    protected static final org.slf4j.Logger AUDIT = org.slf4j.LoggerFactory.getLogger("audit");
+                }
+                """);
+        Files.writeString(tempDir.resolve("src/p/B.java"), """
+                package p;
+                public class B extends Base {
+                    void b(String password) { AUDIT.info(password); }
+                }
+                """);
+        Result first = send("--resolve-types=true");
+
+        // when
+        Files.writeString(base, """
+                package p;
+                public class Base {
+                    protected static final Audit AUDIT = new Audit();
+                    static class Audit { void info(String message) {} }
+                }
+                """);
+        Result second = send("--resolve-types=true");
+
+        // then
+        assertTrue(first.err.contains("[FAIL] Logging violations found: 2"));
+        assertTrue(second.err.contains("[FAIL] Logging violations found: 1"));
+    }
+
+    @Test
+    @DisplayName("잘못된 요청은 데몬을 멈추지 않고 종료 코드 2로 응답한다")
+    void request_invalidOptions() throws IOException {
+        Result bad = send("--threads=0");
+        Result ok = send();
+
+        assertEquals(2, bad.code);
+        assertTrue(bad.err.contains("--threads must be >= 1"));
+        assertEquals(1, ok.code);
+    }
+
+    @Test
+    @DisplayName("종료 요청을 받으면 데몬이 멈추고 소켓 파일을 정리한다")
+    void shutdown() throws Exception {
+        Result result = send("--shutdown=true");
+        serverThread.join(5000);
+
+        assertEquals(0, result.code);
+        assertFalse(serverThread.isAlive());
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    @DisplayName("클라이언트는 경로 옵션(baseline, 콤마로 나열한 루트 / type-path의 항목마다)을 자기 작업 디렉토리 기준 절대 경로로 바꿔서 보낸다")
+    void absolutize_pathOptions() {
+        Path cwd = Path.of("").toAbsolutePath();
+
+        List<String> args = DaemonClient.absolutize(List.of(
+                "--baseline=bl.bin", "--write-baseline=out/bl.bin", "--root=src/a, src/b",
+                "--type-path=lib/a.jar,gen", "--threads=2"));
+
+        assertEquals(List.of(
+                "--baseline=" + cwd.resolve("bl.bin"),
+                "--write-baseline=" + cwd.resolve("out/bl.bin"),
+                "--root=" + cwd.resolve("src/a") + "," + cwd.resolve("src/b"),
+                "--type-path=" + cwd.resolve("lib/a.jar") + "," + cwd.resolve("gen"),
+                "--threads=2"), args);
+    }
+
+    private Result send(String... extra) {
+        List<String> args = new ArrayList<>(List.of(
+                "--root=" + tempDir.resolve("src"),
+                "--policy=" + tempDir.resolve("policy.yml"),
+                "--report=" + tempDir.resolve("report.txt"),
+                "--threads=1"));
+        args.addAll(List.of(extra));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int code = new DaemonClient(socket.toString()).send(args,
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+        return new Result(code, out.toString(StandardCharsets.UTF_8), err.toString(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> toMap(List<String> args) {
+        Map<String, String> map = new HashMap<>();
+        for (String a : args) {
+            int idx = a.indexOf('=');
+            if (idx > 0) map.put(a.substring(0, idx), a.substring(idx + 1));
+        }
+        return map;
+    }
+
+    private record Result(int code, String out, String err) {}
+}
@@ -0,0 +1,124 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.SourceScanner;
+import log_analyzer.metrics.AnalysisMetrics;
+import log_analyzer.metrics.FileStats;
+import log_analyzer.metrics.LatencyHistogram;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.ReportWriter;
+
+class AnalysisMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("분석하면 파일 수, 읽은 바이트, 사전 필터로 건너뛴 파일, 추출한 호출과 검사한 토큰 수를 센다")
+    void analyze_countsPhases() throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("A.java"),
+                "class A { void a(String password, String id) { log.info(\"login {} {}\", password, id); } }");
+        Files.writeString(tempDir.resolve("B.java"), "class B { int b() { return 1; } }");
+        LoggingPolicy policy = new LoggingPolicy(
+                List.of(new ForbiddenFieldRule("password", MatchType.EXACT)), List.of("log.info"));
+        AnalysisMetrics metrics = new AnalysisMetrics(10);
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(
+                new SourceScanner(), new JavaLoggingCallExtractor(), new ReportWriter(), 1, metrics);
+
+        // when
+        long violations = analyzer.analyze(tempDir, policy, null, v -> { });
+
+        // then
+        assertEquals(1, violations);
+        assertEquals(2, metrics.getFiles());
+        assertEquals(Files.size(tempDir.resolve("A.java")) + Files.size(tempDir.resolve("B.java")),
+                metrics.getBytesRead());
+        assertEquals(1, metrics.getSkipped());
+        assertEquals(1, metrics.getCalls());
+        assertEquals(3, metrics.getTokens());
+        assertEquals(1, metrics.getViolations());
+        assertEquals(1, metrics.getParse().getCount());
+        assertEquals(2, metrics.getFile().getCount());
+    }
+
+    @Test
+    @DisplayName("가장 오래 걸린 파일은 지정한 개수만 오래 걸린 순서로 남는다")
+    void slowest_keepsTopN() {
+        // given
+        AnalysisMetrics metrics = new AnalysisMetrics(2);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            FileStats stats = new FileStats(Path.of("F" + i + ".java"));
+            stats.finish(0, i * 1_000_000L);
+            metrics.record(stats);
+        }
+
+        // then
+        List<FileStats> slowest = metrics.getSlowest();
+        assertEquals(2, slowest.size());
+        assertEquals(Path.of("F5.java"), slowest.get(0).getFile());
+        assertEquals(Path.of("F4.java"), slowest.get(1).getFile());
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위는 값이 속한 2의 거듭제곱 버킷의 상한을 넘지 않는다")
+    void histogram_percentiles() {
+        // given
+        LatencyHistogram h = new LatencyHistogram();
+
+        // when
+        for (int i = 0; i < 99; i++) h.record(1_000);
+        h.record(1_000_000);
+
+        // then
+        assertEquals(100, h.getCount());
+        assertEquals(1_023, h.percentileNanos(0.50));
+        assertEquals(1_023, h.percentileNanos(0.99));
+        assertEquals(1_000_000, h.percentileNanos(1.0));
+        assertEquals(1_000_000, h.getMaxNanos());
+        assertEquals(0, new LatencyHistogram().percentileNanos(0.5));
+    }
+
+    @Test
+    @DisplayName("--metrics 파일은 카운터, 단계별 시간, 히스토그램, 느린 파일 목록을 담은 JSON이다")
+    void writeJson_parsable() {
+        // given
+        AnalysisMetrics metrics = new AnalysisMetrics(10);
+        FileStats stats = new FileStats(Path.of("dir/\"quoted\".java"));
+        stats.addRead(100, 10);
+        stats.addParse(2_000_000);
+        stats.finish(1, 3_000_000);
+        metrics.record(stats);
+        Path out = tempDir.resolve("build/metrics.json");
+
+        // when
+        metrics.writeJson(out);
+
+        // then
+        Map<?, ?> json = new Yaml().load(assertDoesNotThrow(() -> Files.readString(out)));
+        assertEquals(1, ((Map<?, ?>) json.get("counters")).get("filesScanned"));
+        assertEquals(100, ((Map<?, ?>) json.get("counters")).get("bytesRead"));
+        assertEquals(2.0, ((Map<?, ?>) json.get("phasesMs")).get("parse"));
+        assertTrue(((Map<?, ?>) json.get("histogramsMs")).containsKey("file"));
+        Map<?, ?> slowest = (Map<?, ?>) ((List<?>) json.get("slowestFiles")).get(0);
+        assertEquals("dir/\"quoted\".java", slowest.get("file"));
+        assertEquals(3.0, slowest.get("totalMs"));
+    }
+}
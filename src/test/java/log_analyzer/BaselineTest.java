@@ -0,0 +1,178 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.baseline.Baseline;
+import log_analyzer.baseline.ViolationFingerprinter;
+import log_analyzer.report.Violation;
+
+class BaselineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path policy() throws IOException {
+        Path policy = tempDir.resolve("policy.yml");
+        Files.writeString(policy, """
+                forbiddenFields:
+                  - name: password
+                    match: exact
+                  - name: token
+                    match: exact
+                logMethods:
+                  - log.info
+                """);
+        return policy;
+    }
+
+    @Test
+    @DisplayName("baseline을 쓴 뒤에는 라인이 밀리거나 들여쓰기만 바뀐 위반은 보고하지 않고, 새 위반만 실패로 본다")
+    void baseline_gatesOnlyNewViolations() throws IOException {
+        // given
+        Path root = tempDir.resolve("src");
+        Path file = root.resolve("p/A.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                class A {
+                    void a(String password, String token) {
+                        log.info(password);
+                        log.info("t=" + token);
+                    }
+                }
+                """);
+        Path policy = policy();
+        Path baseline = tempDir.resolve("baseline/logging.bin");
+        assertEquals(0, run(root, policy, "--write-baseline=" + baseline));
+
+        // when: 위에 코드가 추가되고 들여쓰기가 바뀐 뒤, 새 로그 호출이 하나 추가됨
+        Files.writeString(file, """
+                import java.util.List;
+
+                class A {
+                    int count;
+
+                    void a(String password, String token) {
+                            log.info(password);
+                            log.info("t=" + token);
+                    }
+
+                    void b(String password) {
+                        log.info(password);
+                    }
+                }
+                """);
+        Path report = tempDir.resolve("report.jsonl");
+        int code = run(root, policy, "--baseline=" + baseline, "--report=" + report);
+
+        // then
+        assertEquals(1, code);
+        List<String> lines = Files.readAllLines(report);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("\"line\":12"), lines.get(0));
+    }
+
+    @Test
+    @DisplayName("위반 라인 바로 위 / 아래 코드가 바뀌면 새 위반으로 보고, 코드의 줄바꿈 / 공백만 바뀌면 같은 위반으로 본다")
+    void fingerprint_changesWithNearbyCode() throws IOException {
+        // given
+        Path file = tempDir.resolve("A.java");
+        Violation v = new Violation(file, 3, "R", "m", "log.info(\"p\", password);");
+        ViolationFingerprinter fingerprinter = new ViolationFingerprinter(List.of(tempDir));
+        Files.writeString(file, "class A {\n  void a() {\n    log.info(password);\n  }\n}\n");
+        long before = fingerprinter.fingerprint(v);
+
+        // when
+        Files.writeString(file, "class A {\n  void a() {\n    log.info(password);\n    audit();\n  }\n}\n");
+        long changed = new ViolationFingerprinter(List.of(tempDir)).fingerprint(v);
+        Violation reformatted = new Violation(file, 3, "R", "m", "log.info(\"p\",\n        password);");
+        Files.writeString(file, "class A {\n  void a() {\n    log.info(password);\n  }\n}\n");
+        long same = new ViolationFingerprinter(List.of(tempDir)).fingerprint(reformatted);
+
+        // then
+        assertFalse(before == changed);
+        assertEquals(before, same);
+    }
+
+    @Test
+    @DisplayName("baseline 파일은 정렬된 fingerprint로 저장되고, 10만 개를 읽어도 모두 찾을 수 있다")
+    void writeAndLoad_largeBaseline() {
+        // given
+        Random random = new Random(42);
+        long[] fingerprints = new long[100_000];
+        for (int i = 0; i < fingerprints.length; i++) fingerprints[i] = random.nextLong();
+        fingerprints[0] = 0L;
+        fingerprints[1] = fingerprints[2];
+        Path file = tempDir.resolve("baseline.bin");
+
+        // when
+        int written = Baseline.write(file, fingerprints);
+        Baseline loaded = Baseline.load(file);
+
+        // then
+        assertEquals(fingerprints.length - 1, written);
+        assertEquals(written, loaded.size());
+        for (long f : fingerprints) assertTrue(loaded.contains(f));
+        assertFalse(loaded.contains(random.nextLong()));
+    }
+
+    @Test
+    @DisplayName("baseline 파일이 아니거나 잘렸거나 헤더의 개수가 파일 크기와 다르면 IllegalArgumentException, Main은 종료 코드 2를 반환한다")
+    void invalidBaseline() throws IOException {
+        // given
+        Path file = tempDir.resolve("baseline.bin");
+        Baseline.write(file, new long[] {1, 2, 3});
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+        Path text = tempDir.resolve("baseline.txt");
+        Files.writeString(text, "not a baseline");
+        // 헤더의 개수만 커진 파일 (개수 = Integer.MAX_VALUE)
+        Path huge = tempDir.resolve("huge.bin");
+        byte[] header = Arrays.copyOf(bytes, bytes.length);
+        header[8] = 0x7F;
+        header[9] = header[10] = header[11] = (byte) 0xFF;
+        Files.write(huge, header);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> Baseline.load(file));
+        assertThrows(IllegalArgumentException.class, () -> Baseline.load(text));
+        assertThrows(IllegalArgumentException.class, () -> Baseline.load(huge));
+        assertEquals(2, run(tempDir, policy(), "--baseline=" + text));
+        assertEquals(2, run(tempDir, policy(), "--baseline=" + tempDir.resolve("missing.bin")));
+    }
+
+    private int run(Path root, Path policy, String... extra) {
+        Map<String, String> opt = new HashMap<>();
+        opt.put("--root", root.toString());
+        opt.put("--policy", policy.toString());
+        opt.put("--report", tempDir.resolve("report.txt").toString());
+        opt.put("--format", "jsonl");
+        for (String a : extra) {
+            int idx = a.indexOf('=');
+            opt.put(a.substring(0, idx), a.substring(idx + 1));
+        }
+        return Main.run(opt, quiet(), quiet(), null);
+    }
+
+    private static PrintStream quiet() {
+        return new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,172 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.ScanFilter;
+import log_analyzer.engine.SourceScanner;
+import log_analyzer.engine.TypeResolvingLoggingCallExtractor;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.policy.service.LoggingPolicy;
+import log_analyzer.report.ReportWriter;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+import log_analyzer.watch.ContinuousAnalysis;
+
+class ContinuousAnalysisTest {
+
+    private static final String LEAK = "class %s { void a(String password) { log.info(password); } }";
+    private static final String CLEAN = "class %s { void a(String name) { log.info(name); } }";
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private Path report;
+    private ContinuousAnalysis session;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = tempDir.resolve("src");
+        report = tempDir.resolve("report.txt");
+        Files.createDirectories(root.resolve("generated"));
+        Files.writeString(root.resolve("A.java"), LEAK.formatted("A"));
+        Files.writeString(root.resolve("B.java"), CLEAN.formatted("B"));
+
+        LoggingPolicy policy = new LoggingPolicy(
+                List.of(new ForbiddenFieldRule("password", MatchType.EXACT)),
+                List.of("log.info"));
+        ScanFilter filter = new ScanFilter(List.of(), List.of("generated/**"), false);
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(
+                new SourceScanner(filter), new JavaLoggingCallExtractor(), new ReportWriter(), 1);
+        session = new ContinuousAnalysis(root, filter, analyzer, policy,
+                new ForbiddenFieldLoggingRule(policy.getForbiddenFields()), report,
+                new PrintStream(out, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+    }
+
+    @Test
+    @DisplayName("저장된 파일만 다시 분석해 위반 사항과 보고서를 갱신한다")
+    void modifiedFile_updatesReport() throws IOException {
+        // given
+        assertEquals(1, session.analyzeAll(null));
+
+        // when
+        Files.writeString(root.resolve("B.java"), LEAK.formatted("B"));
+        awaitViolations(2);
+
+        // then
+        String text = Files.readString(report);
+        assertTrue(text.contains("A.java"));
+        assertTrue(text.contains("B.java"));
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("Violations: 2"));
+    }
+
+    @Test
+    @DisplayName("지운 파일과 고친 파일의 위반 사항은 보고서에서 사라진다")
+    void deletedAndFixedFiles_removed() throws IOException {
+        // given
+        Files.writeString(root.resolve("B.java"), LEAK.formatted("B"));
+        assertEquals(2, session.analyzeAll(null));
+
+        // when
+        Files.delete(root.resolve("A.java"));
+        Files.writeString(root.resolve("B.java"), CLEAN.formatted("B"));
+        awaitViolations(0);
+
+        // then
+        assertTrue(Files.readString(report).contains("[OK]"));
+    }
+
+    @Test
+    @DisplayName("새로 만든 디렉토리 안의 파일도 분석하고, exclude 디렉토리의 파일은 무시한다")
+    void newDirectory_watched_excludedIgnored() throws IOException {
+        // given
+        session.analyzeAll(null);
+
+        // when
+        Files.writeString(root.resolve("generated/G.java"), LEAK.formatted("G"));
+        Path pkg = Files.createDirectories(root.resolve("pkg/sub"));
+        Files.writeString(pkg.resolve("C.java"), LEAK.formatted("C"));
+        awaitViolations(2);
+
+        // then
+        String text = Files.readString(report);
+        assertTrue(text.contains("C.java"));
+        assertFalse(text.contains("G.java"));
+    }
+
+    @Test
+    @DisplayName("새 추출기를 주면 변경 묶음마다 전체를 다시 분석해, 바뀌지 않은 파일도 다른 파일(상위 클래스 필드 타입)의 변경을 반영한다")
+    void freshExtractor_reanalyzesDependents() throws IOException {
+        // given
+        Path base = root.resolve("p/Base.java");
+        Files.createDirectories(base.getParent());
+        Files.writeString(base, """
+                package p;
+                public class Base {
+                    protected static final org.slf4j.Logger AUDIT = org.slf4j.LoggerFactory.getLogger("audit");
+                }
+                """);
+        Files.writeString(root.resolve("p/C.java"), """
+                package p;
+                public class C extends Base {
+                    void c(String password) { AUDIT.info(password); }
+                }
+                """);
+        session.close();
+        LoggingPolicy policy = new LoggingPolicy(
+                List.of(new ForbiddenFieldRule("password", MatchType.EXACT)),
+                List.of("log.info"));
+        ScanFilter filter = new ScanFilter(List.of(), List.of("generated/**"), false);
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(new SourceScanner(filter),
+                TypeResolvingLoggingCallExtractor.create(root, List.of()), new ReportWriter(), 1);
+        session = new ContinuousAnalysis(root, filter, analyzer, policy,
+                new ForbiddenFieldLoggingRule(policy.getForbiddenFields()), report,
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                () -> TypeResolvingLoggingCallExtractor.create(root, List.of()));
+        assertEquals(2, session.analyzeAll(null));
+
+        // when
+        Files.writeString(base, """
+                package p;
+                public class Base {
+                    protected static final Audit AUDIT = new Audit();
+                    static class Audit { void info(String message) {} }
+                }
+                """);
+        awaitViolations(1);
+
+        // then
+        assertFalse(Files.readString(report).contains("C.java"));
+    }
+
+    // 이벤트가 여러 묶음으로 나뉘어 올 수 있으므로 기대한 상태가 될 때까지 반영
+    private void awaitViolations(long expected) {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            while (session.getViolationCount() != expected) {
+                assertTrue(session.awaitAndApply(50) >= 0);
+            }
+        });
+    }
+}
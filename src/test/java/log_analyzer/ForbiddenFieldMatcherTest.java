@@ -0,0 +1,136 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.StaticJavaParser;
+
+import log_analyzer.engine.LogCall;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.report.Violation;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+import log_analyzer.rules.ForbiddenFieldMatcher;
+
+class ForbiddenFieldMatcherTest {
+
+    private static final List<ForbiddenFieldRule> RULES = List.of(
+            new ForbiddenFieldRule("password", MatchType.EXACT),
+            new ForbiddenFieldRule("pass", MatchType.CONTAINS),
+            new ForbiddenFieldRule("password", MatchType.CONTAINS),
+            new ForbiddenFieldRule("word", MatchType.CONTAINS),
+            new ForbiddenFieldRule("API_", MatchType.PREFIX),
+            new ForbiddenFieldRule("API_KEY", MatchType.PREFIX),
+            new ForbiddenFieldRule("_token", MatchType.SUFFIX),
+            new ForbiddenFieldRule("token", MatchType.SUFFIX),
+            new ForbiddenFieldRule("ssn", MatchType.EXACT),
+            new ForbiddenFieldRule("(?i)secret.*", MatchType.REGEX),
+            new ForbiddenFieldRule("\\d{3}-\\d{2}-\\d{4}", MatchType.REGEX));
+
+    // 규칙을 하나씩 matches로 확인한 결과 (기존 동작)
+    private static BitSet expected(List<ForbiddenFieldRule> rules, String token) {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).matches(token)) bits.set(i);
+        }
+        return bits;
+    }
+
+    @Test
+    @DisplayName("여러 매칭 방식이 섞인 규칙에서 규칙별 matches와 같은 결과를 반환한다")
+    void match_sameAsLinearScan() {
+        ForbiddenFieldMatcher matcher = new ForbiddenFieldMatcher(RULES);
+
+        for (String token : List.of("password", "my_password", "passport", "keyword", "API_KEY_001", "API_",
+                "access_token", "token", "ssn", "user_ssn", "SecretKey", "mySecret", "123-45-6789", "", "user")) {
+            assertEquals(expected(RULES, token), matcher.match(token), token);
+        }
+    }
+
+    @Test
+    @DisplayName("겹치는 CONTAINS 규칙을 토큰 한 번 훑기로 모두 찾는다")
+    void match_overlappingContains() {
+        ForbiddenFieldMatcher matcher = new ForbiddenFieldMatcher(RULES);
+
+        BitSet hits = matcher.match("userPassword_password");
+
+        assertTrue(hits.get(1));
+        assertTrue(hits.get(2));
+        assertTrue(hits.get(3));
+        assertFalse(hits.get(0));
+    }
+
+    @Test
+    @DisplayName("이름이 빈 PREFIX / SUFFIX / CONTAINS 규칙은 모든 토큰에 매칭된다")
+    void match_emptyNames() {
+        List<ForbiddenFieldRule> rules = List.of(
+                new ForbiddenFieldRule("", MatchType.PREFIX),
+                new ForbiddenFieldRule("", MatchType.SUFFIX),
+                new ForbiddenFieldRule("", MatchType.CONTAINS),
+                new ForbiddenFieldRule("", MatchType.EXACT));
+        ForbiddenFieldMatcher matcher = new ForbiddenFieldMatcher(rules);
+
+        assertEquals(expected(rules, "abc"), matcher.match("abc"));
+        assertEquals(expected(rules, ""), matcher.match(""));
+    }
+
+    @Test
+    @DisplayName("무작위 규칙과 토큰에 대해서도 규칙별 matches와 같은 결과를 반환한다")
+    void match_randomized() {
+        Random random = new Random(42);
+        String alphabet = "abAB_";
+        MatchType[] types = { MatchType.EXACT, MatchType.PREFIX, MatchType.SUFFIX, MatchType.CONTAINS };
+
+        List<ForbiddenFieldRule> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rules.add(new ForbiddenFieldRule(randomString(random, alphabet, 4), types[random.nextInt(types.length)]));
+        }
+        ForbiddenFieldMatcher matcher = new ForbiddenFieldMatcher(rules);
+
+        for (int i = 0; i < 500; i++) {
+            String token = randomString(random, alphabet, 10);
+            assertEquals(expected(rules, token), matcher.match(token), token);
+        }
+    }
+
+    @Test
+    @DisplayName("매칭되는 규칙이 없으면 빈 결과를 반환한다")
+    void match_none() {
+        ForbiddenFieldMatcher matcher = new ForbiddenFieldMatcher(RULES);
+
+        assertTrue(matcher.match("userId").isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 이름의 규칙은 로그 호출 하나당 한 번만 보고하고 토큰 → 규칙 순서를 유지한다")
+    void evaluate_dedupAndOrder() {
+        ForbiddenFieldLoggingRule rule = new ForbiddenFieldLoggingRule(RULES);
+        LogCall call = new LogCall(Path.of("A.java"), 3, "log.info", List.of(
+                StaticJavaParser.parseExpression("\"pw=\" + password + access_token + password")));
+
+        List<Violation> violations = rule.evaluate(call);
+
+        assertEquals(List.of(
+                "Variable/Token 'password' is logged via log.info",
+                "Variable/Token 'pass' is logged via log.info",
+                "Variable/Token 'word' is logged via log.info",
+                "Variable/Token '_token' is logged via log.info",
+                "Variable/Token 'token' is logged via log.info"),
+                violations.stream().map(Violation::getMessage).toList());
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int len = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(len);
+        for (int i = 0; i < len; i++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        return sb.toString();
+    }
+}
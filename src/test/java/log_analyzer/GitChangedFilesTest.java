@@ -0,0 +1,133 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.ChangedFilesScanner;
+import log_analyzer.engine.GitChangedFiles;
+import log_analyzer.engine.ScanFilter;
+
+class GitChangedFilesTest {
+
+    @TempDir
+    Path repo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(git("--version") == 0, "git is not available");
+        git("init", "-q");
+        git("config", "user.email", "test@example.com");
+        git("config", "user.name", "test");
+
+        write("src/A.java", "class A {\n  void a() {}\n}\n");
+        write("src/B.java", "class B {}\n");
+        write("src/Gone.java", "class Gone {}\n");
+        write("docs/readme.md", "docs\n");
+        git("add", "-A");
+        git("commit", "-q", "-m", "base");
+        git("tag", "base");
+    }
+
+    @Test
+    @DisplayName("기준 ref 이후 바뀐 파일과 추적되지 않은 새 파일만 읽고, 삭제된 파일은 제외한다")
+    void load_changedFiles() throws Exception {
+        // given
+        write("src/A.java", "class A {\n  void a() {}\n  void b() {}\n}\n");
+        write("src/New.java", "class New {}\n");
+        Files.delete(repo.resolve("src/Gone.java"));
+        write("docs/readme.md", "changed\n");
+
+        // when
+        GitChangedFiles changes = GitChangedFiles.load(repo, "base", false);
+
+        // then
+        assertEquals(Set.of(real("src/A.java"), real("src/New.java"), real("docs/readme.md")),
+                changes.getFiles());
+        assertTrue(changes.isChanged(repo.resolve("src/A.java"), 1));
+        assertFalse(changes.isChanged(repo.resolve("src/B.java"), 1));
+    }
+
+    @Test
+    @DisplayName("라인 정보를 읽으면 추가/변경된 라인만 바뀐 것으로 보고, 새 파일은 모든 라인이 바뀐 것으로 본다")
+    void load_changedLines() throws Exception {
+        // given
+        write("src/A.java", "class A {\n  void a() {}\n  void b() {}\n}\n");
+        git("add", "-A");
+        git("commit", "-q", "-m", "change");
+        write("src/New.java", "class New {}\n");
+
+        // when
+        GitChangedFiles changes = GitChangedFiles.load(repo, "base", true);
+
+        // then
+        assertFalse(changes.isChanged(repo.resolve("src/A.java"), 2));
+        assertTrue(changes.isChanged(repo.resolve("src/A.java"), 3));
+        assertFalse(changes.isChanged(repo.resolve("src/A.java"), 4));
+        assertTrue(changes.isChanged(repo.resolve("src/New.java"), 100));
+    }
+
+    @Test
+    @DisplayName("ChangedFilesScanner는 루트 아래의 바뀐 java 파일만 탐색 경로 형태로 넘기고 exclude를 적용한다")
+    void scanner_streamsChangedJavaFiles() throws Exception {
+        // given
+        write("src/A.java", "class A { }\n");
+        write("src/gen/Gen.java", "class Gen {}\n");
+        write("other/C.java", "class C {}\n");
+        GitChangedFiles changes = GitChangedFiles.load(repo, "base", false);
+        ScanFilter filter = new ScanFilter(List.of(), List.of("**/gen/**"), false);
+        Path root = repo.resolve("src");
+
+        // when
+        List<Path> files;
+        try (Stream<Path> s = new ChangedFilesScanner(filter, changes).streamJavaFiles(root)) {
+            files = s.collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(List.of(root.resolve("A.java")), files);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ref면 RuntimeException(Failed to read changed files from git)이 발생한다")
+    void load_unknownRef() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> GitChangedFiles.load(repo, "no-such-ref", false));
+        assertTrue(e.getMessage().contains("Failed to read changed files from git"));
+    }
+
+    private void write(String rel, String content) throws IOException {
+        Path p = repo.resolve(rel);
+        Files.createDirectories(p.getParent());
+        Files.writeString(p, content);
+    }
+
+    private Path real(String rel) throws IOException {
+        return repo.resolve(rel).toRealPath();
+    }
+
+    private int git(String... args) throws Exception {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        try {
+            return new ProcessBuilder(command).directory(repo.toFile())
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start().waitFor();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
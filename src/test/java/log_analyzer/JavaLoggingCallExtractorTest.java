@@ -9,6 +9,9 @@ import java.util.Arrays; // Paths 추가
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.mockito.BDDMockito.given;
 
@@ -33,7 +36,12 @@ import log_analyzer.engine.LogCall;
 
 class JavaLoggingCallExtractorTest {
 
-    private JavaLoggingCallExtractor javaLoggingCallExtractor = new JavaLoggingCallExtractor();
+    private JavaLoggingCallExtractor javaLoggingCallExtractor = newExtractor();
+
+    // 같은 테스트를 다른 추출 엔진으로 다시 실행할 수 있도록 (LexerLoggingCallExtractorTest)
+    JavaLoggingCallExtractor newExtractor() {
+        return new JavaLoggingCallExtractor();
+    }
 
     private Set<String> allowedLogMethods = new HashSet<>(Arrays.asList("log.info","log.error"));
 
@@ -259,6 +267,49 @@ class JavaLoggingCallExtractorTest {
     	}
 	}
 
+    @Nested
+    @DisplayName("threadSafety Class")
+    class threadSafety {
+    	// 스레드별 파서 재사용 테스트 케이스 묶음
+    	// 같은 인스턴스를 여러 스레드에서 동시에 사용해도 순차 실행과 결과가 같다.
+    	@Test
+    	@DisplayName("같은 인스턴스를 여러 스레드에서 동시에 사용해도 순차 실행과 결과가 같다.")
+    	void Concurrent_Extract() throws Exception {
+    		List<Path> files = new ArrayList<>();
+    		for (int i = 0; i < 16; i++) {
+    			StringBuilder source = new StringBuilder("class T" + i + " {\n  void m() {\n");
+    			for (int j = 0; j <= i; j++) {
+    				source.append("    log.info(\"v\" + v").append(j).append(");\n");
+    			}
+    			source.append("  }\n}\n");
+    			files.add(createJavaFile("T" + i + ".java", source.toString()));
+    		}
+
+    		ExecutorService executor = Executors.newFixedThreadPool(4);
+    		try {
+    			List<Future<List<LogCall>>> futures = new ArrayList<>();
+    			for (int round = 0; round < 4; round++) {
+    				for (Path file : files) {
+    					futures.add(executor.submit(() -> javaLoggingCallExtractor.extract(file, allowedLogMethods)));
+    				}
+    			}
+    			for (int k = 0; k < futures.size(); k++) {
+    				Path file = files.get(k % files.size());
+    				List<LogCall> expect = javaLoggingCallExtractor.extract(file, allowedLogMethods);
+    				List<LogCall> actual = futures.get(k).get();
+
+    				assertEquals(expect.size(), actual.size());
+    				for (int c = 0; c < expect.size(); c++) {
+    					assertEquals(expect.get(c).getLine(), actual.get(c).getLine());
+    					assertEquals(expect.get(c).getArgs(), actual.get(c).getArgs());
+    				}
+    			}
+    		} finally {
+    			executor.shutdownNow();
+    		}
+    	}
+    }
+
     @Nested
     @DisplayName("lastToken Class")
     class lastToken{
@@ -0,0 +1,162 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LexerLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+
+// JavaLoggingCallExtractorTest 전체를 lexer 엔진으로 다시 실행하고, 두 엔진의 결과가 같은지 비교한다
+class LexerLoggingCallExtractorTest extends JavaLoggingCallExtractorTest {
+
+    private static final Set<String> LOG_METHODS = Set.of("log.info", "log.error", "log.debug", "log.warn");
+
+    private final JavaLoggingCallExtractor ast = new JavaLoggingCallExtractor();
+    private final LexerLoggingCallExtractor lexer = new LexerLoggingCallExtractor();
+
+    @Override
+    JavaLoggingCallExtractor newExtractor() {
+        return new LexerLoggingCallExtractor();
+    }
+
+    @Test
+    @DisplayName("여러 형태의 인자(리터럴, 결합, 캐스트, 람다, 삼항, 객체 생성 등)에서 두 엔진의 위치, 인자 텍스트, 토큰이 같다")
+    void sameAsJavaParser_arguments() throws IOException {
+        // given
+        String source = """
+                class A {
+                    void a(User user, int[] arr, Object o) {
+                        log.info("plain", "esc\\t\\"q\\" \\u0041\\101", 'c', 10L, 0x1F, 1.5e-3, -count, !ok);
+                        log.info("a" + user.password + user.getToken() + (prefix + suffix) + 1 * 2 + x * y);
+                        log.info(a - b + c, a == b, a < b, a >> 2, a >>> 1, a >= b, i++, --i, a && b || c);
+                        log.error((String) o, (int) -x, (java.util.List<String>) o, (a), ((b)));
+                        log.debug(x -> x + 1, (p, q) -> { return p; }, String::valueOf, int[]::new, String[].class);
+                        log.warn(ok ? user.password : "none", o instanceof String s, o instanceof String);
+                        log.info(arr[0], arr[i].name, this.token, super.secret, A.this.token, A.class, int.class);
+                        log.info(new StringBuilder(password), new java.util.HashMap<String, java.util.List<? extends Number>>(),
+                                 new java.util.ArrayList<>(), new int[] { 1, 2 }, new String[3][], new Outer.Inner(token));
+                        log.info(new Runnable() { public void run() { log.error(password); } }, outer.new Inner(secret));
+                        log.info(java.util.Objects.<String>requireNonNull(token), foo(bar(baz)), a.b.c.d);
+                        log.info(switch (k) { case 1 -> "one"; default -> token; }, x = token, x += 1, y <<= 2);
+                        log.info(\"""
+                            text block {} \\\"""
+                              end\""", password);
+                        log.info("comment" /* c */ + /* d */ password // e
+                                 + token, a /*x*/./*y*/b);
+                    }
+                }
+                """;
+
+        // when, then
+        assertEquals(14, assertSameCalls(write("Args.java", source), LOG_METHODS));
+        assertEquals(0, lexer.getFallbacks());
+    }
+
+    @Test
+    @DisplayName("scope가 여러 줄이거나 복잡해도 호출 시작 위치와 순서(AST 전위 순회)가 같다")
+    void sameAsJavaParser_positionsAndOrder() throws IOException {
+        // given
+        String source = "class A {\r\n"
+                + "\tvoid a() {\r\n"
+                + "\t\tthis.log.info(\"tab\");\r\n"
+                + "\t\tHolder.get().log\r\n"
+                + "\t\t\t.error(\"multi\", token);\r\n"
+                + "\t\tnew Holder().log.info(new Holder<>().log.debug(password));\r\n"
+                + "\t\twrap(log.error(\"inner\")).log.info(\"outer\");\r\n"
+                + "\t\tlog.<String>info(\"typed\");\r\n"
+                + "\t\tlogger.warn(\"normalized\"); Log.info(token); LOGGER.error(x);\r\n"
+                + "\t\tarr[0].log.info(secret); ((Holder) h).log.warn(token);\r\n"
+                + "\t}\r\n"
+                + "}\r\n";
+
+        // when, then
+        assertEquals(11, assertSameCalls(write("Positions.java", source), LOG_METHODS));
+        assertEquals(0, lexer.getFallbacks());
+    }
+
+    @Test
+    @DisplayName("문자열, 주석, 어노테이션, 객체 생성 안의 log.info( 는 호출로 보지 않는다")
+    void sameAsJavaParser_notCalls() throws IOException {
+        // given
+        String source = """
+                class A {
+                    // log.info(password);
+                    /* log.error(token); */
+                    @log.info("annotation")
+                    void a() {
+                        String s = "log.info(password)";
+                        char c = '(';
+                        Object o = new log.info(password);
+                        info(password);
+                        log.info("real", s);
+                    }
+                }
+                """;
+
+        // when
+        List<LogCall> calls = lexer.extract(write("NotCalls.java", source), LOG_METHODS);
+
+        // then
+        assertEquals(1, calls.size());
+        assertEquals(List.of("real", "s"), calls.get(0).getTokens());
+        assertSameCalls(write("NotCalls.java", source), LOG_METHODS);
+    }
+
+    @Test
+    @DisplayName("이 저장소의 모든 소스에서 두 엔진의 추출 결과가 같다")
+    void sameAsJavaParser_repositorySources() throws IOException {
+        // given: 로그 호출 외에 흔한 호출도 정책에 넣어 다양한 인자 형태를 비교한다
+        Set<String> methods = Set.of("log.info", "log.error", "log.debug", "log.warn",
+                "out.println", "err.println", "sb.append", "String.format", "Files.writeString",
+                "Assertions.assertEquals", "List.of", "Path.of", "opt.get", "map.put");
+        List<Path> files = new ArrayList<>();
+        for (String dir : new String[] { "src/main/java", "src/test/java", "src/jmh/java" }) {
+            if (!Files.isDirectory(Path.of(dir))) continue;
+            try (Stream<Path> s = Files.walk(Path.of(dir))) {
+                s.filter(p -> p.toString().endsWith(".java")).forEach(files::add);
+            }
+        }
+
+        // when, then
+        int calls = 0;
+        for (Path file : files) {
+            calls += assertSameCalls(file, methods);
+        }
+        assertTrue(calls > 100, "compared calls: " + calls);
+    }
+
+    // 두 엔진의 결과가 같은지 비교하고 호출 수를 반환
+    private int assertSameCalls(Path file, Set<String> methods) {
+        List<LogCall> expected = ast.extract(file, methods);
+        List<LogCall> actual = lexer.extract(file, methods);
+        assertEquals(describe(expected), describe(actual), file.toString());
+        return expected.size();
+    }
+
+    private static List<String> describe(List<LogCall> calls) {
+        List<String> result = new ArrayList<>();
+        for (LogCall c : calls) {
+            result.add(c.getLine() + ":" + c.getColumn() + "-" + c.getEndLine() + ":" + c.getEndColumn()
+                    + " " + c.getMethodFqn() + " " + c.getArgTexts() + " " + c.getTokens());
+        }
+        return result;
+    }
+
+    private Path write(String name, String source) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, source);
+        return file;
+    }
+}
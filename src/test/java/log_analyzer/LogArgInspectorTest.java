@@ -2,6 +2,7 @@ package log_analyzer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -106,4 +107,30 @@ class LogArgInspectorTest {
         List<String> tokens = inspector.extractTokens(expr("arr[0]"));
         assertEquals(List.of("arr[0]"), tokens);
     }
+
+    @Test
+    @DisplayName("이스케이프가 있는 문자열 리터럴은 변환된 값을 토큰으로 뽑는다")
+    void extractTokens_escapedStringLiteral() {
+        List<String> tokens = inspector.extractTokens(expr("\"pw=\\t\""));
+        assertEquals(List.of("pw=\t"), tokens);
+    }
+
+    @Test
+    @DisplayName("fallback 토큰은 원본 토큰에서 주석을 빼고 공백을 한 칸으로 줄인 텍스트다")
+    void extractTokens_fallbackUsesSourceTokens() {
+        List<String> tokens = inspector.extractTokens(expr("ok   ? /* masked */ password\n : \"-\""));
+        assertEquals(List.of("ok ? password : \"-\""), tokens);
+    }
+
+    @Test
+    @DisplayName("inspect는 extractTokens와 같은 순서로 토큰을 sink에 넘긴다")
+    void inspect_sameOrderAsExtractTokens() {
+        Expression e = expr("\"user=\" + user.getName(arr[0]) + new StringBuilder(token) + (a.b.secret)");
+        List<String> pushed = new ArrayList<>();
+
+        inspector.inspect(e, token -> pushed.add(token.toString()));
+
+        assertEquals(inspector.extractTokens(e), pushed);
+        assertEquals(List.of("user=", "getName", "arr[0]", "user", "StringBuilder", "token", "secret", "b", "a"), pushed);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.api.Test;
+
+import log_analyzer.engine.LogCallPrefilter;
+
+class LogCallPrefilterTest {
+
+    private final LogCallPrefilter prefilter = new LogCallPrefilter(Set.of("log.info", "log.error", "audit.warn"));
+
+    private boolean candidate(String source) {
+        return prefilter.mayContainLogCall(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @DisplayName("정책의 로그 호출 형태가 있으면 후보(true)로 판별한다")
+    @CsvSource(delimiter = '|', value = {
+        "log.info(\"x\");",
+        "this.log . info (x);",
+        "auditLogger.error(x);",
+        "LOG_Log.info(x);",
+        "audit.warn(x);",
+        "log.<String>info(x);"
+    })
+    void candidate_true(String source) {
+        assertTrue(candidate(source));
+    }
+
+    @ParameterizedTest
+    @DisplayName("정책의 로그 호출이 있을 수 없으면 false로 판별한다")
+    @CsvSource(delimiter = '|', value = {
+        "class A { int x; }",
+        "info(x);",
+        "log.infox(x);",
+        "log.info;",
+        "catalog.information(x);",
+        "system.warn(x);",
+        "getLogger().info(x);"
+    })
+    void candidate_false(String source) {
+        assertFalse(candidate(source));
+    }
+
+    @Test
+    @DisplayName("타입 해석 모드(anyReceiver)에서는 수신자 이름과 관계없이 log.<이름> 호출을 후보로 본다")
+    void candidate_anyReceiver() {
+        LogCallPrefilter any = new LogCallPrefilter(Set.of("log.info"), true);
+
+        assertTrue(any.mayContainLogCall("LOG.info(x);".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(any.mayContainLogCall("getLogger().info(x);".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(any.mayContainLogCall("info(x); LOG.infox(x);".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("줄바꿈으로 이어진 체이닝 호출도 후보로 판별한다")
+    void candidate_multiline() {
+        assertTrue(candidate("""
+                log
+                    .info("x");
+                """));
+    }
+
+    @Test
+    @DisplayName("수신자가 식별자가 아닌 정책 항목이 있으면 항상 후보로 판별한다")
+    void nonIdentifierReceiver_alwaysCandidate() {
+        LogCallPrefilter p = new LogCallPrefilter(Set.of("getLog().info"));
+        assertTrue(p.mayContainLogCall("class A {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("같은 메서드 목록으로 만든 필터인지 확인할 수 있다")
+    void isFor() {
+        assertTrue(prefilter.isFor(Set.of("audit.warn", "log.error", "log.info")));
+        assertFalse(prefilter.isFor(Set.of("log.info")));
+    }
+}
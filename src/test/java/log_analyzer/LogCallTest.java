@@ -0,0 +1,90 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+
+class LogCallTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("추출한 로그 호출은 위치(시작 ~ 끝), 인자별 원본 텍스트, 토큰, 스니펫을 가진다")
+    void extract_detachedValues() throws IOException {
+        // given
+        Path file = tempDir.resolve("A.java");
+        Files.writeString(file, """
+                class A {
+                    void a(User user) {
+                        log.info("login {}" /* 주석 */,
+                                 user.getPassword());
+                    }
+                }
+                """);
+
+        // when
+        LogCall call = new JavaLoggingCallExtractor().extract(file, Set.of("log.info")).get(0);
+
+        // then
+        assertEquals(3, call.getLine());
+        assertEquals(9, call.getColumn());
+        assertEquals(4, call.getEndLine());
+        assertEquals(36, call.getEndColumn());
+        assertEquals(List.of("\"login {}\"", "user.getPassword()"), call.getArgTexts());
+        assertEquals(List.of("login {}", "getPassword", "user"), call.getTokens());
+        assertEquals("log.info(\"login {}\", user.getPassword())", call.getSnippet());
+    }
+
+    @Test
+    @DisplayName("LogCall을 만든 뒤에는 인자 AST(CompilationUnit)를 붙잡지 않아 GC될 수 있다")
+    void detached_astCollectable() throws InterruptedException {
+        // given
+        CompilationUnit cu = StaticJavaParser.parse("class A { void a() { log.info(\"x\" + password); } }");
+        MethodCallExpr expr = cu.findFirst(MethodCallExpr.class).orElseThrow();
+        LogCall call = new LogCall(Path.of("A.java"), 1, "log.info", expr.getArguments());
+        WeakReference<CompilationUnit> ref = new WeakReference<>(cu);
+
+        // when
+        cu = null;
+        expr = null;
+        for (int i = 0; i < 20 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertNull(ref.get());
+        assertEquals(List.of("x", "password"), call.getTokens());
+    }
+
+    @Test
+    @DisplayName("getArgs는 원본 텍스트를 다시 파싱해 같은 구조의 인자를 돌려준다")
+    void getArgs_reparsed() {
+        // given
+        var arg = StaticJavaParser.parseExpression("\"pw=\" + user.password");
+
+        // when
+        LogCall call = new LogCall(Path.of("A.java"), 1, "log.info", List.of(arg));
+
+        // then
+        assertEquals(List.of(arg), call.getArgs());
+        assertEquals(-1, call.getColumn());
+    }
+}
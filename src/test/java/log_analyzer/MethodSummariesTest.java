@@ -0,0 +1,278 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.cache.MethodSummaryCache;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+import log_analyzer.engine.MethodSummaries;
+import log_analyzer.engine.MethodSummary;
+import log_analyzer.engine.SourceReader;
+import log_analyzer.engine.SourceScanner;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.report.ReportWriter;
+import log_analyzer.report.Violation;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+
+class MethodSummariesTest {
+
+    private static final Set<String> LOG_METHODS = Set.of("log.info");
+
+    @TempDir
+    Path tempDir;
+
+    private final JavaLoggingCallExtractor extractor = new JavaLoggingCallExtractor();
+    private final ForbiddenFieldLoggingRule rule = new ForbiddenFieldLoggingRule(List.of(
+            new ForbiddenFieldRule("password", MatchType.EXACT),
+            new ForbiddenFieldRule("token", MatchType.EXACT)));
+
+    private Path write(String relative, String source) throws IOException {
+        Path file = tempDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        return file;
+    }
+
+    private void writeProject() throws IOException {
+        write("src/p/A.java", """
+                package p;
+                class A {
+                    void a(User user, Session session) {
+                        log.info(describe(user));
+                        log.info("u={}", Formatter.full(user));
+                        log.info(user.getName());
+                        log.info(session.getToken());
+                    }
+                    String describe(User user) {
+                        String s = "user=" + user.getName();
+                        return s + "/" + user.getToken();
+                    }
+                }
+                """);
+        write("src/p/User.java", """
+                package p;
+                class User {
+                    private String name, token, password;
+                    String getName() { return name; }
+                    String getToken() { return token; }
+                }
+                """);
+        write("src/p/Formatter.java", """
+                package p;
+                class Formatter {
+                    static String full(User u) { return u.getName() + ":" + secret(u); }
+                    private static String secret(User u) {
+                        Runnable r = () -> { return; };
+                        return u.password;
+                    }
+                }
+                """);
+    }
+
+    private List<String> violations(Path file, ForbiddenFieldLoggingRule r) {
+        List<String> result = new ArrayList<>();
+        for (LogCall call : extractor.extract(file, LOG_METHODS)) {
+            for (Violation v : r.evaluate(call)) result.add(v.getLine() + " " + v.getMessage().split("'")[1]);
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("로그 인자에서 호출한 메서드가 반환하는 값(다른 파일의 메서드를 거친 값 포함)의 금지 필드를 찾는다")
+    void helperReturningSensitiveValue() throws IOException {
+        // given
+        writeProject();
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(new SourceScanner(), extractor, new ReportWriter(), 1);
+
+        // when
+        MethodSummaries summaries = analyzer.summarize(List.of(tempDir.resolve("src")), new SourceScanner(),
+                MethodSummaryCache.inMemory());
+
+        // then: describe → getToken → token, Formatter.full → secret → password, 변수의 getToken() → 이름 / 인자 수
+        Path a = tempDir.resolve("src/p/A.java");
+        assertEquals(List.of("4 token", "5 password", "7 token"), violations(a, rule.withSummaries(summaries)));
+        assertEquals(List.of(), violations(a, rule));
+    }
+
+    @Test
+    @DisplayName("return 식의 토큰과 호출 키를 모으고, 람다 / 익명 클래스 안의 return은 바깥 메서드의 반환값으로 보지 않는다")
+    void summarize_returns() throws IOException {
+        // given
+        Path file = write("B.java", """
+                class B {
+                    String a(Item item) {
+                        if (item == null) return "none";
+                        String v = item.secret;
+                        return v.trim();
+                    }
+                    Object b() {
+                        Supplier<String> s = () -> { return password; };
+                        return new Object() { public String toString() { return token; } };
+                    }
+                    void c() { return; }
+                }
+                """);
+
+        // when
+        List<MethodSummary> summaries = extractor.summarize(SourceReader.local().read(file));
+
+        // then
+        assertEquals(List.of(
+                new MethodSummary("B.a/1", List.of("none", "trim", "v", "secret", "item"), List.of("trim/0")),
+                new MethodSummary("B.b/0", List.of("Object"), List.of())), summaries);
+    }
+
+    @Test
+    @DisplayName("서로 부르는 메서드(순환)도 끝나고, 같은 이름의 메서드가 너무 많은 타입에 있으면 이름만으로는 찾지 않는다")
+    void cyclesAndCommonNames() {
+        // given
+        List<MethodSummary> list = new ArrayList<>();
+        list.add(new MethodSummary("A.x/0", List.of("token"), List.of("A.y/0")));
+        list.add(new MethodSummary("A.y/0", List.of("password"), List.of("A.x/0")));
+        for (int i = 0; i < 20; i++) {
+            list.add(new MethodSummary("T" + i + ".get/1", List.of("v" + i), List.of()));
+        }
+
+        // when
+        MethodSummaries summaries = MethodSummaries.of(list);
+
+        // then
+        assertEquals(List.of("token", "password"), tokens(summaries, "A.x/0"));
+        assertEquals(List.of("password", "token"), tokens(summaries, "A.y/0"));
+        assertEquals(List.of("token", "password"), tokens(summaries, "x/0"));
+        assertEquals(List.of("v3"), tokens(summaries, "T3.get/1"));
+        assertEquals(List.of(), tokens(summaries, "get/1"));
+        assertNotEquals(MethodSummaries.EMPTY.fingerprint(), summaries.fingerprint());
+    }
+
+    @Test
+    @DisplayName("긴 호출 체인(10만 단계)도 스택 오버플로 없이 펼치고, 토큰 수 제한을 넘은 요약 수를 알려 준다")
+    void longChainAndTruncation() {
+        // given
+        int depth = 100_000;
+        List<MethodSummary> list = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            list.add(new MethodSummary("C.m" + i + "/0", List.of(),
+                    i + 1 < depth ? List.of("C.m" + (i + 1) + "/0") : List.of()));
+        }
+        list.set(depth - 1, new MethodSummary("C.m" + (depth - 1) + "/0", List.of("password"), List.of()));
+        List<String> many = new ArrayList<>();
+        for (int i = 0; i <= MethodSummaries.MAX_TOKENS; i++) many.add("t" + i);
+        list.add(new MethodSummary("B.big/0", many, List.of()));
+
+        // when
+        MethodSummaries summaries = MethodSummaries.of(list);
+
+        // then
+        assertEquals(List.of("password"), tokens(summaries, "C.m0/0"));
+        assertEquals(MethodSummaries.MAX_TOKENS, tokens(summaries, "B.big/0").size());
+        assertEquals(1, summaries.getTruncated());
+    }
+
+    @Test
+    @DisplayName("요약 캐시는 분석 캐시 디렉토리에 저장되고, 다음 실행에서는 내용이 바뀐 파일만 다시 파싱한다")
+    void summaryCache_reparsesChangedFilesOnly() throws IOException {
+        // given
+        writeProject();
+        Path cacheDir = tempDir.resolve("cache");
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(new SourceScanner(), extractor, new ReportWriter(), 2);
+        List<Path> roots = List.of(tempDir.resolve("src"));
+        MethodSummaryCache first = MethodSummaryCache.open(cacheDir);
+        MethodSummaries before = analyzer.summarize(roots, new SourceScanner(), first);
+        first.save();
+
+        // when
+        write("src/p/User.java", """
+                package p;
+                class User {
+                    private String name, token;
+                    String getName() { return name; }
+                    String getToken() { return "***"; }
+                }
+                """);
+        MethodSummaryCache second = MethodSummaryCache.open(cacheDir);
+        MethodSummaries after = analyzer.summarize(roots, new SourceScanner(), second);
+
+        // then
+        assertEquals(3, first.getMisses());
+        assertEquals(2, second.getHits());
+        assertEquals(1, second.getMisses());
+        assertNotEquals(before.fingerprint(), after.fingerprint());
+        assertEquals(List.of("5 password"),
+                violations(tempDir.resolve("src/p/A.java"), rule.withSummaries(after)));
+    }
+
+    @Test
+    @DisplayName("메모리 전용 요약 캐시(데몬)는 save()할 때 이번 실행에서 보지 않은 파일(지워진 파일)의 요약을 버린다")
+    void inMemorySummaryCache_dropsUnseenFiles() throws IOException {
+        // given
+        writeProject();
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(new SourceScanner(), extractor, new ReportWriter(), 1);
+        List<Path> roots = List.of(tempDir.resolve("src"));
+        MethodSummaryCache cache = MethodSummaryCache.inMemory();
+        analyzer.summarize(roots, new SourceScanner(), cache);
+        cache.save();
+
+        // when
+        Files.delete(tempDir.resolve("src/p/Formatter.java"));
+        analyzer.summarize(roots, new SourceScanner(), cache);
+        cache.save();
+
+        // then
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("손상된 요약 캐시 파일(파일 크기로 담을 수 없는 개수)은 큰 목록을 만들지 않고 버린다")
+    void summaryCache_corruptCount_ignored() throws IOException {
+        // given
+        Path cacheDir = tempDir.resolve("cache");
+        Path file = tempDir.resolve("src/p/A.java");
+        MethodSummaryCache cache = MethodSummaryCache.open(cacheDir);
+        cache.put(file, "h1", List.of(new MethodSummary("p.A#a/0", List.of("token"), List.of())));
+        cache.save();
+        Path cacheFile = cacheDir.resolve("method-summaries.bin");
+        byte[] bytes = Files.readAllBytes(cacheFile);
+        // 토큰 "token"의 길이 바로 앞에 있는 토큰 수를 Integer.MAX_VALUE로 바꾼다
+        int count = indexOf(bytes, "token".getBytes(StandardCharsets.UTF_8)) - 2 * Integer.BYTES;
+        ByteBuffer.wrap(bytes).putInt(count, Integer.MAX_VALUE);
+        Files.write(cacheFile, bytes);
+
+        // when
+        MethodSummaryCache reopened = MethodSummaryCache.open(cacheDir);
+
+        // then
+        assertNull(reopened.get(file, "h1"));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) return i;
+        }
+        throw new AssertionError("not found");
+    }
+
+    private static List<String> tokens(MethodSummaries summaries, String callee) {
+        List<String> tokens = new ArrayList<>();
+        summaries.forEachToken(callee, t -> tokens.add(t.toString()));
+        return tokens;
+    }
+}
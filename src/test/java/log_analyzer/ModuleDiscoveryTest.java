@@ -0,0 +1,90 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.ModuleDiscovery;
+import log_analyzer.engine.ScanFilter;
+import log_analyzer.engine.SourceModule;
+
+class ModuleDiscoveryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path touch(String relative) throws IOException {
+        Path file = tempDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "");
+        return file;
+    }
+
+    @Test
+    @DisplayName("빌드 파일이 있는 디렉토리마다 표준 소스 루트를 가진 모듈을 경로 순으로 찾는다")
+    void discover_modules() throws IOException {
+        // given
+        touch("pom.xml");
+        touch("core/pom.xml");
+        touch("core/src/main/java/c/C.java");
+        touch("core/src/test/java/c/CTest.java");
+        touch("services/api/build.gradle.kts");
+        touch("services/api/src/main/java/a/A.java");
+        touch("services/build.gradle");
+        touch("app/src/main/java/App.java"); // 빌드 파일 없음
+
+        // when
+        List<SourceModule> modules = new ModuleDiscovery(ScanFilter.NONE).discover(tempDir);
+
+        // then
+        assertEquals(List.of("core", "services/api"), modules.stream().map(SourceModule::name).toList());
+        assertEquals(List.of(tempDir.resolve("core/src/main/java"), tempDir.resolve("core/src/test/java")),
+                modules.get(0).sourceRoots());
+        assertEquals(tempDir.resolve("services/api"), modules.get(1).dir());
+    }
+
+    @Test
+    @DisplayName("빌드 출력, 숨김 디렉토리, src 아래, exclude에 걸린 디렉토리의 빌드 파일은 모듈로 보지 않는다")
+    void discover_skipsOutputAndExcluded() throws IOException {
+        // given
+        touch("target/generated/pom.xml");
+        touch("target/generated/src/main/java/G.java");
+        touch(".idea/pom.xml");
+        touch(".idea/src/main/java/I.java");
+        touch("core/pom.xml");
+        touch("core/src/main/java/C.java");
+        touch("core/src/main/java/fixtures/pom.xml");
+        touch("core/src/main/java/fixtures/src/main/java/F.java");
+        touch("legacy/pom.xml");
+        touch("legacy/src/main/java/L.java");
+        ScanFilter filter = new ScanFilter(List.of(), List.of("legacy/**"), false);
+
+        // when
+        List<SourceModule> modules = new ModuleDiscovery(filter).discover(tempDir);
+
+        // then
+        assertEquals(List.of("core"), modules.stream().map(SourceModule::name).toList());
+    }
+
+    @Test
+    @DisplayName("루트 자체가 모듈이면 루트 디렉토리 이름을 쓰고, 빌드 파일이 없으면 빈 목록을 반환한다")
+    void discover_rootModuleAndNone() throws IOException {
+        // given
+        Path empty = Files.createDirectories(tempDir.resolve("empty"));
+        Path single = tempDir.resolve("single");
+        touch("single/pom.xml");
+        touch("single/src/main/java/S.java");
+
+        // when, then
+        assertEquals(List.of("single"),
+                new ModuleDiscovery(ScanFilter.NONE).discover(single).stream().map(SourceModule::name).toList());
+        assertTrue(new ModuleDiscovery(ScanFilter.NONE).discover(empty).isEmpty());
+    }
+}
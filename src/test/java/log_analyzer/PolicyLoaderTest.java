@@ -105,6 +105,60 @@ class PolicyLoaderTest {
 		assertTrue(exception.getMessage().contains("root is not a map"));
 	}
 
+	@Test
+	@DisplayName("scan 설정이 있으면 include/exclude/respectGitignore가 탐색 필터로 로드된다")
+	void test7(@TempDir Path tempDir) throws IOException {
+		String yamlContent = """
+				forbiddenFields:
+				  - name: password
+				scan:
+				  include:
+				    - "src/**"
+				  exclude:
+				    - "**/target/**"
+				  respectGitignore: true
+				""";
+		Path policyFile = tempDir.resolve("policy.yml");
+		Files.writeString(policyFile, yamlContent);
+		PolicyLoader loader = new PolicyLoader();
+
+		LoggingPolicy policy = loader.load(policyFile);
+
+		assertEquals(List.of("src/**"), policy.getScanFilter().getIncludes());
+		assertEquals(List.of("**/target/**"), policy.getScanFilter().getExcludes());
+		assertTrue(policy.getScanFilter().useIgnoreFiles());
+	}
+
+	@Test
+	@DisplayName("scan이 map이 아니면 ParserException - scan must be a map 에러가 발생한다")
+	void test8(@TempDir Path tempDir) throws IOException {
+		String yamlContent = """
+				scan: target
+				""";
+		Path policyFile = tempDir.resolve("policy.yml");
+		Files.writeString(policyFile, yamlContent);
+		PolicyLoader loader = new PolicyLoader();
+
+		ParserException exception = assertThrows(ParserException.class, () -> loader.load(policyFile));
+		assertTrue(exception.getMessage().contains("scan must be a map"));
+	}
+
+	@Test
+	@DisplayName("REGEX 규칙의 정규식이 잘못되면 ParserException - invalid regex 에러가 발생한다")
+	void test9(@TempDir Path tempDir) throws IOException {
+		String yamlContent = """
+				forbiddenFields:
+				  - name: "pass(word"
+				    match: regex
+				""";
+		Path policyFile = tempDir.resolve("policy.yml");
+		Files.writeString(policyFile, yamlContent);
+		PolicyLoader loader = new PolicyLoader();
+
+		ParserException exception = assertThrows(ParserException.class, () -> loader.load(policyFile));
+		assertTrue(exception.getMessage().contains("invalid regex"));
+	}
+
 	// validateFileExtension
 	@ParameterizedTest
 	@ValueSource(strings = { "policy.yml", "policy.yaml" })
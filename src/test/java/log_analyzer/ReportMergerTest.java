@@ -0,0 +1,148 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.report.ReportFormat;
+import log_analyzer.report.ReportMerger;
+import log_analyzer.report.ReportWriter;
+import log_analyzer.report.Violation;
+
+class ReportMergerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ReportWriter jsonl = new ReportWriter(ReportFormat.JSONL, Path.of(""));
+
+    @Test
+    @DisplayName("부분 보고서의 위반 사항을 파일, 라인 순으로 정렬하고 중복을 제거해서 하나의 보고서로 쓴다")
+    void merge_sortsAndDeduplicates() throws IOException {
+        // given
+        Violation a1 = new Violation(Path.of("p/A.java"), 3, "ForbiddenField", "Found 'password'", "log.info(password)");
+        Violation a2 = new Violation(Path.of("p/A.java"), 10, "ForbiddenField", "Found 'token'", "log.info(token)");
+        Violation b1 = new Violation(Path.of("p/B.java"), 1, "ForbiddenField", "Found \"ssn\"\t\\", "log.warn(\"x\\n\", ssn)");
+        Path first = tempDir.resolve("shard-1.jsonl");
+        Path second = tempDir.resolve("shard-2.jsonl");
+        jsonl.write(first, List.of(b1, a2));
+        jsonl.write(second, List.of(a2, a1));
+
+        // when
+        Path merged = tempDir.resolve("merged.jsonl");
+        long count = new ReportMerger(jsonl).merge(List.of(first, second), merged);
+
+        // then
+        assertEquals(3, count);
+        Path expected = tempDir.resolve("expected.jsonl");
+        jsonl.write(expected, List.of(a1, a2, b1));
+        assertEquals(Files.readString(expected), Files.readString(merged));
+    }
+
+    @Test
+    @DisplayName("부분 보고서가 jsonl 형식이 아니면 파일과 라인을 담은 IllegalArgumentException이 발생한다")
+    void merge_invalidPartial() throws IOException {
+        // given
+        Path text = tempDir.resolve("report.txt");
+        new ReportWriter().write(text, List.of(new Violation(Path.of("A.java"), 1, "R", "m", "c")));
+
+        // when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new ReportMerger(jsonl).merge(List.of(text), tempDir.resolve("merged.jsonl")));
+
+        // then
+        assertTrue(e.getMessage().contains(text + ":1"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("--shard=i/3으로 나눠 분석한 부분 보고서를 merge로 합치면 샤드 없이 분석한 보고서와 같다")
+    void shardThenMerge_sameAsSingleRun() throws IOException {
+        // given
+        Path root = tempDir.resolve("src");
+        for (int i = 0; i < 20; i++) {
+            Path file = root.resolve("p" + (i % 4) + "/C" + i + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, """
+                    class C%d {
+                        void a(String password, String token) {
+                            log.info(password);
+                            log.warn("t=" + token);
+                        }
+                    }
+                    """.formatted(i));
+        }
+        Path policy = tempDir.resolve("policy.yml");
+        Files.writeString(policy, """
+                forbiddenFields:
+                  - name: password
+                    match: exact
+                  - name: token
+                    match: exact
+                logMethods:
+                  - log.info
+                  - log.warn
+                """);
+
+        // when
+        List<String> partials = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Path partial = tempDir.resolve("shard-" + i + ".jsonl");
+            assertEquals(1, run(root, policy, partial, "--shard=" + i + "/3"));
+            partials.add(partial.toString());
+        }
+        Path single = tempDir.resolve("single.jsonl");
+        assertEquals(1, run(root, policy, single));
+
+        Path merged = tempDir.resolve("merged.jsonl");
+        List<String> args = new ArrayList<>(List.of("--format=jsonl", "--root=" + root, "--report=" + merged));
+        args.addAll(partials);
+        int code = Main.merge(args, quiet(), quiet());
+        Path expected = tempDir.resolve("expected.jsonl");
+        assertEquals(1, Main.merge(List.of("--format=jsonl", "--root=" + root, "--report=" + expected,
+                single.toString()), quiet(), quiet()));
+
+        // then
+        assertEquals(1, code);
+        assertEquals(40, Files.readAllLines(merged).size());
+        assertEquals(Files.readString(expected), Files.readString(merged));
+    }
+
+    @Test
+    @DisplayName("merge에 부분 보고서를 주지 않거나 --shard 값이 범위를 벗어나면 종료 코드 2를 반환한다")
+    void invalidArguments_exitCode2() {
+        assertEquals(2, Main.merge(List.of("--format=jsonl"), quiet(), quiet()));
+        assertEquals(2, run(tempDir, tempDir.resolve("policy.yml"), tempDir.resolve("r.jsonl"), "--shard=4/3"));
+    }
+
+    private static int run(Path root, Path policy, Path report, String... extra) {
+        Map<String, String> opt = new HashMap<>();
+        opt.put("--root", root.toString());
+        opt.put("--policy", policy.toString());
+        opt.put("--report", report.toString());
+        opt.put("--format", "jsonl");
+        for (String a : extra) {
+            int idx = a.indexOf('=');
+            opt.put(a.substring(0, idx), a.substring(idx + 1));
+        }
+        return Main.run(opt, quiet(), quiet(), null);
+    }
+
+    private static PrintStream quiet() {
+        return new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+    }
+}
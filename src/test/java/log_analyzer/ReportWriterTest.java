@@ -5,13 +5,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import log_analyzer.report.ReportFormat;
 import log_analyzer.report.ReportWriter;
 import log_analyzer.report.Violation;
+import log_analyzer.report.ViolationSink;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+
+import org.yaml.snakeyaml.Yaml;
 
 class ReportWriterTest {
 
@@ -54,4 +59,104 @@ class ReportWriterTest {
         assertTrue(content.contains("Line: 15"));
         assertTrue(content.contains("Message: Found 'password'"));
     }
+
+    @Test
+    @DisplayName("jsonl 형식은 위반 사항 하나당 이스케이프된 JSON 한 줄을 쓴다")
+    void testOpen_JsonLines() throws IOException {
+        // Given
+        Path reportPath = tempDir.resolve("report.jsonl");
+        ReportWriter writer = new ReportWriter(ReportFormat.JSONL, tempDir);
+
+        // When
+        try (ViolationSink sink = writer.open(reportPath)) {
+            sink.accept(new Violation(Path.of("A.java"), 3, "R", "say \"hi\"", "log.info(\"a\\tb\n\u0001\")"));
+            sink.accept(new Violation(Path.of("B.java"), 7, "R", "m", null));
+            assertEquals(2, sink.count());
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(reportPath);
+        assertEquals(2, lines.size());
+        assertEquals("{\"file\":\"A.java\",\"line\":3,\"rule\":\"R\",\"message\":\"say \\\"hi\\\"\","
+                + "\"code\":\"log.info(\\\"a\\\\tb\\n\\u0001\\\")\"}", lines.get(0));
+        Map<?, ?> second = (Map<?, ?>) new Yaml().load(lines.get(1));
+        assertEquals("B.java", second.get("file"));
+        assertEquals(7, second.get("line"));
+        assertNull(second.get("code"));
+    }
+
+    @Test
+    @DisplayName("jsonl 형식에서 위반 사항이 없으면 빈 파일을 쓴다")
+    void testOpen_JsonLinesEmpty() throws IOException {
+        Path reportPath = tempDir.resolve("empty.jsonl");
+
+        new ReportWriter(ReportFormat.JSONL, tempDir).write(reportPath, List.of());
+
+        assertEquals("", Files.readString(reportPath));
+    }
+
+    @Test
+    @DisplayName("sarif 형식은 SARIF 2.1.0 구조와 루트 기준 상대 uri로 결과를 쓴다")
+    void testOpen_Sarif() throws IOException {
+        // Given
+        Path reportPath = tempDir.resolve("report.sarif");
+        Path source = tempDir.resolve("src/my app/Login.java");
+        ReportWriter writer = new ReportWriter(ReportFormat.SARIF, tempDir);
+
+        // When
+        writer.write(reportPath, List.of(
+                new Violation(source, 12, "FORBIDDEN_FIELD_LOGGING", "Variable/Token 'password' is logged", "log.info(password)"),
+                new Violation(source, 20, "FORBIDDEN_FIELD_LOGGING", "second", "log.warn(token)")));
+
+        // Then
+        Map<?, ?> sarif = (Map<?, ?>) new Yaml().load(Files.readString(reportPath));
+        assertEquals("2.1.0", sarif.get("version"));
+        Map<?, ?> run = (Map<?, ?>) ((List<?>) sarif.get("runs")).get(0);
+        Map<?, ?> driver = (Map<?, ?>) ((Map<?, ?>) run.get("tool")).get("driver");
+        assertEquals("static-log-analyzer", driver.get("name"));
+        assertEquals(List.of(Map.of("id", "FORBIDDEN_FIELD_LOGGING")), driver.get("rules"));
+
+        List<?> results = (List<?>) run.get("results");
+        assertEquals(2, results.size());
+        Map<?, ?> first = (Map<?, ?>) results.get(0);
+        assertEquals("FORBIDDEN_FIELD_LOGGING", first.get("ruleId"));
+        Map<?, ?> location = (Map<?, ?>) ((Map<?, ?>) ((List<?>) first.get("locations")).get(0)).get("physicalLocation");
+        Map<?, ?> artifact = (Map<?, ?>) location.get("artifactLocation");
+        assertEquals("src/my%20app/Login.java", artifact.get("uri"));
+        assertEquals("%SRCROOT%", artifact.get("uriBaseId"));
+        assertEquals(12, ((Map<?, ?>) location.get("region")).get("startLine"));
+    }
+
+    @Test
+    @DisplayName("sarif 형식에서 위반 사항이 없어도 빈 results를 가진 JSON을 쓴다")
+    void testOpen_SarifEmpty() throws IOException {
+        Path reportPath = tempDir.resolve("empty.sarif");
+
+        new ReportWriter(ReportFormat.SARIF, tempDir).write(reportPath, List.of());
+
+        Map<?, ?> sarif = (Map<?, ?>) new Yaml().load(Files.readString(reportPath));
+        Map<?, ?> run = (Map<?, ?>) ((List<?>) sarif.get("runs")).get(0);
+        assertEquals(List.of(), run.get("results"));
+    }
+
+    @Test
+    @DisplayName("--format 값은 text / jsonl / sarif만 허용한다")
+    void testReportFormat_From() {
+        assertEquals(ReportFormat.TEXT, ReportFormat.from(null));
+        assertEquals(ReportFormat.JSONL, ReportFormat.from("json"));
+        assertEquals(ReportFormat.SARIF, ReportFormat.from(" Sarif "));
+        assertThrows(IllegalArgumentException.class, () -> ReportFormat.from("xml"));
+    }
+
+    @Test
+    @DisplayName("abort하면 쓰던 보고서 파일을 남기지 않는다")
+    void testOpen_Abort() {
+        Path reportPath = tempDir.resolve("aborted.txt");
+        ViolationSink sink = new ReportWriter().open(reportPath);
+        sink.accept(new Violation(Path.of("A.java"), 1, "R", "m", "c"));
+
+        sink.abort();
+
+        assertFalse(Files.exists(reportPath));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.Shard;
+import log_analyzer.engine.ShardedSourceScanner;
+import log_analyzer.engine.SourceScanner;
+
+class ShardTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("i/n 형식을 읽고, 형식이 틀리거나 1 <= i <= n이 아니면 IllegalArgumentException이 발생한다")
+    void parse() {
+        assertEquals(new Shard(2, 4), Shard.parse("2/4"));
+        assertEquals("1/1", Shard.parse(" 1 / 1 ").toString());
+
+        for (String invalid : new String[] { "2", "a/4", "0/4", "5/4", "1/0", "-1/2", "" }) {
+            assertThrows(IllegalArgumentException.class, () -> Shard.parse(invalid), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("n개 샤드를 모두 합치면 모든 파일이 정확히 한 샤드에만 들어가고, 파일이 한쪽에 몰리지 않는다")
+    void contains_partition() {
+        // given
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            files.add(Path.of("src/main/java/pkg" + (i % 7), "C" + i + ".java"));
+        }
+
+        for (int n : new int[] { 1, 2, 3, 8 }) {
+            int[] sizes = new int[n];
+            for (Path file : files) {
+                // when
+                int owners = 0;
+                for (int i = 1; i <= n; i++) {
+                    if (new Shard(i, n).contains(file)) {
+                        owners++;
+                        sizes[i - 1]++;
+                    }
+                }
+                // then
+                assertEquals(1, owners, n + " shards: " + file);
+            }
+            for (int size : sizes) {
+                assertTrue(size > 1000 / n / 2, n + " shards: " + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 상대 경로는 경로 구분자('/' 또는 '\\\\')와 관계없이 항상 같은 샤드에 들어간다")
+    void contains_separatorIndependent() {
+        Shard shard = new Shard(1, 3);
+        for (int i = 0; i < 100; i++) {
+            String relative = "src/main/java/p/C" + i + ".java";
+            assertEquals(shard.contains(Path.of(relative)), shard.contains(Path.of(relative.replace('/', '\\'))));
+            assertEquals(shard.contains(Path.of(relative)), new Shard(1, 3).contains(Path.of(relative)));
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 스캐너는 루트 기준 상대 경로로 나누므로, 루트 위치가 달라도 같은 파일 집합을 맡는다")
+    void shardedScanner_relativeToRoot() throws IOException {
+        // given
+        Path first = tempDir.resolve("checkout-a");
+        Path second = tempDir.resolve("ci/agent-7/checkout-b");
+        for (Path root : List.of(first, second)) {
+            for (int i = 0; i < 30; i++) {
+                Path file = root.resolve("p" + (i % 3) + "/C" + i + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, "class C" + i + " {}");
+            }
+        }
+        SourceScanner scanner = new SourceScanner();
+
+        // when
+        Set<Path> all = new HashSet<>();
+        List<Set<Path>> shards = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ShardedSourceScanner sharded = new ShardedSourceScanner(scanner, new Shard(i, 3));
+            Set<Path> a = relative(first, sharded.findJavaFiles(first));
+            Set<Path> b = relative(second, sharded.findJavaFiles(second));
+            // then
+            assertEquals(a, b);
+            for (Path p : a) assertTrue(all.add(p), "in two shards: " + p);
+            shards.add(a);
+        }
+        assertEquals(30, all.size());
+        assertFalse(shards.stream().anyMatch(Set::isEmpty));
+    }
+
+    @Test
+    @DisplayName("샤드 실행은 샤드마다 캐시 파일을 따로 써서, 같은 --cache를 쓰는 전체 분석의 캐시 엔트리를 지우지 않는다")
+    void shardRun_keepsFullCache() throws IOException {
+        // given
+        Path root = tempDir.resolve("src");
+        for (int i = 0; i < 8; i++) {
+            Path file = root.resolve("p" + (i % 2) + "/C" + i + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "class C" + i + " { void a() { log.info(\"x\"); } }");
+        }
+        Path policy = tempDir.resolve("policy.yml");
+        Files.writeString(policy, "forbiddenFields:\n  - name: password\nlogMethods:\n  - log.info\n");
+        Path cache = tempDir.resolve("cache");
+
+        // when
+        run(root, policy, cache, null);
+        String shard = run(root, policy, cache, "1/2");
+        String full = run(root, policy, cache, null);
+
+        // then
+        assertTrue(shard.contains("0 unchanged"), shard);
+        assertTrue(full.contains("8 unchanged, 0 analyzed"), full);
+        assertTrue(Files.isRegularFile(cache.resolve("analysis-cache-shard-1-of-2.bin")));
+    }
+
+    // 실행 결과의 표준 출력
+    private String run(Path root, Path policy, Path cache, String shard) {
+        Map<String, String> opt = new HashMap<>();
+        opt.put("--root", root.toString());
+        opt.put("--policy", policy.toString());
+        opt.put("--report", tempDir.resolve("report.txt").toString());
+        opt.put("--cache", cache.toString());
+        if (shard != null) opt.put("--shard", shard);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, Main.run(opt, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8), null));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Set<Path> relative(Path root, List<Path> files) {
+        Set<Path> result = new HashSet<>();
+        for (Path f : files) result.add(root.relativize(f));
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.cache.AnalysisCache;
+import log_analyzer.engine.SourceFile;
+import log_analyzer.engine.SourceReader;
+
+class SourceReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("읽은 내용은 Files.readAllBytes와 같고, 한글 등 비 ASCII 문자도 그대로 디코딩된다")
+    void read_sameAsReadAllBytes() throws IOException {
+        // given
+        Path file = tempDir.resolve("A.java");
+        Files.writeString(file, "class A { String s = \"비밀번호\"; }");
+
+        // when
+        SourceFile source = SourceReader.local().read(file);
+
+        // then
+        byte[] expected = Files.readAllBytes(file);
+        assertEquals(expected.length, source.length());
+        assertArrayEquals(expected, Arrays.copyOf(source.bytes(), source.length()));
+        assertEquals("class A { String s = \"비밀번호\"; }", source.text(StandardCharsets.UTF_8));
+        assertEquals(AnalysisCache.contentHash(expected),
+                AnalysisCache.contentHash(source.bytes(), 0, source.length()));
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서는 버퍼를 재사용하고, 다음 파일이 짧아도 이전 내용이 섞이지 않는다")
+    void read_reusesBuffer() throws IOException {
+        // given
+        Path longFile = tempDir.resolve("Long.java");
+        Path shortFile = tempDir.resolve("Short.java");
+        Files.writeString(longFile, "class Long { void aVeryLongMethodName() {} }");
+        Files.writeString(shortFile, "class S {}");
+        SourceReader reader = SourceReader.local();
+
+        // when
+        SourceFile first = reader.read(longFile);
+        byte[] firstBuffer = first.bytes();
+        SourceFile second = reader.read(shortFile);
+
+        // then
+        assertSame(firstBuffer, second.bytes());
+        assertEquals("class S {}", second.text(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("빈 파일, 초기 버퍼보다 큰 파일, 재사용 한도(1MiB)보다 큰 파일도 모두 읽는다")
+    void read_variousSizes() throws IOException {
+        Random random = new Random(7);
+        for (int size : new int[] { 0, 64 * 1024, 200_000, 3 * 1024 * 1024 }) {
+            // given
+            byte[] content = new byte[size];
+            for (int i = 0; i < size; i++) content[i] = (byte) ('a' + random.nextInt(26));
+            Path file = tempDir.resolve("F" + size + ".java");
+            Files.write(file, content);
+
+            // when
+            SourceFile source = SourceReader.local().read(file);
+
+            // then
+            assertEquals(size, source.length());
+            assertArrayEquals(content, Arrays.copyOf(source.bytes(), source.length()));
+        }
+    }
+
+    @Test
+    @DisplayName("없는 파일은 IOException이 발생한다")
+    void read_missingFile() {
+        assertThrows(IOException.class, () -> SourceReader.local().read(tempDir.resolve("None.java")));
+    }
+}
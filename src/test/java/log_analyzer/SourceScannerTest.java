@@ -0,0 +1,165 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.ScanFilter;
+import log_analyzer.engine.SourceScanner;
+
+class SourceScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path touch(String relative) throws IOException {
+        Path file = tempDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "class X {}");
+        return file;
+    }
+
+    @Test
+    @DisplayName("하위 폴더를 포함한 모든 .java 파일만 찾는다")
+    void findJavaFiles_nested() throws IOException {
+        Path a = touch("A.java");
+        Path b = touch("pkg/sub/B.java");
+        touch("pkg/readme.txt");
+
+        List<Path> files = new SourceScanner().findJavaFiles(tempDir);
+
+        assertEquals(Set.of(a, b), Set.copyOf(files));
+    }
+
+    @Test
+    @DisplayName("큐 크기보다 파일이 많아도 스트림으로 모두 전달된다")
+    void streamJavaFiles_moreFilesThanQueue() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            touch("p" + (i % 5) + "/F" + i + ".java");
+        }
+
+        try (Stream<Path> files = new SourceScanner(2).streamJavaFiles(tempDir)) {
+            assertEquals(50, files.collect(Collectors.toSet()).size());
+        }
+    }
+
+    @Test
+    @DisplayName("스트림을 중간에 닫아도 예외 없이 탐색이 중단된다")
+    void streamJavaFiles_closeEarly() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            touch("F" + i + ".java");
+        }
+
+        Stream<Path> files = new SourceScanner(1).streamJavaFiles(tempDir);
+        Iterator<Path> it = files.iterator();
+        assertTrue(it.hasNext());
+        assertNotNull(it.next());
+
+        assertDoesNotThrow(files::close);
+    }
+
+    @Test
+    @DisplayName("exclude 패턴에 걸린 디렉토리는 하위 트리 전체를 건너뛴다")
+    void exclude_prunesSubtree() throws IOException {
+        Path kept = touch("src/main/java/A.java");
+        touch("target/generated-sources/G.java");
+        touch("module/target/classes/C.java");
+        touch("node_modules/pkg/N.java");
+
+        ScanFilter filter = new ScanFilter(List.of(), List.of("**/target/**", "node_modules/**"), false);
+        List<Path> files = new SourceScanner(filter).findJavaFiles(tempDir);
+
+        assertEquals(List.of(kept), files);
+    }
+
+    @Test
+    @DisplayName("include 패턴이 있으면 매칭되는 파일만 찾는다")
+    void include_filtersFiles() throws IOException {
+        Path main = touch("src/main/java/A.java");
+        touch("src/test/java/ATest.java");
+
+        ScanFilter filter = new ScanFilter(List.of("src/main/**"), List.of(), false);
+        List<Path> files = new SourceScanner(filter).findJavaFiles(tempDir);
+
+        assertEquals(List.of(main), files);
+    }
+
+    @Test
+    @DisplayName(".gitignore 사용 시 무시 규칙(디렉토리, 이름, 부정)을 따른다")
+    void gitignore_respected() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), """
+                # build output
+                out/
+                *Generated.java
+                !KeepGenerated.java
+                """);
+        Path kept = touch("src/A.java");
+        Path negated = touch("src/KeepGenerated.java");
+        touch("src/FooGenerated.java");
+        touch("out/B.java");
+        touch("sub/out/C.java");
+
+        List<Path> withIgnore = new SourceScanner(new ScanFilter(List.of(), List.of(), true)).findJavaFiles(tempDir);
+        List<Path> withoutIgnore = new SourceScanner().findJavaFiles(tempDir);
+
+        assertEquals(Set.of(kept, negated), Set.copyOf(withIgnore));
+        assertEquals(5, withoutIgnore.size());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 루트를 탐색하면 RuntimeException이 발생한다")
+    void findJavaFiles_missingRoot() {
+        Path missing = tempDir.resolve("missing");
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new SourceScanner().findJavaFiles(missing));
+        assertTrue(e.getMessage().contains("Failed to scan source files"));
+    }
+
+    @Test
+    @DisplayName("탐색 스레드에서 IO 오류가 아닌 예외가 발생해도 중간에 끊긴 탐색을 정상 종료로 보지 않고 RuntimeException이 발생한다")
+    void findJavaFiles_walkerFailure() throws IOException {
+        touch("a/A.java");
+        touch("b/B.java");
+        ScanFilter failing = new ScanFilter(List.of(), List.of(), false) {
+            @Override
+            public boolean isExcluded(Path relative) {
+                if (relative.startsWith("b")) throw new IllegalStateException("broken filter");
+                return false;
+            }
+        };
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new SourceScanner(failing).findJavaFiles(tempDir));
+        assertTrue(e.getMessage().contains("Failed to scan source files"));
+        assertEquals("broken filter", e.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName(".gitignore에 glob으로 바꿀 수 없는 줄이 있으면 그 줄만 건너뛰고, 잘못된 exclude 패턴은 IllegalArgumentException이 발생한다")
+    void invalidPatterns() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), """
+                [abc
+                out/
+                trailing\\
+                """);
+        Path kept = touch("src/A.java");
+        touch("out/B.java");
+
+        List<Path> files = new SourceScanner(new ScanFilter(List.of(), List.of(), true)).findJavaFiles(tempDir);
+
+        assertEquals(List.of(kept), files);
+        assertThrows(IllegalArgumentException.class, () -> ScanFilter.NONE.with(List.of(), List.of("[x"), false));
+    }
+}
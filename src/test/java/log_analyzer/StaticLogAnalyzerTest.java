@@ -4,26 +4,35 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.ArgumentMatchers.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.github.javaparser.ast.expr.NameExpr;
 
+import log_analyzer.cache.AnalysisCache;
 import log_analyzer.engine.JavaLoggingCallExtractor;
 import log_analyzer.engine.LogCall;
+import log_analyzer.engine.SourceFile;
+import log_analyzer.engine.SourceModule;
 import log_analyzer.engine.SourceScanner;
 import log_analyzer.policy.entity.ForbiddenFieldRule;
 import log_analyzer.policy.entity.MatchType;
 import log_analyzer.policy.service.LoggingPolicy;
 import log_analyzer.report.ReportWriter;
 import log_analyzer.report.Violation;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
 
 @ExtendWith(MockitoExtension.class)
 public class StaticLogAnalyzerTest {
@@ -49,7 +58,7 @@ public class StaticLogAnalyzerTest {
     void analyze_noJavaFiles() {
         // given
         StaticLogAnalyzer analyzer = new StaticLogAnalyzer(scanner, extractor, reportWriter);
-        given(scanner.findJavaFiles(any(Path.class))).willReturn(List.of());
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(Stream.of());
 
         // when
         List<Violation> violations = analyzer.analyze(Path.of("."), policy());
@@ -68,7 +77,7 @@ public class StaticLogAnalyzerTest {
         Path root = Path.of(".");
         Path file = Path.of("Test.java");
 
-        given(scanner.findJavaFiles(any(Path.class))).willReturn(List.of(file));
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(Stream.of(file));
 
         LogCall call = new LogCall(file, 10, "log.info", List.of(new NameExpr("username")));
 
@@ -80,7 +89,7 @@ public class StaticLogAnalyzerTest {
 
         // then
         assertTrue(violations.isEmpty());
-        then(scanner).should().findJavaFiles(any(Path.class));
+        then(scanner).should().streamJavaFiles(any(Path.class));
         then(extractor).should().extract(eq(file), anySet());
     }
 
@@ -93,7 +102,7 @@ public class StaticLogAnalyzerTest {
         Path root = Path.of(".");
         Path file = Path.of("A.java");
 
-        given(scanner.findJavaFiles(any(Path.class))).willReturn(List.of(file));
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(Stream.of(file));
 
         LogCall call = new LogCall(file, 10, "log.info", List.of(new NameExpr("password")));
 
@@ -118,7 +127,7 @@ public class StaticLogAnalyzerTest {
         Path file1 = Path.of("A.java");
         Path file2 = Path.of("B.java");
 
-        given(scanner.findJavaFiles(any(Path.class))).willReturn(List.of(file1, file2));
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(Stream.of(file1, file2));
 
         LogCall call1 = new LogCall(file1, 10, "log.info", List.of(new NameExpr("password")));
         LogCall call2 = new LogCall(file2, 20, "log.info", List.of(new NameExpr("password")));
@@ -131,10 +140,156 @@ public class StaticLogAnalyzerTest {
 
         // then
         assertEquals(2, violations.size());
-        then(scanner).should().findJavaFiles(any(Path.class));
+        then(scanner).should().streamJavaFiles(any(Path.class));
         then(extractor).should(times(2)).extract(any(Path.class), anySet());
     }
 
+    @Test
+    @DisplayName("병렬 분석 결과는 스캔 순서대로 합쳐진다")
+    void analyze_parallelKeepsScanOrder() {
+        // given
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(scanner, extractor, reportWriter, 4);
+
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Path file = Path.of("F" + i + ".java");
+            files.add(file);
+            LogCall call = new LogCall(file, i + 1, "log.info", List.of(new NameExpr("password")));
+            given(extractor.extract(eq(file), anySet())).willReturn(List.of(call));
+        }
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(files.stream());
+
+        // when
+        List<Violation> violations = analyzer.analyze(Path.of("."), policy());
+
+        // then
+        assertEquals(20, violations.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(files.get(i), violations.get(i).getFile());
+            assertEquals(i + 1, violations.get(i).getLine());
+        }
+    }
+
+    @Test
+    @DisplayName("sink를 넘기면 위반 사항을 목록으로 모으지 않고 스캔 순서대로 넘긴다")
+    void analyze_streamsToSink() {
+        // given
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(scanner, extractor, reportWriter, 4);
+
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Path file = Path.of("F" + i + ".java");
+            files.add(file);
+            LogCall call = new LogCall(file, i + 1, "log.info", List.of(new NameExpr("password")));
+            given(extractor.extract(eq(file), anySet())).willReturn(List.of(call));
+        }
+        given(scanner.streamJavaFiles(any(Path.class))).willReturn(files.stream());
+        List<Path> received = new ArrayList<>();
+
+        // when
+        long count = analyzer.analyze(Path.of("."), policy(), null, v -> received.add(v.getFile()));
+
+        // then
+        assertEquals(20, count);
+        assertEquals(files, received);
+    }
+
+    @Test
+    @DisplayName("여러 모듈을 워커 풀 하나로 분석하고, 모듈 순서대로 begin / 위반 사항 / end(파일 수, 위반 수)를 넘긴다")
+    void analyzeModules_perModuleOrder() {
+        // given
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(scanner, extractor, reportWriter, 4);
+        Path coreMain = Path.of("core/src/main/java");
+        Path coreTest = Path.of("core/src/test/java");
+        Path empty = Path.of("empty/src/main/java");
+        Path api = Path.of("api/src/main/java");
+        List<SourceModule> modules = List.of(
+                new SourceModule("core", Path.of("core"), List.of(coreMain, coreTest)),
+                SourceModule.of("empty", empty),
+                SourceModule.of("api", api));
+
+        List<Path> coreFiles = new ArrayList<>();
+        List<Path> apiFiles = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Path file = Path.of("F" + i + ".java");
+            (i < 8 ? coreFiles : apiFiles).add(file);
+            // 짝수 파일만 위반
+            String arg = i % 2 == 0 ? "password" : "name";
+            given(extractor.extract(eq(file), anySet()))
+                    .willReturn(List.of(new LogCall(file, i + 1, "log.info", List.of(new NameExpr(arg)))));
+        }
+        given(scanner.streamJavaFiles(coreMain)).willReturn(coreFiles.subList(0, 5).stream());
+        given(scanner.streamJavaFiles(coreTest)).willReturn(coreFiles.subList(5, 8).stream());
+        given(scanner.streamJavaFiles(empty)).willReturn(Stream.of());
+        given(scanner.streamJavaFiles(api)).willReturn(apiFiles.stream());
+        List<String> events = new ArrayList<>();
+
+        // when
+        long count = analyzer.analyze(modules, policy(), new ForbiddenFieldLoggingRule(policy().getForbiddenFields()),
+                null, new StaticLogAnalyzer.ModuleSink() {
+                    @Override
+                    public void begin(SourceModule module) {
+                        events.add("begin " + module.name());
+                    }
+
+                    @Override
+                    public void accept(SourceModule module, Violation v) {
+                        events.add(module.name() + " " + v.getFile());
+                    }
+
+                    @Override
+                    public void end(SourceModule module, long files, long violations) {
+                        events.add("end " + module.name() + " " + files + " " + violations);
+                    }
+                });
+
+        // then
+        assertEquals(6, count);
+        assertEquals(List.of(
+                "begin core", "core F0.java", "core F2.java", "core F4.java", "core F6.java", "end core 8 4",
+                "begin empty", "end empty 0 0",
+                "begin api", "api F8.java", "api F10.java", "end api 4 2"), events);
+    }
+
+    @Test
+    @DisplayName("워커 스레드 수가 1보다 작으면 예외가 발생한다")
+    void constructor_invalidThreads() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StaticLogAnalyzer(scanner, extractor, reportWriter, 0));
+    }
+
+    @Test
+    @DisplayName("캐시에 저장된 파일은 내용이 바뀌지 않으면 다시 추출하지 않는다")
+    void analyze_cacheSkipsUnchangedFiles(@TempDir Path tempDir) throws IOException {
+        // given
+        StaticLogAnalyzer analyzer = new StaticLogAnalyzer(scanner, extractor, reportWriter, 1);
+
+        Path file = tempDir.resolve("A.java");
+        Files.writeString(file, "class A {}");
+        given(scanner.streamJavaFiles(any(Path.class))).willAnswer(inv -> Stream.of(file));
+
+        LogCall call = new LogCall(file, 10, "log.info", List.of(new NameExpr("password")));
+        // 캐시를 쓰면 해시 계산에 읽은 내용을 그대로 추출기에 넘긴다
+        given(extractor.extract(argThat((SourceFile s) -> s.getPath().equals(file)), anySet(), isNull()))
+                .willReturn(List.of(call));
+
+        Path cacheDir = tempDir.resolve(".cache");
+        AnalysisCache first = AnalysisCache.open(cacheDir, policy());
+        analyzer.analyze(tempDir, policy(), first);
+        first.save();
+
+        // when
+        AnalysisCache second = AnalysisCache.open(cacheDir, policy());
+        List<Violation> violations = analyzer.analyze(tempDir, policy(), second);
+
+        // then
+        assertEquals(1, violations.size());
+        assertEquals(10, violations.get(0).getLine());
+        assertEquals(1, second.getHits());
+        then(extractor).should(times(1)).extract(any(SourceFile.class), anySet(), isNull());
+        then(extractor).should(never()).extract(any(Path.class), anySet());
+    }
+
     @Test
     @DisplayName("writeReport는 ReportWriter에게 그대로 위임한다")
     void writeReport_delegates() {
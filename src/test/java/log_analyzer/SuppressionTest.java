@@ -0,0 +1,163 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.report.Violation;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+
+class SuppressionTest {
+
+    private static final Set<String> LOG_METHODS = Set.of("log.info");
+
+    @TempDir
+    Path tempDir;
+
+    private final ForbiddenFieldLoggingRule rule = new ForbiddenFieldLoggingRule(List.of(
+            new ForbiddenFieldRule("password", MatchType.EXACT),
+            new ForbiddenFieldRule("token", MatchType.EXACT)));
+
+    // 위반 사항이 있는 라인과 규칙 이름 ex) "4 password"
+    private List<String> violations(JavaLoggingCallExtractor extractor, String source) throws IOException {
+        Path file = tempDir.resolve("A.java");
+        Files.writeString(file, source);
+        List<String> result = new ArrayList<>();
+        for (LogCall call : extractor.extract(file, LOG_METHODS)) {
+            for (Violation v : rule.evaluate(call)) {
+                result.add(v.getLine() + " " + v.getMessage().split("'")[1]);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("// log-analyzer:ignore 주석은 같은 라인(여러 줄 호출 포함)이나 바로 윗줄에 혼자 있을 때 그 호출만 억제한다")
+    void ignoreComments() throws IOException {
+        // given
+        String source = """
+                class A {
+                    void a(String password, String token) {
+                        log.info(password + token); // log-analyzer:ignore
+                        // log-analyzer:ignore password -- masked by the appender
+                        log.info(password + token);
+                        log.info(password);
+                        audit(); // log-analyzer:ignore
+                        log.info(token);
+                        log.info("p={}",
+                                password); /* log-analyzer:ignore FORBIDDEN_FIELD_LOGGING */
+                        // log-analyzer:ignore
+                        // 다른 설명
+                        log.info(token);
+                    }
+                }
+                """;
+
+        // when
+        List<String> found = violations(new JavaLoggingCallExtractor(), source);
+
+        // then
+        assertEquals(List.of("5 token", "6 password", "8 token", "13 token"), found);
+    }
+
+    @Test
+    @DisplayName("@SuppressLogViolation은 붙은 클래스 / 메서드 범위 안의 호출만 억제하고, 값으로 억제할 필드를 고를 수 있다")
+    void suppressAnnotation() throws IOException {
+        // given
+        String source = """
+                class A {
+                    @SuppressLogViolation("token")
+                    void a(String password, String token) {
+                        log.info(password + token);
+                        Runnable r = () -> log.info(token);
+                    }
+                    void b(String password) {
+                        log.info(password);
+                    }
+                    @log_analyzer.annotation.SuppressLogViolation
+                    static class Inner {
+                        void c(String password) { log.info(password); }
+                    }
+                    @Deprecated
+                    @SuppressLogViolation(value = {"password", "token"})
+                    A(String password) {
+                        log.info(password);
+                    }
+                    void d(String token) {
+                        log.info(token);
+                    }
+                }
+                """;
+
+        // when
+        List<String> plain = violations(new JavaLoggingCallExtractor(), source);
+        List<String> tracked = violations(new JavaLoggingCallExtractor(true), source);
+
+        // then
+        assertEquals(List.of("4 password", "8 password", "20 token"), plain);
+        assertEquals(plain, tracked);
+    }
+
+    @Test
+    @DisplayName("억제를 보지 않는 lexer 엔진은 --cache를 같이 써도 JavaParser 엔진의 캐시 결과를 재사용하지 않는다")
+    void cache_separatedByEngine() throws IOException {
+        // given
+        Path root = tempDir.resolve("src");
+        Files.createDirectories(root);
+        Files.writeString(root.resolve("A.java"), """
+                class A {
+                    void a(String password) {
+                        log.info(password); // log-analyzer:ignore
+                    }
+                }
+                """);
+        Path policy = tempDir.resolve("policy.yml");
+        Files.writeString(policy, """
+                forbiddenFields:
+                  - name: password
+                    match: exact
+                logMethods:
+                  - log.info
+                """);
+        Path cache = tempDir.resolve("cache");
+
+        // when
+        int javaparser = run(root, policy, cache, "javaparser");
+        int lexer = run(root, policy, cache, "lexer");
+        int again = run(root, policy, cache, "javaparser");
+
+        // then
+        assertEquals(0, javaparser);
+        assertEquals(1, lexer);
+        assertEquals(0, again);
+    }
+
+    private int run(Path root, Path policy, Path cache, String engine) {
+        Map<String, String> opt = new HashMap<>();
+        opt.put("--root", root.toString());
+        opt.put("--policy", policy.toString());
+        opt.put("--report", tempDir.resolve("report.txt").toString());
+        opt.put("--cache", cache.toString());
+        opt.put("--engine", engine);
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+        return Main.run(opt, quiet, quiet, null);
+    }
+}
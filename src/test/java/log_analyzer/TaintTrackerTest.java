@@ -0,0 +1,199 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.ExtractionEngine;
+import log_analyzer.engine.JavaLoggingCallExtractor;
+import log_analyzer.engine.LogCall;
+import log_analyzer.policy.entity.ForbiddenFieldRule;
+import log_analyzer.policy.entity.MatchType;
+import log_analyzer.rules.ForbiddenFieldLoggingRule;
+import log_analyzer.report.Violation;
+
+class TaintTrackerTest {
+
+    private static final Set<String> LOG_METHODS = Set.of("log.info");
+
+    @TempDir
+    Path tempDir;
+
+    private final ForbiddenFieldLoggingRule rule = new ForbiddenFieldLoggingRule(List.of(
+            new ForbiddenFieldRule("password", MatchType.EXACT),
+            new ForbiddenFieldRule("token", MatchType.EXACT)));
+
+    // 위반 사항이 있는 라인과 규칙 이름 ex) "4 password"
+    private List<String> violations(JavaLoggingCallExtractor extractor, String source) throws IOException {
+        Path file = tempDir.resolve("A.java");
+        Files.writeString(file, source);
+        List<String> result = new ArrayList<>();
+        for (LogCall call : extractor.extract(file, LOG_METHODS)) {
+            for (Violation v : rule.evaluate(call)) {
+                result.add(v.getLine() + " " + v.getMessage().split("'")[1]);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("지역 변수 대입, 문자열 결합, StringBuilder.append를 거쳐 로그 인자로 흘러간 금지 필드를 찾는다 (기본값은 추적하지 않음)")
+    void flowThroughLocals() throws IOException {
+        // given
+        String source = """
+                class A {
+                    void a(User user, String token) {
+                        String p = user.password;
+                        String msg = "user=" + user.name + ", p=" + p;
+                        log.info("x" + p);
+                        log.info(msg);
+                        StringBuilder sb = new StringBuilder();
+                        sb.append("t=").append(token);
+                        log.info(sb.toString());
+                        String copy;
+                        copy = msg;
+                        copy += "!";
+                        log.info("{}", copy.trim());
+                        log.info(user.name);
+                    }
+                }
+                """;
+
+        // when
+        List<String> tracked = violations(new JavaLoggingCallExtractor(true), source);
+        List<String> plain = violations(new JavaLoggingCallExtractor(), source);
+
+        // then
+        assertEquals(List.of("5 password", "6 password", "9 token", "13 password"), tracked);
+        assertEquals(List.of(), plain);
+    }
+
+    @Test
+    @DisplayName("선언과 같은 블록의 대입은 이전 값을 덮어쓰고, 분기 안의 대입은 이전 값에 더한다")
+    void overwriteAndBranches() throws IOException {
+        // given
+        String source = """
+                class A {
+                    void a(User user, boolean ok) {
+                        String masked = user.password;
+                        masked = "***";
+                        log.info(masked);
+                        String maybe = "none";
+                        if (ok) {
+                            maybe = user.password;
+                        }
+                        log.info(maybe);
+                        String later = "";
+                        log.info(later);
+                        later = user.token;
+                        for (String s : user.tokens) {
+                            log.info(s);
+                        }
+                    }
+                }
+                """;
+
+        // when
+        List<String> tracked = violations(new JavaLoggingCallExtractor(true), source);
+
+        // then: 덮어쓴 값(5), 사용보다 뒤의 대입(12)은 보고하지 않는다
+        assertEquals(List.of("10 password"), tracked);
+    }
+
+    @Test
+    @DisplayName("다른 메서드의 지역 변수는 이어지지 않고, 람다 / 익명 클래스는 바깥 메서드의 지역 변수를 본다")
+    void methodScopes() throws IOException {
+        // given
+        String source = """
+                class A {
+                    private String data;
+                    void a(User user) {
+                        String data = user.password;
+                        Runnable r = () -> log.info(data);
+                        new Thread() {
+                            public void run() { log.info("d=" + data); }
+                        }.start();
+                    }
+                    void b() {
+                        log.info(data);
+                    }
+                    void c(String password) {
+                        String alias = password;
+                        log.info(alias);
+                    }
+                }
+                """;
+
+        // when
+        List<String> tracked = violations(new JavaLoggingCallExtractor(true), source);
+
+        // then
+        assertEquals(List.of("5 password", "7 password", "15 password"), tracked);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 변수는 선언한 블록으로 구분한다: 블록이 끝난 뒤의 같은 이름(필드)은 값을 물려받지 않고, 안쪽 파라미터가 가린 변수는 다시 보인다")
+    void blockScopes() throws IOException {
+        // given
+        String source = """
+                class A {
+                    private String s;
+                    void a(User user, boolean ok) {
+                        if (ok) {
+                            String s = user.password;
+                            log.info(s);
+                        }
+                        log.info(s);
+                        String secret = user.token;
+                        Consumer<String> c = new Consumer<>() {
+                            public void accept(String secret) { log.info(secret); }
+                        };
+                        log.info(secret);
+                    }
+                }
+                """;
+
+        // when
+        List<String> tracked = violations(new JavaLoggingCallExtractor(true), source);
+
+        // then: 8라인의 s는 필드, 11라인의 secret은 익명 클래스 메서드의 파라미터
+        assertEquals(List.of("6 password", "13 token"), tracked);
+    }
+
+    @Test
+    @DisplayName("지역 변수 하나가 토큰 수 제한을 넘으면 나머지 토큰은 버리고, 버린 파일 수를 알려 준다")
+    void tokenLimit_truncationCounted() throws IOException {
+        // given
+        StringBuilder appends = new StringBuilder();
+        for (int i = 0; i < JavaLoggingCallExtractor.MAX_TAINT_TOKENS + 10; i++) {
+            appends.append("        sb.append(user.field").append(i).append(");\n");
+        }
+        String source = "class A {\n    void a(User user) {\n        StringBuilder sb = new StringBuilder();\n"
+                + appends + "        sb.append(user.password);\n        log.info(sb.toString());\n    }\n}\n";
+        JavaLoggingCallExtractor extractor = new JavaLoggingCallExtractor(true);
+
+        // when
+        List<String> tracked = violations(extractor, source);
+        violations(extractor, "class B { void b(User user) { String p = user.password; log.info(p); } }");
+
+        // then
+        assertEquals(List.of(), tracked);
+        assertEquals(1, extractor.getTaintTruncatedFiles());
+    }
+
+    @Test
+    @DisplayName("lexer 엔진은 AST가 없으므로 추적을 켜면 IllegalArgumentException이 발생한다")
+    void lexerEngine_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> ExtractionEngine.LEXER.newExtractor(true));
+    }
+}
@@ -0,0 +1,247 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import log_analyzer.engine.LogCall;
+import log_analyzer.engine.TypeResolvingLoggingCallExtractor;
+
+class TypeResolvingLoggingCallExtractorTest {
+
+    private static final Set<String> LOG_METHODS = Set.of("log.info", "log.warn");
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String relative, String source) throws IOException {
+        Path file = tempDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        return file;
+    }
+
+    private static List<String> describe(List<LogCall> calls) {
+        List<String> result = new ArrayList<>();
+        for (LogCall c : calls) {
+            result.add(c.getLine() + " " + c.getMethodFqn());
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("slf4j Logger 타입의 필드는 이름(LOG, AUDIT)과 관계없이 로거로 판별한다 (상위 클래스 필드 포함, slf4j jar 없이)")
+    void slf4jFields_detectedByType() throws IOException {
+        // given
+        write("src/main/java/p/Base.java", """
+                package p;
+                import org.slf4j.Logger;
+                import org.slf4j.LoggerFactory;
+                public class Base {
+                    protected static final Logger AUDIT = LoggerFactory.getLogger("audit");
+                }
+                """);
+        Path file = write("src/main/java/p/A.java", """
+                package p;
+                import org.slf4j.*;
+                public class A extends Base {
+                    private static final Logger LOG = LoggerFactory.getLogger(A.class);
+                    void a(String password) {
+                        LOG.info(password);
+                        AUDIT.warn(password);
+                        var local = LOG;
+                        local.info(password);
+                    }
+                }
+                """);
+        TypeResolvingLoggingCallExtractor extractor = TypeResolvingLoggingCallExtractor.create(tempDir, List.of());
+
+        // when
+        List<LogCall> calls = extractor.extract(file, LOG_METHODS);
+
+        // then
+        assertEquals(List.of("6 log.info", "7 log.warn", "9 log.info"), describe(calls));
+    }
+
+    @Test
+    @DisplayName("java.util.logging / log4j Logger는 변수, 파라미터, 메서드 반환값 모두 로거로 판별한다")
+    void julAndLog4j_detectedByType() throws IOException {
+        // given
+        Path file = write("A.java", """
+                import java.util.logging.Logger;
+                class A {
+                    private final Logger events = Logger.getLogger("events");
+                    void a(org.apache.logging.log4j.Logger sink, String token) {
+                        events.info(token);
+                        this.events.info(token);
+                        Logger.getLogger("x").info(token);
+                        sink.warn(token);
+                    }
+                }
+                """);
+        TypeResolvingLoggingCallExtractor extractor = TypeResolvingLoggingCallExtractor.create(tempDir, List.of());
+
+        // when
+        List<LogCall> calls = extractor.extract(file, LOG_METHODS);
+
+        // then
+        assertEquals(List.of("5 log.info", "6 log.info", "7 log.info", "8 log.warn"), describe(calls));
+    }
+
+    @Test
+    @DisplayName("로거가 아닌 타입으로 해석되면 이름이 Log / Logger로 끝나도 로거로 보지 않고, 해석할 수 없으면 이름 규칙을 따른다")
+    void nonLoggerType_notNormalized() throws IOException {
+        // given
+        write("p/ChangeLog.java", """
+                package p;
+                public class ChangeLog { public void info(String s) {} }
+                """);
+        Path file = write("p/A.java", """
+                package p;
+                class A {
+                    private final ChangeLog changeLog = new ChangeLog();
+                    void a(String password) {
+                        changeLog.info(password);
+                        unknownLogger.info(password);
+                    }
+                }
+                """);
+        TypeResolvingLoggingCallExtractor extractor = TypeResolvingLoggingCallExtractor.create(tempDir, List.of());
+
+        // when
+        List<LogCall> calls = extractor.extract(file, Set.of("log.info", "changeLog.info"));
+
+        // then
+        assertEquals(List.of("5 changeLog.info", "6 log.info"), describe(calls));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 하나의 추출기(스레드별 소스 해석기, 공유 jar / JDK 해석기)를 동시에 사용해도 순차 실행과 결과가 같다")
+    void concurrentExtract_sameAsSequential() throws Exception {
+        // given
+        write("src/main/java/p/Base.java", """
+                package p;
+                import org.slf4j.Logger;
+                class Base {
+                    protected static final Logger AUDIT = null;
+                }
+                """);
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            files.add(write("src/main/java/p/C" + i + ".java", """
+                    package p;
+                    import org.slf4j.Logger;
+                    class C%d extends Base {
+                        private static final Logger LOG = null;
+                        private final StringBuilder changeLog = new StringBuilder();
+                        void a(String password) {
+                            LOG.info(password);
+                            AUDIT.warn(password);
+                            changeLog.append(password);
+                        }
+                    }
+                    """.formatted(i)));
+        }
+        TypeResolvingLoggingCallExtractor sequential = TypeResolvingLoggingCallExtractor.create(tempDir, List.of());
+        TypeResolvingLoggingCallExtractor shared = TypeResolvingLoggingCallExtractor.create(tempDir, List.of());
+        List<List<String>> expected = new ArrayList<>();
+        for (Path file : files) {
+            expected.add(describe(sequential.extract(file, LOG_METHODS)));
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                futures.add(executor.submit(() -> describe(shared.extract(file, LOG_METHODS))));
+            }
+            // then
+            for (int i = 0; i < files.size(); i++) {
+                assertEquals(List.of("7 log.info", "8 log.warn"), expected.get(i), files.get(i).toString());
+                assertEquals(expected.get(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("타입 경로 항목이 디렉토리나 jar 파일이 아니면 IllegalArgumentException이 발생한다")
+    void create_invalidTypePath() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TypeResolvingLoggingCallExtractor.create(tempDir, List.of(tempDir.resolve("missing.jar"))));
+    }
+
+    @Test
+    @DisplayName("--resolve-types는 --cache가 있어도 결과 캐시를 쓰지 않으므로, 다른 파일의 필드 타입이 바뀌면 내용이 같은 파일의 결과도 바뀐다")
+    void resolveTypes_ignoresResultCache() throws IOException {
+        // given
+        write("src/main/java/p/Base.java", """
+                package p;
+                import org.slf4j.Logger;
+                import org.slf4j.LoggerFactory;
+                public class Base {
+                    protected static final Logger AUDIT = LoggerFactory.getLogger("audit");
+                }
+                """);
+        write("src/main/java/p/A.java", """
+                package p;
+                public class A extends Base {
+                    void a(String password) {
+                        AUDIT.warn(password);
+                    }
+                }
+                """);
+        Path policy = write("policy.yml", """
+                forbiddenFields:
+                  - name: password
+                    match: exact
+                logMethods:
+                  - log.warn
+                """);
+
+        // when
+        int before = run(policy);
+        write("src/main/java/p/Base.java", """
+                package p;
+                public class Base {
+                    protected static final Audit AUDIT = new Audit();
+                }
+                """);
+        int after = run(policy);
+
+        // then
+        assertEquals(1, before);
+        assertEquals(0, after);
+    }
+
+    private int run(Path policy) {
+        Map<String, String> opt = new HashMap<>();
+        opt.put("--root", tempDir.toString());
+        opt.put("--policy", policy.toString());
+        opt.put("--report", tempDir.resolve("report.txt").toString());
+        opt.put("--cache", tempDir.resolve("cache").toString());
+        opt.put("--resolve-types", "true");
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+        return Main.run(opt, quiet, quiet, null);
+    }
+}
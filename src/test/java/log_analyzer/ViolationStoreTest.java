@@ -0,0 +1,103 @@
+package log_analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import log_analyzer.report.Violation;
+import log_analyzer.report.ViolationStore;
+
+class ViolationStoreTest {
+
+    private static final String RULE = "FORBIDDEN_FIELD_LOGGING";
+
+    private static Violation lazy(String file, int line, String field) {
+        return Violation.forbiddenField(Path.of(file), line, RULE, field, "log.info", "log.info(" + field + ");");
+    }
+
+    // "파일:라인 메시지" 목록
+    private static List<String> render(Iterable<Violation> violations) {
+        List<String> result = new ArrayList<>();
+        for (Violation v : violations) result.add(v.getFile() + ":" + v.getLine() + " " + v.getMessage());
+        return result;
+    }
+
+    @Test
+    @DisplayName("메시지를 미룬 위반은 꺼낼 때 메시지를 만들고, 같은 파일 경로는 Path 객체 하나를 공유한다")
+    void lazyMessagesAndInternedPaths() {
+        // given
+        ViolationStore store = new ViolationStore();
+
+        // when
+        store.add(lazy("A.java", 3, "password"));
+        store.add(new Violation(Path.of("A.java"), 5, RULE, "custom", "code"));
+        store.add(lazy("B.java", 1, "token"));
+
+        // then
+        assertEquals(List.of(
+                "A.java:3 Variable/Token 'password' is logged via log.info",
+                "A.java:5 custom",
+                "B.java:1 Variable/Token 'token' is logged via log.info"), render(store));
+        assertSame(store.get(0).getFile(), store.get(1).getFile());
+        assertEquals("log.info(password);", store.get(0).getCode());
+        assertEquals(2, store.fileCount());
+    }
+
+    @Test
+    @DisplayName("addIfAbsent는 모든 열이 같은 위반만 중복으로 보고, sort는 파일 / 라인 / 규칙 / 메시지 / 코드 순으로 정렬한다")
+    void dedupAndSort() {
+        // given
+        ViolationStore store = new ViolationStore();
+
+        // when
+        assertTrue(store.addIfAbsent(lazy("b/B.java", 2, "token")));
+        assertTrue(store.addIfAbsent(lazy("a/A.java", 9, "token")));
+        assertTrue(store.addIfAbsent(lazy("a/A.java", 9, "password")));
+        assertFalse(store.addIfAbsent(lazy("a/A.java", 9, "token")));
+        assertTrue(store.addIfAbsent(lazy("a/A.java", 10, "token")));
+        for (int i = 0; i < 100; i++) store.addIfAbsent(lazy("c/C.java", i, "token"));
+        assertFalse(store.addIfAbsent(lazy("c/C.java", 42, "token")));
+        store.sort();
+
+        // then
+        assertEquals(104, store.size());
+        assertEquals(List.of(
+                "a/A.java:9 Variable/Token 'password' is logged via log.info",
+                "a/A.java:9 Variable/Token 'token' is logged via log.info",
+                "a/A.java:10 Variable/Token 'token' is logged via log.info",
+                "b/B.java:2 Variable/Token 'token' is logged via log.info"), render(store).subList(0, 4));
+        assertFalse(store.addIfAbsent(lazy("b/B.java", 2, "token")));
+    }
+
+    @Test
+    @DisplayName("removeFiles는 조건에 맞는 파일의 위반만 지우고, forEachByFile은 파일 경로 순서 안에서 추가한 순서를 유지한다")
+    void removeFilesAndFileOrder() {
+        // given
+        ViolationStore store = new ViolationStore();
+        store.add(lazy("src/b/B.java", 7, "token"));
+        store.add(lazy("src/a/A.java", 9, "token"));
+        store.add(lazy("src/a/A.java", 1, "password"));
+        store.add(lazy("src/c/C.java", 1, "password"));
+
+        // when
+        int removed = store.removeFiles(f -> f.startsWith(Path.of("src/c")));
+        store.add(lazy("src/b/B.java", 8, "password"));
+        List<String> ordered = new ArrayList<>();
+        store.forEachByFile(v -> ordered.add(v.getFile() + ":" + v.getLine()));
+
+        // then
+        assertEquals(1, removed);
+        assertEquals(2, store.fileCount());
+        assertTrue(store.hasFile(f -> f.startsWith(Path.of("src/a"))));
+        assertFalse(store.hasFile(f -> f.startsWith(Path.of("src/c"))));
+        assertEquals(List.of("src/a/A.java:9", "src/a/A.java:1", "src/b/B.java:7", "src/b/B.java:8"), ordered);
+    }
+}